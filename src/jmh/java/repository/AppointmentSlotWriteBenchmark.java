@@ -0,0 +1,113 @@
+package repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import util.exception.AppointmentFileException;
+import util.generator.DatasetGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 예약 현황 파일의 슬롯 하나 변경 벤치마크 (하루치 예약 현황, DatasetGenerator 고정 seed)
+ * - textStatusUpdate   : 텍스트 파일 파싱/검증 후 전체 재작성
+ * - binaryStatusUpdate : 바이너리 파일 읽기 후 칸 하나만 덮어쓰기
+ * - binaryCellWrite    : 위치를 알고 있을 때 칸 하나만 덮어쓰기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppointmentSlotWriteBenchmark {
+
+    @Param({"5", "50", "500"})
+    public int doctorCount;
+
+    private static final long SEED = 1L;
+    private static final double FILL = 0.3;
+
+    private Path dataRoot;
+    private String originalUserDir;
+    private LocalDate date;
+    // 그날의 마지막 예약번호 (가장 뒤쪽 칸에 있어 탐색 최악의 경우에 가까움)
+    private String reservationId;
+    private int slotIndex;
+    private int doctorIndex;
+    private AppointmentRepository textRepository;
+    private AppointmentRepository binaryRepository;
+    private Path binaryPath;
+    private boolean completed;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, AppointmentFileException {
+        originalUserDir = System.getProperty("user.dir");
+        dataRoot = Files.createTempDirectory("appointment-slot-bench");
+        DatasetGenerator.Options options = new DatasetGenerator.Options();
+        options.outputDir = dataRoot;
+        options.doctors = doctorCount;
+        options.days = 1;
+        options.fill = FILL;
+        options.seed = SEED;
+        DatasetGenerator generator = new DatasetGenerator(options);
+        int total = generator.generate();
+        date = generator.getDates().get(0);
+        reservationId = String.format("R%08d", total);
+
+        System.setProperty("user.dir", dataRoot.toString());
+        textRepository = new AppointmentRepository(false);
+        binaryRepository = new AppointmentRepository(true);
+        AppointmentCells cells = binaryRepository.getCellsByDate(date); // 텍스트 -> 바이너리 변환
+        int position = cells.findReservation(total);
+        slotIndex = position / doctorCount;
+        doctorIndex = position % doctorCount;
+        binaryPath = dataRoot.resolve("data/appointment/bin/" + date.toString().replace("-", "") + ".bin");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        AppointmentRepository.flushToText();
+        System.setProperty("user.dir", originalUserDir);
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private String nextStatus() {
+        completed = !completed;
+        return completed ? "2" : "1";
+    }
+
+    @Benchmark
+    public void textStatusUpdate() throws AppointmentFileException {
+        textRepository.updateAppointmentStatus(date, reservationId, nextStatus());
+    }
+
+    @Benchmark
+    public void binaryStatusUpdate() throws AppointmentFileException {
+        binaryRepository.updateAppointmentStatus(date, reservationId, nextStatus());
+    }
+
+    @Benchmark
+    public void binaryCellWrite() throws AppointmentFileException {
+        BinaryAppointmentFile.writeCell(binaryPath, doctorCount, slotIndex, doctorIndex,
+                reservationId + "(" + nextStatus() + ")");
+    }
+}
@@ -0,0 +1,179 @@
+package repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import service.admin.AdminService;
+import service.doctor.helper.PatientFileReader;
+import util.exception.AppointmentFileException;
+import util.exception.SearchException;
+import util.generator.DatasetGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 저장소 주요 경로 벤치마크 (예약 약 1천 / 10만 / 100만 건 데이터셋, DatasetGenerator 고정 seed)
+ * - createAppointment     : 빈 슬롯에 예약 생성 후 삭제 (예약 현황 파일 쓰기 2회)
+ * - availableSlotsCached  : 빈 시간 조회 (슬롯 비트맵 캐시 사용)
+ * - availableSlotsUncached: 빈 시간 조회 (매번 예약 현황 파일 읽기)
+ * - nextReservationId     : 예약번호 생성
+ * - findReservationById   : 예약번호로 예약 조회
+ * - updateDoctorSchedule  : 의사 스케줄 칸 하나 변경
+ * - showReserveList       : 관리자 예약 현황 출력 (출력은 버림)
+ *
+ * 실행: ./gradlew jmh -PjmhArgs='RepositoryHotPathBenchmark -p reservationCount=100000'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryHotPathBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int reservationCount;
+
+    private static final String FREE_RESERVATION_ID = "R99999999";
+    private static final long SEED = 1L;
+    private static final int DOCTOR_COUNT = 50;
+    private static final int RESERVATIONS_PER_PATIENT = 10;
+
+    private Path dataRoot;
+    private String originalUserDir;
+    private PrintStream originalOut;
+
+    private AppointmentRepository appointmentRepository;
+    private ReservationRepository reservationRepository;
+    private DoctorRepository doctorRepository;
+    private AdminService adminService;
+
+    // 마지막 날짜의 가장 이른 빈 슬롯
+    private LocalDate lastDate;
+    private String freeDoctorId;
+    private String freeTime;
+
+    private String lookupReservationId;
+    private String[] reserveListArgs;
+
+    // 첫 예약(R00000001)의 의사 스케줄 칸
+    private String scheduleDoctorId;
+    private LocalDate scheduleDate;
+    private String scheduleTime;
+    private boolean scheduleCleared;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, AppointmentFileException {
+        originalUserDir = System.getProperty("user.dir");
+        originalOut = System.out;
+        dataRoot = Files.createTempDirectory("hospital-bench");
+        DatasetGenerator.Options options = DatasetGenerator.Options.forReservations(dataRoot, reservationCount,
+                DOCTOR_COUNT, Math.max(1, reservationCount / RESERVATIONS_PER_PATIENT));
+        options.seed = SEED;
+        DatasetGenerator generator = new DatasetGenerator(options);
+        int total = generator.generate();
+        System.setProperty("user.dir", dataRoot.toString());
+
+        // 싱글톤 인덱스/캐시를 생성한 데이터셋 기준으로 다시 구성
+        ReservationIndex.getInstance().reload();
+        SlotAvailabilityCache.getInstance().invalidateAll();
+        DoctorDirectory.reload();
+
+        appointmentRepository = new AppointmentRepository();
+        reservationRepository = new ReservationRepository();
+        doctorRepository = new DoctorRepository();
+        adminService = new AdminService(new MajorRepository());
+
+        List<LocalDate> dates = generator.getDates();
+        lastDate = dates.get(dates.size() - 1);
+        String[] freeSlot = appointmentRepository.findFirstAvailableSlot(lastDate,
+                Arrays.asList(appointmentRepository.getCellsByDate(lastDate).doctorIds));
+        if (freeSlot == null) {
+            throw new IllegalStateException("마지막 날짜에 빈 슬롯이 없습니다.");
+        }
+        freeDoctorId = freeSlot[0];
+        freeTime = freeSlot[1];
+
+        lookupReservationId = String.format("R%08d", total / 2 + 1);
+        reserveListArgs = new String[] { dates.get(dates.size() / 2).toString() };
+
+        PatientFileReader.ReservationData first = PatientFileReader.findReservationById("R00000001");
+        scheduleDoctorId = first.doctorId;
+        scheduleDate = LocalDate.parse(first.date);
+        scheduleTime = first.startTime;
+
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.setOut(originalOut);
+        System.setProperty("user.dir", originalUserDir);
+        ReservationIndex.getInstance().reload();
+        SlotAvailabilityCache.getInstance().invalidateAll();
+        DoctorDirectory.reload();
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void createAppointment() throws AppointmentFileException {
+        appointmentRepository.createAppointment(lastDate, freeDoctorId, freeTime, FREE_RESERVATION_ID);
+        appointmentRepository.deleteAppointment(lastDate, FREE_RESERVATION_ID);
+    }
+
+    @Benchmark
+    public List<String> availableSlotsCached() throws AppointmentFileException {
+        return appointmentRepository.getAvailableTimeSlots(lastDate, freeDoctorId);
+    }
+
+    @Benchmark
+    public List<String> availableSlotsUncached() throws AppointmentFileException {
+        SlotAvailabilityCache.getInstance().invalidate(lastDate);
+        return appointmentRepository.getAvailableTimeSlots(lastDate, freeDoctorId);
+    }
+
+    @Benchmark
+    public String nextReservationId() {
+        return reservationRepository.getNextReservationId();
+    }
+
+    @Benchmark
+    public PatientFileReader.ReservationData findReservationById() throws IOException {
+        return PatientFileReader.findReservationById(lookupReservationId);
+    }
+
+    @Benchmark
+    public void updateDoctorSchedule() throws IOException {
+        // 첫 예약(R00000001)의 칸을 지웠다 되돌림
+        scheduleCleared = !scheduleCleared;
+        doctorRepository.updateSchedule(scheduleDoctorId, scheduleDate, scheduleTime,
+                scheduleCleared ? "0" : "R00000001");
+    }
+
+    @Benchmark
+    public void showReserveList() throws SearchException {
+        adminService.showReserveList(reserveListArgs);
+    }
+}
@@ -0,0 +1,79 @@
+package repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import util.generator.DatasetGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 시작 시 목록 파일 로드 벤치마크 (DatasetGenerator 고정 seed, 예약 없음)
+ * - loadPatients : patientlist.txt (환자 N명) -> PatientRepository
+ * - loadUsers    : credentials.txt (회원 N명) -> AuthRepository
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RepositoryLoadBenchmark {
+
+    // 환자번호(P######) 범위 안의 최대 환자 수
+    @Param({ "100000", "999999" })
+    public int patientCount;
+
+    private static final long SEED = 1L;
+
+    private Path dataRoot;
+    private String originalUserDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        originalUserDir = System.getProperty("user.dir");
+        dataRoot = Files.createTempDirectory("repository-load-bench");
+        DatasetGenerator.Options options = new DatasetGenerator.Options();
+        options.outputDir = dataRoot;
+        options.patients = patientCount;
+        options.days = 1;
+        options.fill = 0;
+        options.seed = SEED;
+        new DatasetGenerator(options).generate();
+
+        System.setProperty("user.dir", dataRoot.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.setProperty("user.dir", originalUserDir);
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public PatientRepository loadPatients() {
+        return new PatientRepository();
+    }
+
+    @Benchmark
+    public AuthRepository loadUsers() {
+        return new AuthRepository();
+    }
+}
@@ -0,0 +1,82 @@
+package repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import util.generator.DatasetGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 예약번호 생성 벤치마크 (환자 N명, 환자당 예약 약 10건, DatasetGenerator 고정 seed)
+ * - scanAllocation    : 기존 방식 (매번 모든 환자 파일 검색)
+ * - counterAllocation : 카운터 파일 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationIdBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int patientCount;
+
+    private static final int RESERVATIONS_PER_PATIENT = 10;
+    private static final int DOCTOR_COUNT = 20;
+    private static final long SEED = 1L;
+
+    private Path dataRoot;
+    private String originalUserDir;
+    private ReservationRepository repository;
+    private int scanCounter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        originalUserDir = System.getProperty("user.dir");
+        dataRoot = Files.createTempDirectory("reservation-id-bench");
+        DatasetGenerator.Options options = DatasetGenerator.Options.forReservations(dataRoot,
+                patientCount * RESERVATIONS_PER_PATIENT, DOCTOR_COUNT, patientCount);
+        options.seed = SEED;
+        new DatasetGenerator(options).generate();
+
+        System.setProperty("user.dir", dataRoot.toString());
+        repository = new ReservationRepository();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.setProperty("user.dir", originalUserDir);
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String scanAllocation() {
+        int fileMax = repository.getCurrentMaxReservationNumber();
+        scanCounter = Math.max(scanCounter, fileMax) + 1;
+        return String.format("R%08d", scanCounter);
+    }
+
+    @Benchmark
+    public String counterAllocation() {
+        return repository.getNextReservationId();
+    }
+}
@@ -1,31 +1,112 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Scanner;
 
+import server.ReplayDriver;
+import server.ReservationServer;
 import service.CommandHandler;
+import util.generator.DatasetGenerator;
+import util.metrics.Metrics;
 import util.validation.FileExistValidator;
 import util.validation.FileFormatValidator;
 import util.validation.OrphanDataValidator;
+import util.validation.ValidationSnapshot;
 
 public class Main {
     public static void main(String[] args) {
+        // 데이터 생성 모드: 현재 data/ 를 검증하지 않고 지정한 디렉토리에 데이터를 만든 뒤 종료
+        if (args.length > 0 && "--generate".equals(args[0])) {
+            runGenerator(args);
+            return;
+        }
+
         System.out.println("프로그램을 시작합니다...");
 
+        long phaseStart = System.nanoTime();
         FileExistValidator fileExistValidator = new FileExistValidator();
         fileExistValidator.validate();
+        phaseStart = reportPhase("필수 파일 확인", phaseStart);
+
+        // 쓰는 도중 종료되어 남은 임시 파일 정리 (원본 파일은 교체 전 내용 그대로 남아 있음)
+        try {
+            util.file.FileUtil.deleteLeftoverTempFiles("data");
+        } catch (IOException e) {
+            System.out.println("[오류] 임시 파일을 정리하지 못했습니다: " + e.getMessage());
+        }
+
+        // 바이너리/메모리 매핑 저장소를 사용하는 경우 검증 전에 텍스트 파일과 맞춤
+        repository.AppointmentRepository.synchronizeStorage();
+        repository.DoctorRepository.synchronizeScheduleStorage();
+        repository.PatientFileStore.synchronizeStorage();
+        repository.PatientRepository.synchronizeStorage();
+        repository.AuthRepository.synchronizeStorage();
 
-        repository.MajorRepository majorRepository = new repository.MajorRepository();
-        FileFormatValidator fileFormatValidator = new FileFormatValidator(majorRepository);
+        // 비정상 종료로 파일에 반영되지 못한 예약 변경을 저널에서 다시 적용
+        if (repository.ReservationJournal.getInstance().recover() > 0) {
+            repository.AppointmentRepository.flushToText();
+            repository.DoctorRepository.exportSchedules();
+            repository.PatientFileStore.compactAll();
+        }
+        phaseStart = reportPhase("저장소 동기화/복구", phaseStart);
+
+        // 검증 대상 파일을 병렬로 한 번만 읽어 두고 모든 검증에서 공유
+        ValidationSnapshot snapshot = null;
+        try {
+            snapshot = ValidationSnapshot.load();
+        } catch (IOException e) {
+            // 스냅샷을 만들지 못하면 각 검증기가 파일을 직접 읽고 오류를 보고함
+        }
+        phaseStart = reportPhase("파일 읽기", phaseStart);
+
+        repository.MajorRepository majorRepository = repository.MajorRepository.getInstance();
+        FileFormatValidator fileFormatValidator = new FileFormatValidator(majorRepository, snapshot);
         fileFormatValidator.validate();
+        phaseStart = reportPhase("파일 형식 검증", phaseStart);
 
-        OrphanDataValidator orphanDataValidator = new OrphanDataValidator();
+        OrphanDataValidator orphanDataValidator = new OrphanDataValidator(snapshot);
         orphanDataValidator.validate();
+        phaseStart = reportPhase("고아 데이터 검사", phaseStart);
+
+        // 검증에 성공한 파일 상태를 저장해 다음 시작 때 바뀐 파일만 검증
+        if (snapshot != null) {
+            try {
+                snapshot.saveManifest();
+            } catch (IOException e) {
+                // 캐시 저장 실패는 다음 시작 때 전체 검증으로 대신함
+            }
+        }
+
+        // 검증이 끝난 데이터로 예약 인덱스를 미리 구성
+        repository.ReservationIndex.getInstance();
+        reportPhase("예약 인덱스 구성", phaseStart);
 
         CommandHandler commandHandler = new CommandHandler();
 
+        // 명령별 처리 시간/파일 입출력 집계를 주기적으로 data/metrics/ 에 저장
+        Metrics.startPeriodicDump();
+
         System.out.println("시스템 초기화 완료.");
         System.out.println("======================================================================================");
         System.out.println("대학병원 예약 시스템 v1.0");
         System.out.println("======================================================================================");
 
+        // 서버 모드: 콘솔 대신 TCP 접속마다 세션을 열어 동시에 처리
+        if (args.length > 0 && "--server".equals(args[0])) {
+            runServer(args);
+            return;
+        }
+
+        // 재생 모드: 명령 파일을 여러 세션으로 처리하고 명령별 처리 시간을 보고
+        if (args.length > 0 && "--replay".equals(args[0])) {
+            runReplay(args);
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
         while (true) {
             System.out.print(commandHandler.getPrompt() + " > ");
@@ -39,4 +120,112 @@ public class Main {
         }
         scanner.close();
     }
+
+    private static void runServer(String[] args) {
+        int port = ReservationServer.DEFAULT_PORT;
+        if (args.length > 1) {
+            try {
+                port = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.out.println("[오류] 포트 번호가 올바르지 않습니다. (형식: --server [포트])");
+                System.exit(1);
+            }
+        }
+
+        try {
+            new ReservationServer(port).start();
+        } catch (IOException e) {
+            System.out.println("[오류] 서버를 시작하는 중 오류가 발생했습니다: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void runReplay(String[] args) {
+        String usage = " (형식: --replay <명령 파일> [--sessions N] [--report 파일] [--echo])";
+        if (args.length < 2) {
+            System.out.println("[오류] 명령 파일을 지정해야 합니다." + usage);
+            System.exit(1);
+        }
+
+        int sessions = 1;
+        Path reportPath = null;
+        boolean echo = false;
+        try {
+            for (int i = 2; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--sessions":
+                        sessions = Integer.parseInt(args[++i]);
+                        break;
+                    case "--report":
+                        reportPath = Paths.get(args[++i]);
+                        break;
+                    case "--echo":
+                        echo = true;
+                        break;
+                    default:
+                        throw new IllegalArgumentException();
+                }
+            }
+        } catch (RuntimeException e) {
+            System.out.println("[오류] 재생 옵션이 올바르지 않습니다." + usage);
+            System.exit(1);
+        }
+        if (sessions < 1) {
+            System.out.println("[오류] 세션 수는 1 이상이어야 합니다." + usage);
+            System.exit(1);
+        }
+
+        try {
+            ReplayDriver driver = new ReplayDriver(Files.readAllLines(Paths.get(args[1])), sessions, echo);
+            driver.run();
+            driver.writeReport(System.out);
+            if (reportPath != null) {
+                try (PrintStream report = new PrintStream(Files.newOutputStream(reportPath), true,
+                        StandardCharsets.UTF_8)) {
+                    driver.writeReport(report);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("[오류] 명령 파일 또는 보고서 파일을 처리하는 중 오류가 발생했습니다: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runGenerator(String[] args) {
+        DatasetGenerator.Options options;
+        try {
+            options = DatasetGenerator.Options.parse(Arrays.copyOfRange(args, 1, args.length));
+        } catch (IllegalArgumentException e) {
+            System.out.println("[오류] " + e.getMessage()
+                    + " (형식: --generate <디렉토리> [--patients N] [--doctors N] [--days N] [--start YYYY-MM-DD]"
+                    + " [--fill 0~1] [--distribution uniform|peak|skewed] [--seed N] [--threads N])");
+            System.exit(1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            int reservations = new DatasetGenerator(options).generate();
+            System.out.printf("데이터 생성 완료: 환자 %d명, 의사 %d명, 예약 %d건 (%d ms)%n",
+                    options.patients, options.doctors, reservations, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("[오류] 데이터를 생성하는 중 오류가 발생했습니다: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 시작 단계별 소요 시간을 출력합니다 (-Dstartup.timing=true 인 경우에만)
+     *
+     * @return 다음 단계의 시작 시각
+     */
+    private static long reportPhase(String phase, long startNanos) {
+        long now = System.nanoTime();
+        if (Boolean.getBoolean("startup.timing")) {
+            System.out.printf("[시간] %s: %d ms%n", phase, (now - startNanos) / 1_000_000);
+        }
+        return now;
+    }
 }
\ No newline at end of file
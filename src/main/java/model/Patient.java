@@ -28,6 +28,18 @@ public class Patient {
         return patientId;
     }
 
+    public String getUsername() {
+        return username;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
     public String toPatientListString() {
         return String.join(" ", patientId, username, name, birthDate, phoneNumber, String.valueOf(noshowCount));
     }
@@ -0,0 +1,313 @@
+package repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 하루 예약 현황표 (칸을 SlotCell 형식의 long 배열 하나에 담음)
+ * - cells[slotIndex * 의사 수 + doctorIndex]
+ * - AppointmentData / TimeSlot 의 기본형 배열 버전입니다. 칸 문자열을 만들지 않고 조회/변경/비트맵 계산을 합니다.
+ */
+public final class AppointmentCells {
+
+    public static final int SLOT_COUNT = SlotAvailabilityCache.SLOT_COUNT;
+
+    public final LocalDate date;
+    public final String[] doctorIds;
+    final long[] cells;
+    final int storedDoctorCount; // 파일에 실제로 있는 의사 열 수 (나머지는 읽을 때 채운 열)
+
+    public AppointmentCells(LocalDate date, String[] doctorIds) {
+        this(date, doctorIds, new long[SLOT_COUNT * doctorIds.length], doctorIds.length);
+    }
+
+    AppointmentCells(LocalDate date, String[] doctorIds, long[] cells, int storedDoctorCount) {
+        this.date = date;
+        this.doctorIds = doctorIds;
+        this.cells = cells;
+        this.storedDoctorCount = storedDoctorCount;
+    }
+
+    public long get(int slotIndex, int doctorIndex) {
+        return cells[slotIndex * doctorIds.length + doctorIndex];
+    }
+
+    public void set(int slotIndex, int doctorIndex, long cell) {
+        cells[slotIndex * doctorIds.length + doctorIndex] = cell;
+    }
+
+    /**
+     * 의사 인덱스 (없으면 -1)
+     */
+    public int doctorIndexOf(String doctorId) {
+        for (int i = 0; i < doctorIds.length; i++) {
+            if (doctorIds[i].equals(doctorId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 예약번호가 들어 있는 칸의 위치 (상태코드 무시)
+     *
+     * @return slotIndex * 의사 수 + doctorIndex (없으면 -1)
+     */
+    public int findReservation(int reservationNumber) {
+        for (int i = 0; i < cells.length; i++) {
+            if (SlotCell.isReservation(cells[i], reservationNumber)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 의사별 예약 가능 슬롯 비트맵 (비트 i: i번째 슬롯 예약 가능)
+     */
+    public long[] availabilityBitmaps() {
+        int doctorCount = doctorIds.length;
+        long[] bitmaps = new long[doctorCount];
+        for (int i = 0; i < cells.length; i++) {
+            if (SlotCell.isAvailable(cells[i])) {
+                bitmaps[i % doctorCount] |= 1L << (i / doctorCount);
+            }
+        }
+        return bitmaps;
+    }
+
+    /**
+     * 의사별 예약된 칸 수 (예약 불가(X)와 취소된 칸은 세지 않음)
+     */
+    public int[] bookedCounts() {
+        int doctorCount = doctorIds.length;
+        int[] counts = new int[doctorCount];
+        for (int i = 0; i < cells.length; i++) {
+            if (SlotCell.isReservation(cells[i]) && !SlotCell.isAvailable(cells[i])) {
+                counts[i % doctorCount]++;
+            }
+        }
+        return counts;
+    }
+
+    // ========== 텍스트 형식 ==========
+
+    /**
+     * 예약 파일 바이트를 해석합니다 (split / 정규식 없이)
+     * 빈 줄, 공백 여러 개, CRLF 는 허용하고, 그 밖에 형식이 조금이라도 다르면 null 을 반환합니다.
+     * (null 이면 호출한 쪽이 오류 위치를 알려주는 기존 검증 파서로 다시 읽음)
+     */
+    static AppointmentCells parseText(byte[] bytes, LocalDate expectedDate) {
+        Cursor cursor = new Cursor(bytes);
+
+        // 1행: 날짜
+        if (!cursor.nextLine() || !cursor.nextToken() || !cursor.tokenEquals(expectedDate.toString())
+                || cursor.nextToken()) {
+            return null;
+        }
+
+        // 2행: TIME + 의사 번호들
+        if (!cursor.nextLine() || !cursor.nextToken() || !cursor.tokenEquals("TIME")) {
+            return null;
+        }
+        List<String> doctorIdList = new ArrayList<>();
+        Set<String> seenDoctorIds = new HashSet<>();
+        while (cursor.nextToken()) {
+            if (!cursor.isDoctorIdToken()) {
+                return null;
+            }
+            String doctorId = cursor.tokenString();
+            // 중복된 의사 번호는 검증 파서가 오류로 알림
+            if (!seenDoctorIds.add(doctorId)) {
+                return null;
+            }
+            doctorIdList.add(doctorId);
+        }
+        if (doctorIdList.isEmpty()) {
+            return null;
+        }
+
+        // 3행~: 시간 + 칸들 (09:00 ~ 17:50 순서대로 54줄)
+        String[] doctorIds = doctorIdList.toArray(new String[0]);
+        long[] cells = new long[SLOT_COUNT * doctorIds.length];
+        int slotIndex = 0;
+        while (cursor.nextLine()) {
+            if (!cursor.nextToken()) {
+                continue; // 빈 줄
+            }
+            if (slotIndex == SLOT_COUNT || !cursor.tokenEquals(SlotAvailabilityCache.timeOf(slotIndex))) {
+                return null;
+            }
+
+            int offset = slotIndex * doctorIds.length;
+            for (int doctorIndex = 0; doctorIndex < doctorIds.length; doctorIndex++) {
+                if (!cursor.nextToken()) {
+                    return null;
+                }
+                long cell = cursor.tokenCell();
+                if (cell == SlotCell.INVALID) {
+                    return null;
+                }
+                cells[offset + doctorIndex] = cell;
+            }
+            if (cursor.nextToken()) {
+                return null;
+            }
+            slotIndex++;
+        }
+
+        if (slotIndex != SLOT_COUNT) {
+            return null;
+        }
+        return new AppointmentCells(expectedDate, doctorIds, cells, doctorIds.length);
+    }
+
+    /**
+     * 예약 파일 내용 (Files.write(줄 목록) 과 같은 바이트)
+     */
+    public byte[] toText() {
+        String lineSeparator = System.lineSeparator();
+        int doctorCount = doctorIds.length;
+        StringBuilder builder = new StringBuilder(32 + (SLOT_COUNT + 1) * (6 + doctorCount * 13));
+
+        builder.append(date).append(lineSeparator);
+        builder.append("TIME");
+        for (String doctorId : doctorIds) {
+            builder.append(' ').append(doctorId);
+        }
+        builder.append(lineSeparator);
+
+        for (int slotIndex = 0; slotIndex < SLOT_COUNT; slotIndex++) {
+            builder.append(SlotAvailabilityCache.timeOf(slotIndex));
+            int offset = slotIndex * doctorCount;
+            for (int doctorIndex = 0; doctorIndex < doctorCount; doctorIndex++) {
+                builder.append(' ');
+                SlotCell.appendTo(builder, cells[offset + doctorIndex]);
+            }
+            builder.append(lineSeparator);
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ========== AppointmentData 변환 ==========
+
+    /**
+     * 문자열 칸 데이터에서 변환합니다
+     *
+     * @return 변환 결과 (시간 슬롯 수가 맞지 않거나 칸 형식이 잘못되면 null)
+     */
+    public static AppointmentCells from(AppointmentRepository.AppointmentData data) {
+        if (data.timeSlots.size() != SLOT_COUNT) {
+            return null;
+        }
+
+        AppointmentCells result = new AppointmentCells(data.date, data.doctorIds);
+        for (int slotIndex = 0; slotIndex < SLOT_COUNT; slotIndex++) {
+            String[] statuses = data.timeSlots.get(slotIndex).statuses;
+            for (int doctorIndex = 0; doctorIndex < data.doctorIds.length; doctorIndex++) {
+                long cell = SlotCell.parse(statuses[doctorIndex]);
+                if (cell == SlotCell.INVALID) {
+                    return null;
+                }
+                result.set(slotIndex, doctorIndex, cell);
+            }
+        }
+        return result;
+    }
+
+    public AppointmentRepository.AppointmentData toAppointmentData() {
+        List<AppointmentRepository.TimeSlot> timeSlots = new ArrayList<>(SLOT_COUNT);
+        for (int slotIndex = 0; slotIndex < SLOT_COUNT; slotIndex++) {
+            String[] statuses = new String[doctorIds.length];
+            for (int doctorIndex = 0; doctorIndex < doctorIds.length; doctorIndex++) {
+                statuses[doctorIndex] = SlotCell.format(get(slotIndex, doctorIndex));
+            }
+            timeSlots.add(new AppointmentRepository.TimeSlot(SlotAvailabilityCache.timeOf(slotIndex), statuses));
+        }
+        return new AppointmentRepository.AppointmentData(date, doctorIds, timeSlots);
+    }
+
+    /**
+     * 줄/토큰 단위로 바이트를 훑는 커서 (토큰은 시작/끝 위치로만 표시)
+     */
+    private static final class Cursor {
+        private final byte[] bytes;
+        private int position;
+        private int lineEnd = -1;
+        private int tokenStart;
+        private int tokenEnd;
+
+        Cursor(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        boolean nextLine() {
+            if (lineEnd >= 0) {
+                position = lineEnd + 1;
+            }
+            if (position >= bytes.length) {
+                return false;
+            }
+            lineEnd = position;
+            while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            return true;
+        }
+
+        boolean nextToken() {
+            while (position < lineEnd && isBlank(bytes[position])) {
+                position++;
+            }
+            if (position >= lineEnd) {
+                return false;
+            }
+            tokenStart = position;
+            while (position < lineEnd && !isBlank(bytes[position])) {
+                position++;
+            }
+            tokenEnd = position;
+            return true;
+        }
+
+        boolean tokenEquals(String expected) {
+            if (tokenEnd - tokenStart != expected.length()) {
+                return false;
+            }
+            for (int i = 0; i < expected.length(); i++) {
+                if (bytes[tokenStart + i] != expected.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isDoctorIdToken() {
+            if (tokenEnd - tokenStart != 6 || bytes[tokenStart] != 'D') {
+                return false;
+            }
+            for (int i = tokenStart + 1; i < tokenEnd; i++) {
+                if (bytes[i] < '0' || bytes[i] > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        String tokenString() {
+            return new String(bytes, tokenStart, tokenEnd - tokenStart, StandardCharsets.US_ASCII);
+        }
+
+        long tokenCell() {
+            return SlotCell.parse(bytes, tokenStart, tokenEnd);
+        }
+
+        private static boolean isBlank(byte b) {
+            return b == ' ' || b == '\t' || b == '\r';
+        }
+    }
+}
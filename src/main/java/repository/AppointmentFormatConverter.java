@@ -0,0 +1,71 @@
+package repository;
+
+import util.exception.AppointmentFileException;
+import util.file.FileUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 날짜별 예약 현황 파일의 텍스트 <-> 바이너리 변환 도구
+ *
+ * 사용법:
+ *   java -cp HospitalReservation.jar repository.AppointmentFormatConverter to-binary [YYYY-MM-DD]
+ *   java -cp HospitalReservation.jar repository.AppointmentFormatConverter to-text [YYYY-MM-DD]
+ * 날짜를 생략하면 모든 파일을 변환합니다.
+ */
+public class AppointmentFormatConverter {
+
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2
+                || !(args[0].equals("to-binary") || args[0].equals("to-text"))) {
+            System.out.println("사용법: AppointmentFormatConverter <to-binary|to-text> [YYYY-MM-DD]");
+            return;
+        }
+
+        boolean toBinary = args[0].equals("to-binary");
+        try {
+            List<LocalDate> dates = args.length == 2
+                    ? List.of(LocalDate.parse(args[1]))
+                    : listDates(toBinary ? "data/appointment" : "data/appointment/bin", toBinary ? ".txt" : ".bin");
+
+            for (LocalDate date : dates) {
+                if (toBinary) {
+                    AppointmentRepository.importFromText(date);
+                } else {
+                    AppointmentRepository.exportToText(date);
+                }
+            }
+            System.out.println(dates.size() + "개 파일을 변환했습니다.");
+        } catch (DateTimeParseException e) {
+            System.out.println("[오류] 날짜 형식이 올바르지 않습니다. (예: 2025-10-10)");
+        } catch (AppointmentFileException | IOException e) {
+            System.out.println("[오류] 예약 파일 변환 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private static List<LocalDate> listDates(String directory, String extension) throws IOException {
+        List<LocalDate> dates = new ArrayList<>();
+        Path dir = FileUtil.getResourcePath(directory);
+        if (!Files.exists(dir)) {
+            return dates;
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.matches("\\d{8}\\" + extension))
+                    .sorted()
+                    .forEach(name -> dates.add(LocalDate.parse(name.substring(0, 8), FILE_DATE_FORMAT)));
+        }
+        return dates;
+    }
+}
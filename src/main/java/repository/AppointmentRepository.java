@@ -5,14 +5,26 @@ import util.file.FileUtil;
 import util.validation.AppointmentFileValidator;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 /**
  * 날짜별 예약 현황 파일을 처리하는 Repository 클래스
@@ -20,12 +32,59 @@ import java.util.List;
  * - 1행: 날짜 (YYYY-MM-DD)
  * - 2행: TIME + 의사번호 리스트 (공백으로 구분)
  * - 3행~: 시간 + 예약상태들 (0: 예약가능, R########: 예약번호, X: 진료불가)
+ *
+ * 파일이 없는 날짜는 모든 칸이 0 인 빈 예약표로 보고, 첫 예약 때 현재 의사 목록으로 파일을 만듭니다.
+ * 파일을 만든 뒤 등록된 의사는 파일에 열이 없어도 읽을 때 0 열로 채우고, 그 날짜에 처음 쓸 때 파일에 반영합니다.
+ * (의사 회원가입 시 기존 예약 파일을 모두 다시 쓰지 않음)
+ *
+ * -Dappointment.storage=binary 로 실행하면 data/appointment/bin/yyyyMMdd.bin
+ * (BinaryAppointmentFile 형식)을 기준으로 읽고, 슬롯 변경은 해당 칸만 덮어씁니다.
+ * 변경된 날짜는 종료 시 텍스트 파일로 내보냅니다.
  */
 public class AppointmentRepository {
 
     private static final String APPOINTMENT_DIR = "data/appointment";
+    private static final String BINARY_DIR = "data/appointment/bin";
+    private static final String STORAGE_PROPERTY = "appointment.storage";
     private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final int MINIMUM_LINES = 3; // 날짜 + 의사목록 + 최소 1개 시간슬롯
+    // 의사 목록 스냅샷별 빈 예약표 틀 (의사 목록이 바뀌면 다시 만듦)
+    private static final AtomicReference<RosterTemplate> rosterTemplate = new AtomicReference<>();
+
+    // 바이너리 파일만 변경되고 아직 텍스트로 내보내지 않은 날짜
+    private static final Set<LocalDate> dirtyBinaryDates = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean exportHookRegistered = new AtomicBoolean(false);
+
+    private final boolean binaryStorage;
+
+    public AppointmentRepository() {
+        this(isBinaryStorageEnabled());
+    }
+
+    AppointmentRepository(boolean binaryStorage) {
+        this.binaryStorage = binaryStorage;
+        if (binaryStorage) {
+            registerExportHook();
+        }
+    }
+
+    /**
+     * 프로그램 전체에서 공유하는 저장소
+     */
+    public static AppointmentRepository getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final AppointmentRepository INSTANCE = new AppointmentRepository();
+    }
+
+    /**
+     * 바이너리 저장 방식 사용 여부 (-Dappointment.storage=binary)
+     */
+    public static boolean isBinaryStorageEnabled() {
+        return "binary".equalsIgnoreCase(System.getProperty(STORAGE_PROPERTY, "text"));
+    }
 
     /**
      * 날짜별 예약 현황을 조회합니다
@@ -35,12 +94,41 @@ public class AppointmentRepository {
      * @throws AppointmentFileException 파일 읽기 또는 파싱 중 오류 발생 시
      */
     public AppointmentData getAppointmentsByDate(LocalDate date) throws AppointmentFileException {
+        return getCellsByDate(date).toAppointmentData();
+    }
+
+    /**
+     * 날짜별 예약 현황표를 조회합니다 (칸 문자열을 만들지 않음)
+     *
+     * @throws AppointmentFileException 파일 읽기 또는 파싱 중 오류 발생 시
+     */
+    public AppointmentCells getCellsByDate(LocalDate date) throws AppointmentFileException {
+        ReservationTable.projectAppointments(date);
+        AppointmentCells data = binaryStorage ? readBinaryCells(date) : readTextCells(date);
+        return extendToRoster(data);
+    }
+
+    /**
+     * 이미 읽어 둔 텍스트 줄로 예약 현황을 파싱합니다 (시작 검증용)
+     * 바이너리 저장소를 사용하는 경우에는 실제로 사용할 바이너리 파일을 검증합니다.
+     */
+    public AppointmentData parseAppointments(LocalDate date, List<String> lines) throws AppointmentFileException {
+        if (binaryStorage) {
+            return readBinaryCells(date).toAppointmentData();
+        }
+        return parseAppointmentFile(lines, date);
+    }
+
+    /**
+     * 텍스트 예약 파일을 읽습니다
+     * 파일 바이트를 바로 해석하고, 형식이 조금이라도 다르면 오류 위치를 알려주는 검증 파서로 다시 해석합니다.
+     */
+    private static AppointmentCells readTextCells(LocalDate date) throws AppointmentFileException {
         Path filePath = getAppointmentFilePath(date);
 
+        byte[] bytes;
         try {
-            List<String> lines = Files.readAllLines(filePath);
-            return parseAppointmentFile(lines, date);
-
+            bytes = FileUtil.readAllBytes(filePath);
         } catch (NoSuchFileException e) {
             throw new AppointmentFileException(
                     AppointmentFileException.ErrorType.FILE_NOT_FOUND,
@@ -54,6 +142,20 @@ public class AppointmentRepository {
                     e
             );
         }
+
+        AppointmentCells cells = AppointmentCells.parseText(bytes, date);
+        if (cells != null) {
+            return cells;
+        }
+
+        List<String> lines = new String(bytes, StandardCharsets.UTF_8).lines().toList();
+        AppointmentCells parsed = AppointmentCells.from(parseAppointmentFile(lines, date));
+        if (parsed == null) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_FILE_STRUCTURE,
+                    "파일: " + filePath.toString());
+        }
+        return parsed;
     }
 
     /**
@@ -65,32 +167,62 @@ public class AppointmentRepository {
      * @throws AppointmentFileException 파일 읽기 또는 파싱 중 오류 발생 시
      */
     public List<String> getAvailableTimeSlots(LocalDate date, String doctorId) throws AppointmentFileException {
-        AppointmentData data = getAppointmentsByDate(date);
-
-        int doctorIndex = -1;
-        for (int i = 0; i < data.doctorIds.length; i++) {
-            if (data.doctorIds[i].equals(doctorId)) {
-                doctorIndex = i;
-                break;
-            }
-        }
+        Long bitmap = getAvailabilityBitmaps(date).get(doctorId);
 
-        if (doctorIndex == -1) {
+        if (bitmap == null) {
             throw new AppointmentFileException(
                     AppointmentFileException.ErrorType.INVALID_DOCTOR_LIST,
                     "해당 날짜에 의사 번호 " + doctorId + "가 존재하지 않습니다");
         }
 
-        List<String> availableSlots = new ArrayList<>();
-        for (TimeSlot slot : data.timeSlots) {
-            String status = slot.statuses[doctorIndex];
-            // "0" (예약 가능) 또는 취소된 예약(상태코드 3)만 예약 가능
-            if ("0".equals(status) || (status.contains("(3)"))) {
-                availableSlots.add(slot.time);
-            }
+        return SlotAvailabilityCache.toTimes(bitmap);
+    }
+
+    /**
+     * 날짜별 의사들의 예약 가능 슬롯 비트맵을 조회합니다 (캐시에 없으면 파일에서 생성)
+     *
+     * @return 의사 번호 -> 비트맵 (비트 i: i번째 슬롯 예약 가능)
+     * @throws AppointmentFileException 파일 읽기 또는 파싱 중 오류 발생 시
+     */
+    public Map<String, Long> getAvailabilityBitmaps(LocalDate date) throws AppointmentFileException {
+        SlotAvailabilityCache cache = SlotAvailabilityCache.getInstance();
+        Map<String, Long> bitmaps = cache.get(date);
+        if (bitmaps != null) {
+            return bitmaps;
         }
 
-        return availableSlots;
+        long generation = cache.currentGeneration();
+        bitmaps = SlotAvailabilityCache.buildBitmaps(getCellsByDate(date));
+        cache.put(date, bitmaps, generation);
+        return bitmaps;
+    }
+
+    /**
+     * 날짜별 의사들의 예약된 슬롯 수를 조회합니다 (예약 불가(X)와 취소된 칸은 세지 않음)
+     *
+     * @return 의사 번호 -> 예약 수
+     * @throws AppointmentFileException 파일 읽기 또는 파싱 중 오류 발생 시
+     */
+    public Map<String, Integer> getBookedCounts(LocalDate date) throws AppointmentFileException {
+        AppointmentCells data = getCellsByDate(date);
+        int[] counts = data.bookedCounts();
+        Map<String, Integer> result = new HashMap<>();
+        for (int doctorIndex = 0; doctorIndex < counts.length; doctorIndex++) {
+            result.put(data.doctorIds[doctorIndex], counts[doctorIndex]);
+        }
+        return result;
+    }
+
+    /**
+     * 여러 의사 중 해당 날짜에 가장 이른 예약 가능 슬롯을 찾습니다
+     *
+     * @param doctorIds 우선순위 순서의 의사 번호 목록 (같은 시간이면 앞선 의사)
+     * @return {의사 번호, 시간} (없으면 null)
+     * @throws AppointmentFileException 파일 읽기 또는 파싱 중 오류 발생 시
+     */
+    public String[] findFirstAvailableSlot(LocalDate date, Collection<String> doctorIds)
+            throws AppointmentFileException {
+        return SlotAvailabilityCache.findFirstFree(getAvailabilityBitmaps(date), doctorIds);
     }
 
     /**
@@ -105,93 +237,109 @@ public class AppointmentRepository {
     public void createAppointment(LocalDate date, String doctorId, String time, String reservationId)
             throws AppointmentFileException {
 
-        AppointmentData data;
+        int reservationNumber = reservationNumberOf(reservationId);
+        AppointmentCells data;
+        boolean newFile = false;
 
         try {
             // 기존 파일이 있으면 읽기
-            data = getAppointmentsByDate(date);
+            data = getCellsByDate(date);
         } catch (AppointmentFileException e) {
             // 파일이 없으면 새로 생성
             if (e.getErrorType() == AppointmentFileException.ErrorType.FILE_NOT_FOUND) {
-                data = createNewAppointmentFile(date, doctorId);
+                data = createNewAppointmentCells(date);
+                newFile = true;
             } else {
                 throw e;
             }
         }
 
-        int doctorIndex = findDoctorIndex(data.doctorIds, doctorId);
-        int timeSlotIndex = findTimeSlotIndex(data.timeSlots, time);
+        int doctorIndex = findDoctorIndex(data, doctorId);
+        int timeSlotIndex = findTimeSlotIndex(time);
 
-        // 예약 가능 여부 확인
-        String currentStatus = data.timeSlots.get(timeSlotIndex).statuses[doctorIndex];
-        // "0" 또는 취소된 예약(상태코드 3)만 예약 가능
-        if (!"0".equals(currentStatus) && !currentStatus.contains("(3)")) {
+        // 예약 가능 여부 확인: "0" 또는 취소된 예약(상태코드 3)만 예약 가능
+        long currentCell = data.get(timeSlotIndex, doctorIndex);
+        if (!SlotCell.isAvailable(currentCell)) {
             throw new AppointmentFileException(
                     AppointmentFileException.ErrorType.INVALID_APPOINTMENT_STATUS,
-                    String.format("해당 시간대는 예약할 수 없습니다. 현재 상태: %s", currentStatus));
+                    String.format("해당 시간대는 예약할 수 없습니다. 현재 상태: %s", SlotCell.format(currentCell)));
         }
 
         // 예약 번호로 업데이트 (상태코드 1: 예약완료)
-        data.timeSlots.get(timeSlotIndex).statuses[doctorIndex] = reservationId + "(1)";
+        data.set(timeSlotIndex, doctorIndex, SlotCell.of(reservationNumber, SlotCell.STATUS_RESERVED));
 
         // 파일에 저장
-        saveAppointmentData(date, data);
+        if (newFile) {
+            saveAppointmentData(date, data);
+        } else {
+            saveSlot(date, data, timeSlotIndex, doctorIndex);
+        }
     }
 
     /**
-     * 새로운 예약 파일 데이터 생성
+     * 새로운 예약 파일 데이터 생성 (현재 의사 목록의 빈 예약표, 모든 칸 "0")
      */
-    private AppointmentData createNewAppointmentFile(LocalDate date, String doctorId) throws AppointmentFileException {
-        try {
-            // doctorlist.txt에서 모든 의사 목록 가져오기
-            List<String> doctorLines = FileUtil.readLines("data/doctor/doctorlist.txt");
-            List<String> doctorIds = new ArrayList<>();
-
-            for (int i = 1; i < doctorLines.size(); i++) {
-                String line = doctorLines.get(i).trim();
-                if (line.isEmpty())
-                    continue;
+    private static AppointmentCells createNewAppointmentCells(LocalDate date) throws AppointmentFileException {
+        String[] doctorIds = currentRoster().doctorIds;
+        if (doctorIds.length == 0) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_DOCTOR_LIST,
+                    "의사 목록을 찾을 수 없습니다");
+        }
+        return new AppointmentCells(date, doctorIds.clone());
+    }
 
-                String[] parts = line.split("\\s+");
-                if (parts.length >= 1) {
-                    doctorIds.add(parts[0]);
-                }
-            }
+    /**
+     * 파일을 만든 뒤 등록된 의사의 열을 "0" 으로 채웁니다 (파일은 다음 쓰기 때 반영)
+     */
+    private static AppointmentCells extendToRoster(AppointmentCells data) throws AppointmentFileException {
+        RosterTemplate roster = currentRoster();
+        if (Arrays.equals(data.doctorIds, roster.doctorIds)) {
+            return data;
+        }
 
-            if (doctorIds.isEmpty()) {
-                throw new AppointmentFileException(
-                        AppointmentFileException.ErrorType.INVALID_DOCTOR_LIST,
-                        "의사 목록을 찾을 수 없습니다");
+        // 열 수만으로는 알 수 없음 (탈퇴한 의사 열이 남아 있으면 파일 쪽이 더 길 수도 있음)
+        Set<String> stored = new HashSet<>(Arrays.asList(data.doctorIds));
+        List<String> added = new ArrayList<>();
+        for (String doctorId : roster.doctorIds) {
+            if (!stored.contains(doctorId)) {
+                added.add(doctorId);
             }
+        }
+        if (added.isEmpty()) {
+            return data;
+        }
 
-            String[] doctorArray = doctorIds.toArray(new String[0]);
-
-            // 모든 시간 슬롯 생성 (09:00 ~ 17:50)
-            List<TimeSlot> timeSlots = new ArrayList<>();
-            LocalTime currentTime = LocalTime.of(9, 0);
-            LocalTime endTime = LocalTime.of(17, 50);
-
-            while (!currentTime.isAfter(endTime)) {
-                String timeStr = currentTime.format(DateTimeFormatter.ofPattern("HH:mm"));
-                String[] statuses = new String[doctorArray.length];
-
-                // 모든 의사에 대해 초기 상태를 "0" (예약 가능)으로 설정
-                for (int i = 0; i < doctorArray.length; i++) {
-                    statuses[i] = "0";
-                }
-
-                timeSlots.add(new TimeSlot(timeStr, statuses));
-                currentTime = currentTime.plusMinutes(10);
-            }
+        int storedCount = data.doctorIds.length;
+        String[] doctorIds = Arrays.copyOf(data.doctorIds, storedCount + added.size());
+        for (int i = 0; i < added.size(); i++) {
+            doctorIds[storedCount + i] = added.get(i);
+        }
 
-            return new AppointmentData(date, doctorArray, timeSlots);
+        long[] cells = new long[AppointmentCells.SLOT_COUNT * doctorIds.length];
+        for (int slotIndex = 0; slotIndex < AppointmentCells.SLOT_COUNT; slotIndex++) {
+            System.arraycopy(data.cells, slotIndex * storedCount, cells, slotIndex * doctorIds.length, storedCount);
+        }
+        return new AppointmentCells(data.date, doctorIds, cells, storedCount);
+    }
 
-        } catch (IOException e) {
+    private static RosterTemplate currentRoster() throws AppointmentFileException {
+        DoctorDirectory directory;
+        try {
+            directory = DoctorDirectory.current();
+        } catch (UncheckedIOException e) {
             throw new AppointmentFileException(
                     AppointmentFileException.ErrorType.FILE_READ_ERROR,
                     "의사 목록 파일을 읽는 중 오류가 발생했습니다",
-                    e);
+                    e.getCause());
         }
+
+        RosterTemplate template = rosterTemplate.get();
+        if (template == null || template.directory != directory) {
+            template = new RosterTemplate(directory);
+            rosterTemplate.set(template);
+        }
+        return template;
     }
 
     /**
@@ -202,108 +350,162 @@ public class AppointmentRepository {
      * @throws AppointmentFileException 파일 처리 중 오류 발생 시
      */
     public void cancelAppointment(LocalDate date, String reservationId) throws AppointmentFileException {
-        AppointmentData data = getAppointmentsByDate(date);
+        replaceReservationCell(date, reservationId, SlotCell.STATUS_CANCELLED);
+    }
 
-        boolean found = false;
-        for (TimeSlot slot : data.timeSlots) {
-            for (int i = 0; i < slot.statuses.length; i++) {
-                // 예약번호만 비교 (상태코드 제외)
-                if (slot.statuses[i].startsWith(reservationId + "(")) {
-                    slot.statuses[i] = reservationId + "(3)"; // 상태코드 3: 취소
-                    found = true;
-                    break;
-                }
-            }
-            if (found)
-                break;
+    /**
+     * 예약을 삭제합니다 (상태를 0으로 초기화)
+     * 회원 탈퇴 시 사용됩니다.
+     */
+    public void deleteAppointment(LocalDate date, String reservationId) throws AppointmentFileException {
+        replaceReservationCell(date, reservationId, -1);
+    }
+
+    /**
+     * 예약 상태를 업데이트합니다 (진료완료, 노쇼 등)
+     *
+     * @param date          예약 날짜
+     * @param reservationId 예약 번호
+     * @param newStatus     새로운 상태 코드 (2: 진료완료, 4: 노쇼)
+     * @throws AppointmentFileException 파일 처리 중 오류 발생 시
+     */
+    public void updateAppointmentStatus(LocalDate date, String reservationId, String newStatus)
+            throws AppointmentFileException {
+        int status = newStatus.length() == 1 ? newStatus.charAt(0) - '0' : -1;
+        if (status < SlotCell.STATUS_RESERVED || status > SlotCell.STATUS_NO_SHOW) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_APPOINTMENT_STATUS,
+                    "잘못된 상태 코드: " + newStatus);
         }
+        replaceReservationCell(date, reservationId, status);
+    }
 
-        if (!found) {
+    /**
+     * 예약번호가 들어 있는 칸의 상태를 바꿉니다 (상태코드 무시하고 예약번호만 비교)
+     *
+     * @param status 새 상태코드 (-1 이면 "0" 으로 초기화)
+     */
+    private void replaceReservationCell(LocalDate date, String reservationId, int status)
+            throws AppointmentFileException {
+        int reservationNumber = reservationNumberOf(reservationId);
+        AppointmentCells data = getCellsByDate(date);
+
+        int index = data.findReservation(reservationNumber);
+        if (index == -1) {
             throw new AppointmentFileException(
                     AppointmentFileException.ErrorType.INVALID_APPOINTMENT_STATUS,
                     "예약 번호 " + reservationId + "를 찾을 수 없습니다");
         }
 
-        saveAppointmentData(date, data);
+        int doctorCount = data.doctorIds.length;
+        data.cells[index] = status == -1 ? SlotCell.AVAILABLE : SlotCell.of(reservationNumber, status);
+        saveSlot(date, data, index / doctorCount, index % doctorCount);
     }
 
     /**
-     * 예약을 삭제합니다 (상태를 0으로 초기화)
-     * 회원 탈퇴 시 사용됩니다.
+     * 예약 현황표를 한 번 읽어 여러 칸을 고친 뒤 한 번만 저장합니다 (예약 테이블 투영용)
+     * 파일이 없으면 현재 의사 목록의 빈 예약표에서 시작하고, 바뀐 칸이 없으면 저장하지 않습니다.
+     * 슬롯 비트맵은 테이블에 기록할 때 이미 갱신되었으므로 건드리지 않습니다.
      */
-    public void deleteAppointment(LocalDate date, String reservationId) throws AppointmentFileException {
-        AppointmentData data = getAppointmentsByDate(date);
-
-        boolean found = false;
-        for (TimeSlot slot : data.timeSlots) {
-            for (int i = 0; i < slot.statuses.length; i++) {
-                // 예약번호만 비교
-                if (slot.statuses[i].startsWith(reservationId + "(")) {
-                    slot.statuses[i] = "0"; // 상태코드 0: 예약 가능으로 초기화
-                    found = true;
-                    break;
-                }
+    void updateCells(LocalDate date, CellUpdate update) throws AppointmentFileException {
+        AppointmentCells data;
+        try {
+            data = getCellsByDate(date);
+        } catch (AppointmentFileException e) {
+            if (e.getErrorType() != AppointmentFileException.ErrorType.FILE_NOT_FOUND) {
+                throw e;
             }
-            if (found)
-                break;
+            data = createNewAppointmentCells(date);
         }
 
-        if (!found) {
-            throw new AppointmentFileException(
-                    AppointmentFileException.ErrorType.INVALID_APPOINTMENT_STATUS,
-                    "예약 번호 " + reservationId + "를 찾을 수 없습니다");
+        if (!update.apply(data)) {
+            return;
+        }
+        if (binaryStorage) {
+            BinaryAppointmentFile.write(getBinaryFilePath(date), data);
+            dirtyBinaryDates.add(date);
+            return;
         }
+        writeTextAppointments(date, data);
+    }
 
-        saveAppointmentData(date, data);
+    /**
+     * 예약 현황표 칸 변경 (바뀐 칸이 있으면 true)
+     */
+    @FunctionalInterface
+    interface CellUpdate {
+        boolean apply(AppointmentCells cells);
     }
 
     /**
-     * 예약 상태를 업데이트합니다 (진료완료, 노쇼 등)
+     * 특정 칸의 값을 조회합니다
      *
-     * @param date          예약 날짜
-     * @param reservationId 예약 번호
-     * @param newStatus     새로운 상태 코드 (2: 진료완료, 4: 노쇼)
-     * @throws AppointmentFileException 파일 처리 중 오류 발생 시
+     * @return 칸 값 (파일이 없으면 null)
+     * @throws AppointmentFileException 의사 번호나 시간이 파일에 없거나 파일 처리 중 오류 발생 시
      */
-    public void updateAppointmentStatus(LocalDate date, String reservationId, String newStatus)
-            throws AppointmentFileException {
-        AppointmentData data = getAppointmentsByDate(date);
-
-        boolean found = false;
-        for (TimeSlot slot : data.timeSlots) {
-            for (int i = 0; i < slot.statuses.length; i++) {
-                // 예약번호만 비교 (상태코드 제외)
-                if (slot.statuses[i].startsWith(reservationId + "(")) {
-                    slot.statuses[i] = reservationId + "(" + newStatus + ")";
-                    found = true;
-                    break;
-                }
+    public String getSlotStatus(LocalDate date, String doctorId, String time) throws AppointmentFileException {
+        AppointmentCells data;
+        try {
+            data = getCellsByDate(date);
+        } catch (AppointmentFileException e) {
+            if (e.getErrorType() == AppointmentFileException.ErrorType.FILE_NOT_FOUND) {
+                return null;
             }
-            if (found)
-                break;
+            throw e;
         }
 
-        if (!found) {
+        return SlotCell.format(data.get(findTimeSlotIndex(time), findDoctorIndex(data, doctorId)));
+    }
+
+    /**
+     * 특정 칸의 값을 변경합니다
+     *
+     * @param value 새 값 (0, X, R########(상태))
+     * @throws AppointmentFileException 파일 처리 중 오류 발생 시
+     */
+    public void setSlotStatus(LocalDate date, String doctorId, String time, String value)
+            throws AppointmentFileException {
+        long cell = SlotCell.parse(value);
+        if (cell == SlotCell.INVALID) {
             throw new AppointmentFileException(
                     AppointmentFileException.ErrorType.INVALID_APPOINTMENT_STATUS,
-                    "예약 번호 " + reservationId + "를 찾을 수 없습니다");
+                    "잘못된 예약 상태: " + value);
         }
 
-        saveAppointmentData(date, data);
+        AppointmentCells data = getCellsByDate(date);
+        int doctorIndex = findDoctorIndex(data, doctorId);
+        int timeSlotIndex = findTimeSlotIndex(time);
+        data.set(timeSlotIndex, doctorIndex, cell);
+        saveSlot(date, data, timeSlotIndex, doctorIndex);
+    }
+
+    /**
+     * 해당 날짜의 예약 파일을 디스크에 반영합니다 (체크포인트용)
+     */
+    public void force(LocalDate date) throws IOException {
+        FileUtil.force(binaryStorage ? getBinaryFilePath(date) : getAppointmentFilePath(date));
     }
 
     /**
      * 예약 파일 경로를 생성합니다
      */
-    private Path getAppointmentFilePath(LocalDate date) {
+    private static Path getAppointmentFilePath(LocalDate date) {
         String fileName = date.format(FILE_DATE_FORMAT) + ".txt";
         return FileUtil.getResourcePath(APPOINTMENT_DIR).resolve(fileName);
     }
 
+    /**
+     * 바이너리 예약 파일 경로를 생성합니다
+     */
+    private static Path getBinaryFilePath(LocalDate date) {
+        String fileName = date.format(FILE_DATE_FORMAT) + ".bin";
+        return FileUtil.getResourcePath(BINARY_DIR).resolve(fileName);
+    }
+
     /**
      * 예약 파일을 파싱합니다
      */
-    private AppointmentData parseAppointmentFile(List<String> lines, LocalDate expectedDate)
+    private static AppointmentData parseAppointmentFile(List<String> lines, LocalDate expectedDate)
             throws AppointmentFileException {
 
         // 최소 라인 수 검증
@@ -362,32 +564,74 @@ public class AppointmentRepository {
     /**
      * 예약 데이터를 파일에 저장합니다
      */
-    private void saveAppointmentData(LocalDate date, AppointmentData data) throws AppointmentFileException {
-        Path filePath = getAppointmentFilePath(date);
+    private void saveAppointmentData(LocalDate date, AppointmentCells data) throws AppointmentFileException {
+        SlotAvailabilityCache.getInstance().invalidate(date);
+        if (binaryStorage) {
+            BinaryAppointmentFile.write(getBinaryFilePath(date), data);
+            dirtyBinaryDates.add(date);
+            return;
+        }
+        writeTextAppointments(date, data);
+    }
 
+    /**
+     * 슬롯 하나가 바뀐 예약 데이터를 저장합니다
+     * (바이너리 저장 방식이면 해당 칸만 덮어씀)
+     */
+    private void saveSlot(LocalDate date, AppointmentCells data, int slotIndex, int doctorIndex)
+            throws AppointmentFileException {
+        long cell = data.get(slotIndex, doctorIndex);
         try {
-            List<String> lines = new ArrayList<>();
+            if (binaryStorage) {
+                if (data.storedDoctorCount == data.doctorIds.length) {
+                    BinaryAppointmentFile.writeCell(getBinaryFilePath(date), data.doctorIds.length, slotIndex,
+                            doctorIndex, cell);
+                } else {
+                    // 파일에 없는 의사 열이 있으면 전체를 다시 씀
+                    BinaryAppointmentFile.write(getBinaryFilePath(date), data);
+                }
+                dirtyBinaryDates.add(date);
+                return;
+            }
+            writeTextAppointments(date, data);
+        } finally {
+            SlotAvailabilityCache.getInstance().updateSlot(date, data.doctorIds[doctorIndex], slotIndex, cell);
+        }
+    }
 
-            // 1행: 날짜
-            lines.add(date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+    /**
+     * 예약 데이터를 텍스트 형식의 줄 목록으로 변환합니다
+     */
+    public static List<String> toTextLines(LocalDate date, AppointmentData data) {
+        List<String> lines = new ArrayList<>();
 
-            // 2행: TIME + 의사 번호들
-            StringBuilder doctorLine = new StringBuilder("TIME");
-            for (String doctorId : data.doctorIds) {
-                doctorLine.append(" ").append(doctorId);
-            }
-            lines.add(doctorLine.toString());
+        // 1행: 날짜
+        lines.add(date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
 
-            // 3행~: 시간 슬롯들
-            for (TimeSlot slot : data.timeSlots) {
-                StringBuilder slotLine = new StringBuilder(slot.time);
-                for (String status : slot.statuses) {
-                    slotLine.append(" ").append(status);
-                }
-                lines.add(slotLine.toString());
+        // 2행: TIME + 의사 번호들
+        StringBuilder doctorLine = new StringBuilder("TIME");
+        for (String doctorId : data.doctorIds) {
+            doctorLine.append(" ").append(doctorId);
+        }
+        lines.add(doctorLine.toString());
+
+        // 3행~: 시간 슬롯들
+        for (TimeSlot slot : data.timeSlots) {
+            StringBuilder slotLine = new StringBuilder(slot.time);
+            for (String status : slot.statuses) {
+                slotLine.append(" ").append(status);
             }
+            lines.add(slotLine.toString());
+        }
+
+        return lines;
+    }
 
-            Files.write(filePath, lines);
+    private static void writeTextAppointments(LocalDate date, AppointmentCells data) throws AppointmentFileException {
+        Path filePath = getAppointmentFilePath(date);
+
+        try {
+            FileUtil.write(filePath, data.toText());
 
         } catch (IOException e) {
             throw new AppointmentFileException(
@@ -397,32 +641,147 @@ public class AppointmentRepository {
         }
     }
 
+    // ========== 바이너리 저장 방식 ==========
+
     /**
-     * 의사 인덱스를 찾습니다
+     * 바이너리 파일을 읽습니다 (없으면 텍스트 파일에서 변환하여 생성)
+     */
+    private static AppointmentCells readBinaryCells(LocalDate date) throws AppointmentFileException {
+        Path binaryPath = getBinaryFilePath(date);
+        if (Files.exists(binaryPath)) {
+            return BinaryAppointmentFile.readCells(binaryPath, date);
+        }
+
+        AppointmentCells data = readTextCells(date);
+        BinaryAppointmentFile.write(binaryPath, data);
+        syncModifiedTime(getAppointmentFilePath(date), binaryPath);
+        return data;
+    }
+
+    /**
+     * 바이너리로만 반영된 변경 내용을 텍스트 파일로 내보냅니다 (예약 테이블에 쌓인 레코드도 먼저 반영)
+     * 텍스트 파일을 직접 읽는 코드 앞과 프로그램 종료 시 호출됩니다.
      */
-    private int findDoctorIndex(String[] doctorIds, String doctorId) throws AppointmentFileException {
-        for (int i = 0; i < doctorIds.length; i++) {
-            if (doctorIds[i].equals(doctorId)) {
-                return i;
+    public static void flushToText() {
+        ReservationTable.projectAllAppointments();
+        for (LocalDate date : dirtyBinaryDates) {
+            dirtyBinaryDates.remove(date);
+            try {
+                exportToText(date);
+            } catch (AppointmentFileException e) {
+                dirtyBinaryDates.add(date);
+                System.out.println("[오류] 예약 파일을 텍스트로 내보내는 중 오류가 발생했습니다: " + e.getMessage());
             }
         }
-        throw new AppointmentFileException(
-                AppointmentFileException.ErrorType.INVALID_DOCTOR_LIST,
-                "의사 번호 " + doctorId + "를 찾을 수 없습니다");
     }
 
     /**
-     * 시간 슬롯 인덱스를 찾습니다
+     * 바이너리 파일을 텍스트 파일로 변환합니다
+     */
+    static void exportToText(LocalDate date) throws AppointmentFileException {
+        Path binaryPath = getBinaryFilePath(date);
+        writeTextAppointments(date, BinaryAppointmentFile.readCells(binaryPath, date));
+        syncModifiedTime(binaryPath, getAppointmentFilePath(date));
+    }
+
+    /**
+     * 텍스트 파일을 바이너리 파일로 변환합니다
      */
-    private int findTimeSlotIndex(List<TimeSlot> timeSlots, String time) throws AppointmentFileException {
-        for (int i = 0; i < timeSlots.size(); i++) {
-            if (timeSlots.get(i).time.equals(time)) {
-                return i;
+    static void importFromText(LocalDate date) throws AppointmentFileException {
+        Path binaryPath = getBinaryFilePath(date);
+        BinaryAppointmentFile.write(binaryPath, readTextCells(date));
+        syncModifiedTime(getAppointmentFilePath(date), binaryPath);
+    }
+
+    /**
+     * 프로그램 시작 시 바이너리 파일과 텍스트 파일을 맞춥니다
+     * - 바이너리가 더 최신이면 (이전 실행이 내보내기 전에 종료됨) 텍스트로 내보냄
+     * - 텍스트가 더 최신이면 (텍스트 방식으로 실행되었거나 직접 수정됨) 바이너리를 삭제하여 다시 변환되게 함
+     */
+    public static void synchronizeStorage() {
+        if (!isBinaryStorageEnabled()) {
+            return;
+        }
+
+        Path binaryDir = FileUtil.getResourcePath(BINARY_DIR);
+        if (!Files.exists(binaryDir)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(binaryDir)) {
+            for (Path binaryPath : (Iterable<Path>) files::iterator) {
+                String fileName = binaryPath.getFileName().toString();
+                if (!fileName.matches("\\d{8}\\.bin")) {
+                    continue;
+                }
+
+                LocalDate date = LocalDate.parse(fileName.substring(0, 8), FILE_DATE_FORMAT);
+                Path textPath = getAppointmentFilePath(date);
+                if (!Files.exists(textPath)
+                        || Files.getLastModifiedTime(binaryPath).compareTo(Files.getLastModifiedTime(textPath)) > 0) {
+                    exportToText(date);
+                } else if (Files.getLastModifiedTime(textPath).compareTo(Files.getLastModifiedTime(binaryPath)) > 0) {
+                    Files.delete(binaryPath);
+                }
             }
+        } catch (IOException | AppointmentFileException | java.time.DateTimeException e) {
+            System.out.println("[오류] 바이너리 예약 파일을 동기화하는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private static void registerExportHook() {
+        if (exportHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(AppointmentRepository::flushToText, "appointment-text-export"));
+        }
+    }
+
+    private static void syncModifiedTime(Path source, Path target) {
+        try {
+            FileTime modifiedTime = Files.getLastModifiedTime(source);
+            Files.setLastModifiedTime(target, modifiedTime);
+        } catch (IOException ignored) {
+            // 수정 시간을 맞추지 못하면 다음 시작 시 다시 변환될 뿐이므로 무시
+        }
+    }
+
+    /**
+     * 의사 인덱스를 찾습니다
+     */
+    private static int findDoctorIndex(AppointmentCells data, String doctorId) throws AppointmentFileException {
+        int doctorIndex = data.doctorIndexOf(doctorId);
+        if (doctorIndex == -1) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_DOCTOR_LIST,
+                    "의사 번호 " + doctorId + "를 찾을 수 없습니다");
         }
-        throw new AppointmentFileException(
-                AppointmentFileException.ErrorType.INVALID_TIME_SLOT,
-                "시간 " + time + "을 찾을 수 없습니다");
+        return doctorIndex;
+    }
+
+    /**
+     * 시간 슬롯 인덱스를 찾습니다 (예약 파일의 시간 슬롯은 09:00~17:50 순서로 검증됨)
+     */
+    private static int findTimeSlotIndex(String time) throws AppointmentFileException {
+        int slotIndex = BinaryAppointmentFile.slotIndexOf(time);
+        if (slotIndex == -1) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_TIME_SLOT,
+                    "시간 " + time + "을 찾을 수 없습니다");
+        }
+        return slotIndex;
+    }
+
+    /**
+     * 예약번호(R########)의 숫자 부분
+     */
+    private static int reservationNumberOf(String reservationId) throws AppointmentFileException {
+        int reservationNumber = SlotCell.parseReservationNumber(reservationId);
+        if (reservationNumber == -1) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_APPOINTMENT_STATUS,
+                    "잘못된 예약 번호: " + reservationId);
+        }
+        return reservationNumber;
     }
 
     /**
@@ -440,6 +799,23 @@ public class AppointmentRepository {
         }
     }
 
+    /**
+     * 의사 목록 스냅샷 하나의 의사 번호 순서 (doctorlist.txt 순서)
+     */
+    private static class RosterTemplate {
+        final DoctorDirectory directory;
+        final String[] doctorIds;
+
+        RosterTemplate(DoctorDirectory directory) {
+            this.directory = directory;
+            List<DoctorDirectory.Entry> doctors = directory.getDoctors();
+            this.doctorIds = new String[doctors.size()];
+            for (int i = 0; i < doctorIds.length; i++) {
+                doctorIds[i] = doctors.get(i).getDoctorId();
+            }
+        }
+    }
+
     /**
      * 시간 슬롯을 담는 내부 클래스
      */
@@ -1,58 +1,191 @@
 package repository;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import model.User;
 import util.file.FileUtil;
+import util.file.LineTokenizer;
 
+/**
+ * 인증 정보 저장소
+ * - 회원을 메모리(아이디 -> 회원)에 두고 조회 시 파일을 읽지 않습니다.
+ * - 가입은 credentials.txt 끝에 한 줄 추가하고, 탈퇴는 credentials.txt 를 다시 쓰지 않고
+ *   변경 로그(credentials.delta)에 삭제 표시("아이디 식별번호 DELETED")만 추가합니다.
+ *   로그가 -Dauth.delta.compact 줄(기본 256)을 넘거나 시작(검증 전)/종료할 때 credentials.txt 에 합칩니다.
+ *   합칠 때 헤더와 나머지 줄의 순서는 그대로 둡니다.
+ */
 public class AuthRepository {
     private static final String CREDENTIALS_FILE_PATH = "data/auth/credentials.txt";
-    private final Map<String, User> users = new HashMap<>();
+    private static final String CREDENTIALS_DELTA_FILE_PATH = "data/auth/credentials.delta";
+    private static final String DELTA_COMPACT_PROPERTY = "auth.delta.compact";
+    private static final String TOMBSTONE = "DELETED";
+    private final Map<String, User> users;
+
+    // 아직 credentials.txt 에 남아 있는 탈퇴 회원("아이디 식별번호") / 변경 로그 줄 수
+    private final int deltaCompactLines = Math.max(1, Integer.getInteger(DELTA_COMPACT_PROPERTY, 256));
+    private final Set<String> deletedUsers = new HashSet<>();
+    private boolean compactHookRegistered = false;
 
     public AuthRepository() {
-        loadUsersFromFile();
+        // 지난 실행의 변경 로그를 먼저 합침 (보통은 시작 시 검증 전에 이미 합쳐져 있음)
+        synchronizeStorage();
+
+        LineTokenizer credentials = readCredentials();
+        // 회원 수만큼 미리 크기를 잡아 로드 중 다시 해시하지 않음
+        users = new HashMap<>((int) (credentials.countLines() / 0.75f) + 1);
+        loadUsersFromFile(credentials);
     }
 
-    private void loadUsersFromFile() {
+    /**
+     * 프로그램 전체에서 공유하는 저장소 (처음 호출 시 파일에서 로드)
+     */
+    public static AuthRepository getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final AuthRepository INSTANCE = new AuthRepository();
+    }
+
+    private static LineTokenizer readCredentials() {
         try {
-            List<String> lines = FileUtil.readLines(CREDENTIALS_FILE_PATH);
-            for (int i = 1; i < lines.size(); i++) {
-                String line = lines.get(i);
-                if (line.trim().isEmpty())
-                    continue;
-                String[] parts = line.split("\\s+");
-                if (parts.length == 4) {
-                    User user = new User(parts[0], parts[1], parts[2], parts[3]);
-                    users.put(user.getUsername(), user);
+            return LineTokenizer.open(CREDENTIALS_FILE_PATH);
+        } catch (IOException e) {
+            System.out.println("[오류] 인증 파일을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+            System.exit(1);
+            return null;
+        }
+    }
+
+    private void loadUsersFromFile(LineTokenizer credentials) {
+        String[] parts = new String[4];
+        credentials.nextLine(); // 1행: 헤더
+        while (credentials.nextLine()) {
+            if (credentials.tokens(parts) == 4) {
+                User user = new User(parts[0], parts[1], parts[2], parts[3]);
+                users.put(user.getUsername(), user);
+            }
+        }
+    }
+
+    /**
+     * 지난 실행의 변경 로그(삭제 표시)를 credentials.txt 에 합칩니다
+     * (프로그램 시작 시 검증 전에 호출, 저장소를 만들 때도 호출)
+     */
+    public static synchronized void synchronizeStorage() {
+        if (!FileUtil.resourceExists(CREDENTIALS_DELTA_FILE_PATH)) {
+            return;
+        }
+        try {
+            Set<String> deleted = new HashSet<>();
+            LineTokenizer delta = LineTokenizer.open(CREDENTIALS_DELTA_FILE_PATH);
+            String[] parts = new String[3];
+            while (delta.nextLine()) {
+                if (delta.tokens(parts) == 3 && TOMBSTONE.equals(parts[2])) {
+                    deleted.add(parts[0] + " " + parts[1]);
                 }
             }
+            rewriteCredentials(deleted);
         } catch (IOException e) {
-            System.out.println("[오류] 인증 파일을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+            System.out.println("[오류] 인증 정보 변경 로그를 읽는 중 오류가 발생했습니다: " + e.getMessage());
             System.exit(1);
         }
     }
 
-    public Optional<User> findByUsername(String username) {
+    public synchronized Optional<User> findByUsername(String username) {
         return Optional.ofNullable(users.get(username));
     }
 
-    public void save(User user) throws IOException {
+    public synchronized void save(User user) throws IOException {
         FileUtil.appendLine(CREDENTIALS_FILE_PATH, user.toFileString());
         users.put(user.getUsername(), user);
     }
 
-    public void delete(String username) throws IOException {
-        users.remove(username);
-        List<String> lines = new ArrayList<>();
-        lines.add(FileUtil.readLines(CREDENTIALS_FILE_PATH).get(0));
-        lines.add("");
-        for (User user : users.values()) {
-            lines.add(user.toFileString());
+    /**
+     * 회원을 삭제합니다 (탈퇴)
+     * credentials.txt 는 다시 쓰지 않고 변경 로그에 삭제 표시만 추가합니다. (합칠 때 해당 줄을 뺌)
+     * 같은 아이디로 다시 가입한 줄은 식별번호가 달라 지워지지 않습니다.
+     */
+    public synchronized void delete(String username) throws IOException {
+        User user = users.remove(username);
+        if (user == null) {
+            return;
+        }
+
+        String key = user.getUsername() + " " + user.getId();
+        FileUtil.appendLine(CREDENTIALS_DELTA_FILE_PATH, key + " " + TOMBSTONE);
+        deletedUsers.add(key);
+        if (!compactHookRegistered) {
+            compactHookRegistered = true;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    // 다음 시작 때 변경 로그를 다시 반영함
+                }
+            }, "credentials-compact"));
+        }
+        if (deletedUsers.size() >= deltaCompactLines) {
+            compact();
+        }
+    }
+
+    /**
+     * 변경 로그를 credentials.txt 에 합칩니다 (종료 시에도 호출)
+     */
+    public synchronized void compact() throws IOException {
+        if (!deletedUsers.isEmpty()) {
+            rewriteCredentials(deletedUsers);
+            deletedUsers.clear();
+        }
+    }
+
+    /**
+     * 변경 로그를 겹쳐 credentials.txt 를 원자적으로 다시 쓴 뒤 변경 로그를 지웁니다
+     * (중간에 종료되면 다음 시작 때 로그를 다시 반영)
+     */
+    private static void rewriteCredentials(Set<String> deleted) throws IOException {
+        List<String> lines = fold(FileUtil.readLines(CREDENTIALS_FILE_PATH), deleted);
+        FileUtil.writeLinesAtomically(CREDENTIALS_FILE_PATH, lines);
+        Files.deleteIfExists(FileUtil.getResourcePath(CREDENTIALS_DELTA_FILE_PATH));
+    }
+
+    /**
+     * 인증 정보 줄에서 삭제 표시된 회원("아이디 식별번호") 줄을 뺍니다
+     * (헤더, 헤더 아래 빈 줄과 나머지 줄은 순서와 내용을 그대로 유지)
+     */
+    static List<String> fold(List<String> lines, Set<String> deleted) {
+        List<String> folded = new ArrayList<>(lines.size());
+        boolean skipBlank = false;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (i > 0) {
+                String[] parts = line.trim().split("\\s+");
+                if (parts.length == 4 && deleted.contains(parts[0] + " " + parts[3])) {
+                    // 줄 추가(appendLine) 때 함께 생긴 바로 앞의 빈 줄도 뺌 (헤더 아래 빈 줄이면 대신 뒤의 빈 줄을 뺌)
+                    if (folded.size() > 2 && folded.get(folded.size() - 1).isBlank()) {
+                        folded.remove(folded.size() - 1);
+                    } else {
+                        skipBlank = true;
+                    }
+                    continue;
+                }
+                if (skipBlank) {
+                    skipBlank = false;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                }
+            }
+            folded.add(line);
         }
-        FileUtil.writeLines(CREDENTIALS_FILE_PATH, lines);
+        return folded;
     }
-}
\ No newline at end of file
+}
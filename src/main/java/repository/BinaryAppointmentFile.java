@@ -0,0 +1,284 @@
+package repository;
+
+import util.exception.AppointmentFileException;
+import util.file.FileUtil;
+import util.metrics.Metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 날짜별 예약 현황의 고정 길이 바이너리 형식
+ * 파일 형식 (big-endian):
+ * - 헤더: MAGIC(int) + VERSION(int) + 날짜 yyyyMMdd(int) + 슬롯 수(int) + 의사 수 N(int)
+ * - 의사 열: 의사번호 숫자부(int) x N
+ * - 격자: 슬롯 54개 x 의사 N명, 칸마다 예약번호(int) + 상태(byte)
+ *
+ * 칸 하나의 위치가 계산으로 정해지므로, 슬롯 하나를 바꿀 때 파일 전체를 다시 쓰지 않고
+ * 해당 위치의 5바이트만 덮어씁니다.
+ */
+public class BinaryAppointmentFile {
+
+    public static final int MAGIC = 0x41505054; // "APPT"
+    public static final int VERSION = 1;
+    public static final int SLOT_COUNT = 54;
+    public static final int CELL_SIZE = Integer.BYTES + 1;
+
+    private static final int FIXED_HEADER_SIZE = Integer.BYTES * 5;
+    private static final byte STATUS_AVAILABLE = 0;
+    private static final byte STATUS_UNAVAILABLE = -1; // X (진료불가)
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter DATE_INT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String[] SLOT_TIMES = new String[SLOT_COUNT];
+
+    static {
+        LocalTime time = LocalTime.of(9, 0);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            SLOT_TIMES[i] = time.format(TIME_FORMATTER);
+            time = time.plusMinutes(10);
+        }
+    }
+
+    private BinaryAppointmentFile() {
+    }
+
+    /**
+     * 칸의 파일 내 위치를 계산합니다
+     */
+    public static long cellOffset(int doctorCount, int slotIndex, int doctorIndex) {
+        return headerSize(doctorCount) + ((long) slotIndex * doctorCount + doctorIndex) * CELL_SIZE;
+    }
+
+    private static int headerSize(int doctorCount) {
+        return FIXED_HEADER_SIZE + Integer.BYTES * doctorCount;
+    }
+
+    /**
+     * 시간 문자열의 슬롯 인덱스를 반환합니다 (09:00 = 0)
+     *
+     * @return 슬롯 인덱스 (범위를 벗어나면 -1)
+     */
+    public static int slotIndexOf(String time) {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            if (SLOT_TIMES[i].equals(time)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ========== 읽기/쓰기 ==========
+
+    /**
+     * 예약 데이터 전체를 바이너리 파일로 저장합니다
+     */
+    public static void write(Path path, AppointmentRepository.AppointmentData data) throws AppointmentFileException {
+        if (data.timeSlots.size() != SLOT_COUNT) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_FILE_STRUCTURE,
+                    "시간 슬롯 수가 " + SLOT_COUNT + "개가 아닙니다: " + data.timeSlots.size());
+        }
+
+        AppointmentCells cells = new AppointmentCells(data.date, data.doctorIds);
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            String[] statuses = data.timeSlots.get(slot).statuses;
+            for (int d = 0; d < data.doctorIds.length; d++) {
+                cells.set(slot, d, toCell(statuses[d]));
+            }
+        }
+        write(path, cells);
+    }
+
+    /**
+     * 예약 현황표 전체를 바이너리 파일로 저장합니다 (임시 파일 + 원자적 교체)
+     */
+    public static void write(Path path, AppointmentCells data) throws AppointmentFileException {
+        int doctorCount = data.doctorIds.length;
+        ByteBuffer buffer = ByteBuffer.allocate(headerSize(doctorCount) + SLOT_COUNT * doctorCount * CELL_SIZE);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(Integer.parseInt(data.date.format(DATE_INT_FORMAT)));
+        buffer.putInt(SLOT_COUNT);
+        buffer.putInt(doctorCount);
+        for (String doctorId : data.doctorIds) {
+            buffer.putInt(Integer.parseInt(doctorId.substring(1)));
+        }
+        for (long cell : data.cells) {
+            putCell(buffer, cell);
+        }
+
+        try {
+            Files.createDirectories(path.getParent());
+            FileUtil.write(path, buffer.array());
+        } catch (IOException e) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.FILE_WRITE_ERROR,
+                    "파일: " + path,
+                    e);
+        }
+    }
+
+    /**
+     * 바이너리 파일을 읽어 예약 데이터로 변환합니다
+     */
+    public static AppointmentRepository.AppointmentData read(Path path, LocalDate expectedDate)
+            throws AppointmentFileException {
+        return readCells(path, expectedDate).toAppointmentData();
+    }
+
+    /**
+     * 바이너리 파일을 읽어 예약 현황표로 변환합니다 (칸 문자열을 만들지 않음)
+     */
+    public static AppointmentCells readCells(Path path, LocalDate expectedDate) throws AppointmentFileException {
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            Metrics.recordRead(buffer.capacity());
+        } catch (java.nio.file.NoSuchFileException e) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.FILE_NOT_FOUND,
+                    "파일: " + path,
+                    e);
+        } catch (IOException e) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.FILE_READ_ERROR,
+                    "파일: " + path,
+                    e);
+        }
+
+        String[] doctorIds = readHeader(buffer, path, expectedDate);
+        int expectedSize = headerSize(doctorIds.length) + SLOT_COUNT * doctorIds.length * CELL_SIZE;
+        if (buffer.capacity() != expectedSize) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_FILE_STRUCTURE,
+                    String.format("파일 크기가 올바르지 않습니다 (예상: %d, 실제: %d)", expectedSize, buffer.capacity()));
+        }
+
+        AppointmentCells cells = new AppointmentCells(expectedDate, doctorIds);
+        for (int i = 0; i < cells.cells.length; i++) {
+            cells.cells[i] = getCell(buffer);
+        }
+        return cells;
+    }
+
+    /**
+     * 칸 하나를 제자리에서 덮어씁니다
+     *
+     * @param doctorCount 파일의 의사 수 (헤더에 기록된 값)
+     */
+    public static void writeCell(Path path, int doctorCount, int slotIndex, int doctorIndex, String status)
+            throws AppointmentFileException {
+        writeCell(path, doctorCount, slotIndex, doctorIndex, toCell(status));
+    }
+
+    /**
+     * 칸 하나를 제자리에서 덮어씁니다 (SlotCell 형식)
+     */
+    public static void writeCell(Path path, int doctorCount, int slotIndex, int doctorIndex, long cell)
+            throws AppointmentFileException {
+        ByteBuffer buffer = ByteBuffer.allocate(CELL_SIZE);
+        putCell(buffer, cell);
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            long position = cellOffset(doctorCount, slotIndex, doctorIndex);
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            Metrics.recordWrite(CELL_SIZE);
+        } catch (IOException e) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.FILE_WRITE_ERROR,
+                    "파일: " + path,
+                    e);
+        }
+    }
+
+    private static String[] readHeader(ByteBuffer buffer, Path path, LocalDate expectedDate)
+            throws AppointmentFileException {
+        if (buffer.capacity() < FIXED_HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_FILE_STRUCTURE,
+                    "바이너리 예약 파일이 아닙니다: " + path);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_FILE_STRUCTURE,
+                    "지원하지 않는 버전입니다: " + version);
+        }
+        int date = buffer.getInt();
+        if (date != Integer.parseInt(expectedDate.format(DATE_INT_FORMAT))) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_DATE_FORMAT,
+                    String.format("파일의 날짜(%d)가 요청한 날짜(%s)와 다릅니다", date, expectedDate));
+        }
+        int slotCount = buffer.getInt();
+        if (slotCount != SLOT_COUNT) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_FILE_STRUCTURE,
+                    "시간 슬롯 수가 올바르지 않습니다: " + slotCount);
+        }
+        int doctorCount = buffer.getInt();
+        if (doctorCount <= 0 || buffer.remaining() < Integer.BYTES * doctorCount) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_DOCTOR_LIST,
+                    "의사 수가 올바르지 않습니다: " + doctorCount);
+        }
+
+        String[] doctorIds = new String[doctorCount];
+        for (int i = 0; i < doctorCount; i++) {
+            doctorIds[i] = String.format("D%05d", buffer.getInt());
+        }
+        return doctorIds;
+    }
+
+    // ========== 칸 인코딩 ==========
+
+    private static long toCell(String status) throws AppointmentFileException {
+        long cell = SlotCell.parse(status);
+        if (cell == SlotCell.INVALID) {
+            throw invalidStatus(status);
+        }
+        return cell;
+    }
+
+    private static void putCell(ByteBuffer buffer, long cell) {
+        if (cell == SlotCell.AVAILABLE) {
+            buffer.putInt(0).put(STATUS_AVAILABLE);
+        } else if (cell == SlotCell.UNAVAILABLE) {
+            buffer.putInt(0).put(STATUS_UNAVAILABLE);
+        } else {
+            buffer.putInt(SlotCell.reservationNumber(cell)).put((byte) SlotCell.status(cell));
+        }
+    }
+
+    private static long getCell(ByteBuffer buffer) throws AppointmentFileException {
+        int reservationNumber = buffer.getInt();
+        byte status = buffer.get();
+        if (status == STATUS_AVAILABLE) {
+            return SlotCell.AVAILABLE;
+        }
+        if (status == STATUS_UNAVAILABLE) {
+            return SlotCell.UNAVAILABLE;
+        }
+        if (status < SlotCell.STATUS_RESERVED || status > SlotCell.STATUS_NO_SHOW) {
+            throw invalidStatus(String.valueOf(status));
+        }
+        return SlotCell.of(reservationNumber, status);
+    }
+
+    private static AppointmentFileException invalidStatus(String status) {
+        return new AppointmentFileException(
+                AppointmentFileException.ErrorType.INVALID_APPOINTMENT_STATUS,
+                "바이너리로 변환할 수 없는 값: " + status);
+    }
+}
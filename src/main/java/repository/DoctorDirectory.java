@@ -0,0 +1,242 @@
+package repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import model.Doctor;
+import util.file.FileUtil;
+
+/**
+ * 의사 목록 (모든 서비스가 함께 쓰는 불변 스냅샷)
+ * - doctorlist.txt 순서대로 의사번호/이름/진료과와 요일별 근무 여부(월~금 비트 마스크)를 한 번만 읽어 둡니다.
+ * - 의사번호, 이름, 진료과로 바로 찾을 수 있어 조회할 때 의사 파일을 다시 읽지 않습니다.
+ * - 의사 회원가입, 근무 요일 변경 시 바뀐 내용을 반영한 새 스냅샷으로 통째로 교체합니다 (copy-on-write).
+ *   읽는 쪽은 current() 로 받은 스냅샷을 잠금 없이 사용합니다.
+ */
+public final class DoctorDirectory {
+
+    private static final AtomicReference<DoctorDirectory> CURRENT = new AtomicReference<>();
+
+    private final List<Entry> doctors;
+    private final Map<String, Entry> byId;
+    private final Map<String, Entry> byName;
+    private final Map<String, List<Entry>> byDepartment;
+
+    private DoctorDirectory(List<Entry> doctors) {
+        Map<String, Entry> byId = new HashMap<>(doctors.size() * 2);
+        Map<String, Entry> byName = new HashMap<>(doctors.size() * 2);
+        Map<String, List<Entry>> byDepartment = new HashMap<>();
+        List<Entry> ordered = new ArrayList<>(doctors.size());
+        for (Entry doctor : doctors) {
+            List<Entry> department = byDepartment.computeIfAbsent(doctor.deptCode, dept -> new ArrayList<>());
+            Entry entry = doctor.withOrder(department.size());
+            department.add(entry);
+            ordered.add(entry);
+            byId.put(entry.doctorId, entry);
+            // 이름이 같은 의사가 여럿이면 doctorlist.txt 에서 먼저 나온 의사
+            byName.putIfAbsent(entry.name, entry);
+        }
+        byDepartment.replaceAll((dept, entries) -> Collections.unmodifiableList(entries));
+
+        this.doctors = Collections.unmodifiableList(ordered);
+        this.byId = byId;
+        this.byName = byName;
+        this.byDepartment = byDepartment;
+    }
+
+    /**
+     * 현재 의사 목록 (처음 호출할 때 파일에서 읽음)
+     */
+    public static DoctorDirectory current() {
+        DoctorDirectory directory = CURRENT.get();
+        if (directory != null) {
+            return directory;
+        }
+        synchronized (CURRENT) {
+            if (CURRENT.get() == null) {
+                CURRENT.set(load());
+            }
+            return CURRENT.get();
+        }
+    }
+
+    /**
+     * 파일에서 다시 읽어 교체합니다 (데이터 디렉토리를 통째로 바꾼 경우)
+     */
+    public static void reload() {
+        synchronized (CURRENT) {
+            CURRENT.set(load());
+        }
+    }
+
+    /**
+     * 의사 회원가입 후 호출합니다 (새 의사는 근무 요일 없음)
+     * 아직 읽지 않은 상태였다면 처음 읽을 때 doctorlist.txt 에 추가된 의사가 이미 포함됩니다.
+     */
+    static void addDoctor(Doctor doctor) {
+        update(directory -> {
+            if (directory.byId.containsKey(doctor.getDoctorId())) {
+                return directory;
+            }
+            List<Entry> doctors = new ArrayList<>(directory.doctors);
+            doctors.add(new Entry(doctor.getDoctorId(), doctor.getName(), doctor.getDeptCode(), 0, 0));
+            return new DoctorDirectory(doctors);
+        });
+    }
+
+    /**
+     * 의사 파일의 요일별 근무 여부(2행)를 바꾼 뒤 호출합니다
+     */
+    public static void updateWeekdays(String doctorId, String weekdayLine) {
+        int mask = weekdayMaskOf(weekdayLine);
+        update(directory -> {
+            List<Entry> doctors = new ArrayList<>(directory.doctors);
+            doctors.replaceAll(entry -> entry.doctorId.equals(doctorId) ? entry.withWeekdayMask(mask) : entry);
+            return new DoctorDirectory(doctors);
+        });
+    }
+
+    private static void update(UnaryOperator<DoctorDirectory> change) {
+        current();
+        CURRENT.updateAndGet(change);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 의사번호로 찾습니다 (없으면 null)
+     */
+    public Entry findById(String doctorId) {
+        return byId.get(doctorId);
+    }
+
+    /**
+     * 의사 이름으로 찾습니다 (없으면 null)
+     */
+    public Entry findByName(String name) {
+        return byName.get(name);
+    }
+
+    /**
+     * 진료과 소속 의사 목록 (doctorlist.txt 순서)
+     */
+    public List<Entry> findByDepartment(String deptCode) {
+        return byDepartment.getOrDefault(deptCode, Collections.emptyList());
+    }
+
+    /**
+     * 전체 의사 목록 (doctorlist.txt 순서)
+     */
+    public List<Entry> getDoctors() {
+        return doctors;
+    }
+
+    /**
+     * 의사 이름 (모르는 의사번호면 의사번호 그대로)
+     */
+    public String getName(String doctorId) {
+        Entry entry = byId.get(doctorId);
+        return entry == null ? doctorId : entry.name;
+    }
+
+    // ========== 파일 읽기 ==========
+
+    private static DoctorDirectory load() {
+        try {
+            List<Entry> doctors = new ArrayList<>();
+            for (Doctor doctor : DoctorRepository.readDoctorList()) {
+                doctors.add(new Entry(doctor.getDoctorId(), doctor.getName(), doctor.getDeptCode(), 0,
+                        readWeekdayMask(doctor.getDoctorId())));
+            }
+            return new DoctorDirectory(doctors);
+        } catch (IOException e) {
+            throw new UncheckedIOException("의사 목록을 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 의사 파일 두 번째 줄(월~금 근무 여부)을 비트 마스크로 읽습니다 (읽을 수 없으면 근무일 없음)
+     */
+    private static int readWeekdayMask(String doctorId) {
+        try {
+            List<String> lines = FileUtil.readLines(DoctorRepository.getDoctorFilePath(doctorId));
+            return lines.size() < 2 ? 0 : weekdayMaskOf(lines.get(1));
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static int weekdayMaskOf(String weekdayLine) {
+        String[] weekdays = weekdayLine.trim().split("\\s+");
+        int mask = 0;
+        for (int day = 0; day < weekdays.length && day < 5; day++) {
+            if ("1".equals(weekdays[day])) {
+                mask |= 1 << day;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 의사 한 명
+     */
+    public static class Entry {
+        private final String doctorId;
+        private final String name;
+        private final String deptCode;
+        private final int order;
+        private final int weekdayMask;
+
+        Entry(String doctorId, String name, String deptCode, int order, int weekdayMask) {
+            this.doctorId = doctorId;
+            this.name = name;
+            this.deptCode = deptCode;
+            this.order = order;
+            this.weekdayMask = weekdayMask;
+        }
+
+        public String getDoctorId() {
+            return doctorId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDeptCode() {
+            return deptCode;
+        }
+
+        /**
+         * 진료과 안에서의 순서 (0부터)
+         */
+        public int getOrder() {
+            return order;
+        }
+
+        /**
+         * 해당 날짜의 요일에 근무하는지 확인합니다 (주말은 항상 false)
+         */
+        public boolean worksOn(LocalDate date) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            int day = dayOfWeek.getValue() - 1;
+            return day < 5 && (weekdayMask & (1 << day)) != 0;
+        }
+
+        private Entry withOrder(int newOrder) {
+            return newOrder == order ? this : new Entry(doctorId, name, deptCode, newOrder, weekdayMask);
+        }
+
+        private Entry withWeekdayMask(int newMask) {
+            return new Entry(doctorId, name, deptCode, order, newMask);
+        }
+    }
+}
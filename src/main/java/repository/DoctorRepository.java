@@ -1,16 +1,20 @@
 package repository;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import model.Doctor;
 import util.file.FileUtil;
 
 public class DoctorRepository {
     private static final String DOCTOR_LIST_FILE_PATH = "data/doctor/doctorlist.txt";
     private static final String DOCTOR_DIR_PATH = "data/doctor/";
+    private static final String SCHEDULE_STORAGE_PROPERTY = "doctor.schedule.storage";
+    private static final AtomicBoolean exportHookRegistered = new AtomicBoolean(false);
     private final List<Doctor> doctors = new ArrayList<>();
     private int lastDoctorNumber = 0;
 
@@ -18,31 +22,25 @@ public class DoctorRepository {
         loadDoctorsFromFile();
     }
 
+    /**
+     * 프로그램 전체에서 공유하는 저장소 (처음 호출 시 파일에서 로드)
+     */
+    public static DoctorRepository getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final DoctorRepository INSTANCE = new DoctorRepository();
+    }
+
     private void loadDoctorsFromFile() {
         try {
-            List<String> lines = FileUtil.readLines(DOCTOR_LIST_FILE_PATH);
-            for (int i = 1; i < lines.size(); i++) {
-                String line = lines.get(i);
-                if (line.trim().isEmpty())
-                    continue;
+            for (Doctor doctor : readDoctorList()) {
+                doctors.add(doctor);
 
-                String[] parts = line.split("\\s+");
-                if (parts.length >= 5) {
-                    Doctor doctor = new Doctor(
-                            parts[0], // doctorId
-                            null, // username
-                            parts[1], // name
-                            parts[2], // deptCode
-                            parts[3], // phoneNumber
-                            parts[4] // registrationDate
-                    );
-
-                    doctors.add(doctor);
-
-                    int currentNum = Integer.parseInt(parts[0].substring(1));
-                    if (currentNum > lastDoctorNumber) {
-                        lastDoctorNumber = currentNum;
-                    }
+                int currentNum = Integer.parseInt(doctor.getDoctorId().substring(1));
+                if (currentNum > lastDoctorNumber) {
+                    lastDoctorNumber = currentNum;
                 }
             }
         } catch (IOException e) {
@@ -51,15 +49,42 @@ public class DoctorRepository {
         }
     }
 
-    public void save(Doctor doctor) throws IOException {
+    /**
+     * doctorlist.txt 의 의사 목록 (파일 순서)
+     */
+    static List<Doctor> readDoctorList() throws IOException {
+        List<Doctor> result = new ArrayList<>();
+        List<String> lines = FileUtil.readLines(DOCTOR_LIST_FILE_PATH);
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty())
+                continue;
+
+            String[] parts = line.split("\\s+");
+            if (parts.length >= 5) {
+                result.add(new Doctor(
+                        parts[0], // doctorId
+                        null, // username
+                        parts[1], // name
+                        parts[2], // deptCode
+                        parts[3], // phoneNumber
+                        parts[4] // registrationDate
+                ));
+            }
+        }
+        return result;
+    }
+
+    public synchronized void save(Doctor doctor) throws IOException {
         FileUtil.appendLine(DOCTOR_LIST_FILE_PATH, doctor.toDoctorListString());
         createDoctorDetailFiles(doctor);
         doctors.add(doctor);
+        DoctorDirectory.addDoctor(doctor);
     }
 
     private void createDoctorDetailFiles(Doctor doctor) throws IOException {
         // D00001.txt 파일 생성
-        Path filePath = Paths.get(DOCTOR_DIR_PATH, doctor.getDoctorId() + ".txt");
+        Path filePath = FileUtil.getResourcePath(getDoctorFilePath(doctor.getDoctorId()));
         String header = doctor.toDetailFileHeaderString();
         String weekdaySchedule = "0 0 0 0 0"; // 초기에는 모든 요일 진료 불가
 
@@ -74,7 +99,7 @@ public class DoctorRepository {
         FileUtil.createDirectoriesAndWrite(filePath, content);
 
         // D00001-master.txt 파일 생성 (하위 호환성 유지)
-        Path masterFilePath = Paths.get(DOCTOR_DIR_PATH, doctor.getDoctorId() + "-master.txt");
+        Path masterFilePath = FileUtil.getResourcePath(DOCTOR_DIR_PATH + doctor.getDoctorId() + "-master.txt");
         List<String> masterContent = List.of(
                 "MON 0 0",
                 "TUE 0 0",
@@ -86,25 +111,68 @@ public class DoctorRepository {
         FileUtil.createDirectoriesAndWrite(masterFilePath, masterContent);
     }
 
-    public String getNextDoctorId() {
+    public synchronized String getNextDoctorId() {
         lastDoctorNumber++;
         return String.format("D%05d", lastDoctorNumber);
     }
 
-    public boolean isDoctorExists(String doctorId) {
+    public synchronized boolean isDoctorExists(String doctorId) {
         return doctors.stream().anyMatch(d -> d.getDoctorId().equals(doctorId));
     }
 
+    /**
+     * 의사 상세 파일 경로 (프로젝트 루트 기준)
+     */
+    public static String getDoctorFilePath(String doctorId) {
+        return DOCTOR_DIR_PATH + doctorId + ".txt";
+    }
+
+    /**
+     * 메모리 매핑 스케줄 저장소 사용 여부 (-Ddoctor.schedule.storage=mmap)
+     */
+    public static boolean isMappedScheduleEnabled() {
+        return "mmap".equalsIgnoreCase(System.getProperty(SCHEDULE_STORAGE_PROPERTY, "text"));
+    }
+
     /**
      * 의사 스케줄을 업데이트합니다.
      */
     public void updateSchedule(String doctorId, java.time.LocalDate date, String timeStr, String status)
             throws IOException {
-        Path doctorFilePath = Paths.get(DOCTOR_DIR_PATH, doctorId + ".txt");
-        List<String> lines = java.nio.file.Files.readAllLines(doctorFilePath);
+        updateSchedule(doctorId, List.of(new ScheduleChange(date, timeStr, status)));
+    }
 
-        String dateStr = date.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        int slotIndex = getSlotIndex(timeStr);
+    /**
+     * 의사 스케줄에 여러 변경을 순서대로 반영합니다 (텍스트 파일은 한 번 읽고 한 번만 씀)
+     */
+    public void updateSchedule(String doctorId, List<ScheduleChange> changes) throws IOException {
+        ReservationTable.projectDoctor(doctorId);
+
+        if (isMappedScheduleEnabled()) {
+            DoctorScheduleStore store = openScheduleStore(doctorId);
+            for (ScheduleChange change : changes) {
+                // 취소/삭제(0)인 경우 날짜 행이 없으면 만들지 않음
+                store.setSlot(change.date, getSlotIndex(change.time), change.status, !change.status.equals("0"));
+            }
+            return;
+        }
+
+        String doctorFilePath = getDoctorFilePath(doctorId);
+        List<String> lines = FileUtil.readLines(doctorFilePath);
+
+        boolean changed = false;
+        for (ScheduleChange change : changes) {
+            changed |= applyScheduleChange(lines, change);
+        }
+        if (changed) {
+            FileUtil.write(FileUtil.getResourcePath(doctorFilePath), lines);
+        }
+    }
+
+    private boolean applyScheduleChange(List<String> lines, ScheduleChange change) {
+        int slotIndex = getSlotIndex(change.time);
+        String status = change.status;
+        String dateStr = change.date.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 
         boolean found = false;
         for (int i = 3; i < lines.size(); i++) {
@@ -132,10 +200,166 @@ public class DoctorRepository {
             lines.add(String.join(" ", slots));
         } else if (!found && status.equals("0")) {
             // 삭제인데 줄이 없으면 이미 없는 것이므로 무시
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 의사 스케줄 칸 하나의 변경 (날짜, 시작 시간 HH:mm, 새 값)
+     */
+    public static final class ScheduleChange {
+        final java.time.LocalDate date;
+        final String time;
+        final String status;
+
+        public ScheduleChange(java.time.LocalDate date, String time, String status) {
+            this.date = date;
+            this.time = time;
+            this.status = status;
+        }
+    }
+
+    /**
+     * 특정 날짜의 슬롯 54개를 반환합니다
+     *
+     * @return 슬롯 값 배열 (날짜 행이 없으면 null)
+     */
+    public String[] getScheduleRow(String doctorId, java.time.LocalDate date) throws IOException {
+        ReservationTable.projectDoctor(doctorId);
+        if (isMappedScheduleEnabled()) {
+            return openScheduleStore(doctorId).getRow(date);
+        }
+
+        String dateStr = date.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        for (String line : getScheduleLines(doctorId)) {
+            if (line.startsWith(dateStr)) {
+                String[] parts = line.split("\\s+");
+                String[] slots = new String[parts.length - 1];
+                System.arraycopy(parts, 1, slots, 0, slots.length);
+                return slots;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 날짜별 스케줄 행 (날짜 + 슬롯 54개) 을 파일 순서대로 반환합니다
+     */
+    public List<String> getScheduleLines(String doctorId) throws IOException {
+        ReservationTable.projectDoctor(doctorId);
+        if (isMappedScheduleEnabled()) {
+            return openScheduleStore(doctorId).exportRows();
+        }
+
+        List<String> lines = FileUtil.readLines(getDoctorFilePath(doctorId));
+        List<String> rows = new ArrayList<>();
+        for (int i = 3; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (!line.isEmpty()) {
+                rows.add(line);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 의사 스케줄을 디스크에 반영합니다 (체크포인트용)
+     */
+    public void forceSchedule(String doctorId) throws IOException {
+        if (isMappedScheduleEnabled()) {
+            openScheduleStore(doctorId).force();
             return;
         }
+        FileUtil.force(FileUtil.getResourcePath(getDoctorFilePath(doctorId)));
+    }
+
+    // ========== 메모리 매핑 스케줄 저장소 ==========
 
-        java.nio.file.Files.write(doctorFilePath, lines);
+    private static DoctorScheduleStore openScheduleStore(String doctorId) throws IOException {
+        if (exportHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(DoctorRepository::exportSchedules, "doctor-schedule-export"));
+        }
+        return DoctorScheduleStore.open(doctorId);
+    }
+
+    /**
+     * 메모리 매핑 저장소의 변경 내용을 D#####.txt 에 내보냅니다
+     * (1~3행은 텍스트 파일의 내용을 유지하고 날짜 행만 교체)
+     */
+    public static void exportSchedules() {
+        ReservationTable.projectAllDoctors();
+        for (DoctorScheduleStore store : DoctorScheduleStore.openedStores()) {
+            if (!store.isDirty()) {
+                continue;
+            }
+            try {
+                exportSchedule(store);
+            } catch (IOException e) {
+                System.out.println("[오류] 의사 스케줄을 텍스트로 내보내는 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void exportSchedule(DoctorScheduleStore store) throws IOException {
+        String doctorFilePath = getDoctorFilePath(store.getDoctorId());
+        List<String> lines = FileUtil.readLines(doctorFilePath);
+
+        List<String> exported = new ArrayList<>(lines.subList(0, Math.min(3, lines.size())));
+        exported.addAll(store.exportRows());
+        Path textPath = FileUtil.getResourcePath(doctorFilePath);
+        FileUtil.write(textPath, exported);
+        store.markExported();
+
+        // 매핑 파일은 수정 시간이 갱신되지 않을 수 있으므로 텍스트 파일과 맞춰 둠
+        Files.setLastModifiedTime(DoctorScheduleStore.getGridPath(store.getDoctorId()),
+                Files.getLastModifiedTime(textPath));
+    }
+
+    /**
+     * 프로그램 시작 시 스케줄 저장소와 텍스트 파일을 맞춥니다
+     * - 이전 실행이 내보내기 전에 종료되었으면 텍스트로 내보냄
+     * - 텍스트 파일이 더 최신이면 저장소를 삭제하여 다시 만들어지게 함
+     */
+    public static void synchronizeScheduleStorage() {
+        if (!isMappedScheduleEnabled()) {
+            return;
+        }
+
+        Path gridDir = DoctorScheduleStore.getGridPath("D00000").getParent();
+        if (!Files.exists(gridDir)) {
+            return;
+        }
+
+        List<Path> gridFiles;
+        try (Stream<Path> files = Files.list(gridDir)) {
+            gridFiles = files.filter(path -> path.getFileName().toString().matches("D\\d{5}\\.grid")).toList();
+        } catch (IOException e) {
+            System.out.println("[오류] 의사 스케줄 저장소를 확인하는 중 오류가 발생했습니다: " + e.getMessage());
+            return;
+        }
+
+        for (Path gridPath : gridFiles) {
+            String doctorId = gridPath.getFileName().toString().substring(0, 6);
+            Path textPath = FileUtil.getResourcePath(getDoctorFilePath(doctorId));
+            try {
+                if (!Files.exists(textPath)) {
+                    Files.delete(gridPath);
+                    continue;
+                }
+
+                DoctorScheduleStore store = openScheduleStore(doctorId);
+                if (store.isDirty()) {
+                    exportSchedule(store);
+                } else if (Files.getLastModifiedTime(textPath).compareTo(Files.getLastModifiedTime(gridPath)) > 0) {
+                    DoctorScheduleStore.close(doctorId);
+                    Files.delete(gridPath);
+                }
+            } catch (IOException e) {
+                System.out.println("[오류] 의사 스케줄 저장소를 동기화하는 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        }
     }
 
     private int getSlotIndex(String timeStr) {
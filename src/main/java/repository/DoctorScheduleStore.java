@@ -0,0 +1,315 @@
+package repository;
+
+import util.file.FileUtil;
+import util.metrics.Metrics;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 의사별 날짜 스케줄을 메모리 매핑 파일로 관리하는 저장소
+ * 파일 형식 (data/doctor/grid/D#####.grid, big-endian):
+ * - 헤더: MAGIC(int) + VERSION(int) + 행 수(int) + 행 용량(int) + 텍스트 반영 여부(int)
+ * - 행: 날짜 yyyyMMdd(int) + 슬롯 54개 예약번호(int, 0이면 빈 슬롯)
+ *
+ * 날짜 -> 행 번호 디렉토리를 메모리에 두므로, 슬롯 하나를 바꿀 때 파일을 읽거나
+ * 다시 쓰지 않고 해당 위치의 4바이트만 덮어씁니다.
+ * 행 순서는 텍스트 파일의 날짜 행 순서와 같으며, exportRows() 로 기존 형식을 만들 수 있습니다.
+ */
+public class DoctorScheduleStore {
+
+    public static final int SLOT_COUNT = 54;
+
+    private static final String GRID_DIR = "data/doctor/grid/";
+    private static final int MAGIC = 0x44534348; // "DSCH"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 5;
+    private static final int ROW_SIZE = Integer.BYTES * (1 + SLOT_COUNT);
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final int ROW_COUNT_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int EXPORTED_OFFSET = 16;
+
+    private static final DateTimeFormatter DATE_INT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    // 경로별로 한 번만 열어 둠
+    private static final Map<Path, DoctorScheduleStore> openStores = new ConcurrentHashMap<>();
+
+    private final String doctorId;
+    private final Path path;
+    private final Map<Integer, Integer> rowByDate = new HashMap<>();
+    private MappedByteBuffer buffer;
+    private int rowCount;
+    private int capacity;
+
+    private DoctorScheduleStore(String doctorId, Path path) {
+        this.doctorId = doctorId;
+        this.path = path;
+    }
+
+    /**
+     * 의사의 스케줄 저장소를 엽니다 (없으면 텍스트 파일의 날짜 행으로 생성)
+     */
+    public static DoctorScheduleStore open(String doctorId) throws IOException {
+        Path path = getGridPath(doctorId);
+        DoctorScheduleStore store = openStores.get(path);
+        if (store != null) {
+            return store;
+        }
+
+        synchronized (openStores) {
+            store = openStores.get(path);
+            if (store == null) {
+                store = new DoctorScheduleStore(doctorId, path);
+                store.load();
+                openStores.put(path, store);
+            }
+            return store;
+        }
+    }
+
+    /**
+     * 열려 있는 저장소 목록 (종료 시 내보내기용)
+     */
+    static List<DoctorScheduleStore> openedStores() {
+        return new ArrayList<>(openStores.values());
+    }
+
+    /**
+     * 열려 있는 저장소를 닫습니다 (파일 삭제 전 호출)
+     */
+    static void close(String doctorId) {
+        openStores.remove(getGridPath(doctorId));
+    }
+
+    static Path getGridPath(String doctorId) {
+        return FileUtil.getResourcePath(GRID_DIR + doctorId + ".grid");
+    }
+
+    public String getDoctorId() {
+        return doctorId;
+    }
+
+    private void load() throws IOException {
+        if (!Files.exists(path)) {
+            importTextRows();
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("스케줄 파일이 손상되었습니다: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+        Metrics.recordRead(buffer.capacity());
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("스케줄 파일 형식이 올바르지 않습니다: " + path);
+        }
+        rowCount = buffer.getInt(ROW_COUNT_OFFSET);
+        capacity = buffer.getInt(CAPACITY_OFFSET);
+        if (rowCount > capacity || buffer.capacity() < HEADER_SIZE + (long) capacity * ROW_SIZE) {
+            throw new IOException("스케줄 파일이 손상되었습니다: " + path);
+        }
+
+        for (int row = 0; row < rowCount; row++) {
+            rowByDate.put(buffer.getInt(rowOffset(row)), row);
+        }
+    }
+
+    /**
+     * 텍스트 파일(D#####.txt)의 날짜 행으로 저장소를 새로 만듭니다
+     */
+    private void importTextRows() throws IOException {
+        List<String> lines = FileUtil.readLines(DoctorRepository.getDoctorFilePath(doctorId));
+        List<String[]> rows = new ArrayList<>();
+        for (int i = 3; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty()) continue;
+
+            String[] parts = line.split("\\s+");
+            if (parts.length != SLOT_COUNT + 1) {
+                throw new IOException("스케줄 행 형식이 올바르지 않습니다: " + line);
+            }
+            rows.add(parts);
+        }
+
+        Files.createDirectories(path.getParent());
+        Files.deleteIfExists(path);
+        remap(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, rows.size())) * 2));
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(EXPORTED_OFFSET, 1);
+
+        for (String[] parts : rows) {
+            int row = appendRow(LocalDate.parse(parts[0], DATE_FORMATTER));
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                buffer.putInt(slotOffset(row, slot), encode(parts[slot + 1]));
+            }
+        }
+        buffer.force();
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 해당 날짜의 슬롯 54개를 반환합니다
+     *
+     * @return 슬롯 값 배열 (날짜 행이 없으면 null)
+     */
+    public synchronized String[] getRow(LocalDate date) {
+        Integer row = rowByDate.get(toDateInt(date));
+        if (row == null) {
+            return null;
+        }
+
+        String[] slots = new String[SLOT_COUNT];
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            slots[slot] = decode(buffer.getInt(slotOffset(row, slot)));
+        }
+        return slots;
+    }
+
+    /**
+     * 모든 날짜 행을 텍스트 형식으로 반환합니다 (행 순서 유지)
+     */
+    public synchronized List<String> exportRows() {
+        List<String> lines = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            StringBuilder line = new StringBuilder(SLOT_COUNT * 10 + 10);
+            line.append(LocalDate.parse(String.valueOf(buffer.getInt(rowOffset(row))), DATE_INT_FORMAT)
+                    .format(DATE_FORMATTER));
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                line.append(' ').append(decode(buffer.getInt(slotOffset(row, slot))));
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 슬롯 하나를 변경합니다
+     *
+     * @param createRow 날짜 행이 없을 때 새로 만들지 여부
+     * @return 변경되었으면 true (행이 없고 만들지 않은 경우 false)
+     */
+    public synchronized boolean setSlot(LocalDate date, int slotIndex, String value, boolean createRow)
+            throws IOException {
+        Integer row = rowByDate.get(toDateInt(date));
+        if (row == null) {
+            if (!createRow) {
+                return false;
+            }
+            row = appendRow(date);
+        }
+
+        markDirty();
+        buffer.putInt(slotOffset(row, slotIndex), encode(value));
+        return true;
+    }
+
+    /**
+     * 텍스트 파일에 반영되지 않은 변경이 있는지 확인합니다
+     */
+    public synchronized boolean isDirty() {
+        return buffer.getInt(EXPORTED_OFFSET) == 0;
+    }
+
+    /**
+     * 텍스트 파일에 반영되었음을 기록합니다
+     */
+    synchronized void markExported() {
+        buffer.putInt(EXPORTED_OFFSET, 1);
+        buffer.force();
+    }
+
+    /**
+     * 매핑된 내용을 디스크에 반영합니다
+     */
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    private void markDirty() {
+        if (buffer.getInt(EXPORTED_OFFSET) != 0) {
+            buffer.putInt(EXPORTED_OFFSET, 0);
+        }
+    }
+
+    private int appendRow(LocalDate date) throws IOException {
+        if (rowCount == capacity) {
+            remap(capacity * 2);
+        }
+
+        int row = rowCount;
+        buffer.putInt(rowOffset(row), toDateInt(date));
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            buffer.putInt(slotOffset(row, slot), 0);
+        }
+        rowCount++;
+        buffer.putInt(ROW_COUNT_OFFSET, rowCount);
+        rowByDate.put(toDateInt(date), row);
+        return row;
+    }
+
+    /**
+     * 용량을 늘려 파일을 다시 매핑합니다
+     */
+    private void remap(int newCapacity) throws IOException {
+        if (buffer != null) {
+            buffer.force();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) newCapacity * ROW_SIZE);
+        }
+        capacity = newCapacity;
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+    }
+
+    private static int rowOffset(int row) {
+        return HEADER_SIZE + row * ROW_SIZE;
+    }
+
+    private static int slotOffset(int row, int slot) {
+        return rowOffset(row) + Integer.BYTES * (1 + slot);
+    }
+
+    private static int toDateInt(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    private static int encode(String value) throws IOException {
+        if ("0".equals(value)) {
+            return 0;
+        }
+        if (value.length() == 9 && value.charAt(0) == 'R') {
+            try {
+                return Integer.parseInt(value.substring(1));
+            } catch (NumberFormatException ignored) {
+                // 아래에서 오류 처리
+            }
+        }
+        throw new IOException("스케줄 슬롯 값이 올바르지 않습니다: " + value);
+    }
+
+    private static String decode(int reservationNumber) {
+        return reservationNumber == 0 ? "0" : String.format("R%08d", reservationNumber);
+    }
+}
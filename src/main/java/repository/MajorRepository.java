@@ -15,6 +15,17 @@ public class MajorRepository {
         loadMajorsFromFile();
     }
 
+    /**
+     * 프로그램 전체에서 공유하는 저장소 (처음 호출 시 파일에서 로드)
+     */
+    public static MajorRepository getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final MajorRepository INSTANCE = new MajorRepository();
+    }
+
     private void loadMajorsFromFile() {
         if (!FileUtil.resourceExists(MAJOR_LIST_FILE_PATH)) {
             initializeDefaultMajors();
@@ -65,22 +76,22 @@ public class MajorRepository {
         }
     }
 
-    public Optional<Major> findByCode(String majorCode) {
+    public synchronized Optional<Major> findByCode(String majorCode) {
         return majors.stream()
                 .filter(m -> m.getMajorCode().equals(majorCode))
                 .findFirst();
     }
 
-    public List<Major> findAll() {
+    public synchronized List<Major> findAll() {
         return new ArrayList<>(majors);
     }
 
-    public void save(Major major) throws IOException {
+    public synchronized void save(Major major) throws IOException {
         FileUtil.appendLine(MAJOR_LIST_FILE_PATH, major.toFileString());
         majors.add(major);
     }
 
-    public boolean isMajorExists(String majorCode) {
+    public synchronized boolean isMajorExists(String majorCode) {
         return majors.stream().anyMatch(m -> m.getMajorCode().equals(majorCode));
     }
 }
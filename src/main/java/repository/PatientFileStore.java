@@ -0,0 +1,269 @@
+package repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import util.file.FileUtil;
+
+/**
+ * 환자 파일(P######.txt)의 예약 줄 읽기/변경
+ * - 기본(text): 예약 줄을 바꿀 때마다 파일 전체를 읽고-고쳐-다시 씁니다.
+ * - 변경 로그 방식(-Dpatient.storage=delta): 상태 변경과 예약 줄 교체를 P######.delta 에 한 줄씩 추가하고,
+ *   읽을 때 P######.txt 에 겹쳐서 기존과 같은 줄 목록을 돌려줍니다.
+ *   변경 로그는 백그라운드 압축기가 -Dpatient.delta.interval 초(기본 30)마다 P######.txt 에 합치고,
+ *   종료할 때와 다음 시작 시 검증 전에도 합칩니다.
+ *
+ * 변경 로그 한 줄: "예약번호 상태" (상태 변경) 또는 환자 파일의 예약 줄 전체 (예약 변경)
+ * 같은 레코드를 두 번 적용해도 결과가 같으므로, 합치는 도중 종료되어도 다시 합치면 됩니다.
+ */
+public final class PatientFileStore {
+
+    private static final String PATIENT_DIR_PATH = "data/patient/";
+    private static final String STORAGE_PROPERTY = "patient.storage";
+    private static final String COMPACT_INTERVAL_PROPERTY = "patient.delta.interval";
+    private static final int RESERVATION_START_LINE = 3; // 1행: 환자정보, 2행: 빈행, 3행: 헤더
+
+    // 변경 로그가 남아 있는 환자번호
+    private static final Set<String> dirtyPatients = ConcurrentHashMap.newKeySet();
+    private static ScheduledExecutorService compactor;
+
+    private PatientFileStore() {
+    }
+
+    /**
+     * 변경 로그 방식 사용 여부 (-Dpatient.storage=delta)
+     */
+    public static boolean isDeltaStorageEnabled() {
+        return "delta".equalsIgnoreCase(System.getProperty(STORAGE_PROPERTY, "text"));
+    }
+
+    static String getPatientFilePath(String patientId) {
+        return PATIENT_DIR_PATH + patientId + ".txt";
+    }
+
+    private static String getDeltaFilePath(String patientId) {
+        return PATIENT_DIR_PATH + patientId + ".delta";
+    }
+
+    // ========== 읽기 ==========
+
+    /**
+     * 환자 파일의 모든 줄 (변경 로그를 반영한 결과)
+     */
+    public static List<String> readLines(String patientId) throws IOException {
+        ReservationTable.projectPatient(patientId);
+        List<String> lines = FileUtil.readLines(getPatientFilePath(patientId));
+        if (isDeltaStorageEnabled() && dirtyPatients.contains(patientId)) {
+            fold(lines, FileUtil.readLines(getDeltaFilePath(patientId)));
+        }
+        return lines;
+    }
+
+    /**
+     * 변경 로그 레코드를 순서대로 환자 파일 줄에 겹칩니다
+     */
+    static void fold(List<String> lines, List<String> records) {
+        for (String record : records) {
+            String[] parts = record.trim().split("\\s+");
+            if (parts.length != 2 && parts.length != 7) {
+                continue;
+            }
+            int lineIndex = findLine(lines, parts[0], -1);
+            if (lineIndex == -1) {
+                continue;
+            }
+            if (parts.length == 2) {
+                String[] lineParts = lines.get(lineIndex).trim().split("\\s+");
+                lineParts[6] = parts[1];
+                lines.set(lineIndex, String.join(" ", lineParts));
+            } else {
+                lines.set(lineIndex, String.join(" ", parts));
+            }
+        }
+    }
+
+    /**
+     * 예약번호의 줄 위치 (hint 위치를 먼저 확인하고, 어긋나 있으면 전체 탐색)
+     */
+    static int findLine(List<String> lines, String reservationId, int hint) {
+        if (hint >= RESERVATION_START_LINE && hint < lines.size()
+                && lines.get(hint).trim().startsWith(reservationId + " ")) {
+            return hint;
+        }
+
+        for (int i = RESERVATION_START_LINE; i < lines.size(); i++) {
+            String[] parts = lines.get(i).trim().split("\\s+");
+            if (parts.length >= 7 && parts[0].equals(reservationId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ========== 변경 (환자 파일 잠금을 잡은 상태에서 호출) ==========
+
+    /**
+     * 예약 상태를 변경합니다
+     */
+    static void setStatus(String patientId, String reservationId, String status, int hint) throws IOException {
+        if (isDeltaStorageEnabled()) {
+            appendRecord(patientId, reservationId + " " + status);
+            return;
+        }
+
+        List<String> lines = readLines(patientId);
+        int lineIndex = findLine(lines, reservationId, hint);
+        if (lineIndex != -1) {
+            String[] parts = lines.get(lineIndex).trim().split("\\s+");
+            parts[6] = status;
+            lines.set(lineIndex, String.join(" ", parts));
+        }
+        FileUtil.write(FileUtil.getResourcePath(getPatientFilePath(patientId)), lines);
+    }
+
+    /**
+     * 예약 줄을 통째로 바꿉니다 (예약 변경)
+     *
+     * @return 바뀐 줄 위치 (예약이 없으면 -1)
+     */
+    static int replaceLine(String patientId, String reservationId, String line, int hint) throws IOException {
+        List<String> lines = readLines(patientId);
+        int lineIndex = findLine(lines, reservationId, hint);
+        if (lineIndex == -1) {
+            return -1;
+        }
+
+        if (isDeltaStorageEnabled()) {
+            appendRecord(patientId, line);
+        } else {
+            lines.set(lineIndex, line);
+            FileUtil.write(FileUtil.getResourcePath(getPatientFilePath(patientId)), lines);
+        }
+        return lineIndex;
+    }
+
+    /**
+     * 환자 파일 전체를 다시 씁니다 (lines 는 readLines 결과를 고친 것, 남은 변경 로그는 지움)
+     */
+    public static void rewrite(String patientId, List<String> lines) throws IOException {
+        FileUtil.write(FileUtil.getResourcePath(getPatientFilePath(patientId)), lines);
+        if (dirtyPatients.remove(patientId)) {
+            Files.deleteIfExists(FileUtil.getResourcePath(getDeltaFilePath(patientId)));
+        }
+    }
+
+    /**
+     * 환자 파일과 남은 변경 로그를 지웁니다 (탈퇴)
+     */
+    static void delete(String patientId) throws IOException {
+        Files.deleteIfExists(FileUtil.getResourcePath(getPatientFilePath(patientId)));
+        Files.deleteIfExists(FileUtil.getResourcePath(getDeltaFilePath(patientId)));
+        dirtyPatients.remove(patientId);
+    }
+
+    /**
+     * 환자 파일과 변경 로그를 디스크에 반영합니다 (저널 체크포인트)
+     */
+    static void force(String patientId) throws IOException {
+        FileUtil.force(FileUtil.getResourcePath(getPatientFilePath(patientId)));
+        if (dirtyPatients.contains(patientId)) {
+            FileUtil.force(FileUtil.getResourcePath(getDeltaFilePath(patientId)));
+        }
+    }
+
+    private static void appendRecord(String patientId, String record) throws IOException {
+        FileUtil.appendLine(getDeltaFilePath(patientId), record);
+        dirtyPatients.add(patientId);
+        startCompactor();
+    }
+
+    // ========== 합치기 ==========
+
+    /**
+     * 한 환자의 변경 로그를 환자 파일에 합칩니다
+     */
+    public static void compact(String patientId) throws IOException {
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(ReservationLocks.patientFile(patientId))) {
+            compactLocked(patientId);
+        }
+    }
+
+    private static void compactLocked(String patientId) throws IOException {
+        String deltaFilePath = getDeltaFilePath(patientId);
+        if (!FileUtil.resourceExists(deltaFilePath)) {
+            dirtyPatients.remove(patientId);
+            return;
+        }
+
+        List<String> lines = FileUtil.readLines(getPatientFilePath(patientId));
+        fold(lines, FileUtil.readLines(deltaFilePath));
+        FileUtil.writeLinesAtomically(getPatientFilePath(patientId), lines);
+        Files.deleteIfExists(FileUtil.getResourcePath(deltaFilePath));
+        dirtyPatients.remove(patientId);
+    }
+
+    /**
+     * 변경 로그가 남은 모든 환자를 합칩니다
+     */
+    public static void compactAll() {
+        for (String patientId : new ArrayList<>(dirtyPatients)) {
+            try {
+                compact(patientId);
+            } catch (IOException e) {
+                // 다음 주기 또는 다음 시작 때 다시 합침
+            }
+        }
+    }
+
+    /**
+     * 프로그램 시작 시 검증 전에 지난 실행에서 남은 변경 로그를 합칩니다 (저장 방식과 관계없이)
+     */
+    public static void synchronizeStorage() {
+        Path patientDir = FileUtil.getResourcePath(PATIENT_DIR_PATH);
+        if (!Files.isDirectory(patientDir)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(patientDir)) {
+            for (Path deltaPath : (Iterable<Path>) files::iterator) {
+                String fileName = deltaPath.getFileName().toString();
+                if (!fileName.matches("P\\d{6}\\.delta")) {
+                    continue;
+                }
+
+                String patientId = fileName.substring(0, fileName.indexOf('.'));
+                if (FileUtil.resourceExists(getPatientFilePath(patientId))) {
+                    compactLocked(patientId);
+                } else {
+                    // 탈퇴한 환자의 변경 로그
+                    Files.delete(deltaPath);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("[오류] 환자 변경 로그를 합치는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private static synchronized void startCompactor() {
+        if (compactor != null) {
+            return;
+        }
+
+        long seconds = Math.max(1, Long.getLong(COMPACT_INTERVAL_PROPERTY, 30L));
+        compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "patient-delta-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(PatientFileStore::compactAll, seconds, seconds, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(PatientFileStore::compactAll, "patient-delta-compact"));
+    }
+}
@@ -5,53 +5,152 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import model.Patient;
 import util.file.FileUtil;
+import util.file.LineTokenizer;
 
+/**
+ * 환자 목록 저장소
+ * - 환자 기본 정보와 노쇼 횟수를 메모리(환자번호 -> 값)에 두고 조회 시 파일을 읽지 않습니다.
+ * - 환자번호/아이디 해시 인덱스로 조회합니다.
+ * - 노쇼 횟수는 환자 파일 1행에 바로 쓰고, patientlist.txt 는 통째로 다시 쓰지 않고
+ *   변경 로그(patientlist.delta, "환자번호 노쇼횟수" 한 줄씩)에 추가합니다.
+ *   탈퇴도 같은 로그에 삭제 표시("환자번호 DELETED")만 추가합니다.
+ *   로그가 -Dpatient.delta.compact 줄(기본 256)을 넘거나 시작(검증 전)/종료할 때 patientlist.txt 에 합칩니다.
+ */
 public class PatientRepository {
     private static final String PATIENT_LIST_FILE_PATH = "data/patient/patientlist.txt";
+    private static final String PATIENT_LIST_DELTA_FILE_PATH = "data/patient/patientlist.delta";
     private static final String PATIENT_DIR_PATH = "data/patient/";
-    private final List<Patient> patients = new ArrayList<>();
+    private static final String DELTA_COMPACT_PROPERTY = "patient.delta.compact";
+    private static final String TOMBSTONE = "DELETED";
     private int lastPatientNumber = 0;
 
+    // 환자번호 -> 환자, 아이디 -> 환자, 환자번호 -> 노쇼 횟수 (여러 세션이 함께 사용)
+    private final Map<String, Patient> patientsById;
+    private final Map<String, Patient> patientsByUsername;
+    private final Map<String, Integer> noshowCounts;
+
+    // 변경 로그 줄 수 / 아직 patientlist.txt 에 남아 있는 탈퇴 환자
+    // (저장소 모니터(synchronized)를 잡은 상태에서만 읽고 씀, patientlist.txt 파일 잠금은 그 안에서 잡음)
+    private final int deltaCompactLines = Math.max(1, Integer.getInteger(DELTA_COMPACT_PROPERTY, 256));
+    private final AtomicBoolean compactHookRegistered = new AtomicBoolean(false);
+    private final Set<String> deletedPatients = new HashSet<>();
+    private int deltaLines = 0;
+
     public PatientRepository() {
-        loadPatientsFromFile();
+        // 지난 실행의 변경 로그를 먼저 합침 (보통은 시작 시 검증 전에 이미 합쳐져 있음)
+        synchronizeStorage();
+
+        LineTokenizer patientList = readPatientList();
+        // 환자 수만큼 미리 크기를 잡아 로드 중 다시 해시하지 않음
+        int expectedPatients = patientList.countLines();
+        patientsById = new ConcurrentHashMap<>(expectedPatients);
+        patientsByUsername = new ConcurrentHashMap<>(expectedPatients);
+        noshowCounts = new ConcurrentHashMap<>(expectedPatients);
+
+        loadPatientsFromFile(patientList);
     }
 
-    private void loadPatientsFromFile() {
+    /**
+     * 프로그램 전체에서 공유하는 저장소 (처음 호출 시 파일에서 로드)
+     */
+    public static PatientRepository getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final PatientRepository INSTANCE = new PatientRepository();
+    }
+
+    private static LineTokenizer readPatientList() {
         try {
-            List<String> lines = FileUtil.readLines(PATIENT_LIST_FILE_PATH);
-            for (int i = 1; i < lines.size(); i++) {
-                String line = lines.get(i);
-                if (line.trim().isEmpty())
+            return LineTokenizer.open(PATIENT_LIST_FILE_PATH);
+        } catch (IOException e) {
+            System.out.println("[오류] 환자 목록 파일을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+            System.exit(1);
+            return null;
+        }
+    }
+
+    private void loadPatientsFromFile(LineTokenizer patientList) {
+        String[] parts = new String[6];
+        patientList.nextLine(); // 1행: 헤더
+        while (patientList.nextLine()) {
+            int count = patientList.tokens(parts);
+            if (count < 5) {
+                continue;
+            }
+
+            Patient patient = new Patient(parts[0], parts[1], parts[2], parts[3], parts[4]);
+            if (count >= 6) {
+                try {
+                    patient.setNoshowCount(Integer.parseInt(parts[5]));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            patientsById.put(patient.getPatientId(), patient);
+            // 같은 아이디가 여러 줄에 있으면 파일 순서상 먼저 나온 환자를 사용
+            patientsByUsername.putIfAbsent(patient.getUsername(), patient);
+            noshowCounts.put(patient.getPatientId(), patient.getNoshowCount());
+            int currentNum = Integer.parseInt(parts[0], 1, parts[0].length(), 10);
+            if (currentNum > lastPatientNumber) {
+                lastPatientNumber = currentNum;
+            }
+        }
+    }
+
+    /**
+     * 지난 실행의 변경 로그(노쇼 횟수, 삭제 표시)를 patientlist.txt 에 합칩니다
+     * (프로그램 시작 시 검증 전에 호출, 저장소를 만들 때도 호출)
+     */
+    public static void synchronizeStorage() {
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(ReservationLocks.patientListFile())) {
+            if (!FileUtil.resourceExists(PATIENT_LIST_DELTA_FILE_PATH)) {
+                return;
+            }
+
+            Map<String, Integer> noshowCounts = new HashMap<>();
+            Set<String> deleted = new HashSet<>();
+            LineTokenizer delta = LineTokenizer.open(PATIENT_LIST_DELTA_FILE_PATH);
+            String[] parts = new String[2];
+            while (delta.nextLine()) {
+                if (delta.tokens(parts) != 2) {
                     continue;
-                String[] parts = line.split("\\s+");
-                if (parts.length >= 5) {
-                    Patient patient = new Patient(parts[0], parts[1], parts[2], parts[3], parts[4]);
-                    if (parts.length >= 6) {
-                        try {
-                            patient.setNoshowCount(Integer.parseInt(parts[5]));
-                        } catch (NumberFormatException ignored) {
-                        }
-                    }
-                    patients.add(patient);
-                    int currentNum = Integer.parseInt(parts[0].substring(1));
-                    if (currentNum > lastPatientNumber) {
-                        lastPatientNumber = currentNum;
-                    }
+                }
+                if (TOMBSTONE.equals(parts[1])) {
+                    deleted.add(parts[0]);
+                    noshowCounts.remove(parts[0]);
+                    continue;
+                }
+                try {
+                    noshowCounts.put(parts[0], Integer.parseInt(parts[1]));
+                } catch (NumberFormatException ignored) {
                 }
             }
+            rewritePatientList(noshowCounts, deleted);
         } catch (IOException e) {
-            System.out.println("[오류] 환자 목록 파일을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+            System.out.println("[오류] 환자 목록 변경 로그를 읽는 중 오류가 발생했습니다: " + e.getMessage());
             System.exit(1);
         }
     }
 
-    public void save(Patient patient) throws IOException {
-        FileUtil.appendLine(PATIENT_LIST_FILE_PATH, patient.toPatientListString());
+    public synchronized void save(Patient patient) throws IOException {
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(ReservationLocks.patientListFile())) {
+            FileUtil.appendLine(PATIENT_LIST_FILE_PATH, patient.toPatientListString());
+        }
         createPatientDetailFile(patient);
-        patients.add(patient);
+        patientsById.put(patient.getPatientId(), patient);
+        patientsByUsername.putIfAbsent(patient.getUsername(), patient);
+        noshowCounts.put(patient.getPatientId(), patient.getNoshowCount());
+        ReservationIndex.getInstance().registerPatient(patient.getPatientId(), patient.getName());
     }
 
     private void createPatientDetailFile(Patient patient) throws IOException {
@@ -62,23 +161,30 @@ public class PatientRepository {
         FileUtil.createDirectoriesAndWrite(filePath, content);
     }
 
-    public String getNextPatientId() {
+    public synchronized String getNextPatientId() {
         lastPatientNumber++;
         return String.format("P%06d", lastPatientNumber);
     }
 
-    public void delete(String patientId) throws IOException {
-        patients.removeIf(p -> p.getPatientId().equals(patientId));
+    /**
+     * 환자를 삭제합니다 (탈퇴)
+     * patientlist.txt 는 다시 쓰지 않고 변경 로그에 삭제 표시만 추가합니다. (합칠 때 해당 줄을 뺌)
+     */
+    public synchronized void delete(String patientId) throws IOException {
+        Patient patient = patientsById.remove(patientId);
+        if (patient != null) {
+            patientsByUsername.remove(patient.getUsername(), patient);
+        }
 
-        List<String> lines = new ArrayList<>();
-        lines.add(FileUtil.readLines(PATIENT_LIST_FILE_PATH).get(0));
-        for (Patient p : patients) {
-            lines.add(p.toPatientListString());
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(ReservationLocks.patientListFile())) {
+            noshowCounts.remove(patientId);
+            deletedPatients.add(patientId);
+            appendDelta(patientId, TOMBSTONE);
         }
-        FileUtil.writeLines(PATIENT_LIST_FILE_PATH, lines);
 
-        Path detailFilePath = Paths.get(PATIENT_DIR_PATH, patientId + ".txt");
-        Files.deleteIfExists(detailFilePath);
+        ReservationTable.deletePatient(patientId);
+        PatientFileStore.delete(patientId);
+        ReservationIndex.getInstance().removePatient(patientId);
     }
 
     public List<String> getPatientReservations(String patientId) {
@@ -90,7 +196,7 @@ public class PatientRepository {
         }
 
         try {
-            List<String> lines = Files.readAllLines(detailFilePath);
+            List<String> lines = PatientFileStore.readLines(patientId);
             for (int i = 3; i < lines.size(); i++) {
                 String line = lines.get(i).trim();
                 if (!line.isEmpty()) {
@@ -102,4 +208,129 @@ public class PatientRepository {
         }
         return reservations;
     }
-}
\ No newline at end of file
+
+    /**
+     * 환자 정보 (없으면 null)
+     */
+    public Patient findById(String patientId) {
+        return patientsById.get(patientId);
+    }
+
+    /**
+     * 아이디로 환자를 찾습니다 (없으면 null)
+     */
+    public Patient findByUsername(String username) {
+        return patientsByUsername.get(username);
+    }
+
+    /**
+     * 노쇼 누적 횟수 (파일을 읽지 않음)
+     */
+    public int getNoshowCount(String patientId) {
+        return noshowCounts.getOrDefault(patientId, 0);
+    }
+
+    /**
+     * 노쇼 횟수를 1 늘리고 늘어난 횟수를 반환합니다
+     * - 환자 파일 1행은 바로 고쳐 쓰고, patientlist.txt 대신 변경 로그에 한 줄 추가합니다.
+     */
+    public synchronized int incrementNoshowCount(String patientId) throws IOException {
+        // 환자 파일과 변경 로그를 쓰는 동안 다른 세션의 쓰기를 막음
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(ReservationLocks.patientFile(patientId),
+                ReservationLocks.patientListFile())) {
+            int noshowCount = getNoshowCount(patientId) + 1;
+
+            List<String> lines = PatientFileStore.readLines(patientId);
+
+            // 1행: 환자 기본 정보 (노쇼 횟수가 없으면 추가, 있으면 수정)
+            String[] parts = lines.get(0).trim().split("\\s+");
+            if (parts.length == 4) {
+                lines.set(0, String.join(" ", parts[0], parts[1], parts[2], parts[3], String.valueOf(noshowCount)));
+            } else {
+                parts[4] = String.valueOf(noshowCount);
+                lines.set(0, String.join(" ", parts));
+            }
+            PatientFileStore.rewrite(patientId, lines);
+
+            noshowCounts.put(patientId, noshowCount);
+            appendDelta(patientId, String.valueOf(noshowCount));
+            return noshowCount;
+        }
+    }
+
+    /**
+     * 변경 로그를 patientlist.txt 에 합칩니다 (종료 시에도 호출)
+     */
+    public synchronized void compact() throws IOException {
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(ReservationLocks.patientListFile())) {
+            if (deltaLines > 0) {
+                compactPatientList();
+            }
+        }
+    }
+
+    private void appendDelta(String patientId, String value) throws IOException {
+        FileUtil.appendLine(PATIENT_LIST_DELTA_FILE_PATH, patientId + " " + value);
+        deltaLines++;
+        if (compactHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    // 다음 시작 때 변경 로그를 다시 반영함
+                }
+            }, "patient-list-compact"));
+        }
+        if (deltaLines >= deltaCompactLines) {
+            compactPatientList();
+        }
+    }
+
+    /**
+     * 변경 로그를 메모리 값으로 patientlist.txt 에 합칩니다
+     * (저장소 모니터와 patientlist.txt 파일 잠금을 잡은 상태에서 호출, 중간에 종료되면 다음 시작 때 로그를 다시 반영)
+     */
+    private void compactPatientList() throws IOException {
+        rewritePatientList(noshowCounts, deletedPatients);
+        deletedPatients.clear();
+        deltaLines = 0;
+    }
+
+    /**
+     * 변경 로그를 겹쳐 patientlist.txt 를 원자적으로 다시 쓴 뒤 변경 로그를 지웁니다
+     */
+    private static void rewritePatientList(Map<String, Integer> noshowCounts, Set<String> deleted)
+            throws IOException {
+        List<String> lines = fold(FileUtil.readLines(PATIENT_LIST_FILE_PATH), noshowCounts, deleted);
+        FileUtil.writeLinesAtomically(PATIENT_LIST_FILE_PATH, lines);
+        Files.deleteIfExists(FileUtil.getResourcePath(PATIENT_LIST_DELTA_FILE_PATH));
+    }
+
+    /**
+     * 목록 줄에서 삭제 표시된 환자 줄을 빼고 노쇼 횟수 열을 주어진 값으로 바꿉니다
+     * (헤더와 나머지 줄은 순서와 내용을 그대로 유지)
+     */
+    static List<String> fold(List<String> lines, Map<String, Integer> noshowCounts, Set<String> deleted) {
+        List<String> folded = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (i > 0) {
+                String[] parts = line.trim().split("\\s+");
+                if (deleted.contains(parts[0])) {
+                    // 줄 추가(appendLine) 때 함께 생긴 바로 앞의 빈 줄도 뺌
+                    if (folded.size() > 1 && folded.get(folded.size() - 1).isBlank()) {
+                        folded.remove(folded.size() - 1);
+                    }
+                    continue;
+                }
+                Integer noshowCount = parts.length == 6 ? noshowCounts.get(parts[0]) : null;
+                if (noshowCount != null && !parts[5].equals(String.valueOf(noshowCount))) {
+                    parts[5] = String.valueOf(noshowCount);
+                    line = String.join(" ", parts);
+                }
+            }
+            folded.add(line);
+        }
+        return folded;
+    }
+}
@@ -0,0 +1,172 @@
+package repository;
+
+import util.file.FileUtil;
+import util.metrics.Metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 예약 레코드를 한 줄씩 추가하는 로그 파일 (ReservationJournal / ReservationTable 공용)
+ * - 여러 스레드가 동시에 추가하면 먼저 도착한 스레드(leader)가 한 번의 fsync 로
+ *   그때까지 쌓인 레코드를 모두 반영하고, 나머지(follower)는 기다리기만 합니다 (group commit).
+ * - 한 줄에 "CRC32 순번 종류 값..." 레코드 하나 (ReservationJournal.Record 형식)
+ */
+final class RecordLog {
+
+    private final String filePath;
+    private final Object appendLock = new Object();
+    private final ReentrantLock forceLock = new ReentrantLock();
+
+    private FileChannel channel;
+    private Path channelPath;
+    private long lastSequence = 0;
+    private long appendedPosition = 0;
+    private volatile long forcedPosition = 0;
+
+    RecordLog(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * 레코드에 순번을 매겨 끝에 추가하고 디스크에 반영될 때까지 기다립니다 (group commit)
+     */
+    void append(ReservationJournal.Record record) throws IOException {
+        long end;
+        int length;
+        synchronized (appendLock) {
+            ensureOpen();
+            record.sequence = ++lastSequence;
+            ByteBuffer buffer = ByteBuffer.wrap((record.toLine() + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                appendedPosition += channel.write(buffer);
+            }
+            end = appendedPosition;
+            length = buffer.limit();
+        }
+        Metrics.recordWrite(length);
+
+        while (forcedPosition < end) {
+            forceLock.lock();
+            try {
+                // 다른 스레드가 이미 반영했으면 기다리기만 하고 끝남
+                if (forcedPosition < end) {
+                    long target;
+                    FileChannel forceChannel;
+                    synchronized (appendLock) {
+                        target = appendedPosition;
+                        forceChannel = channel;
+                    }
+                    forceChannel.force(false);
+                    forcedPosition = target;
+                }
+            } finally {
+                forceLock.unlock();
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        Path path = FileUtil.getResourcePath(filePath);
+        if (channel != null && path.equals(channelPath)) {
+            return;
+        }
+        if (channel != null) {
+            channel.close();
+        }
+        Files.createDirectories(path.getParent());
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        channelPath = path;
+        appendedPosition = channel.size();
+        forcedPosition = appendedPosition;
+    }
+
+    /**
+     * 로그의 레코드를 읽습니다 (CRC 가 맞지 않는 줄 = 기록 도중 종료된 마지막 줄은 버림)
+     */
+    List<ReservationJournal.Record> readRecords() throws IOException {
+        List<ReservationJournal.Record> records = new ArrayList<>();
+        for (String line : FileUtil.readLines(filePath)) {
+            ReservationJournal.Record record = ReservationJournal.Record.parse(line);
+            if (record == null) {
+                continue;
+            }
+            records.add(record);
+            synchronized (appendLock) {
+                lastSequence = Math.max(lastSequence, record.sequence);
+            }
+        }
+        return records;
+    }
+
+    long lastSequence() {
+        synchronized (appendLock) {
+            return lastSequence;
+        }
+    }
+
+    boolean exists() {
+        return FileUtil.resourceExists(filePath);
+    }
+
+    /**
+     * 로그를 비웁니다 (순번은 이어서 매김)
+     */
+    void truncate() throws IOException {
+        synchronized (appendLock) {
+            if (channel != null && channelPath.equals(FileUtil.getResourcePath(filePath))) {
+                channel.truncate(0);
+                channel.force(true);
+                appendedPosition = 0;
+                forcedPosition = 0;
+            } else if (exists()) {
+                FileUtil.writeLinesAtomically(filePath, List.of());
+            }
+        }
+    }
+
+    /**
+     * 로그 전체를 주어진 레코드로 교체합니다 (압축, 레코드의 순번은 그대로 씀)
+     */
+    void rewrite(List<ReservationJournal.Record> records) throws IOException {
+        List<String> lines = new ArrayList<>(records.size());
+        long maxSequence = 0;
+        for (ReservationJournal.Record record : records) {
+            lines.add(record.toLine());
+            maxSequence = Math.max(maxSequence, record.sequence);
+        }
+
+        synchronized (appendLock) {
+            lastSequence = Math.max(lastSequence, maxSequence);
+            if (channel != null) {
+                channel.close();
+                channel = null;
+                channelPath = null;
+            }
+            FileUtil.writeLinesAtomically(filePath, lines);
+        }
+    }
+
+    /**
+     * 로그 파일을 지웁니다
+     */
+    void delete() throws IOException {
+        synchronized (appendLock) {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+                channelPath = null;
+            }
+            Files.deleteIfExists(FileUtil.getResourcePath(filePath));
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package repository;
+
+import util.exception.AppointmentFileException;
+import util.file.FileUtil;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 저널 레코드를 예약 현황/환자/의사 파일과 인덱스에 적용합니다
+ * - 일반 적용: 기존 서비스 코드와 같은 순서/검증으로 파일을 변경합니다.
+ * - 복구 적용(replay): 이미 반영된 부분은 건너뛰므로 같은 레코드를 여러 번 적용해도 결과가 같습니다.
+ * - 예약 테이블 투영: 파일 하나(날짜/의사/환자)에 쌓인 레코드를 복구 적용과 같은 방식으로 한꺼번에 반영합니다.
+ */
+public class ReservationApplier {
+
+    private final AppointmentRepository appointmentRepository = AppointmentRepository.getInstance();
+    private final DoctorRepository doctorRepository = DoctorRepository.getInstance();
+
+    static String getPatientFilePath(String patientId) {
+        return PatientFileStore.getPatientFilePath(patientId);
+    }
+
+    /**
+     * 레코드 하나를 적용합니다
+     *
+     * @param replay 복구 중 적용 여부 (이미 반영된 부분 건너뜀)
+     */
+    public void apply(ReservationJournal.Record record, boolean replay) throws IOException, AppointmentFileException {
+        LocalDate date = LocalDate.parse(record.date);
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(
+                ReservationLocks.appointmentFile(date),
+                record.oldDate != null ? ReservationLocks.appointmentFile(LocalDate.parse(record.oldDate)) : null,
+                ReservationLocks.doctorFile(record.doctorId),
+                ReservationLocks.patientFile(record.patientId))) {
+            applyLocked(record, date, replay);
+        }
+    }
+
+    private void applyLocked(ReservationJournal.Record record, LocalDate date, boolean replay)
+            throws IOException, AppointmentFileException {
+        // 각 종류의 첫 단계는 검증을 겸함 (실패하면 아무 파일도 바뀌지 않음)
+        switch (record.type) {
+            case CREATE:
+                createAppointment(date, record, replay);
+                continueApply(() -> {
+                    appendPatientLine(record, replay);
+                    doctorRepository.updateSchedule(record.doctorId, date, record.startTime, record.reservationId);
+                    ReservationIndex.getInstance().put(toEntry(record, -1));
+                });
+                break;
+            case MODIFY:
+                LocalDate oldDate = LocalDate.parse(record.oldDate);
+                setAppointmentStatus(oldDate, record.doctorId, record.oldStartTime, record.reservationId, "3",
+                        replay);
+                continueApply(() -> {
+                    doctorRepository.updateSchedule(record.doctorId, oldDate, record.oldStartTime, "0");
+                    createAppointment(date, record, replay);
+                    doctorRepository.updateSchedule(record.doctorId, date, record.startTime, record.reservationId);
+                    int lineIndex = replacePatientLine(record);
+                    ReservationIndex.getInstance().put(toEntry(record, lineIndex));
+                });
+                break;
+            case CANCEL:
+                setAppointmentStatus(date, record.doctorId, record.startTime, record.reservationId, "3", replay);
+                continueApply(() -> {
+                    doctorRepository.updateSchedule(record.doctorId, date, record.startTime, "0");
+                    setPatientStatus(record.patientId, record.reservationId, "3");
+                });
+                break;
+            case STATUS:
+                setAppointmentStatus(date, record.doctorId, record.startTime, record.reservationId, record.status,
+                        replay);
+                continueApply(() -> setPatientStatus(record.patientId, record.reservationId, record.status));
+                break;
+            case ROW:
+                setPatientStatus(record.patientId, record.reservationId, record.status);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private interface Step {
+        void run() throws IOException, AppointmentFileException;
+    }
+
+    /**
+     * 첫 파일을 바꾼 뒤의 나머지 단계를 실행합니다 (오류는 PartialApplyException 으로 감쌈)
+     */
+    private static void continueApply(Step step) throws PartialApplyException {
+        try {
+            step.run();
+        } catch (IOException | AppointmentFileException | RuntimeException e) {
+            throw new PartialApplyException(e);
+        }
+    }
+
+    /**
+     * 일부 파일을 이미 바꾼 뒤 난 적용 오류
+     * 되돌리지 않고, 복구 적용(replay)으로 나머지 단계를 마저 반영해야 합니다.
+     */
+    public static class PartialApplyException extends IOException {
+        PartialApplyException(Exception cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+
+    // ========== 예약 현황 파일 ==========
+
+    private void createAppointment(LocalDate date, ReservationJournal.Record record, boolean replay)
+            throws AppointmentFileException {
+        if (replay) {
+            String current = appointmentRepository.getSlotStatus(date, record.doctorId, record.startTime);
+            // 이미 반영되었거나, 이후 레코드에서 다른 예약이 차지한 칸이면 건너뜀
+            if (current != null && (current.startsWith(record.reservationId + "(")
+                    || (!"0".equals(current) && !current.contains("(3)")))) {
+                return;
+            }
+        }
+        appointmentRepository.createAppointment(date, record.doctorId, record.startTime, record.reservationId);
+    }
+
+    /**
+     * (의사, 시간) 칸에 들어 있는 예약의 상태를 바꿉니다 (복구 적용/테이블 투영과 같은 칸)
+     * 일반 적용에서 칸에 해당 예약이 없으면 오류, 복구 적용에서는 건너뜁니다.
+     */
+    private void setAppointmentStatus(LocalDate date, String doctorId, String time, String reservationId,
+            String status, boolean replay) throws AppointmentFileException {
+        String current = appointmentRepository.getSlotStatus(date, doctorId, time);
+        if (current != null && current.startsWith(reservationId + "(")) {
+            appointmentRepository.setSlotStatus(date, doctorId, time, reservationId + "(" + status + ")");
+        } else if (!replay) {
+            throw new AppointmentFileException(
+                    AppointmentFileException.ErrorType.INVALID_APPOINTMENT_STATUS,
+                    "예약 번호 " + reservationId + "를 찾을 수 없습니다");
+        }
+    }
+
+    // ========== 환자 파일 ==========
+
+    private void appendPatientLine(ReservationJournal.Record record, boolean replay) throws IOException {
+        if (replay && PatientFileStore.findLine(
+                PatientFileStore.readLines(record.patientId), record.reservationId, -1) != -1) {
+            return;
+        }
+        FileUtil.appendLine(getPatientFilePath(record.patientId), toPatientLine(record));
+    }
+
+    private int replacePatientLine(ReservationJournal.Record record) throws IOException {
+        return PatientFileStore.replaceLine(record.patientId, record.reservationId,
+                toPatientLine(record), hintOf(record.reservationId));
+    }
+
+    /**
+     * 환자 파일의 예약 상태를 변경합니다
+     * 예약 테이블 방식에서는 테이블에 예약의 현재 값을 기록하고, 환자 파일은 테이블에서 반영합니다.
+     */
+    public void updatePatientStatus(String patientId, String reservationId, String newStatus) throws IOException {
+        ReservationIndex.Entry entry = ReservationIndex.getInstance().findById(reservationId);
+        if (ReservationTable.isEnabled() && entry != null) {
+            ReservationTable.getInstance().write(ReservationJournal.Record.row(reservationId, patientId, entry.date,
+                    entry.startTime, entry.endTime, entry.deptCode, entry.doctorId, newStatus));
+            return;
+        }
+        setPatientStatus(patientId, reservationId, newStatus);
+    }
+
+    private void setPatientStatus(String patientId, String reservationId, String newStatus) throws IOException {
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(ReservationLocks.patientFile(patientId))) {
+            PatientFileStore.setStatus(patientId, reservationId, newStatus, hintOf(reservationId));
+        }
+
+        ReservationIndex.getInstance().updateStatus(reservationId, newStatus);
+    }
+
+    private static int hintOf(String reservationId) {
+        ReservationIndex.Entry entry = ReservationIndex.getInstance().findById(reservationId);
+        return entry == null ? -1 : entry.lineIndex;
+    }
+
+    private static String toPatientLine(ReservationJournal.Record record) {
+        return String.join(" ", record.reservationId, record.date, record.startTime, record.endTime,
+                record.deptCode, record.doctorId, record.status);
+    }
+
+    private static ReservationIndex.Entry toEntry(ReservationJournal.Record record, int lineIndex) {
+        return new ReservationIndex.Entry(record.reservationId, record.patientId, lineIndex, record.date,
+                record.startTime, record.endTime, record.deptCode, record.doctorId, record.status);
+    }
+
+    // ========== 예약 테이블 투영 ==========
+
+    /**
+     * 테이블에 기록한 레코드를 예약 인덱스와 슬롯 비트맵에 바로 반영합니다 (파일은 나중에 투영)
+     */
+    void applyToIndex(ReservationJournal.Record record) {
+        ReservationIndex index = ReservationIndex.getInstance();
+        switch (record.type) {
+            case CREATE:
+                updateBitmap(record.date, record.doctorId, record.startTime, record.reservationId,
+                        SlotCell.STATUS_RESERVED);
+                index.put(toEntry(record, -1));
+                break;
+            case MODIFY:
+                updateBitmap(record.oldDate, record.doctorId, record.oldStartTime, record.reservationId,
+                        SlotCell.STATUS_CANCELLED);
+                updateBitmap(record.date, record.doctorId, record.startTime, record.reservationId,
+                        SlotCell.STATUS_RESERVED);
+                // 환자 파일에서 같은 줄을 바꾸므로 줄 위치는 그대로
+                index.put(toEntry(record, hintOf(record.reservationId)));
+                break;
+            case CANCEL:
+            case STATUS:
+                updateBitmap(record.date, record.doctorId, record.startTime, record.reservationId,
+                        Integer.parseInt(record.status));
+                index.updateStatus(record.reservationId, record.status);
+                break;
+            case ROW:
+                index.updateStatus(record.reservationId, record.status);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void updateBitmap(String date, String doctorId, String time, String reservationId, int status) {
+        int slotIndex = BinaryAppointmentFile.slotIndexOf(time);
+        if (slotIndex != -1) {
+            SlotAvailabilityCache.getInstance().updateSlot(LocalDate.parse(date), doctorId, slotIndex,
+                    SlotCell.of(SlotCell.parseReservationNumber(reservationId), status));
+        }
+    }
+
+    /**
+     * 날짜 하나의 예약 현황표에 레코드를 순서대로 반영하고 한 번만 저장합니다
+     * 복구 적용과 같이 이미 반영되었거나 다른 예약이 차지한 칸은 건너뜁니다.
+     */
+    void projectAppointments(LocalDate date, List<ReservationJournal.Record> records)
+            throws AppointmentFileException {
+        String dateStr = date.toString();
+        appointmentRepository.updateCells(date, cells -> {
+            boolean changed = false;
+            for (ReservationJournal.Record record : records) {
+                switch (record.type) {
+                    case CREATE:
+                        changed |= reserveCell(cells, record.doctorId, record.startTime, record.reservationId);
+                        break;
+                    case MODIFY:
+                        if (dateStr.equals(record.oldDate)) {
+                            changed |= setCellStatus(cells, record.doctorId, record.oldStartTime,
+                                    record.reservationId, SlotCell.STATUS_CANCELLED);
+                        }
+                        if (dateStr.equals(record.date)) {
+                            changed |= reserveCell(cells, record.doctorId, record.startTime, record.reservationId);
+                        }
+                        break;
+                    case CANCEL:
+                    case STATUS:
+                        changed |= setCellStatus(cells, record.doctorId, record.startTime, record.reservationId,
+                                Integer.parseInt(record.status));
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return changed;
+        });
+    }
+
+    private static boolean reserveCell(AppointmentCells cells, String doctorId, String time, String reservationId) {
+        int doctorIndex = cells.doctorIndexOf(doctorId);
+        int slotIndex = BinaryAppointmentFile.slotIndexOf(time);
+        if (doctorIndex == -1 || slotIndex == -1) {
+            return false;
+        }
+
+        int reservationNumber = SlotCell.parseReservationNumber(reservationId);
+        long current = cells.get(slotIndex, doctorIndex);
+        if (SlotCell.isReservation(current, reservationNumber) || !SlotCell.isAvailable(current)) {
+            return false;
+        }
+        cells.set(slotIndex, doctorIndex, SlotCell.of(reservationNumber, SlotCell.STATUS_RESERVED));
+        return true;
+    }
+
+    private static boolean setCellStatus(AppointmentCells cells, String doctorId, String time, String reservationId,
+            int status) {
+        int doctorIndex = cells.doctorIndexOf(doctorId);
+        int slotIndex = BinaryAppointmentFile.slotIndexOf(time);
+        if (doctorIndex == -1 || slotIndex == -1) {
+            return false;
+        }
+
+        int reservationNumber = SlotCell.parseReservationNumber(reservationId);
+        long current = cells.get(slotIndex, doctorIndex);
+        long updated = SlotCell.of(reservationNumber, status);
+        if (!SlotCell.isReservation(current, reservationNumber) || current == updated) {
+            return false;
+        }
+        cells.set(slotIndex, doctorIndex, updated);
+        return true;
+    }
+
+    /**
+     * 의사 한 명의 스케줄에 레코드를 순서대로 반영합니다 (텍스트 파일은 한 번만 다시 씀)
+     */
+    void projectDoctor(String doctorId, List<ReservationJournal.Record> records) throws IOException {
+        List<DoctorRepository.ScheduleChange> changes = new ArrayList<>();
+        for (ReservationJournal.Record record : records) {
+            switch (record.type) {
+                case CREATE:
+                    changes.add(new DoctorRepository.ScheduleChange(LocalDate.parse(record.date), record.startTime,
+                            record.reservationId));
+                    break;
+                case MODIFY:
+                    changes.add(new DoctorRepository.ScheduleChange(LocalDate.parse(record.oldDate),
+                            record.oldStartTime, "0"));
+                    changes.add(new DoctorRepository.ScheduleChange(LocalDate.parse(record.date), record.startTime,
+                            record.reservationId));
+                    break;
+                case CANCEL:
+                    changes.add(new DoctorRepository.ScheduleChange(LocalDate.parse(record.date), record.startTime,
+                            "0"));
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (!changes.isEmpty()) {
+            doctorRepository.updateSchedule(doctorId, changes);
+        }
+    }
+
+    /**
+     * 환자 한 명의 파일에 레코드를 순서대로 반영합니다
+     */
+    void projectPatient(String patientId, List<ReservationJournal.Record> records) throws IOException {
+        for (ReservationJournal.Record record : records) {
+            switch (record.type) {
+                case CREATE:
+                    appendPatientLine(record, true);
+                    break;
+                case MODIFY:
+                    replacePatientLine(record);
+                    break;
+                case CANCEL:
+                case STATUS:
+                case ROW:
+                    PatientFileStore.setStatus(patientId, record.reservationId, record.status,
+                            hintOf(record.reservationId));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    // ========== 체크포인트 ==========
+
+    void forceAppointments(LocalDate date) throws IOException {
+        appointmentRepository.force(date);
+    }
+
+    void forceDoctorSchedule(String doctorId) throws IOException {
+        doctorRepository.forceSchedule(doctorId);
+    }
+}
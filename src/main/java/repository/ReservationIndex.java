@@ -0,0 +1,253 @@
+package repository;
+
+import util.file.FileUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 예약 정보를 메모리에 유지하는 인덱스
+ * - 프로그램 시작 시 patientlist.txt 와 모든 P######.txt 를 한 번만 읽어 구성합니다.
+ * - 이후에는 ReservationService / DoctorService 의 쓰기 작업마다 함께 갱신됩니다.
+ *
+ * 인덱스 구성:
+ * - 예약번호 -> (환자번호, 환자 파일 내 라인 위치)       : O(1)
+ * - 의사번호 -> 날짜/시간 순으로 정렬된 예약 목록          : O(log n)
+ * - 날짜     -> 해당 날짜의 예약 목록                      : O(1)
+ */
+public class ReservationIndex {
+
+    private static final String PATIENT_LIST_FILE_PATH = "data/patient/patientlist.txt";
+    private static final String PATIENT_DIR_PATH = "data/patient/";
+    private static final int RESERVATION_START_LINE = 3; // 1행: 환자정보, 2행: 빈행, 3행: 헤더
+
+    private static final ReservationIndex INSTANCE = new ReservationIndex();
+
+    private final Map<String, Entry> byReservationId = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<String, Entry>> byDoctor = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Entry>> byDate = new ConcurrentHashMap<>();
+    private final Map<String, String> patientNames = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+
+    private ReservationIndex() {
+    }
+
+    /**
+     * 인덱스를 반환합니다 (최초 호출 시 파일에서 로드)
+     */
+    public static ReservationIndex getInstance() {
+        if (!INSTANCE.loaded) {
+            synchronized (INSTANCE) {
+                if (!INSTANCE.loaded) {
+                    INSTANCE.load();
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * 파일에서 인덱스를 다시 구성합니다
+     */
+    public synchronized void reload() {
+        load();
+    }
+
+    private void load() {
+        byReservationId.clear();
+        byDoctor.clear();
+        byDate.clear();
+        patientNames.clear();
+
+        try {
+            List<String> patientList = FileUtil.readLines(PATIENT_LIST_FILE_PATH);
+            for (int i = 1; i < patientList.size(); i++) {
+                String line = patientList.get(i).trim();
+                if (line.isEmpty()) continue;
+
+                String[] parts = line.split("\\s+");
+                if (parts.length < 5) continue;
+
+                String patientId = parts[0];
+                patientNames.put(patientId, parts[2]);
+                loadPatientFile(patientId);
+            }
+        } catch (IOException e) {
+            System.out.println("[오류] 예약 인덱스를 구성하는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        loaded = true;
+    }
+
+    private void loadPatientFile(String patientId) throws IOException {
+        String patientFilePath = PATIENT_DIR_PATH + patientId + ".txt";
+        if (!FileUtil.resourceExists(patientFilePath)) return;
+
+        List<String> lines = PatientFileStore.readLines(patientId);
+        for (int j = RESERVATION_START_LINE; j < lines.size(); j++) {
+            String reservationLine = lines.get(j).trim();
+            if (reservationLine.isEmpty()) continue;
+
+            String[] resParts = reservationLine.split("\\s+");
+            if (resParts.length < 7) continue;
+
+            // 같은 예약번호가 여러 파일에 있으면 patientlist.txt 순서상 먼저 나온 것을 사용
+            if (byReservationId.containsKey(resParts[0])) continue;
+
+            put(new Entry(resParts[0], patientId, j, resParts[1], resParts[2], resParts[3],
+                    resParts[4], resParts[5], resParts[6]));
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 예약번호로 예약을 조회합니다
+     *
+     * @return 예약 정보 (없으면 null)
+     */
+    public Entry findById(String reservationId) {
+        return byReservationId.get(reservationId);
+    }
+
+    /**
+     * 특정 의사의 예약을 날짜/시간 순으로 반환합니다
+     */
+    public Collection<Entry> findByDoctor(String doctorId) {
+        NavigableMap<String, Entry> entries = byDoctor.get(doctorId);
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * 특정 날짜의 예약을 반환합니다
+     */
+    public List<Entry> findByDate(String date) {
+        Map<String, Entry> entries = byDate.get(date);
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(entries.values());
+    }
+
+    /**
+     * 환자 이름을 반환합니다
+     */
+    public String getPatientName(String patientId) {
+        return patientNames.get(patientId);
+    }
+
+    // ========== 갱신 ==========
+
+    /**
+     * 환자를 등록합니다 (회원가입 시)
+     */
+    public void registerPatient(String patientId, String patientName) {
+        patientNames.put(patientId, patientName);
+    }
+
+    /**
+     * 예약을 추가하거나 같은 예약번호의 기존 정보를 교체합니다
+     */
+    public synchronized void put(Entry entry) {
+        Entry old = byReservationId.put(entry.reservationId, entry);
+        if (old != null) {
+            removeSecondary(old);
+        }
+        byDoctor.computeIfAbsent(entry.doctorId, k -> new ConcurrentSkipListMap<>())
+                .put(entry.sortKey(), entry);
+        byDate.computeIfAbsent(entry.date, k -> new ConcurrentHashMap<>())
+                .put(entry.reservationId, entry);
+    }
+
+    /**
+     * 예약 상태를 변경합니다
+     */
+    public synchronized void updateStatus(String reservationId, String newStatus) {
+        Entry old = byReservationId.get(reservationId);
+        if (old == null) return;
+        put(old.withStatus(newStatus));
+    }
+
+    /**
+     * 환자의 모든 예약을 인덱스에서 제거합니다 (회원 탈퇴 시)
+     */
+    public synchronized void removePatient(String patientId) {
+        List<Entry> removed = new ArrayList<>();
+        for (Entry entry : byReservationId.values()) {
+            if (entry.patientId.equals(patientId)) {
+                removed.add(entry);
+            }
+        }
+        for (Entry entry : removed) {
+            byReservationId.remove(entry.reservationId);
+            removeSecondary(entry);
+        }
+        patientNames.remove(patientId);
+    }
+
+    private void removeSecondary(Entry entry) {
+        NavigableMap<String, Entry> doctorEntries = byDoctor.get(entry.doctorId);
+        if (doctorEntries != null) {
+            doctorEntries.remove(entry.sortKey());
+        }
+        Map<String, Entry> dateEntries = byDate.get(entry.date);
+        if (dateEntries != null) {
+            dateEntries.remove(entry.reservationId);
+        }
+    }
+
+    /**
+     * 인덱스의 모든 예약 (예약 테이블을 처음 만들 때)
+     */
+    Collection<Entry> entries() {
+        return byReservationId.values();
+    }
+
+    /**
+     * 인덱스에 저장되는 예약 한 건
+     * lineIndex 는 환자 파일 내 0-base 라인 위치이며, 알 수 없으면 -1 입니다.
+     */
+    public static class Entry {
+        public final String reservationId;
+        public final String patientId;
+        public final int lineIndex;
+        public final String date;
+        public final String startTime;
+        public final String endTime;
+        public final String deptCode;
+        public final String doctorId;
+        public final String status;
+
+        public Entry(String reservationId, String patientId, int lineIndex, String date, String startTime,
+                String endTime, String deptCode, String doctorId, String status) {
+            this.reservationId = reservationId;
+            this.patientId = patientId;
+            this.lineIndex = lineIndex;
+            this.date = date;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.deptCode = deptCode;
+            this.doctorId = doctorId;
+            this.status = status;
+        }
+
+        public Entry withStatus(String newStatus) {
+            return new Entry(reservationId, patientId, lineIndex, date, startTime, endTime, deptCode, doctorId,
+                    newStatus);
+        }
+
+        private String sortKey() {
+            return date + " " + startTime + " " + reservationId;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package repository;
+
+import util.exception.AppointmentFileException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * 예약 변경 저널 (write-ahead log)
+ * - 예약 생성/변경/취소/상태 변경을 논리 레코드 한 줄로 먼저 기록하고 디스크에 반영(fsync)한 뒤,
+ *   ReservationApplier 로 예약 현황/환자/의사 파일에 적용합니다.
+ * - 여러 스레드가 동시에 기록하면 먼저 도착한 스레드(leader)가 한 번의 fsync 로
+ *   그때까지 쌓인 레코드를 모두 반영하고, 나머지(follower)는 기다리기만 합니다 (group commit).
+ * - 프로그램 시작 시 체크포인트 이후의 레코드를 다시 적용하므로, 파일 쓰기 중간에 종료되어도
+ *   세 파일이 서로 어긋난 채로 남지 않습니다.
+ * - 저널 방식(-Dreservation.storage=journal)에서만 파일에 바로 적용합니다. 기본값인 예약 테이블 방식에서는
+ *   레코드를 ReservationTable 에 기록하고, 파일은 테이블에서 나중에 한꺼번에 반영합니다.
+ *
+ * 파일 형식 (data/journal/reservation.log): 한 줄에 "CRC32 순번 종류 값..." 레코드 하나
+ */
+public class ReservationJournal {
+
+    private static final String JOURNAL_FILE_PATH = "data/journal/reservation.log";
+    private static final String CHECKPOINT_PROPERTY = "journal.checkpoint.records";
+    private static final int DEFAULT_CHECKPOINT_RECORDS = 256;
+
+    private static final ReservationJournal INSTANCE = new ReservationJournal();
+
+    private final ReservationApplier applier = new ReservationApplier();
+    private final RecordLog log = new RecordLog(JOURNAL_FILE_PATH);
+    // 기록~적용 사이에는 체크포인트가 저널을 비우지 못하도록 막음
+    private final ReentrantReadWriteLock applyLock = new ReentrantReadWriteLock();
+    private final int checkpointRecords = Integer.getInteger(CHECKPOINT_PROPERTY, DEFAULT_CHECKPOINT_RECORDS);
+
+    private int recordsSinceCheckpoint = 0;
+
+    // 마지막 체크포인트 이후 변경된 파일 (체크포인트 때 디스크에 반영)
+    private final Set<String> touchedPatients = new LinkedHashSet<>();
+    private final Set<String> touchedDoctors = new LinkedHashSet<>();
+    private final Set<LocalDate> touchedDates = new LinkedHashSet<>();
+    // 끝까지 적용하지 못한 레코드 (남아 있는 동안 저널을 비우지 않음)
+    private final List<Record> unfinished = new ArrayList<>();
+
+    private ReservationJournal() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::checkpointQuietly, "reservation-journal-checkpoint"));
+    }
+
+    public static ReservationJournal getInstance() {
+        return INSTANCE;
+    }
+
+    // ========== 기록 ==========
+
+    /**
+     * 레코드를 저널에 기록한 뒤 파일에 적용합니다
+     * - 파일을 바꾸기 전에 실패하면 (검증 오류 등) ABORT 레코드를 남겨 다음 시작 시 다시 적용하지 않습니다.
+     * - 일부 파일을 바꾼 뒤 실패하면 복구 적용으로 나머지를 마저 반영합니다.
+     */
+    public void write(Record record) throws IOException, AppointmentFileException {
+        // 예약 테이블 방식에서는 테이블에 한 줄 추가하는 것으로 끝나고, 파일은 나중에 테이블에서 반영됨
+        if (ReservationTable.isEnabled()) {
+            ReservationTable.getInstance().write(record);
+            return;
+        }
+
+        applyLock.readLock().lock();
+        try {
+            commit(record);
+            try {
+                applier.apply(record, false);
+            } catch (ReservationApplier.PartialApplyException e) {
+                rollForward(record, e);
+            } catch (IOException | AppointmentFileException | RuntimeException e) {
+                commit(Record.abort(record.sequence));
+                throw e;
+            }
+            touch(record);
+        } finally {
+            applyLock.readLock().unlock();
+        }
+        maybeCheckpoint();
+    }
+
+    /**
+     * 일부만 적용된 레코드를 복구 적용으로 마저 반영합니다
+     * 그것도 실패하면 미완료 레코드로 남겨 체크포인트가 저널을 비우지 않게 하고 (다음 시작 시 복구) 원래 오류를 던집니다.
+     */
+    private void rollForward(Record record, ReservationApplier.PartialApplyException cause) throws IOException {
+        try {
+            applier.apply(record, true);
+        } catch (IOException | AppointmentFileException | RuntimeException e) {
+            touch(record);
+            synchronized (touchedPatients) {
+                unfinished.add(record);
+            }
+            throw cause;
+        }
+    }
+
+    /**
+     * 레코드를 저널 끝에 추가하고 디스크에 반영될 때까지 기다립니다 (group commit)
+     */
+    void commit(Record record) throws IOException {
+        log.append(record);
+    }
+
+    private void touch(Record record) {
+        synchronized (touchedPatients) {
+            touchedPatients.add(record.patientId);
+            touchedDoctors.add(record.doctorId);
+            touchedDates.add(LocalDate.parse(record.date));
+            if (record.oldDate != null) {
+                touchedDates.add(LocalDate.parse(record.oldDate));
+            }
+            recordsSinceCheckpoint++;
+        }
+    }
+
+    private void maybeCheckpoint() {
+        boolean due;
+        synchronized (touchedPatients) {
+            due = recordsSinceCheckpoint >= checkpointRecords;
+        }
+        if (due) {
+            checkpointQuietly();
+        }
+    }
+
+    // ========== 체크포인트 / 복구 ==========
+
+    /**
+     * 변경된 파일을 디스크에 반영한 뒤 저널을 비웁니다
+     * 끝까지 적용하지 못한 레코드는 다시 적용해 보고, 그래도 남으면 저널을 비우지 않습니다.
+     */
+    public void checkpoint() throws IOException {
+        applyLock.writeLock().lock();
+        try {
+            checkpointLocked();
+        } finally {
+            applyLock.writeLock().unlock();
+        }
+    }
+
+    private void checkpointLocked() throws IOException {
+        List<Record> retry;
+        synchronized (touchedPatients) {
+            retry = new ArrayList<>(unfinished);
+        }
+        for (Record record : retry) {
+            try {
+                applier.apply(record, true);
+                synchronized (touchedPatients) {
+                    unfinished.remove(record);
+                }
+            } catch (IOException | AppointmentFileException | RuntimeException e) {
+                System.out.println("[경고] 예약 저널 레코드를 적용하지 못했습니다 (" + record.reservationId + "): "
+                        + e.getMessage());
+            }
+        }
+
+        boolean pending;
+        synchronized (touchedPatients) {
+            for (String patientId : touchedPatients) {
+                PatientFileStore.force(patientId);
+            }
+            for (String doctorId : touchedDoctors) {
+                applier.forceDoctorSchedule(doctorId);
+            }
+            for (LocalDate date : touchedDates) {
+                applier.forceAppointments(date);
+            }
+            touchedPatients.clear();
+            touchedDoctors.clear();
+            touchedDates.clear();
+            recordsSinceCheckpoint = 0;
+            pending = !unfinished.isEmpty();
+        }
+        if (!pending) {
+            log.truncate();
+        }
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (IOException e) {
+            System.out.println("[오류] 예약 저널 체크포인트 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 프로그램 시작 시 저널에 남은 레코드를 다시 적용합니다
+     * 각 레코드는 이미 적용된 부분을 건너뛰므로 여러 번 적용해도 결과가 같습니다.
+     *
+     * 예약 테이블 파일이 있으면 이어서 테이블에서 아직 반영하지 않은 레코드도 반영합니다.
+     *
+     * @return 다시 적용한 레코드 수
+     */
+    public int recover() {
+        return recoverJournal() + ReservationTable.getInstance().recover();
+    }
+
+    private int recoverJournal() {
+        List<Record> records = readRecords();
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> aborted = new HashSet<>();
+        for (Record record : records) {
+            if (record.type == Type.ABORT) {
+                aborted.add(Long.parseLong(record.reservationId));
+            }
+        }
+
+        int applied = 0;
+        for (Record record : records) {
+            if (record.type == Type.ABORT || aborted.contains(record.sequence)) {
+                continue;
+            }
+            try {
+                applier.apply(record, true);
+                touch(record);
+                applied++;
+            } catch (IOException | AppointmentFileException | RuntimeException e) {
+                System.out.println("[경고] 예약 저널 레코드를 적용하지 못했습니다 (" + record.reservationId + "): "
+                        + e.getMessage());
+            }
+        }
+
+        checkpointQuietly();
+        return applied;
+    }
+
+    /**
+     * 저널의 레코드를 읽습니다 (CRC 가 맞지 않는 줄 = 기록 도중 종료된 마지막 줄은 버림)
+     */
+    List<Record> readRecords() {
+        try {
+            return log.readRecords();
+        } catch (IOException e) {
+            System.out.println("[오류] 예약 저널을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    // ========== 레코드 ==========
+
+    public enum Type {
+        CREATE, MODIFY, CANCEL, STATUS, ABORT, ROW, DELETE
+    }
+
+    /**
+     * 예약 변경 한 건
+     * - CREATE : 예약번호 환자번호 날짜 시작 종료 진료과 의사번호
+     * - MODIFY : 위 + 이전날짜 이전시작
+     * - CANCEL : 예약번호 환자번호 날짜 시작 종료 진료과 의사번호
+     * - STATUS : 위 + 새 상태
+     * - ABORT  : 적용에 실패한 레코드의 순번
+     * - ROW    : 예약 한 건의 현재 값 (예약 테이블 전용, 환자 파일 상태에만 반영)
+     * - DELETE : 삭제된 예약번호 (예약 테이블 전용, 탈퇴)
+     */
+    public static class Record {
+        long sequence;
+        public final Type type;
+        public final String reservationId;
+        public final String patientId;
+        public final String date;
+        public final String startTime;
+        public final String endTime;
+        public final String deptCode;
+        public final String doctorId;
+        public final String status;
+        public final String oldDate;
+        public final String oldStartTime;
+
+        private Record(Type type, String reservationId, String patientId, String date, String startTime,
+                String endTime, String deptCode, String doctorId, String status, String oldDate,
+                String oldStartTime) {
+            this.type = type;
+            this.reservationId = reservationId;
+            this.patientId = patientId;
+            this.date = date;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.deptCode = deptCode;
+            this.doctorId = doctorId;
+            this.status = status;
+            this.oldDate = oldDate;
+            this.oldStartTime = oldStartTime;
+        }
+
+        public static Record create(String reservationId, String patientId, String date, String startTime,
+                String endTime, String deptCode, String doctorId) {
+            return new Record(Type.CREATE, reservationId, patientId, date, startTime, endTime, deptCode, doctorId,
+                    "1", null, null);
+        }
+
+        public static Record modify(String reservationId, String patientId, String oldDate, String oldStartTime,
+                String date, String startTime, String endTime, String deptCode, String doctorId) {
+            return new Record(Type.MODIFY, reservationId, patientId, date, startTime, endTime, deptCode, doctorId,
+                    "1", oldDate, oldStartTime);
+        }
+
+        public static Record cancel(String reservationId, String patientId, String date, String startTime,
+                String endTime, String deptCode, String doctorId) {
+            return new Record(Type.CANCEL, reservationId, patientId, date, startTime, endTime, deptCode, doctorId,
+                    "3", null, null);
+        }
+
+        public static Record status(String reservationId, String patientId, String date, String startTime,
+                String endTime, String deptCode, String doctorId, String status) {
+            return new Record(Type.STATUS, reservationId, patientId, date, startTime, endTime, deptCode, doctorId,
+                    status, null, null);
+        }
+
+        static Record abort(long sequence) {
+            return new Record(Type.ABORT, String.valueOf(sequence), null, null, null, null, null, null, null,
+                    null, null);
+        }
+
+        static Record row(String reservationId, String patientId, String date, String startTime, String endTime,
+                String deptCode, String doctorId, String status) {
+            return new Record(Type.ROW, reservationId, patientId, date, startTime, endTime, deptCode, doctorId,
+                    status, null, null);
+        }
+
+        static Record delete(String reservationId) {
+            return new Record(Type.DELETE, reservationId, null, null, null, null, null, null, null, null, null);
+        }
+
+        private String payload() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(sequence).append(' ').append(type.name()).append(' ').append(reservationId);
+            if (type == Type.ABORT || type == Type.DELETE) {
+                return sb.toString();
+            }
+            sb.append(' ').append(patientId)
+                    .append(' ').append(date)
+                    .append(' ').append(startTime)
+                    .append(' ').append(endTime)
+                    .append(' ').append(deptCode)
+                    .append(' ').append(doctorId)
+                    .append(' ').append(status);
+            if (type == Type.MODIFY) {
+                sb.append(' ').append(oldDate).append(' ').append(oldStartTime);
+            }
+            return sb.toString();
+        }
+
+        String toLine() {
+            String payload = payload();
+            return String.format("%08x", crc(payload)) + " " + payload;
+        }
+
+        static Record parse(String line) {
+            String trimmed = line.trim();
+            int space = trimmed.indexOf(' ');
+            if (space != 8) {
+                return null;
+            }
+
+            String payload = trimmed.substring(space + 1);
+            try {
+                if (Long.parseLong(trimmed.substring(0, space), 16) != crc(payload)) {
+                    return null;
+                }
+
+                String[] parts = payload.split(" ");
+                Type type = Type.valueOf(parts[1]);
+                Record record;
+                if (type == Type.ABORT) {
+                    record = abort(Long.parseLong(parts[2]));
+                } else if (type == Type.DELETE) {
+                    record = delete(parts[2]);
+                } else if (type == Type.MODIFY) {
+                    record = new Record(type, parts[2], parts[3], parts[4], parts[5], parts[6], parts[7], parts[8],
+                            parts[9], parts[10], parts[11]);
+                } else {
+                    record = new Record(type, parts[2], parts[3], parts[4], parts[5], parts[6], parts[7], parts[8],
+                            parts[9], null, null);
+                }
+                record.sequence = Long.parseLong(parts[0]);
+                return record;
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                return null;
+            }
+        }
+
+        private static long crc(String payload) {
+            CRC32 crc32 = new CRC32();
+            crc32.update(payload.getBytes(StandardCharsets.UTF_8));
+            return crc32.getValue();
+        }
+    }
+}
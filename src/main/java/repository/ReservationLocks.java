@@ -0,0 +1,117 @@
+package repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 예약 쓰기 잠금 (여러 세션이 동시에 예약을 처리하는 서버 모드용)
+ * - slot: 같은 (의사, 날짜)에 대한 "예약 가능 확인 ~ 저널 기록"을 직렬화합니다.
+ *   서로 다른 의사/날짜의 예약은 동시에 진행됩니다.
+ * - file: 예약 현황(날짜)/의사/환자 파일을 읽고-고쳐-다시 쓰는 구간을 직렬화합니다.
+ * - exclusive: 모든 예약 현황 파일을 한꺼번에 고치는 작업(의사 열 추가)이 다른 파일 쓰기를 모두 막습니다.
+ *
+ * 교착을 막기 위해 항상 slot -> file 순서로 잡고, 같은 종류 안에서는 줄무늬 번호 순서로 잡습니다.
+ */
+public final class ReservationLocks {
+
+    private static final int STRIPES = 64;
+
+    private static final Lock[] SLOT_LOCKS = newStripes();
+    private static final Lock[] FILE_LOCKS = newStripes();
+    // 파일 잠금은 읽기 잠금을, exclusive 는 쓰기 잠금을 잡음
+    private static final ReentrantReadWriteLock STRUCTURE_LOCK = new ReentrantReadWriteLock();
+
+    private ReservationLocks() {
+    }
+
+    /**
+     * 의사의 해당 날짜들 슬롯을 잠급니다 (예약 변경은 기존 날짜와 새 날짜를 함께)
+     */
+    public static Held lockSlots(String doctorId, LocalDate... dates) {
+        String[] keys = new String[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            keys[i] = doctorId + "@" + dates[i];
+        }
+        return acquire(null, SLOT_LOCKS, keys);
+    }
+
+    /**
+     * 파일을 잠급니다 (키는 appointmentFile / doctorFile / patientFile 로 만듦)
+     */
+    public static Held lockFiles(String... keys) {
+        return acquire(STRUCTURE_LOCK.readLock(), FILE_LOCKS, keys);
+    }
+
+    /**
+     * 다른 모든 파일 쓰기를 막습니다
+     */
+    public static Held exclusive() {
+        Lock lock = STRUCTURE_LOCK.writeLock();
+        lock.lock();
+        return lock::unlock;
+    }
+
+    public static String appointmentFile(LocalDate date) {
+        return "A:" + date;
+    }
+
+    public static String doctorFile(String doctorId) {
+        return "D:" + doctorId;
+    }
+
+    public static String patientFile(String patientId) {
+        return "P:" + patientId;
+    }
+
+    public static String patientListFile() {
+        return "L:patient";
+    }
+
+    private static Held acquire(Lock outer, Lock[] stripes, String... keys) {
+        // 같은 줄무늬를 두 번 잡지 않고, 번호 순서대로 잡음
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (String key : keys) {
+            if (key != null) {
+                indexes.add(Math.floorMod(key.hashCode(), STRIPES));
+            }
+        }
+
+        List<Lock> held = new ArrayList<>(indexes.size() + 1);
+        if (outer != null) {
+            outer.lock();
+            held.add(outer);
+        }
+        for (int index : indexes) {
+            stripes[index].lock();
+            held.add(stripes[index]);
+        }
+
+        return () -> {
+            for (int i = held.size() - 1; i >= 0; i--) {
+                held.get(i).unlock();
+            }
+        };
+    }
+
+    private static Lock[] newStripes() {
+        Lock[] stripes = new Lock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        return stripes;
+    }
+
+    /**
+     * 잡은 잠금 (try-with-resources 로 해제)
+     */
+    @FunctionalInterface
+    public interface Held extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -2,20 +2,31 @@ package repository;
 
 import util.file.FileUtil;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.stream.Stream;
 
 public class ReservationRepository {
     private static final String PATIENT_DIR = "data/patient/";
+    private static final String SEQUENCE_FILE_PATH = "data/sequence/reservation.txt";
+    private static final String SEQUENCE_LOCK_FILE_PATH = "data/sequence/reservation.lock";
+    private static final String SEQUENCE_KEY = "LAST_RESERVATION_NUMBER=";
+    static final String BLOCK_SIZE_PROPERTY = "reservation.id.block.size";
+    private static final int DEFAULT_BLOCK_SIZE = 100;
     private static int lastReservationNumber = 0;
+    private static int reservedUntil = 0;
+    private static Path loadedSequencePath = null;
     private static final Object lock = new Object();
 
     /**
      * 모든 환자 파일을 검색하여 마지막 예약번호 찾기
+     * (카운터 파일이 없을 때만 사용)
      */
-    private int getCurrentMaxReservationNumber() {
+    int getCurrentMaxReservationNumber() {
         int maxReservationNumber = 0;
 
         try {
@@ -53,20 +64,90 @@ public class ReservationRepository {
     }
 
     /**
-     * 새로운 예약번호 생성 (파일 최대값과 메모리 카운터 중 큰 값 사용)
+     * 카운터 파일에 저장된 마지막 예약번호 읽기
+     * (블록 단위로 저장하므로 실제로 발급한 번호가 아니라 예약해 둔 블록의 끝 번호)
+     *
+     * @return 마지막 예약번호 (파일이 없거나 형식이 잘못되었으면 -1)
+     */
+    private int readSequence() {
+        try {
+            for (String line : FileUtil.readLines(SEQUENCE_FILE_PATH)) {
+                String trimmed = line.trim();
+                if (trimmed.startsWith(SEQUENCE_KEY)) {
+                    return Integer.parseInt(trimmed.substring(SEQUENCE_KEY.length()));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 카운터를 읽을 수 없으면 환자 파일 검색으로 대체
+        }
+        return -1;
+    }
+
+    /**
+     * 카운터 파일에 마지막 예약번호 저장 (임시 파일 + 원자적 교체)
+     */
+    private void writeSequence(int reservationNumber) {
+        try {
+            FileUtil.writeLinesAtomically(SEQUENCE_FILE_PATH, List.of(SEQUENCE_KEY + reservationNumber));
+        } catch (IOException e) {
+            throw new RuntimeException("예약번호 카운터를 저장하는 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 다음 블록을 예약합니다
+     * 같은 데이터 디렉토리를 쓰는 다른 프로세스가 그사이 블록을 예약했을 수 있으므로,
+     * 잠금 파일을 잡은 채로 저장된 끝 번호를 다시 읽어 max(저장된 번호, 마지막 발급 번호) 다음부터 예약합니다.
+     */
+    private void reserveBlock() {
+        Path lockPath = FileUtil.getResourcePath(SEQUENCE_LOCK_FILE_PATH);
+        try {
+            Files.createDirectories(lockPath.getParent());
+            try (FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+                 FileLock fileLock = channel.lock()) {
+                lastReservationNumber = Math.max(readSequence(), lastReservationNumber);
+                reservedUntil = lastReservationNumber + blockSize();
+                writeSequence(reservedUntil);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("예약번호 카운터를 저장하는 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 블록 크기 (-Dreservation.id.block.size, 기본 100)
+     */
+    private static int blockSize() {
+        return Math.max(1, Integer.getInteger(BLOCK_SIZE_PROPERTY, DEFAULT_BLOCK_SIZE));
+    }
+
+    /**
+     * 새로운 예약번호 생성
+     * - 카운터 파일의 값을 최초 1회만 읽고, 이후에는 메모리 카운터를 사용합니다.
+     * - 카운터 파일이 없으면 환자 파일을 검색하여 초기값을 정합니다.
+     * - 번호는 블록 단위로 예약합니다. 블록의 끝 번호를 먼저 저장한 뒤 메모리에서 하나씩 발급하고,
+     *   블록을 다 쓴 경우에만 다시 저장합니다. (다른 프로세스가 예약한 블록과 겹치지 않게 파일 잠금 안에서 예약)
+     * - 비정상 종료 시 쓰지 않은 블록의 번호는 건너뛰지만, 번호가 중복되지는 않습니다.
      */
     public String getNextReservationId() {
         synchronized (lock) {
-            // 파일에서 현재 최대 예약번호 조회
-            int fileMax = getCurrentMaxReservationNumber();
-
-            // 파일 최대값과 메모리 카운터 중 큰 값 선택
-            lastReservationNumber = Math.max(lastReservationNumber, fileMax);
+            // 데이터 경로가 바뀐 경우(테스트 등)에도 해당 경로의 카운터를 다시 읽음
+            Path sequencePath = FileUtil.getResourcePath(SEQUENCE_FILE_PATH);
+            if (!sequencePath.equals(loadedSequencePath)) {
+                int stored = readSequence();
+                lastReservationNumber = stored >= 0 ? stored : getCurrentMaxReservationNumber();
+                reservedUntil = lastReservationNumber;
+                loadedSequencePath = sequencePath;
+            }
 
-            // 다음 예약번호 생성
+            // 예약해 둔 블록을 다 쓴 경우에만 다음 블록을 저장
+            if (lastReservationNumber >= reservedUntil) {
+                reserveBlock();
+            }
             lastReservationNumber++;
 
             return String.format("R%08d", lastReservationNumber);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,522 @@
+package repository;
+
+import util.exception.AppointmentFileException;
+import util.file.FileUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 예약 테이블 (기본 저장 방식, -Dreservation.storage=table)
+ * - 예약 변경을 data/reservation/reservations.log 에 한 줄씩 추가하는 것만으로 기록을 끝냅니다. (fsync 한 번)
+ *   예약번호 -> 최신 레코드 해시 인덱스를 메모리에 두고, 예약 인덱스와 슬롯 비트맵도 바로 갱신합니다.
+ * - 예약 현황(날짜)/의사/환자 파일은 테이블에서 파생된 투영입니다. 파일별로 반영할 레코드를 쌓아 두었다가
+ *   그 파일을 읽기 직전, 백그라운드 투영기(-Dreservation.projection.interval.ms, 기본 500) 주기, 종료 시에
+ *   한꺼번에 반영합니다. 같은 날짜/의사 파일에 쌓인 예약 여러 건은 한 번만 다시 씁니다.
+ * - 반영한 파일을 디스크에 반영한 뒤 마지막으로 반영한 순번을 data/reservation/projected.txt 에 남깁니다.
+ *   프로그램 시작 시 그 이후의 레코드를 저널 복구와 같은 방식으로 다시 반영합니다.
+ * - 반영이 끝난 레코드가 많이 쌓이면 예약별 최신 값(ROW) 한 줄씩으로 테이블을 압축합니다.
+ *
+ * 파일이 기록보다 최대 투영 주기만큼 늦게 바뀌므로, 파일이 매 기록 직후 최신이어야 하면
+ * -Dreservation.storage=journal 로 시작합니다. 남은 레코드를 모두 반영한 뒤 테이블 파일을 지우고 저널 방식으로 돌아갑니다.
+ */
+public final class ReservationTable {
+
+    private static final String TABLE_FILE_PATH = "data/reservation/reservations.log";
+    private static final String PROJECTED_FILE_PATH = "data/reservation/projected.txt";
+    private static final String PROJECTED_KEY = "PROJECTED_SEQUENCE=";
+    private static final String STORAGE_PROPERTY = "reservation.storage";
+    private static final String PROJECTION_INTERVAL_PROPERTY = "reservation.projection.interval.ms";
+    private static final int COMPACT_MIN_RECORDS = 1024;
+
+    private static final ReservationTable INSTANCE = new ReservationTable();
+
+    // 투영 중인 스레드 (투영이 파일을 읽을 때 다시 투영하지 않음)
+    private static final ThreadLocal<Boolean> projecting = ThreadLocal.withInitial(() -> false);
+
+    private final RecordLog log = new RecordLog(TABLE_FILE_PATH);
+    private ReservationApplier applier;
+
+    // 기본 인덱스: 예약번호 -> 최신 레코드
+    private final Map<String, ReservationJournal.Record> rows = new ConcurrentHashMap<>();
+
+    // 파일별로 아직 반영하지 않은 레코드 (해당 파일 잠금 안에서만 추가/제거)
+    private final Map<LocalDate, List<ReservationJournal.Record>> pendingDates = new ConcurrentHashMap<>();
+    private final Map<String, List<ReservationJournal.Record>> pendingDoctors = new ConcurrentHashMap<>();
+    private final Map<String, List<ReservationJournal.Record>> pendingPatients = new ConcurrentHashMap<>();
+
+    // 마지막 체크포인트 이후 반영한 파일 (체크포인트 때 디스크에 반영)
+    private final Set<LocalDate> touchedDates = ConcurrentHashMap.newKeySet();
+    private final Set<String> touchedDoctors = ConcurrentHashMap.newKeySet();
+    private final Set<String> touchedPatients = ConcurrentHashMap.newKeySet();
+
+    // 기록~투영 대기열 추가 사이에는 체크포인트가 반영 순번을 계산하지 못하도록 막음
+    private final ReentrantReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+    private final AtomicInteger recordCount = new AtomicInteger();
+    private long projectedSequence = 0;
+    private ScheduledExecutorService projector;
+
+    private ReservationTable() {
+    }
+
+    /**
+     * 예약 테이블 방식 사용 여부 (기본값, -Dreservation.storage=journal 이면 저널 방식)
+     */
+    public static boolean isEnabled() {
+        return !"journal".equalsIgnoreCase(System.getProperty(STORAGE_PROPERTY, "table"));
+    }
+
+    public static ReservationTable getInstance() {
+        return INSTANCE;
+    }
+
+    private synchronized ReservationApplier applier() {
+        // 저장소 생성 중 투영 훅이 이 클래스를 초기화하므로, 적용기는 처음 쓸 때 만듦
+        if (applier == null) {
+            applier = new ReservationApplier();
+        }
+        return applier;
+    }
+
+    /**
+     * 메모리 상태를 비웁니다 (테스트에서 데이터 디렉토리를 바꿀 때)
+     * 반영 순번을 마지막 순번으로 맞춰 두어 백그라운드 체크포인트가 다른 디렉토리에 쓰지 않게 합니다.
+     */
+    void reset() {
+        checkpointLock.writeLock().lock();
+        try {
+            rows.clear();
+            pendingDates.clear();
+            pendingDoctors.clear();
+            pendingPatients.clear();
+            touchedDates.clear();
+            touchedDoctors.clear();
+            touchedPatients.clear();
+            recordCount.set(0);
+            projectedSequence = log.lastSequence();
+        } finally {
+            checkpointLock.writeLock().unlock();
+        }
+    }
+
+    // ========== 기록 ==========
+
+    /**
+     * 레코드를 테이블 끝에 추가하고 인덱스에 반영합니다 (파일은 나중에 투영)
+     */
+    public void write(ReservationJournal.Record record) throws IOException {
+        checkpointLock.readLock().lock();
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(viewKeys(record))) {
+            log.append(record);
+            recordCount.incrementAndGet();
+            applier().applyToIndex(record);
+            if (record.type == ReservationJournal.Type.DELETE) {
+                rows.remove(record.reservationId);
+            } else {
+                rows.put(record.reservationId, record);
+            }
+            enqueue(record);
+        } finally {
+            checkpointLock.readLock().unlock();
+        }
+        startProjector();
+    }
+
+    private static String[] viewKeys(ReservationJournal.Record record) {
+        switch (record.type) {
+            case CREATE:
+            case CANCEL:
+                return new String[] { ReservationLocks.appointmentFile(LocalDate.parse(record.date)),
+                        ReservationLocks.doctorFile(record.doctorId), ReservationLocks.patientFile(record.patientId) };
+            case MODIFY:
+                return new String[] { ReservationLocks.appointmentFile(LocalDate.parse(record.date)),
+                        ReservationLocks.appointmentFile(LocalDate.parse(record.oldDate)),
+                        ReservationLocks.doctorFile(record.doctorId), ReservationLocks.patientFile(record.patientId) };
+            case STATUS:
+                return new String[] { ReservationLocks.appointmentFile(LocalDate.parse(record.date)),
+                        ReservationLocks.patientFile(record.patientId) };
+            case ROW:
+                return new String[] { ReservationLocks.patientFile(record.patientId) };
+            default:
+                return new String[0];
+        }
+    }
+
+    private void enqueue(ReservationJournal.Record record) {
+        switch (record.type) {
+            case CREATE:
+            case CANCEL:
+                add(pendingDates, LocalDate.parse(record.date), record);
+                add(pendingDoctors, record.doctorId, record);
+                add(pendingPatients, record.patientId, record);
+                break;
+            case MODIFY:
+                add(pendingDates, LocalDate.parse(record.oldDate), record);
+                if (!record.date.equals(record.oldDate)) {
+                    add(pendingDates, LocalDate.parse(record.date), record);
+                }
+                add(pendingDoctors, record.doctorId, record);
+                add(pendingPatients, record.patientId, record);
+                break;
+            case STATUS:
+                add(pendingDates, LocalDate.parse(record.date), record);
+                add(pendingPatients, record.patientId, record);
+                break;
+            case ROW:
+                add(pendingPatients, record.patientId, record);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static <K> void add(Map<K, List<ReservationJournal.Record>> pending, K key,
+            ReservationJournal.Record record) {
+        pending.computeIfAbsent(key, k -> new ArrayList<>()).add(record);
+    }
+
+    /**
+     * 탈퇴한 환자의 예약을 테이블에서 지웁니다 (환자 파일은 함께 지워지므로 대기 중인 환자 레코드는 버림)
+     */
+    public static void deletePatient(String patientId) throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+
+        List<String> reservationIds = new ArrayList<>();
+        for (ReservationJournal.Record row : INSTANCE.rows.values()) {
+            if (row.patientId.equals(patientId)) {
+                reservationIds.add(row.reservationId);
+            }
+        }
+        for (String reservationId : reservationIds) {
+            INSTANCE.write(ReservationJournal.Record.delete(reservationId));
+        }
+
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(ReservationLocks.patientFile(patientId))) {
+            INSTANCE.pendingPatients.remove(patientId);
+        }
+    }
+
+    // ========== 투영 ==========
+
+    /**
+     * 날짜 파일에 쌓인 레코드를 반영합니다 (예약 현황 파일을 읽기 전에 호출)
+     */
+    public static void projectAppointments(LocalDate date) {
+        if (INSTANCE.pendingDates.isEmpty() || projecting.get()) {
+            return;
+        }
+        INSTANCE.project(INSTANCE.pendingDates, date, ReservationLocks.appointmentFile(date),
+                records -> INSTANCE.applier().projectAppointments(date, records), INSTANCE.touchedDates);
+    }
+
+    /**
+     * 의사 파일에 쌓인 레코드를 반영합니다 (의사 스케줄을 읽거나 고치기 전에 호출)
+     */
+    public static void projectDoctor(String doctorId) {
+        if (INSTANCE.pendingDoctors.isEmpty() || projecting.get()) {
+            return;
+        }
+        INSTANCE.project(INSTANCE.pendingDoctors, doctorId, ReservationLocks.doctorFile(doctorId),
+                records -> INSTANCE.applier().projectDoctor(doctorId, records), INSTANCE.touchedDoctors);
+    }
+
+    /**
+     * 환자 파일에 쌓인 레코드를 반영합니다 (환자 파일을 읽기 전에 호출)
+     */
+    public static void projectPatient(String patientId) {
+        if (INSTANCE.pendingPatients.isEmpty() || projecting.get()) {
+            return;
+        }
+        INSTANCE.project(INSTANCE.pendingPatients, patientId, ReservationLocks.patientFile(patientId),
+                records -> INSTANCE.applier().projectPatient(patientId, records), INSTANCE.touchedPatients);
+    }
+
+    /**
+     * 쌓인 날짜 파일 레코드를 모두 반영합니다 (예약 현황 파일 전체를 읽거나 내보내기 전에 호출)
+     */
+    public static void projectAllAppointments() {
+        for (LocalDate date : new ArrayList<>(INSTANCE.pendingDates.keySet())) {
+            projectAppointments(date);
+        }
+    }
+
+    /**
+     * 쌓인 의사 파일 레코드를 모두 반영합니다 (의사 스케줄을 내보내기 전에 호출)
+     */
+    public static void projectAllDoctors() {
+        for (String doctorId : new ArrayList<>(INSTANCE.pendingDoctors.keySet())) {
+            projectDoctor(doctorId);
+        }
+    }
+
+    private void projectAll() {
+        projectAllAppointments();
+        projectAllDoctors();
+        for (String patientId : new ArrayList<>(pendingPatients.keySet())) {
+            projectPatient(patientId);
+        }
+    }
+
+    private <K> void project(Map<K, List<ReservationJournal.Record>> pending, K key, String lockKey,
+            Projection projection, Set<K> touched) {
+        if (!pending.containsKey(key)) {
+            return;
+        }
+
+        try (ReservationLocks.Held held = ReservationLocks.lockFiles(lockKey)) {
+            // 잠금 안에서는 새 레코드가 추가되지 않으므로, 반영한 뒤 통째로 지움
+            List<ReservationJournal.Record> records = pending.get(key);
+            if (records == null) {
+                return;
+            }
+
+            projecting.set(true);
+            try {
+                projection.apply(records);
+                touched.add(key);
+                pending.remove(key);
+            } catch (IOException | AppointmentFileException | RuntimeException e) {
+                // 대기열에 남겨 두고 다음 투영(또는 다음 시작 시 복구)에서 다시 반영
+                System.out.println("[경고] 예약 테이블 레코드를 파일에 반영하지 못했습니다 (" + key + "): "
+                        + e.getMessage());
+            } finally {
+                projecting.set(false);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Projection {
+        void apply(List<ReservationJournal.Record> records) throws IOException, AppointmentFileException;
+    }
+
+    private synchronized void startProjector() {
+        if (projector != null) {
+            return;
+        }
+
+        long intervalMillis = Math.max(1, Long.getLong(PROJECTION_INTERVAL_PROPERTY, 500L));
+        projector = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reservation-projector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        projector.scheduleWithFixedDelay(this::checkpointQuietly, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::checkpointQuietly, "reservation-table-checkpoint"));
+    }
+
+    // ========== 체크포인트 / 복구 ==========
+
+    /**
+     * 쌓인 레코드를 모두 반영하고, 반영한 파일을 디스크에 반영한 뒤 반영 순번을 남깁니다
+     */
+    public void checkpoint() throws IOException {
+        projectAll();
+
+        checkpointLock.writeLock().lock();
+        try {
+            long sequence = log.lastSequence();
+            for (List<ReservationJournal.Record> records : allPending()) {
+                if (!records.isEmpty()) {
+                    sequence = Math.min(sequence, records.get(0).sequence - 1);
+                }
+            }
+
+            forceTouched();
+            if (sequence != projectedSequence) {
+                FileUtil.writeLinesAtomically(PROJECTED_FILE_PATH, List.of(PROJECTED_KEY + sequence));
+                projectedSequence = sequence;
+            }
+
+            if (sequence == log.lastSequence() && recordCount.get() > 2 * rows.size() + COMPACT_MIN_RECORDS) {
+                compact();
+            }
+        } finally {
+            checkpointLock.writeLock().unlock();
+        }
+    }
+
+    private List<List<ReservationJournal.Record>> allPending() {
+        List<List<ReservationJournal.Record>> lists = new ArrayList<>(pendingDates.values());
+        lists.addAll(pendingDoctors.values());
+        lists.addAll(pendingPatients.values());
+        return lists;
+    }
+
+    private void forceTouched() throws IOException {
+        for (String patientId : new ArrayList<>(touchedPatients)) {
+            touchedPatients.remove(patientId);
+            if (FileUtil.resourceExists(PatientFileStore.getPatientFilePath(patientId))) {
+                PatientFileStore.force(patientId);
+            }
+        }
+        for (String doctorId : new ArrayList<>(touchedDoctors)) {
+            touchedDoctors.remove(doctorId);
+            applier().forceDoctorSchedule(doctorId);
+        }
+        for (LocalDate date : new ArrayList<>(touchedDates)) {
+            touchedDates.remove(date);
+            applier().forceAppointments(date);
+        }
+    }
+
+    /**
+     * 테이블을 예약별 최신 값 한 줄씩으로 다시 씁니다 (모두 반영된 뒤에만)
+     */
+    private void compact() throws IOException {
+        List<ReservationJournal.Record> latest = new ArrayList<>(rows.values());
+        latest.sort(Comparator.comparingLong(record -> record.sequence));
+
+        List<ReservationJournal.Record> compacted = new ArrayList<>(latest.size());
+        for (ReservationJournal.Record record : latest) {
+            compacted.add(toRow(record, record.sequence));
+        }
+        log.rewrite(compacted);
+        recordCount.set(compacted.size());
+    }
+
+    private static ReservationJournal.Record toRow(ReservationJournal.Record record, long sequence) {
+        ReservationJournal.Record row = ReservationJournal.Record.row(record.reservationId, record.patientId,
+                record.date, record.startTime, record.endTime, record.deptCode, record.doctorId, record.status);
+        row.sequence = sequence;
+        return row;
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (IOException e) {
+            System.out.println("[오류] 예약 테이블 체크포인트 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 프로그램 시작 시 테이블에서 아직 파일에 반영하지 않은 레코드를 다시 반영합니다
+     * - 테이블이 없고 테이블 방식이면 현재 예약으로 테이블을 만듭니다.
+     * - 테이블 방식이 아니면 모두 반영한 뒤 테이블 파일을 지웁니다.
+     *
+     * @return 다시 반영한 레코드 수
+     */
+    public int recover() {
+        if (!log.exists()) {
+            if (isEnabled()) {
+                seed();
+            }
+            return 0;
+        }
+
+        List<ReservationJournal.Record> records;
+        try {
+            records = log.readRecords();
+        } catch (IOException e) {
+            System.out.println("[오류] 예약 테이블을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+            return 0;
+        }
+
+        rows.clear();
+        for (ReservationJournal.Record record : records) {
+            if (record.type == ReservationJournal.Type.DELETE) {
+                rows.remove(record.reservationId);
+            } else {
+                rows.put(record.reservationId, record);
+            }
+        }
+        recordCount.set(records.size());
+        projectedSequence = readProjectedSequence();
+
+        int applied = 0;
+        for (ReservationJournal.Record record : records) {
+            // 이후 탈퇴로 지워진 예약은 환자 파일이 없으므로 건너뜀
+            if (record.sequence <= projectedSequence || record.type == ReservationJournal.Type.DELETE
+                    || !rows.containsKey(record.reservationId)) {
+                continue;
+            }
+            try {
+                applier().apply(record, true);
+                touch(record);
+                applied++;
+            } catch (IOException | AppointmentFileException | RuntimeException e) {
+                System.out.println("[경고] 예약 테이블 레코드를 적용하지 못했습니다 (" + record.reservationId + "): "
+                        + e.getMessage());
+            }
+        }
+
+        checkpointQuietly();
+
+        if (!isEnabled()) {
+            try {
+                log.delete();
+                Files.deleteIfExists(FileUtil.getResourcePath(PROJECTED_FILE_PATH));
+                rows.clear();
+            } catch (IOException e) {
+                System.out.println("[오류] 예약 테이블을 정리하지 못했습니다: " + e.getMessage());
+            }
+        }
+        return applied;
+    }
+
+    private void touch(ReservationJournal.Record record) {
+        touchedPatients.add(record.patientId);
+        touchedDoctors.add(record.doctorId);
+        touchedDates.add(LocalDate.parse(record.date));
+        if (record.oldDate != null) {
+            touchedDates.add(LocalDate.parse(record.oldDate));
+        }
+    }
+
+    /**
+     * 환자 파일의 현재 예약으로 테이블을 만듭니다 (테이블 방식으로 처음 시작할 때)
+     */
+    private void seed() {
+        List<ReservationIndex.Entry> entries = new ArrayList<>(ReservationIndex.getInstance().entries());
+        entries.sort(Comparator.comparing(entry -> entry.reservationId));
+
+        List<ReservationJournal.Record> seeded = new ArrayList<>(entries.size());
+        for (ReservationIndex.Entry entry : entries) {
+            ReservationJournal.Record row = ReservationJournal.Record.row(entry.reservationId, entry.patientId,
+                    entry.date, entry.startTime, entry.endTime, entry.deptCode, entry.doctorId, entry.status);
+            row.sequence = seeded.size() + 1;
+            seeded.add(row);
+            rows.put(row.reservationId, row);
+        }
+
+        try {
+            log.rewrite(seeded);
+            FileUtil.writeLinesAtomically(PROJECTED_FILE_PATH, List.of(PROJECTED_KEY + seeded.size()));
+            projectedSequence = seeded.size();
+            recordCount.set(seeded.size());
+        } catch (IOException e) {
+            System.out.println("[오류] 예약 테이블을 만드는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private long readProjectedSequence() {
+        try {
+            if (FileUtil.resourceExists(PROJECTED_FILE_PATH)) {
+                for (String line : FileUtil.readLines(PROJECTED_FILE_PATH)) {
+                    if (line.startsWith(PROJECTED_KEY)) {
+                        return Long.parseLong(line.substring(PROJECTED_KEY.length()).trim());
+                    }
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("[경고] 예약 테이블 반영 순번을 읽지 못했습니다. 처음부터 다시 반영합니다: " + e.getMessage());
+        }
+        return 0;
+    }
+}
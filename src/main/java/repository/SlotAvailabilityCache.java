@@ -0,0 +1,169 @@
+package repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날짜별/의사별 예약 가능 슬롯 비트맵 캐시
+ * - 비트 i 가 1 이면 i번째 슬롯(09:00 + 10분 * i)이 예약 가능 ("0" 또는 취소된 예약)
+ * - 예약 파일을 한 번 읽으면 그 날짜의 모든 의사 비트맵을 만들어 두므로,
+ *   진료과 검색은 의사 수만큼 파일을 읽는 대신 long 연산 몇 번으로 끝납니다.
+ * - AppointmentRepository 의 쓰기마다 갱신/무효화됩니다.
+ */
+public class SlotAvailabilityCache {
+
+    public static final int SLOT_COUNT = 54;
+
+    // 슬롯 인덱스 -> 시간 문자열 (조회할 때마다 문자열을 만들지 않음)
+    private static final String[] SLOT_TIMES = new String[SLOT_COUNT];
+
+    static {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            int minutes = 9 * 60 + i * 10;
+            SLOT_TIMES[i] = String.format("%02d:%02d", minutes / 60, minutes % 60);
+        }
+    }
+
+    private static final SlotAvailabilityCache INSTANCE = new SlotAvailabilityCache();
+
+    private final Map<LocalDate, Map<String, Long>> bitmapsByDate = new ConcurrentHashMap<>();
+    // 쓰기마다 증가 (읽는 도중 파일이 바뀌었으면 읽은 결과를 캐시에 넣지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    private SlotAvailabilityCache() {
+    }
+
+    public static SlotAvailabilityCache getInstance() {
+        return INSTANCE;
+    }
+
+    // ========== 캐시 ==========
+
+    /**
+     * 해당 날짜의 의사별 비트맵 (캐시에 없으면 null)
+     */
+    Map<String, Long> get(LocalDate date) {
+        return bitmapsByDate.get(date);
+    }
+
+    long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 파일에서 만든 비트맵을 넣습니다 (읽기 시작 후 쓰기가 있었으면 버림)
+     */
+    synchronized void put(LocalDate date, Map<String, Long> bitmaps, long readGeneration) {
+        if (generation.get() == readGeneration) {
+            bitmapsByDate.put(date, Collections.unmodifiableMap(bitmaps));
+        }
+    }
+
+    /**
+     * 슬롯 하나의 변경을 반영합니다
+     */
+    synchronized void updateSlot(LocalDate date, String doctorId, int slotIndex, long cell) {
+        generation.incrementAndGet();
+        Map<String, Long> bitmaps = bitmapsByDate.get(date);
+        if (bitmaps == null || !bitmaps.containsKey(doctorId)) {
+            bitmapsByDate.remove(date);
+            return;
+        }
+
+        long bit = 1L << slotIndex;
+        long bitmap = bitmaps.get(doctorId);
+        bitmap = SlotCell.isAvailable(cell) ? bitmap | bit : bitmap & ~bit;
+
+        Map<String, Long> updated = new HashMap<>(bitmaps);
+        updated.put(doctorId, bitmap);
+        bitmapsByDate.put(date, Collections.unmodifiableMap(updated));
+    }
+
+    /**
+     * 해당 날짜의 캐시를 버립니다 (파일 전체를 다시 쓴 경우)
+     */
+    public synchronized void invalidate(LocalDate date) {
+        generation.incrementAndGet();
+        bitmapsByDate.remove(date);
+    }
+
+    /**
+     * 모든 캐시를 버립니다 (모든 예약 파일에 의사 열을 추가한 경우 등)
+     */
+    public synchronized void invalidateAll() {
+        generation.incrementAndGet();
+        bitmapsByDate.clear();
+    }
+
+    // ========== 비트맵 연산 ==========
+
+    /**
+     * "0" (예약 가능) 또는 취소된 예약(상태코드 3)만 예약 가능
+     */
+    static boolean isAvailable(String status) {
+        return SlotCell.isAvailable(SlotCell.parse(status));
+    }
+
+    /**
+     * 예약 데이터에서 의사별 비트맵을 만듭니다
+     */
+    static Map<String, Long> buildBitmaps(AppointmentCells data) {
+        long[] bitmaps = data.availabilityBitmaps();
+
+        Map<String, Long> result = new HashMap<>(data.doctorIds.length * 2);
+        for (int doctorIndex = 0; doctorIndex < data.doctorIds.length; doctorIndex++) {
+            result.put(data.doctorIds[doctorIndex], bitmaps[doctorIndex]);
+        }
+        return result;
+    }
+
+    /**
+     * 비트맵의 예약 가능 시간을 순서대로 반환합니다
+     */
+    public static List<String> toTimes(long bitmap) {
+        List<String> times = new ArrayList<>(Long.bitCount(bitmap));
+        for (long remaining = bitmap; remaining != 0; remaining &= remaining - 1) {
+            times.add(timeOf(Long.numberOfTrailingZeros(remaining)));
+        }
+        return times;
+    }
+
+    /**
+     * 슬롯 인덱스에서 시간 계산 (0 -> 09:00, 1 -> 09:10, ...)
+     */
+    public static String timeOf(int slotIndex) {
+        return SLOT_TIMES[slotIndex];
+    }
+
+    /**
+     * 여러 의사 중 가장 이른 예약 가능 슬롯을 찾습니다
+     * 같은 시간이면 목록에서 앞선 의사를 반환합니다.
+     *
+     * @return {의사번호, 시간} (없으면 null)
+     */
+    static String[] findFirstFree(Map<String, Long> bitmaps, Collection<String> doctorIds) {
+        long any = 0L;
+        for (String doctorId : doctorIds) {
+            any |= bitmaps.getOrDefault(doctorId, 0L);
+        }
+        if (any == 0L) {
+            return null;
+        }
+
+        int slotIndex = Long.numberOfTrailingZeros(any);
+        long bit = 1L << slotIndex;
+        for (String doctorId : doctorIds) {
+            if ((bitmaps.getOrDefault(doctorId, 0L) & bit) != 0) {
+                return new String[] { doctorId, timeOf(slotIndex) };
+            }
+        }
+        return null;
+    }
+}
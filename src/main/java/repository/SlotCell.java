@@ -0,0 +1,183 @@
+package repository;
+
+/**
+ * 예약 현황 칸 값을 long 하나로 다루는 코덱
+ * - 하위 3비트: 상태 (0: 예약가능, 1~4: 예약 상태코드, 7: 진료불가 X)
+ * - 나머지 비트: 예약번호 숫자 (R00000012 -> 12)
+ *
+ * 텍스트("0", "X", "R########(s)")는 문자열을 만들지 않고 CharSequence / byte[] 에서 바로 해석합니다.
+ */
+public final class SlotCell {
+
+    public static final long AVAILABLE = 0L;
+    public static final long UNAVAILABLE = 7L;
+    public static final long INVALID = -1L;
+
+    public static final int STATUS_RESERVED = 1;
+    public static final int STATUS_COMPLETED = 2;
+    public static final int STATUS_CANCELLED = 3;
+    public static final int STATUS_NO_SHOW = 4;
+
+    private static final int STATUS_BITS = 3;
+    private static final int STATUS_MASK = 7;
+    private static final int TEXT_LENGTH = 12; // R########(s)
+
+    private SlotCell() {
+    }
+
+    public static long of(int reservationNumber, int status) {
+        return ((long) reservationNumber << STATUS_BITS) | status;
+    }
+
+    public static int reservationNumber(long cell) {
+        return (int) (cell >>> STATUS_BITS);
+    }
+
+    public static int status(long cell) {
+        return (int) (cell & STATUS_MASK);
+    }
+
+    public static boolean isReservation(long cell) {
+        int status = status(cell);
+        return status >= STATUS_RESERVED && status <= STATUS_NO_SHOW;
+    }
+
+    /**
+     * "0" (예약 가능) 또는 취소된 예약(상태코드 3)만 예약 가능
+     */
+    public static boolean isAvailable(long cell) {
+        return cell == AVAILABLE || status(cell) == STATUS_CANCELLED;
+    }
+
+    /**
+     * 같은 예약번호의 칸인지 확인합니다 (상태코드 무시)
+     */
+    public static boolean isReservation(long cell, int reservationNumber) {
+        return isReservation(cell) && reservationNumber(cell) == reservationNumber;
+    }
+
+    // ========== 텍스트 해석 ==========
+
+    /**
+     * 칸 텍스트를 해석합니다
+     *
+     * @return 칸 값 (형식이 맞지 않으면 INVALID)
+     */
+    public static long parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    public static long parse(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (length == 1) {
+            return singleCharCell(text.charAt(start));
+        }
+        if (length != TEXT_LENGTH || text.charAt(start) != 'R' || text.charAt(start + 9) != '('
+                || text.charAt(start + 11) != ')') {
+            return INVALID;
+        }
+
+        int number = 0;
+        for (int i = start + 1; i < start + 9; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            number = number * 10 + digit;
+        }
+        return reservationCell(number, text.charAt(start + 10));
+    }
+
+    /**
+     * 파일 바이트에서 칸 텍스트를 해석합니다 (ASCII)
+     */
+    public static long parse(byte[] bytes, int start, int end) {
+        int length = end - start;
+        if (length == 1) {
+            return singleCharCell((char) bytes[start]);
+        }
+        if (length != TEXT_LENGTH || bytes[start] != 'R' || bytes[start + 9] != '(' || bytes[start + 11] != ')') {
+            return INVALID;
+        }
+
+        int number = 0;
+        for (int i = start + 1; i < start + 9; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            number = number * 10 + digit;
+        }
+        return reservationCell(number, (char) bytes[start + 10]);
+    }
+
+    /**
+     * 예약번호(R########)의 숫자 부분
+     *
+     * @return 숫자 (형식이 맞지 않으면 -1)
+     */
+    public static int parseReservationNumber(CharSequence reservationId) {
+        if (reservationId.length() != 9 || reservationId.charAt(0) != 'R') {
+            return -1;
+        }
+        int number = 0;
+        for (int i = 1; i < 9; i++) {
+            int digit = reservationId.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            number = number * 10 + digit;
+        }
+        return number;
+    }
+
+    private static long singleCharCell(char c) {
+        if (c == '0') {
+            return AVAILABLE;
+        }
+        return c == 'X' ? UNAVAILABLE : INVALID;
+    }
+
+    private static long reservationCell(int number, char statusChar) {
+        int status = statusChar - '0';
+        if (status < STATUS_RESERVED || status > STATUS_NO_SHOW) {
+            return INVALID;
+        }
+        return of(number, status);
+    }
+
+    // ========== 텍스트 변환 ==========
+
+    public static String format(long cell) {
+        if (cell == AVAILABLE) {
+            return "0";
+        }
+        if (cell == UNAVAILABLE) {
+            return "X";
+        }
+        StringBuilder builder = new StringBuilder(TEXT_LENGTH);
+        appendTo(builder, cell);
+        return builder.toString();
+    }
+
+    /**
+     * 칸 텍스트를 이어 붙입니다 (중간 문자열 없음)
+     */
+    public static void appendTo(StringBuilder builder, long cell) {
+        if (cell == AVAILABLE) {
+            builder.append('0');
+            return;
+        }
+        if (cell == UNAVAILABLE) {
+            builder.append('X');
+            return;
+        }
+
+        builder.append('R');
+        int number = reservationNumber(cell);
+        for (int divisor = 10_000_000; divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + number / divisor % 10));
+        }
+        builder.append('(').append((char) ('0' + status(cell))).append(')');
+    }
+}
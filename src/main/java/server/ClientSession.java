@@ -0,0 +1,58 @@
+package server;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+import service.CommandHandler;
+
+/**
+ * 접속 하나를 처리하는 세션
+ * - 세션마다 CommandHandler(따라서 AuthContext)를 따로 만들고, 저장소는 서버 전체가 공유합니다.
+ * - 명령 한 줄을 읽어 기존 명령 객체로 처리하는 흐름은 콘솔 REPL(Main)과 같습니다.
+ */
+class ClientSession implements Runnable {
+
+    private final Socket socket;
+    private final CommandHandler.Repositories repositories;
+
+    ClientSession(Socket socket, CommandHandler.Repositories repositories) {
+        this.socket = socket;
+        this.repositories = repositories;
+    }
+
+    @Override
+    public void run() {
+        try (Socket client = socket) {
+            PrintStream out = new PrintStream(client.getOutputStream(), true, StandardCharsets.UTF_8);
+            Scanner scanner = new Scanner(client.getInputStream(), StandardCharsets.UTF_8);
+            SessionStreams.bind(new ScannerInputStream(scanner), out);
+
+            CommandHandler commandHandler = new CommandHandler(scanner, repositories);
+            out.println("======================================================================================");
+            out.println("대학병원 예약 시스템 v1.0");
+            out.println("======================================================================================");
+
+            while (true) {
+                out.print(commandHandler.getPrompt() + " > ");
+                if (!scanner.hasNextLine()) {
+                    break;
+                }
+                if (commandHandler.handle(scanner.nextLine(), scanner)) {
+                    break;
+                }
+            }
+        } catch (IOException | NoSuchElementException e) {
+            // 확인 질문에 답하기 전에 접속이 끊긴 경우 등은 세션만 종료
+        } catch (RuntimeException e) {
+            // 세션 출력이 아닌 서버 콘솔에 기록
+            SessionStreams.unbind();
+            System.out.println("[오류] 세션 처리 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            SessionStreams.unbind();
+        }
+    }
+}
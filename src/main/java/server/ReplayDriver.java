@@ -0,0 +1,193 @@
+package server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import service.CommandHandler;
+import util.metrics.LatencyHistogram;
+import util.metrics.Metrics;
+
+import static util.metrics.ReportFormat.pad;
+
+/**
+ * 명령 파일 재생기 (java Main --replay <명령 파일> [--sessions N] [--report 파일] [--echo])
+ * - 명령 파일을 세션 N개가 동시에 한 줄씩 CommandHandler 로 처리합니다 (세션마다 로그인 상태가 따로 있음).
+ * - 줄 안의 ${session} 은 세션 번호(1부터)로 바뀝니다. (예: login user${session} password1)
+ * - 빈 줄과 # 으로 시작하는 줄은 건너뛰고, 확인 질문(Y/N)의 응답은 다음 줄에서 읽습니다.
+ * - 명령 이름별로 처리 시간을 히스토그램에 기록하고 p50/p99/p99.9 와 파일 입출력 집계를 보고합니다.
+ *   출력에 "[오류]" 가 포함된 명령은 오류로 셉니다.
+ */
+public class ReplayDriver {
+
+    private static final String SESSION_VARIABLE = "${session}";
+    private static final String ERROR_MARKER = "[오류]";
+
+    private final List<String> script;
+    private final int sessions;
+    private final boolean echo;
+
+    // 명령 이름 -> 통계
+    private final Map<String, CommandStats> stats = new ConcurrentHashMap<>();
+    private long elapsedNanos;
+
+    public ReplayDriver(List<String> script, int sessions, boolean echo) {
+        this.script = script;
+        this.sessions = sessions;
+        this.echo = echo;
+    }
+
+    /**
+     * 모든 세션이 명령 파일을 끝까지 처리할 때까지 실행합니다
+     */
+    public void run() throws InterruptedException {
+        SessionStreams.install();
+        CommandHandler.Repositories repositories = new CommandHandler.Repositories();
+        ExecutorService executor = ReservationServer.newSessionExecutor();
+        CountDownLatch ready = new CountDownLatch(sessions);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int session = 1; session <= sessions; session++) {
+            int sessionNumber = session;
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    replay(sessionNumber, repositories);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        ready.await();
+        long startNanos = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    private void replay(int session, CommandHandler.Repositories repositories) {
+        StringBuilder input = new StringBuilder();
+        for (String line : script) {
+            input.append(line.replace(SESSION_VARIABLE, String.valueOf(session))).append('\n');
+        }
+
+        Scanner scanner = new Scanner(input.toString());
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        SessionStreams.bind(new ScannerInputStream(scanner), out);
+
+        try {
+            CommandHandler commandHandler = new CommandHandler(scanner, repositories);
+            while (scanner.hasNextLine()) {
+                String line = scanner.nextLine();
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+
+                long startNanos = System.nanoTime();
+                boolean ended = commandHandler.handle(line, scanner);
+                long elapsed = System.nanoTime() - startNanos;
+
+                String output = buffer.toString(StandardCharsets.UTF_8);
+                buffer.reset();
+                String commandName = trimmed.split("\\s+")[0].toLowerCase();
+                stats.computeIfAbsent(commandName, name -> new CommandStats())
+                        .record(elapsed, output.contains(ERROR_MARKER));
+
+                if (echo) {
+                    echo(session, trimmed, output);
+                }
+                if (ended) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 세션 출력이 아닌 콘솔에 기록하고 이 세션만 종료
+            SessionStreams.unbind();
+            System.out.println("[오류] 세션 " + session + " 재생 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            SessionStreams.unbind();
+        }
+    }
+
+    private static void echo(int session, String command, String output) {
+        PrintStream console = SessionStreams.consoleOut();
+        synchronized (console) {
+            console.println("[세션 " + session + "] > " + command);
+            console.print(output);
+            if (!output.isEmpty() && !output.endsWith("\n")) {
+                console.println();
+            }
+        }
+    }
+
+    /**
+     * 결과 보고서를 씁니다
+     */
+    public void writeReport(PrintStream out) {
+        Map<String, CommandStats> sorted = new TreeMap<>(stats);
+        CommandStats total = new CommandStats();
+        for (CommandStats commandStats : sorted.values()) {
+            total.add(commandStats);
+        }
+
+        double seconds = elapsedNanos / 1e9;
+        out.printf("[재생 결과] 세션 %d개, 명령 %d건, %.3f초, %.1f건/초%n",
+                sessions, total.histogram.getCount(), seconds,
+                seconds > 0 ? total.histogram.getCount() / seconds : 0.0);
+        out.println(pad("명령", -16) + " " + pad("횟수", 8) + " " + pad("오류", 6) + " " + pad("평균(ms)", 10)
+                + " " + pad("p50(ms)", 10) + " " + pad("p99(ms)", 10) + " " + pad("p99.9(ms)", 10)
+                + " " + pad("최대(ms)", 10));
+        for (Map.Entry<String, CommandStats> entry : sorted.entrySet()) {
+            printRow(out, entry.getKey(), entry.getValue());
+        }
+        printRow(out, "(전체)", total);
+
+        out.println("[명령별 파일 입출력]");
+        Metrics.writeReport(out);
+    }
+
+    private static void printRow(PrintStream out, String name, CommandStats commandStats) {
+        LatencyHistogram histogram = commandStats.histogram;
+        out.printf("%s %8d %6d %10.3f %10.3f %10.3f %10.3f %10.3f%n",
+                pad(name, -16), histogram.getCount(), commandStats.errors.sum(),
+                histogram.getMean() / 1e6,
+                histogram.valueAtPercentile(50) / 1e6,
+                histogram.valueAtPercentile(99) / 1e6,
+                histogram.valueAtPercentile(99.9) / 1e6,
+                histogram.getMax() / 1e6);
+    }
+
+    /**
+     * 명령 하나의 처리 시간(ns) 히스토그램과 오류 수
+     */
+    private static class CommandStats {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+
+        void record(long nanos, boolean error) {
+            histogram.record(nanos);
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        void add(CommandStats other) {
+            histogram.add(other.histogram);
+            errors.add(other.errors.sum());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package server;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import service.CommandHandler;
+
+/**
+ * 여러 접속을 동시에 처리하는 서버 모드 (java Main --server [포트])
+ * - 줄 단위 TCP 프로토콜: 콘솔과 같은 명령을 한 줄씩 보내면 콘솔과 같은 출력을 돌려받습니다.
+ *   (예: nc localhost 9090)
+ * - 접속마다 세션 스레드 하나를 사용합니다 (JDK 21 이상이면 가상 스레드).
+ * - 같은 (의사, 날짜) 예약만 ReservationLocks 로 직렬화하고, 나머지 세션은 동시에 진행됩니다.
+ */
+public class ReservationServer {
+
+    public static final int DEFAULT_PORT = 9090;
+
+    private final int port;
+
+    public ReservationServer(int port) {
+        this.port = port;
+    }
+
+    /**
+     * 접속을 받아 세션을 시작합니다 (프로그램이 종료될 때까지 반환하지 않음)
+     */
+    public void start() throws IOException {
+        SessionStreams.install();
+        CommandHandler.Repositories repositories = new CommandHandler.Repositories();
+        ExecutorService sessions = newSessionExecutor();
+
+        try (ServerSocket serverSocket = new ServerSocket(port)) {
+            System.out.println("[서버] 포트 " + port + "에서 접속을 기다립니다.");
+            while (true) {
+                Socket socket = serverSocket.accept();
+                sessions.execute(new ClientSession(socket, repositories));
+            }
+        } finally {
+            sessions.shutdown();
+        }
+    }
+
+    /**
+     * 세션마다 스레드 하나를 만드는 실행기
+     * 실행 환경이 JDK 21 이상이면 가상 스레드를, 아니면 캐시 스레드 풀을 사용합니다 (빌드 대상은 Java 17).
+     */
+    static ExecutorService newSessionExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package server;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+/**
+ * 명령 코드가 System.in 으로 읽는 입력(확인 질문 응답 등)을 세션 Scanner 에서 한 줄씩 가져옴
+ * (세션 Scanner 가 미리 읽어 둔 입력을 다른 Scanner 가 놓치지 않도록 함)
+ */
+class ScannerInputStream extends InputStream {
+    private final Scanner scanner;
+    private byte[] line = new byte[0];
+    private int position = 0;
+
+    ScannerInputStream(Scanner scanner) {
+        this.scanner = scanner;
+    }
+
+    private boolean fill() {
+        if (position < line.length) {
+            return true;
+        }
+        if (!scanner.hasNextLine()) {
+            return false;
+        }
+        line = (scanner.nextLine() + "\n").getBytes(StandardCharsets.UTF_8);
+        position = 0;
+        return true;
+    }
+
+    @Override
+    public int read() {
+        return fill() ? line[position++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(len, line.length - position);
+        System.arraycopy(line, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return line.length - position;
+    }
+}
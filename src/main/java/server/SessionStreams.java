@@ -0,0 +1,172 @@
+package server;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * 세션(스레드)별 표준 입출력
+ * - 기존 명령 코드는 System.out / System.in 을 그대로 사용하므로,
+ *   서버 모드에서는 이를 현재 스레드에 연결된 세션의 소켓 스트림으로 넘겨 줍니다.
+ * - 세션에 연결되지 않은 스레드(서버 로그 등)는 원래 콘솔을 사용합니다.
+ */
+final class SessionStreams {
+
+    private static final ThreadLocal<PrintStream> SESSION_OUT = new ThreadLocal<>();
+    private static final ThreadLocal<InputStream> SESSION_IN = new ThreadLocal<>();
+
+    private static PrintStream consoleOut;
+    private static InputStream consoleIn;
+
+    private SessionStreams() {
+    }
+
+    /**
+     * System.out / System.in 을 세션별로 나누는 스트림으로 바꿉니다 (한 번만)
+     */
+    static synchronized void install() {
+        if (consoleOut != null) {
+            return;
+        }
+        consoleOut = System.out;
+        consoleIn = System.in;
+        System.setOut(new RoutingPrintStream());
+        System.setIn(new RoutingInputStream());
+    }
+
+    static void bind(InputStream in, PrintStream out) {
+        SESSION_IN.set(in);
+        SESSION_OUT.set(out);
+    }
+
+    static void unbind() {
+        SESSION_IN.remove();
+        SESSION_OUT.remove();
+    }
+
+    static PrintStream out() {
+        PrintStream out = SESSION_OUT.get();
+        return out != null ? out : consoleOut;
+    }
+
+    /**
+     * 세션과 관계없이 원래 콘솔 출력
+     */
+    static PrintStream consoleOut() {
+        return consoleOut;
+    }
+
+    private static InputStream in() {
+        InputStream in = SESSION_IN.get();
+        return in != null ? in : consoleIn;
+    }
+
+    /**
+     * 모든 출력을 현재 세션의 PrintStream 으로 넘김
+     * (PrintStream 내부 잠금을 세션끼리 공유하지 않도록 메서드마다 위임)
+     */
+    private static class RoutingPrintStream extends PrintStream {
+        RoutingPrintStream() {
+            super(new FilterOutputStream(null) {
+                @Override
+                public void write(int b) {
+                    out().write(b);
+                }
+            }, true);
+        }
+
+        @Override public void flush() { out().flush(); }
+        @Override public void close() { out().flush(); }
+        @Override public boolean checkError() { return out().checkError(); }
+        @Override public void write(int b) { out().write(b); }
+        @Override public void write(byte[] buf, int off, int len) { out().write(buf, off, len); }
+        @Override public void print(boolean b) { out().print(b); }
+        @Override public void print(char c) { out().print(c); }
+        @Override public void print(int i) { out().print(i); }
+        @Override public void print(long l) { out().print(l); }
+        @Override public void print(float f) { out().print(f); }
+        @Override public void print(double d) { out().print(d); }
+        @Override public void print(char[] s) { out().print(s); }
+        @Override public void print(String s) { out().print(s); }
+        @Override public void print(Object obj) { out().print(obj); }
+        @Override public void println() { out().println(); }
+        @Override public void println(boolean x) { out().println(x); }
+        @Override public void println(char x) { out().println(x); }
+        @Override public void println(int x) { out().println(x); }
+        @Override public void println(long x) { out().println(x); }
+        @Override public void println(float x) { out().println(x); }
+        @Override public void println(double x) { out().println(x); }
+        @Override public void println(char[] x) { out().println(x); }
+        @Override public void println(String x) { out().println(x); }
+        @Override public void println(Object x) { out().println(x); }
+
+        @Override
+        public PrintStream printf(String format, Object... args) {
+            out().printf(format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream printf(Locale l, String format, Object... args) {
+            out().printf(l, format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream format(String format, Object... args) {
+            out().format(format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream format(Locale l, String format, Object... args) {
+            out().format(l, format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(CharSequence csq) {
+            out().append(csq);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(CharSequence csq, int start, int end) {
+            out().append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(char c) {
+            out().append(c);
+            return this;
+        }
+    }
+
+    /**
+     * 모든 입력을 현재 세션의 InputStream 에서 읽음
+     */
+    private static class RoutingInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            return in().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return in().read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return in().available();
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return in().skip(n);
+        }
+    }
+}
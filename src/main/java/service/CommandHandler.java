@@ -12,6 +12,7 @@ import repository.DoctorRepository;
 import repository.PatientRepository;
 import service.admin.AdminService;
 import service.admin.ReserveListCommand;
+import service.admin.StatsCommand;
 import service.admin.UserSearchCommand;
 import service.auth.AuthService;
 import service.auth.LoginCommand;
@@ -42,28 +43,47 @@ import repository.MajorRepository;
 import service.admin.AddMajorCommand;
 
 import repository.AppointmentRepository;
+import util.metrics.Metrics;
 
 public class CommandHandler {
     private final AuthContext authContext;
     private final Map<String, Command> commands;
     private final HelpCommand helpCommand;
-    private final Scanner scanner = new Scanner(System.in);
+    private final Scanner scanner;
+
+    // 서버 세션에서 탈퇴한 경우 (프로그램 대신 세션만 종료)
+    private boolean sessionEnded = false;
 
     public CommandHandler() {
+        this(new Scanner(System.in), new Repositories(), false);
+    }
+
+    /**
+     * 세션별 명령 처리기 (서버 모드)
+     *
+     * @param scanner      세션 입력 (확인 질문 응답용)
+     * @param repositories 세션 간에 공유하는 저장소
+     */
+    public CommandHandler(Scanner scanner, Repositories repositories) {
+        this(scanner, repositories, true);
+    }
+
+    private CommandHandler(Scanner scanner, Repositories repositories, boolean session) {
+        this.scanner = scanner;
         this.authContext = new AuthContext();
-        MajorRepository majorRepository = new MajorRepository();
+        MajorRepository majorRepository = repositories.majorRepository;
 
-        PatientRepository patientRepository = new PatientRepository();
-        DoctorRepository doctorRepository = new DoctorRepository();
-        AuthRepository authRepository = new AuthRepository();
-        AppointmentRepository appointmentRepository = new AppointmentRepository();
+        PatientRepository patientRepository = repositories.patientRepository;
+        DoctorRepository doctorRepository = repositories.doctorRepository;
+        AuthRepository authRepository = repositories.authRepository;
+        AppointmentRepository appointmentRepository = repositories.appointmentRepository;
         AuthService authService = new AuthService(patientRepository, doctorRepository, authRepository,
                 appointmentRepository, authContext);
 
         SearchService searchService = new SearchService(authContext, majorRepository);
-        ReservationService reservationService = new ReservationService(authContext);
+        ReservationService reservationService = new ReservationService(authContext, patientRepository);
         AdminService adminService = new AdminService(majorRepository);
-        DoctorService doctorService = new DoctorService(authContext,appointmentRepository);
+        DoctorService doctorService = new DoctorService(authContext, appointmentRepository, patientRepository);
 
         this.commands = new HashMap<>();
 
@@ -89,6 +109,7 @@ public class CommandHandler {
         commands.put("user", new UserSearchCommand(adminService));
         commands.put("reserve-list", new ReserveListCommand(adminService));
         commands.put("add-major", new AddMajorCommand(majorRepository, authContext));
+        commands.put("stats", new StatsCommand());
 
         // 의사 명령어 (추가)
         commands.put("set-schedule", new SetScheduleCommand(doctorService));
@@ -113,7 +134,21 @@ public class CommandHandler {
         commands.put("settime", args -> handleSetTime(args));
 
         // 새로운 명령어 추가 시 여기 등록
-        commands.put("withdraw", new WithdrawCommand(authService, scanner));
+        commands.put("withdraw", session
+                ? new WithdrawCommand(authService, scanner, () -> sessionEnded = true)
+                : new WithdrawCommand(authService, scanner));
+    }
+
+    /**
+     * 여러 세션이 함께 사용하는 저장소 (메모리의 회원/의사/진료과 목록을 세션마다 따로 두지 않음)
+     * 각 저장소는 프로그램 전체에서 하나이므로, 파일은 처음 한 번만 읽습니다.
+     */
+    public static class Repositories {
+        private final MajorRepository majorRepository = MajorRepository.getInstance();
+        private final PatientRepository patientRepository = PatientRepository.getInstance();
+        private final DoctorRepository doctorRepository = DoctorRepository.getInstance();
+        private final AuthRepository authRepository = AuthRepository.getInstance();
+        private final AppointmentRepository appointmentRepository = AppointmentRepository.getInstance();
     }
 
     public String readCommand(Scanner scanner) {
@@ -158,7 +193,7 @@ public class CommandHandler {
 
         // 관리자 전용 명령어 접근 차단
         if (!authContext.getPrompt().equals("Admin") &&
-                (commandName.equals("user") || commandName.equals("reserve-list"))) {
+                (commandName.equals("user") || commandName.equals("reserve-list") || commandName.equals("stats"))) {
             System.out.println("[오류] 알 수 없는 명령어입니다. 'help'를 입력하여 도움말을 확인하세요.");
             return false;
         }
@@ -176,12 +211,14 @@ public class CommandHandler {
         // 기본 명령 처리
         Command command = commands.get(commandName);
         if (command != null) {
-            command.execute(Arrays.copyOfRange(tokens, 1, tokens.length));
+            try (Metrics.Scope scope = Metrics.begin(commandName)) {
+                command.execute(Arrays.copyOfRange(tokens, 1, tokens.length));
+            }
         } else {
             System.out.println("[오류] 알 수 없는 명령어입니다. 'help'를 입력하여 도움말을 확인하세요.");
         }
 
-        return false;
+        return sessionEnded;
     }
 
     // ===========================
@@ -1,18 +1,25 @@
 package service.admin;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.nio.file.DirectoryStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import model.Patient;
+import util.exception.AppointmentFileException;
 import util.exception.SearchException;
 import util.file.FileUtil;
+import repository.AppointmentCells;
+import repository.AppointmentRepository;
+import repository.DoctorDirectory;
 import repository.MajorRepository;
+import repository.PatientFileStore;
+import repository.PatientRepository;
+import repository.ReservationIndex;
+import repository.SlotAvailabilityCache;
+import repository.SlotCell;
 
 /**
  * 관리자 기능 (6.4)
@@ -22,6 +29,9 @@ import repository.MajorRepository;
  * 파일 포맷은 기획서 규격을 따른다.
  */
 public class AdminService {
+    // reserve-list 출력을 이 크기(문자 수)만큼 모아서 씀
+    private static final int OUTPUT_CHUNK_SIZE = 8192;
+
     private final MajorRepository majorRepository;
 
     public AdminService(MajorRepository majorRepository) {
@@ -40,33 +50,14 @@ public class AdminService {
         final String loginId = args[0];
         final boolean withResv = args.length == 2;
 
-        final String plist = "data/patient/patientlist.txt";
-        if (!FileUtil.resourceExists(plist)) {
-            throw new SearchException("'/data/patient/patientlist.txt'이(가) 존재하지 않습니다.");
-        }
-
-        String patientNo = null;
-        String name = null;
-        String phone = null;
-
-        try {
-            List<String> lines = FileUtil.readLines(plist);
-            for (int i = 1; i < lines.size(); i++) {
-                String[] a = lines.get(i).trim().split("\\s+");
-                if (a.length >= 5 && a[1].equals(loginId)) {
-                    patientNo = a[0];
-                    name = a[2];
-                    phone = a[4];
-                    break;
-                }
-            }
-        } catch (IOException e) {
-            throw new SearchException("회원 목록 조회 중 오류가 발생했습니다.");
-        }
-
-        if (patientNo == null) {
+        // 아이디 인덱스로 조회 (환자 저장소 기준, patientlist.txt 를 다시 확인하지 않음)
+        Patient patient = PatientRepository.getInstance().findByUsername(loginId);
+        if (patient == null) {
             throw new SearchException("존재하지 않는 회원 아이디입니다.");
         }
+        String patientNo = patient.getPatientId();
+        String name = patient.getName();
+        String phone = patient.getPhoneNumber();
 
         System.out.println("======================================================================================");
         System.out.println("회원 정보");
@@ -91,7 +82,8 @@ public class AdminService {
 
         System.out.println("예약 내역:");
         try {
-            List<String> lines = FileUtil.readLines(pfile);
+            List<String> lines = PatientFileStore.readLines(patientNo);
+            DoctorDirectory doctors = DoctorDirectory.current();
             for (int i = 4; i <= lines.size(); i++) {
                 String l = lines.get(i - 1).trim();
                 if (l.isEmpty())
@@ -105,7 +97,8 @@ public class AdminService {
                     String dept = a[4];
                     String docNo = a[5];
                     String status = statusText(a[6]);
-                    String docName = lookupDoctorName(docNo);
+                    DoctorDirectory.Entry doctor = doctors.findById(docNo);
+                    String docName = doctor == null ? null : doctor.getName();
                     String deptName = majorRepository.findByCode(dept).map(model.Major::getMajorName).orElse(dept);
                     System.out.printf("- %s | %s | %s-%s | %s | %s | [%s]%n", rno, date, st, en, deptName,
                             (docName == null ? docNo : docName), status);
@@ -127,72 +120,72 @@ public class AdminService {
             throw new SearchException("날짜 형식이 잘못되었습니다. (예: 2025-10-10)");
         }
 
-        String ymd = date.replace("-", "");
-        String apFile = "data/appointment/" + ymd + ".txt";
-        if (!FileUtil.resourceExists(apFile)) {
+        // 예약 현황표를 칸 배열로 바로 읽음 (텍스트 파일을 다시 읽거나 줄을 나누지 않음)
+        AppointmentCells cells;
+        try {
+            cells = AppointmentRepository.getInstance().getCellsByDate(LocalDate.parse(date));
+        } catch (DateTimeParseException e) {
+            // 없는 날짜(2025-02-30 등)는 예약 파일도 없음
             System.out.println("(예약 없음).");
             return;
+        } catch (AppointmentFileException e) {
+            if (e.getErrorType() == AppointmentFileException.ErrorType.FILE_NOT_FOUND) {
+                System.out.println("(예약 없음).");
+                return;
+            }
+            throw new SearchException("파일 형식이 올바르지 않습니다.");
         }
 
-        try {
-            List<String> lines = FileUtil.readLines(apFile);
-            if (lines.size() < 2) {
-                throw new SearchException("파일 형식이 올바르지 않습니다.");
-            }
-            String header = lines.get(1).trim(); // TIME D00001 D00002 ...
-            String[] head = header.split("\\s+");
-            if (head.length < 2 || !head[0].equals("TIME")) {
-                throw new SearchException("파일 형식이 올바르지 않습니다.");
+        String[] doctorNos = cells.doctorIds;
+        int count = 0;
+        for (int slot = 0; slot < AppointmentCells.SLOT_COUNT; slot++) {
+            for (int i = 0; i < doctorNos.length; i++) {
+                if (SlotCell.isReservation(cells.get(slot, i)))
+                    count++;
             }
-            List<String> doctorNos = new ArrayList<>();
-            for (int i = 1; i < head.length; i++)
-                doctorNos.add(head[i]);
+        }
 
-            Map<String, String> doctorNameMap = loadDoctorNames();
-            Map<String, String> doctorDeptMap = loadDoctorDeptCodes();
+        System.out.println("======================================================================================");
+        System.out.printf("%s 예약 현황 (총 %d건)%n", date, count);
+        System.out.println("======================================================================================");
+        if (count == 0) {
+            System.out.println("(예약 없음)");
+            return;
+        }
 
-            List<String> out = new ArrayList<>();
-            for (int li = 2; li < lines.size(); li++) {
-                String row = lines.get(li).trim();
-                if (row.isEmpty())
+        // 의사 열마다 이름/진료과명을 한 번만 구함
+        DoctorDirectory doctors = DoctorDirectory.current();
+        String[] doctorLabels = new String[doctorNos.length];
+        for (int i = 0; i < doctorNos.length; i++) {
+            DoctorDirectory.Entry doctor = doctors.findById(doctorNos[i]);
+            String docName = doctor == null ? doctorNos[i] : doctor.getName();
+            String deptCode = doctor == null ? "" : doctor.getDeptCode();
+            String deptName = majorRepository.findByCode(deptCode).map(model.Major::getMajorName).orElse(deptCode);
+            doctorLabels[i] = deptName + " | " + docName;
+        }
+        Map<Integer, String> userIds = loadUserIdsByReservation(date);
+
+        // 칸 배열을 시간 순서대로 훑으며 바로 출력 (행 목록을 따로 모으지 않음)
+        StringBuilder chunk = new StringBuilder(OUTPUT_CHUNK_SIZE + 256);
+        for (int slot = 0; slot < AppointmentCells.SLOT_COUNT; slot++) {
+            String time = SlotAvailabilityCache.timeOf(slot);
+            String timeRange = time + "-" + plus10(time);
+            for (int i = 0; i < doctorNos.length; i++) {
+                long cell = cells.get(slot, i);
+                if (!SlotCell.isReservation(cell))
                     continue;
-                String[] cols = row.split("\\s+");
-                if (cols.length != (1 + doctorNos.size()))
-                    continue;
-
-                String time = cols[0];
-                for (int i = 0; i < doctorNos.size(); i++) {
-                    String cell = cols[i + 1];
-                    if (cell.equals("0") || cell.equalsIgnoreCase("X"))
-                        continue;
 
-                    String rno = cell;
-                    String docNo = doctorNos.get(i);
-                    String docName = doctorNameMap.getOrDefault(docNo, docNo);
-                    String deptCode = doctorDeptMap.getOrDefault(docNo, "");
-                    String deptName = majorRepository.findByCode(deptCode).map(model.Major::getMajorName)
-                            .orElse(deptCode);
-                    String userId = findUserIdByReservation(rno);
-                    String timeEnd = plus10(time);
-
-                    out.add(String.format("%s | %s-%s | %s | %s | %s | [예약중]", rno, time, timeEnd, deptName, docName,
-                            (userId == null ? "-" : userId)));
+                SlotCell.appendTo(chunk, cell);
+                chunk.append(" | ").append(timeRange).append(" | ").append(doctorLabels[i]).append(" | ")
+                        .append(userIds.getOrDefault(SlotCell.reservationNumber(cell), "-")).append(" | [예약중]")
+                        .append(System.lineSeparator());
+                if (chunk.length() >= OUTPUT_CHUNK_SIZE) {
+                    System.out.print(chunk);
+                    chunk.setLength(0);
                 }
             }
-
-            System.out
-                    .println("======================================================================================");
-            System.out.printf("%s 예약 현황 (총 %d건)%n", date, out.size());
-            System.out
-                    .println("======================================================================================");
-            if (out.isEmpty())
-                System.out.println("(예약 없음)");
-            else
-                out.forEach(System.out::println);
-
-        } catch (IOException e) {
-            throw new SearchException("예약 현황 확인 중 오류가 발생했습니다.");
         }
+        System.out.print(chunk);
     }
 
     // ======= 유틸들 =======
@@ -219,71 +212,20 @@ public class AdminService {
         return String.format("%02d:%02d", h, m);
     }
 
-    private Map<String, String> loadDoctorNames() throws IOException {
-        Map<String, String> map = new HashMap<>();
-        List<String> lines = FileUtil.readLines("data/doctor/doctorlist.txt");
-        for (int i = 1; i < lines.size(); i++) {
-            String[] a = lines.get(i).trim().split("\\s+");
-            if (a.length >= 3)
-                map.put(a[0], a[1]); // D번호 -> 이름
+    // 예약번호 -> 회원 아이디 (해당 날짜의 예약은 예약 인덱스에서, 아이디는 환자 저장소에서)
+    private Map<Integer, String> loadUserIdsByReservation(String date) {
+        List<ReservationIndex.Entry> entries = ReservationIndex.getInstance().findByDate(date);
+        if (entries.isEmpty()) {
+            return Map.of();
         }
-        return map;
-    }
 
-    private Map<String, String> loadDoctorDeptCodes() throws IOException {
-        Map<String, String> map = new HashMap<>();
-        List<String> lines = FileUtil.readLines("data/doctor/doctorlist.txt");
-        for (int i = 1; i < lines.size(); i++) {
-            String[] a = lines.get(i).trim().split("\\s+");
-            if (a.length >= 3)
-                map.put(a[0], a[2]); // D번호 -> 진료과코드
-        }
-        return map;
-    }
-
-    // 예약번호 -> 회원 아이디 찾기 (모든 P*.txt 스캔)
-    private String findUserIdByReservation(String rno) throws IOException {
-        Map<String, String> pnoToId = new HashMap<>();
-        List<String> plist = FileUtil.readLines("data/patient/patientlist.txt");
-        for (int i = 1; i < plist.size(); i++) {
-            String[] a = plist.get(i).trim().split("\\s+");
-            if (a.length >= 2)
-                pnoToId.put(a[0], a[1]); // P000001 -> hong123
-        }
-
-        try (DirectoryStream<Path> ds = Files.newDirectoryStream(FileUtil.getResourcePath("data/patient"), "P*.txt")) {
-            for (Path p : ds) {
-                String pno = p.getFileName().toString().replace(".txt", "");
-                try (BufferedReader br = Files.newBufferedReader(p)) {
-                    String l;
-                    int lineNo = 0;
-                    while ((l = br.readLine()) != null) {
-                        lineNo++;
-                        if (lineNo <= 3)
-                            continue;
-                        l = l.trim();
-                        if (l.isEmpty())
-                            continue;
-                        String[] a = l.split("\\s+");
-                        if (a.length >= 1 && a[0].equals(rno)) {
-                            return pnoToId.getOrDefault(pno, null);
-                        }
-                    }
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * 의사번호(D00001 등)로 의사 이름을 조회
-     */
-    private String lookupDoctorName(String docNo) {
-        try {
-            Map<String, String> doctorNames = loadDoctorNames();
-            return doctorNames.getOrDefault(docNo, null);
-        } catch (IOException e) {
-            return null;
+        PatientRepository patients = PatientRepository.getInstance();
+        Map<Integer, String> userIds = new HashMap<>(entries.size() * 2);
+        for (ReservationIndex.Entry entry : entries) {
+            Patient patient = patients.findById(entry.patientId);
+            if (patient != null)
+                userIds.put(SlotCell.parseReservationNumber(entry.reservationId), patient.getUsername());
         }
+        return userIds;
     }
 }
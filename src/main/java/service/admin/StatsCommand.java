@@ -0,0 +1,25 @@
+package service.admin;
+
+import service.Command;
+import util.metrics.Metrics;
+
+/**
+ * 명령별 처리 시간/파일 입출력 집계 조회 (stats [reset])
+ */
+public class StatsCommand implements Command {
+
+    @Override
+    public void execute(String[] args) {
+        if (args.length == 1 && args[0].equalsIgnoreCase("reset")) {
+            Metrics.reset();
+            System.out.println("집계가 초기화되었습니다.");
+            return;
+        }
+        if (args.length != 0) {
+            System.out.println("[오류] 인자가 올바르지 않습니다. (형식: stats [reset])");
+            return;
+        }
+
+        Metrics.writeReport(System.out);
+    }
+}
@@ -1,8 +1,6 @@
 package service.auth;
 
 import java.io.IOException;
-import java.nio.file.Files; // 추가
-import java.nio.file.Path; // 추가
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
@@ -10,7 +8,6 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
-import java.util.stream.Stream; // 추가
 
 import model.Doctor;
 import model.Patient;
@@ -18,7 +15,9 @@ import model.User;
 import repository.AuthRepository;
 import repository.DoctorRepository;
 import repository.PatientRepository;
+import repository.ReservationLocks;
 import repository.AppointmentRepository;
+import repository.SlotAvailabilityCache;
 import service.AuthContext;
 import util.exception.LoginException;
 import util.exception.SignupException;
@@ -63,18 +62,22 @@ public class AuthService {
         validateBirthDate(birthDateStr);
         validatePhoneNumber(phoneNumber);
 
-        try {
-            String newPatientId = patientRepository.getNextPatientId();
-            Patient newPatient = new Patient(newPatientId, username, name, birthDateStr, phoneNumber);
-            patientRepository.save(newPatient);
+        // 다른 세션이 같은 아이디로 동시에 가입하지 않도록 중복 확인~저장을 묶음
+        synchronized (authRepository) {
+            ensureUsernameAvailable(username);
+            try {
+                String newPatientId = patientRepository.getNextPatientId();
+                Patient newPatient = new Patient(newPatientId, username, name, birthDateStr, phoneNumber);
+                patientRepository.save(newPatient);
 
-            String hashedPassword = PasswordHasher.hash(password);
-            User newUser = new User(username, hashedPassword, "PATIENT", newPatientId);
-            authRepository.save(newUser);
+                String hashedPassword = PasswordHasher.hash(password);
+                User newUser = new User(username, hashedPassword, "PATIENT", newPatientId);
+                authRepository.save(newUser);
 
-            return "회원가입이 완료되었습니다. [환자번호: " + newPatientId + "]";
-        } catch (IOException e) {
-            throw new SignupException("회원 정보를 파일에 저장하는 중 오류가 발생했습니다: " + e.getMessage());
+                return "회원가입이 완료되었습니다. [환자번호: " + newPatientId + "]";
+            } catch (IOException e) {
+                throw new SignupException("회원 정보를 파일에 저장하는 중 오류가 발생했습니다: " + e.getMessage());
+            }
         }
     }
 
@@ -100,70 +103,35 @@ public class AuthService {
         validateDepartmentCode(deptCode);
         validatePhoneNumber(phoneNumber);
 
-        try {
-            String newDoctorId = doctorRepository.getNextDoctorId();
-
-            String registrationDate = LocalDate.now()
-                    .format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-
-            Doctor newDoctor = new Doctor(
-                    newDoctorId,
-                    username,
-                    name,
-                    deptCode,
-                    phoneNumber,
-                    registrationDate);
-
-            doctorRepository.save(newDoctor);
+        synchronized (authRepository) {
+            ensureUsernameAvailable(username);
+            try {
+                String newDoctorId = doctorRepository.getNextDoctorId();
 
-            String hashedPassword = PasswordHasher.hash(password);
-            User newUser = new User(username, hashedPassword, "DOCTOR", newDoctorId);
-            authRepository.save(newUser);
+                String registrationDate = LocalDate.now()
+                        .format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 
-            // 모든 기존 예약 파일에 새 의사 열 추가
-            updateAllAppointmentFilesWithNewDoctor(newDoctorId);
+                Doctor newDoctor = new Doctor(
+                        newDoctorId,
+                        username,
+                        name,
+                        deptCode,
+                        phoneNumber,
+                        registrationDate);
 
-            return "의사 회원가입이 완료되었습니다. [의사번호: " + newDoctorId + "]";
-        } catch (IOException e) {
-            throw new SignupException("회원 정보를 파일에 저장하는 중 오류가 발생했습니다: " + e.getMessage());
-        }
-    }
+                doctorRepository.save(newDoctor);
 
-    private void updateAllAppointmentFilesWithNewDoctor(String newDoctorId) throws IOException {
-        Path appointmentDir = FileUtil.getResourcePath("data/appointment");
+                String hashedPassword = PasswordHasher.hash(password);
+                User newUser = new User(username, hashedPassword, "DOCTOR", newDoctorId);
+                authRepository.save(newUser);
 
-        if (!Files.exists(appointmentDir)) {
-            return; // 예약 파일 없으면 스킵
-        }
+                // 기존 예약 파일은 다시 쓰지 않음 (새 의사 열은 읽을 때 0 으로 채우고 첫 쓰기 때 반영)
+                SlotAvailabilityCache.getInstance().invalidateAll();
 
-        try (Stream<Path> files = Files.list(appointmentDir)) {
-            files.filter(path -> path.toString().endsWith(".txt"))
-                    .filter(path -> path.getFileName().toString().matches("\\d{8}\\.txt"))
-                    .forEach(path -> {
-                        try {
-                            List<String> lines = Files.readAllLines(path);
-                            List<String> updatedLines = new ArrayList<>();
-
-                            for (int i = 0; i < lines.size(); i++) {
-                                String line = lines.get(i);
-
-                                if (i == 0) {
-                                    // 1행: 날짜 - 그대로
-                                    updatedLines.add(line);
-                                } else if (i == 1) {
-                                    // 2행: 헤더 - 새 의사 추가
-                                    updatedLines.add(line + " " + newDoctorId);
-                                } else {
-                                    // 3행~: 시간 슬롯 - 0 추가
-                                    updatedLines.add(line + " 0");
-                                }
-                            }
-
-                            Files.write(path, updatedLines);
-                        } catch (IOException e) {
-                            throw new RuntimeException("예약 파일 업데이트 실패: " + path, e);
-                        }
-                    });
+                return "의사 회원가입이 완료되었습니다. [의사번호: " + newDoctorId + "]";
+            } catch (IOException e) {
+                throw new SignupException("회원 정보를 파일에 저장하는 중 오류가 발생했습니다: " + e.getMessage());
+            }
         }
     }
 
@@ -277,11 +245,15 @@ public class AuthService {
                 String resTime = parts[2];
                 String doctorId = parts[5];
 
-                // AppointmentRepository를 통해 예약 삭제 (상태 0으로 초기화)
-                appointmentRepository.deleteAppointment(resDate, resId);
+                try (ReservationLocks.Held slot = ReservationLocks.lockSlots(doctorId, resDate);
+                        ReservationLocks.Held files = ReservationLocks.lockFiles(
+                                ReservationLocks.appointmentFile(resDate), ReservationLocks.doctorFile(doctorId))) {
+                    // AppointmentRepository를 통해 예약 삭제 (상태 0으로 초기화)
+                    appointmentRepository.deleteAppointment(resDate, resId);
 
-                // DoctorRepository를 통해 의사 스케줄 업데이트 (상태 0으로 초기화)
-                doctorRepository.updateSchedule(doctorId, resDate, resTime, "0");
+                    // DoctorRepository를 통해 의사 스케줄 업데이트 (상태 0으로 초기화)
+                    doctorRepository.updateSchedule(doctorId, resDate, resTime, "0");
+                }
             }
         } catch (Exception e) {
             System.out.println("[경고] 예약 취소 중 오류 발생: " + e.getMessage());
@@ -311,6 +283,15 @@ public class AuthService {
         }
     }
 
+    /**
+     * 저장 직전에 아이디 중복을 다시 확인합니다 (authRepository 잠금 안에서 호출)
+     */
+    private void ensureUsernameAvailable(String username) throws SignupException {
+        if (authRepository.findByUsername(username).isPresent()) {
+            throw new SignupException("이미 사용 중인 아이디입니다.");
+        }
+    }
+
     private void validatePassword(String password, String passwordConfirm) throws SignupException {
         if (!password.equals(passwordConfirm)) {
             throw new SignupException("비밀번호가 일치하지 않습니다.");
@@ -8,10 +8,19 @@ import util.exception.LoginException;
 public class WithdrawCommand implements Command {
     private final AuthService authService;
     private final Scanner scanner;
+    private final Runnable exitAction;
 
     public WithdrawCommand(AuthService authService, Scanner scanner) {
+        this(authService, scanner, () -> System.exit(0));
+    }
+
+    /**
+     * @param exitAction 탈퇴 후 종료 처리 (서버 모드에서는 프로그램 대신 세션만 종료)
+     */
+    public WithdrawCommand(AuthService authService, Scanner scanner, Runnable exitAction) {
         this.authService = authService;
         this.scanner = scanner;
+        this.exitAction = exitAction;
     }
 
     @Override
@@ -54,7 +63,7 @@ public class WithdrawCommand implements Command {
                 }
                 System.out.println("회원 탈퇴가 완료되었습니다. 그동안 이용해주셔서 감사합니다.");
                 System.out.println("[프로그램 종료]");
-                System.exit(0);
+                exitAction.run();
             } else {
                 System.out.println("탈퇴가 취소되었습니다.");
             }
@@ -56,6 +56,7 @@ public class HelpCommand implements Command {
         System.out.println("[예약 관리]");
         System.out.println("reserve-list - 날짜별 전체 예약 현황 확인");
         System.out.println("[시스템]");
+        System.out.println("stats - 명령별 처리 시간/파일 입출력 집계 조회 (옵션: reset 입력 시 초기화)");
         System.out.println("logout - 로그아웃");
         System.out.println("help - 도움말 표시");
         System.out.println("exit - 프로그램 종료");
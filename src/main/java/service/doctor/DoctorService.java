@@ -6,9 +6,13 @@ import service.doctor.helper.PatientFileReader;
 import util.exception.DoctorScheduleException;
 import util.file.FileUtil;
 import repository.AppointmentRepository;
+import repository.DoctorDirectory;
+import repository.PatientRepository;
+import repository.ReservationApplier;
+import repository.ReservationJournal;
+import repository.ReservationLocks;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalTime;
 import java.time.LocalDate;
@@ -21,6 +25,9 @@ import java.util.regex.Pattern;
 public class DoctorService {
     private final AuthContext authContext;
     private final AppointmentRepository appointmentRepository;
+    private final PatientRepository patientRepository;
+    private final ReservationJournal journal = ReservationJournal.getInstance();
+    private final ReservationApplier reservationApplier = new ReservationApplier();
     private static final Pattern TIME_PATTERN = Pattern.compile("^\\d{2}:\\d{2}$");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
@@ -34,9 +41,11 @@ public class DoctorService {
             "FRI", "금요일", "SAT", "토요일", "SUN", "일요일"
     );
 
-    public DoctorService(AuthContext authContext, AppointmentRepository appointmentRepository) {
+    public DoctorService(AuthContext authContext, AppointmentRepository appointmentRepository,
+            PatientRepository patientRepository) {
         this.authContext = authContext;
         this.appointmentRepository = appointmentRepository;
+        this.patientRepository = patientRepository;
     }
 
     /**
@@ -100,7 +109,7 @@ public class DoctorService {
 
             if (updated) {
                 Path masterFile = FileUtil.getResourcePath(masterFilePath);
-                Files.write(masterFile, lines);
+                FileUtil.write(masterFile, lines);
 
                 // {doctorId}.txt 파일의 요일별 근무 여부도 업데이트
                 String doctorFilePath = "data/doctor/" + doctorId + ".txt";
@@ -113,7 +122,8 @@ public class DoctorService {
                         doctorLines.set(1, String.join(" ", weekdaySchedule));
 
                         Path doctorFile = FileUtil.getResourcePath(doctorFilePath);
-                        Files.write(doctorFile, doctorLines);
+                        FileUtil.write(doctorFile, doctorLines);
+                        DoctorDirectory.updateWeekdays(doctorId, doctorLines.get(1));
                     }
                 }
 
@@ -252,7 +262,7 @@ public class DoctorService {
             // 일정 변경
             lines.set(dayIndex, dayCode + " " + startTime + " " + endTime);
             Path masterFile = FileUtil.getResourcePath(masterFilePath);
-            Files.write(masterFile, lines);
+            FileUtil.write(masterFile, lines);
 
             System.out.println("진료 일정이 수정되었습니다.");
             System.out.println("- 기존: " + oldStart + " ~ " + oldEnd);
@@ -334,7 +344,7 @@ public class DoctorService {
             // 일정 삭제 (0 0으로 설정)
             lines.set(dayIndex, dayCode + " 0 0");
             Path masterFile = FileUtil.getResourcePath(masterFilePath);
-            Files.write(masterFile, lines);
+            FileUtil.write(masterFile, lines);
 
             System.out.println(DAY_MAP_ENG_TO_KOR.get(dayCode) + "의 진료 일정이 삭제되었습니다.");
 
@@ -448,15 +458,8 @@ public class DoctorService {
                 ));
             }
 
-            // 환자 파일 업데이트 (상태 1 -> 2)
-            updatePatientReservationStatus(resInfo.patientId, reservationId, "2");
-
-            // Appointment 파일도 업데이트
-            try {
-                appointmentRepository.updateAppointmentStatus(resDate, reservationId, "2");
-            } catch (util.exception.AppointmentFileException e) {
-                throw new DoctorScheduleException("예약 상태 업데이트 중 오류가 발생했습니다: " + e.getMessage());
-            }
+            // 환자 파일 + Appointment 파일 업데이트 (상태 1 -> 2)
+            writeStatusRecord(reservationId, resInfo, "2");
 
             System.out.println("예약이 진료완료 처리되었습니다.");
             System.out.println("- 예약번호: " + reservationId);
@@ -524,18 +527,11 @@ public class DoctorService {
                 ));
             }
 
-            // 환자 파일 업데이트 (상태 1 -> 4)
-            updatePatientReservationStatus(resInfo.patientId, reservationId, "4");
-
-            // Appointment 파일도 업데이트
-            try {
-                appointmentRepository.updateAppointmentStatus(resDate, reservationId, "4");
-            } catch (util.exception.AppointmentFileException e) {
-                throw new DoctorScheduleException("예약 상태 업데이트 중 오류가 발생했습니다: " + e.getMessage());
-            }
+            // 환자 파일 + Appointment 파일 업데이트 (상태 1 -> 4)
+            writeStatusRecord(reservationId, resInfo, "4");
 
             // 노쇼 횟수 증가
-            int noshowCount = incrementNoshowCount(resInfo.patientId);
+            int noshowCount = patientRepository.incrementNoshowCount(resInfo.patientId);
 
             System.out.println("예약이 노쇼 처리되었습니다.");
             System.out.println("- 예약번호: " + reservationId);
@@ -611,26 +607,29 @@ public class DoctorService {
     // ========== 파일 업데이트 헬퍼 메서드 ==========
 
     /**
-     * 환자 파일의 예약 상태 업데이트
+     * 예약 상태 변경을 저널에 기록합니다
+     * 같은 의사/날짜 슬롯을 잠근 뒤, 그 사이 다른 세션에서 취소/변경하지 않았는지 다시 확인합니다.
      */
-    private void updatePatientReservationStatus(String patientId, String reservationId, String newStatus) throws IOException {
-        String patientFilePath = "data/patient/" + patientId + ".txt";
-        List<String> lines = FileUtil.readLines(patientFilePath);
-
-        for (int i = 3; i < lines.size(); i++) {
-            String line = lines.get(i).trim();
-            if (line.isEmpty()) continue;
-
-            String[] parts = line.split("\\s+");
-            if (parts.length >= 7 && parts[0].equals(reservationId)) {
-                parts[6] = newStatus;
-                lines.set(i, String.join(" ", parts));
-                break;
+    private void writeStatusRecord(String reservationId, PatientFileReader.ReservationData resInfo, String status)
+            throws IOException, DoctorScheduleException {
+        try (ReservationLocks.Held held = ReservationLocks.lockSlots(resInfo.doctorId, LocalDate.parse(resInfo.date))) {
+            PatientFileReader.ReservationData current = PatientFileReader.findReservationById(reservationId);
+            if (current == null || !"1".equals(current.status) || !current.date.equals(resInfo.date)
+                    || !current.startTime.equals(resInfo.startTime)) {
+                throw new DoctorScheduleException("다른 세션에서 예약이 변경되었습니다. 다시 시도해 주세요.");
             }
+            journal.write(ReservationJournal.Record.status(reservationId, resInfo.patientId, resInfo.date,
+                    resInfo.startTime, resInfo.endTime, resInfo.deptCode, resInfo.doctorId, status));
+        } catch (util.exception.AppointmentFileException e) {
+            throw new DoctorScheduleException("예약 상태 업데이트 중 오류가 발생했습니다: " + e.getMessage());
         }
+    }
 
-        Path patientFile = FileUtil.getResourcePath(patientFilePath);
-        Files.write(patientFile, lines);
+    /**
+     * 환자 파일의 예약 상태 업데이트
+     */
+    private void updatePatientReservationStatus(String patientId, String reservationId, String newStatus) throws IOException {
+        reservationApplier.updatePatientStatus(patientId, reservationId, newStatus);
     }
 
     /**
@@ -641,88 +640,13 @@ public class DoctorService {
         updatePatientReservationStatus(patientId, reservationId, "3");
     }
 
-    /**
-     * 노쇼 횟수 증가
-     */
-    private int incrementNoshowCount(String patientId) throws IOException {
-        String patientFilePath = "data/patient/" + patientId + ".txt";
-        List<String> lines = FileUtil.readLines(patientFilePath);
-
-        // 1행: 환자 기본 정보에서 노쇼 횟수 증가
-        String[] parts = lines.get(0).split("\\s+");
-        int noshowCount = 0;
-
-        if (parts.length >= 5) {
-            // 기존에 노쇼 횟수가 있으면 파싱
-            try {
-                noshowCount = Integer.parseInt(parts[4]);
-            } catch (NumberFormatException e) {
-                noshowCount = 0;
-            }
-        }
-
-        noshowCount++;
-
-        // 노쇼 횟수가 4개 요소인 경우 추가, 5개인 경우 수정
-        if (parts.length == 4) {
-            lines.set(0, String.join(" ", parts[0], parts[1], parts[2], parts[3], String.valueOf(noshowCount)));
-        } else {
-            parts[4] = String.valueOf(noshowCount);
-            lines.set(0, String.join(" ", parts));
-        }
-
-        Path patientFile = FileUtil.getResourcePath(patientFilePath);
-        Files.write(patientFile, lines);
-
-        // patientlist.txt도 업데이트
-        updatePatientListNoshowCount(patientId, noshowCount);
-
-        return noshowCount;
-    }
-
-    /**
-     * patientlist.txt의 노쇼 횟수 업데이트
-     */
-    private void updatePatientListNoshowCount(String patientId, int noshowCount) throws IOException {
-        String patientListPath = "data/patient/patientlist.txt";
-        List<String> lines = FileUtil.readLines(patientListPath);
-
-        for (int i = 1; i < lines.size(); i++) {
-            String line = lines.get(i).trim();
-            if (line.isEmpty()) continue;
-
-            String[] parts = line.split("\\s+");
-            if (parts.length >= 5 && parts[0].equals(patientId)) {
-                if (parts.length == 5) {
-                    lines.set(i, String.join(" ", parts[0], parts[1], parts[2], parts[3], parts[4], String.valueOf(noshowCount)));
-                } else {
-                    parts[5] = String.valueOf(noshowCount);
-                    lines.set(i, String.join(" ", parts));
-                }
-                break;
-            }
-        }
-
-        Path patientListFile = FileUtil.getResourcePath(patientListPath);
-        Files.write(patientListFile, lines);
-    }
-
     // ========== 기타 헬퍼 메서드 ==========
 
     /**
      * 의사 이름 조회
      */
     private String getDoctorNameById(String doctorId) {
-        try {
-            List<String> lines = FileUtil.readLines("data/doctor/" + doctorId + ".txt");
-            if (!lines.isEmpty()) {
-                String[] parts = lines.get(0).split("\\s+");
-                return parts[1];
-            }
-        } catch (IOException e) {
-            // 오류 시 doctorId 반환
-        }
-        return doctorId;
+        return DoctorDirectory.current().getName(doctorId);
     }
 
     /**
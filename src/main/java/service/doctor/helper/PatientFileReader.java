@@ -1,6 +1,6 @@
 package service.doctor.helper;
 
-import util.file.FileUtil;
+import repository.ReservationIndex;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -9,6 +9,7 @@ import java.util.List;
 
 /**
  * 환자 파일 읽기 전용 헬퍼 클래스
+ * - 매번 전체 환자 파일을 읽지 않고 ReservationIndex 를 조회합니다.
  */
 public class PatientFileReader {
 
@@ -31,48 +32,11 @@ public class PatientFileReader {
      * 특정 예약번호로 예약 정보 찾기
      */
     public static ReservationData findReservationById(String reservationId) throws IOException {
-        List<String> patientList = FileUtil.readLines("data/patient/patientlist.txt");
-
-        for (int i = 1; i < patientList.size(); i++) {
-            String line = patientList.get(i).trim();
-            if (line.isEmpty()) continue;
-
-            String[] parts = line.split("\\s+");
-            if (parts.length < 5) continue;
-
-            String patientId = parts[0];
-            String patientName = parts[2];
-            String patientFilePath = "data/patient/" + patientId + ".txt";
-
-            if (!FileUtil.resourceExists(patientFilePath)) continue;
-
-            List<String> patientLines = FileUtil.readLines(patientFilePath);
-
-            // 4행부터 예약 내역
-            for (int j = 3; j < patientLines.size(); j++) {
-                String reservationLine = patientLines.get(j).trim();
-                if (reservationLine.isEmpty()) continue;
-
-                String[] resParts = reservationLine.split("\\s+");
-                if (resParts.length < 7) continue;
-
-                if (resParts[0].equals(reservationId)) {
-                    ReservationData data = new ReservationData();
-                    data.reservationId = resParts[0];
-                    data.patientId = patientId;
-                    data.patientName = patientName;
-                    data.date = resParts[1];
-                    data.startTime = resParts[2];
-                    data.endTime = resParts[3];
-                    data.deptCode = resParts[4];
-                    data.doctorId = resParts[5];
-                    data.status = resParts[6];
-                    return data;
-                }
-            }
+        ReservationIndex.Entry entry = ReservationIndex.getInstance().findById(reservationId);
+        if (entry == null) {
+            return null;
         }
-
-        return null;
+        return toReservationData(entry);
     }
 
     /**
@@ -142,79 +106,52 @@ public class PatientFileReader {
             TimeFilter timeFilter) throws IOException {
 
         List<ReservationData> result = new ArrayList<>();
-        List<String> patientList = FileUtil.readLines("data/patient/patientlist.txt");
-
-        for (int i = 1; i < patientList.size(); i++) {
-            String line = patientList.get(i).trim();
-            if (line.isEmpty()) continue;
-
-            String[] parts = line.split("\\s+");
-            if (parts.length < 5) continue;
-
-            String patientId = parts[0];
-            String patientName = parts[2];
-            String patientFilePath = "data/patient/" + patientId + ".txt";
-
-            if (!FileUtil.resourceExists(patientFilePath)) continue;
-
-            List<String> patientLines = FileUtil.readLines(patientFilePath);
-
-            for (int j = 3; j < patientLines.size(); j++) {
-                String resLine = patientLines.get(j).trim();
-                if (resLine.isEmpty()) continue;
-
-                String[] resParts = resLine.split("\\s+");
-                if (resParts.length < 7) continue;
-
-                String reservationId = resParts[0];
-                String date = resParts[1];
-                String startTime = resParts[2];
-                String endTime = resParts[3];
-                String deptCode = resParts[4];
-                String resDoctorId = resParts[5];
-                String status = resParts[6];
 
-                // 의사 및 상태 필터
-                if (!resDoctorId.equals(doctorId) || !status.equals(statusFilter)) {
-                    continue;
-                }
-
-                // 날짜 필터
-                LocalDate resDate = LocalDate.parse(date,
-                        DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                if (!dateFilter.test(resDate)) {
-                    continue;
-                }
+        // 인덱스에서 해당 의사의 예약만 날짜/시간 순으로 조회
+        for (ReservationIndex.Entry entry : ReservationIndex.getInstance().findByDoctor(doctorId)) {
+            // 상태 필터
+            if (!entry.status.equals(statusFilter)) {
+                continue;
+            }
 
-                // 요일 필터
-                String resDayCode = getDayCodeFromDate(resDate);
-                if (!dayFilter.test(resDayCode)) {
-                    continue;
-                }
+            // 날짜 필터
+            LocalDate resDate = LocalDate.parse(entry.date,
+                    DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+            if (!dateFilter.test(resDate)) {
+                continue;
+            }
 
-                // 시간 필터 (선택적)
-                if (timeFilter != null && !timeFilter.test(startTime)) {
-                    continue;
-                }
+            // 요일 필터
+            String resDayCode = getDayCodeFromDate(resDate);
+            if (!dayFilter.test(resDayCode)) {
+                continue;
+            }
 
-                ReservationData data = new ReservationData();
-                data.reservationId = reservationId;
-                data.patientId = patientId;
-                data.patientName = patientName;
-                data.date = date;
-                data.startTime = startTime;
-                data.endTime = endTime;
-                data.deptCode = deptCode;
-                data.doctorId = resDoctorId;
-                data.status = status;
-
-                result.add(data);
+            // 시간 필터 (선택적)
+            if (timeFilter != null && !timeFilter.test(entry.startTime)) {
+                continue;
             }
+
+            result.add(toReservationData(entry));
         }
 
         return result;
     }
 
+    private static ReservationData toReservationData(ReservationIndex.Entry entry) {
+        ReservationData data = new ReservationData();
+        data.reservationId = entry.reservationId;
+        data.patientId = entry.patientId;
+        data.patientName = ReservationIndex.getInstance().getPatientName(entry.patientId);
+        data.date = entry.date;
+        data.startTime = entry.startTime;
+        data.endTime = entry.endTime;
+        data.deptCode = entry.deptCode;
+        data.doctorId = entry.doctorId;
+        data.status = entry.status;
+        return data;
+    }
+
     /**
      * 날짜로부터 요일 코드 얻기
      */
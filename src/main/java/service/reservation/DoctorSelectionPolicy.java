@@ -0,0 +1,116 @@
+package service.reservation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 진료과 예약(reserve-major)에서 예약 가능한 의사 중 한 명을 고르는 정책
+ * -Dreservation.doctor.policy=first-fit|least-loaded|round-robin (기본값 first-fit)
+ */
+public interface DoctorSelectionPolicy {
+
+    String POLICY_PROPERTY = "reservation.doctor.policy";
+
+    /**
+     * 후보 중 한 명을 고릅니다
+     *
+     * @param deptCode   진료과 코드
+     * @param candidates 예약 가능한 의사 목록 (진료과 안의 순서대로, 비어 있지 않음)
+     * @return 선택한 후보
+     */
+    Candidate select(String deptCode, List<Candidate> candidates);
+
+    /**
+     * 후보의 예약 수(load)를 보는지 (보지 않으면 예약 수를 세지 않음)
+     */
+    default boolean usesLoad() {
+        return false;
+    }
+
+    /**
+     * 시스템 속성에 지정된 정책을 반환합니다 (알 수 없는 값이면 first-fit)
+     */
+    static DoctorSelectionPolicy fromProperty() {
+        switch (System.getProperty(POLICY_PROPERTY, "first-fit").toLowerCase()) {
+            case "least-loaded":
+                return new LeastLoaded();
+            case "round-robin":
+                return RoundRobin.INSTANCE;
+            default:
+                return new FirstFit();
+        }
+    }
+
+    /**
+     * 예약 가능한 의사 한 명
+     */
+    class Candidate {
+        final String doctorId;
+        // 진료과 안에서의 순서
+        final int order;
+        // 해당 날짜에 예약된 슬롯 수 (예약 불가(X)와 취소된 칸은 세지 않음)
+        final int load;
+
+        Candidate(String doctorId, int order, int load) {
+            this.doctorId = doctorId;
+            this.order = order;
+            this.load = load;
+        }
+    }
+
+    /**
+     * 의사 목록에서 가장 앞선 의사 (기존 동작)
+     */
+    class FirstFit implements DoctorSelectionPolicy {
+        @Override
+        public Candidate select(String deptCode, List<Candidate> candidates) {
+            return candidates.get(0);
+        }
+    }
+
+    /**
+     * 해당 날짜에 예약이 가장 적은 의사 (같으면 앞선 의사)
+     */
+    class LeastLoaded implements DoctorSelectionPolicy {
+        @Override
+        public boolean usesLoad() {
+            return true;
+        }
+
+        @Override
+        public Candidate select(String deptCode, List<Candidate> candidates) {
+            Candidate selected = candidates.get(0);
+            for (Candidate candidate : candidates) {
+                if (candidate.load < selected.load) {
+                    selected = candidate;
+                }
+            }
+            return selected;
+        }
+    }
+
+    /**
+     * 진료과별로 지난번에 선택한 의사 다음 순서부터 돌아가며 선택
+     */
+    class RoundRobin implements DoctorSelectionPolicy {
+        static final RoundRobin INSTANCE = new RoundRobin();
+
+        // 진료과 -> 다음에 먼저 확인할 순서 (select 의 synchronized 로 보호)
+        private final Map<String, Integer> nextOrder = new HashMap<>();
+
+        @Override
+        public synchronized Candidate select(String deptCode, List<Candidate> candidates) {
+            int next = nextOrder.getOrDefault(deptCode, 0);
+            Candidate selected = candidates.get(0);
+            for (Candidate candidate : candidates) {
+                if (candidate.order >= next) {
+                    selected = candidate;
+                    break;
+                }
+            }
+            nextOrder.put(deptCode, selected.order + 1);
+            return selected;
+        }
+    }
+}
@@ -1,23 +1,31 @@
 package service.reservation;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import model.User;
 import repository.AppointmentRepository;
+import repository.DoctorDirectory;
+import repository.DoctorRepository;
 import repository.MajorRepository;
+import repository.PatientFileStore;
+import repository.PatientRepository;
+import repository.ReservationLocks;
+import repository.ReservationJournal;
 import repository.ReservationRepository;
 import service.AuthContext;
+import util.exception.AppointmentFileException;
 import util.exception.ReservationException;
-import util.file.FileUtil;
 import util.file.VirtualTime;
 
 public class ReservationService {
@@ -25,17 +33,25 @@ public class ReservationService {
     private final AppointmentRepository appointmentRepository;
     private final ReservationRepository reservationRepository;
     private final MajorRepository majorRepository;
+    private final DoctorRepository doctorRepository;
+    private final PatientRepository patientRepository;
+    private final ReservationJournal journal;
+    private final DoctorSelectionPolicy selectionPolicy;
 
     private static final Pattern RESERVATION_ID_PATTERN = Pattern.compile("^R\\d{8}$");
     private static final Pattern DOCTOR_ID_PATTERN = Pattern.compile("^D\\d{5}$");
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
-    public ReservationService(AuthContext authContext) {
+    public ReservationService(AuthContext authContext, PatientRepository patientRepository) {
         this.authContext = authContext;
-        this.appointmentRepository = new AppointmentRepository();
+        this.patientRepository = patientRepository;
+        this.appointmentRepository = AppointmentRepository.getInstance();
         this.reservationRepository = new ReservationRepository();
-        this.majorRepository = new MajorRepository();
+        this.majorRepository = MajorRepository.getInstance();
+        this.doctorRepository = DoctorRepository.getInstance();
+        this.journal = ReservationJournal.getInstance();
+        this.selectionPolicy = DoctorSelectionPolicy.fromProperty();
     }
 
     /**
@@ -74,39 +90,36 @@ public class ReservationService {
         // 의사 근무 시간 확인
         validateDoctorWorkingHours(doctorId, date, time);
 
-        // 예약 가능 여부 확인
-        validateTimeSlotAvailable(doctorId, date, timeStr);
+        // 같은 의사/날짜의 예약 확인~기록은 다른 세션과 겹치지 않도록 잠금
+        try (ReservationLocks.Held held = ReservationLocks.lockSlots(doctorId, date)) {
+            // 예약 가능 여부 확인
+            validateTimeSlotAvailable(doctorId, date, timeStr);
 
-        // 노쇼 횟수 확인 (3회 이상이면 예약 불가)
-        User currentUser = authContext.getCurrentUser();
-        String patientId = currentUser.getId();
-        int noshowCount = getPatientNoshowCount(patientId);
-        if (noshowCount >= 3) {
-            throw new ReservationException("노쇼 3회 누적으로 예약이 제한되었습니다. (현재 노쇼 누적: " + noshowCount + "회)");
-        }
-
-        try {
-            // 예약번호 생성
-            String reservationId = reservationRepository.getNextReservationId();
-
-            // 의사 정보 가져오기
-            String[] doctorInfo = getDoctorInfo(doctorId);
-            String doctorName = doctorInfo[0];
-            String deptCode = doctorInfo[1];
+            // 노쇼 횟수 확인 (3회 이상이면 예약 불가)
+            User currentUser = authContext.getCurrentUser();
+            String patientId = currentUser.getId();
+            int noshowCount = patientRepository.getNoshowCount(patientId);
+            if (noshowCount >= 3) {
+                throw new ReservationException("노쇼 3회 누적으로 예약이 제한되었습니다. (현재 노쇼 누적: " + noshowCount + "회)");
+            }
 
-            // Appointment 파일에 예약 생성
-            appointmentRepository.createAppointment(date, doctorId, timeStr, reservationId);
+            try {
+                // 예약번호 생성
+                String reservationId = reservationRepository.getNextReservationId();
 
-            // 환자 파일에 예약 추가
-            addReservationToPatientFile(reservationId, date, timeStr, deptCode, doctorId);
+                // 의사 정보 가져오기
+                String[] doctorInfo = getDoctorInfo(doctorId);
+                String doctorName = doctorInfo[0];
+                String deptCode = doctorInfo[1];
 
-            // 의사 파일에 예약 반영
-            updateDoctorSchedule(doctorId, date, timeStr, reservationId);
+                // 저널에 기록 후 예약 현황/환자/의사 파일에 반영
+                writeCreateRecord(reservationId, date, timeStr, deptCode, doctorId);
 
-            System.out.println("예약이 완료되었습니다. [예약번호: " + reservationId + "]");
+                System.out.println("예약이 완료되었습니다. [예약번호: " + reservationId + "]");
 
-        } catch (Exception e) {
-            throw new ReservationException("예약 생성 중 오류가 발생했습니다: " + e.getMessage());
+            } catch (Exception e) {
+                throw new ReservationException("예약 생성 중 오류가 발생했습니다: " + e.getMessage());
+            }
         }
     }
 
@@ -132,9 +145,7 @@ public class ReservationService {
         try {
             User currentUser = authContext.getCurrentUser();
             String patientId = currentUser.getId();
-            String patientFilePath = "data/patient/" + patientId + ".txt";
-
-            List<String> lines = FileUtil.readLines(patientFilePath);
+            List<String> lines = PatientFileStore.readLines(patientId);
 
             // 예약 찾기
             String reservationLine = null;
@@ -223,9 +234,7 @@ public class ReservationService {
         try {
             User currentUser = authContext.getCurrentUser();
             String patientId = currentUser.getId();
-            String patientFilePath = "data/patient/" + patientId + ".txt";
-
-            List<String> lines = FileUtil.readLines(patientFilePath);
+            List<String> lines = PatientFileStore.readLines(patientId);
 
             // 예약 찾기
             int reservationLineIndex = -1;
@@ -254,30 +263,22 @@ public class ReservationService {
             String oldTimeStr = oldReservationParts[2];
             String doctorId = oldReservationParts[5];
 
-            // 의사 근무 시간 확인
-            validateDoctorWorkingHours(doctorId, newDate, newTime);
-
-            // 새 시간대 예약 가능 여부 확인
-            validateTimeSlotAvailable(doctorId, newDate, newTimeStr);
+            // 기존 날짜와 새 날짜의 슬롯을 잠근 뒤, 그 사이 다른 세션에서 바뀌지 않았는지 다시 확인
+            try (ReservationLocks.Held held = ReservationLocks.lockSlots(doctorId, LocalDate.parse(oldDateStr),
+                    newDate)) {
+                ensureReservationUnchanged(patientId, oldReservationParts);
 
-            // 기존 예약 취소
-            LocalDate oldDate = LocalDate.parse(oldDateStr, DATE_FORMATTER);
-            appointmentRepository.cancelAppointment(oldDate, reservationId);
-            updateDoctorSchedule(doctorId, oldDate, oldTimeStr, "0");
+                // 의사 근무 시간 확인
+                validateDoctorWorkingHours(doctorId, newDate, newTime);
 
-            // 새 예약 생성
-            appointmentRepository.createAppointment(newDate, doctorId, newTimeStr, reservationId);
-            updateDoctorSchedule(doctorId, newDate, newTimeStr, reservationId);
+                // 새 시간대 예약 가능 여부 확인
+                validateTimeSlotAvailable(doctorId, newDate, newTimeStr);
 
-            // 환자 파일 업데이트
-            String endTime = calculateEndTime(newTimeStr);
-            String newReservationLine = String.join(" ",
-                    reservationId, newDateStr, newTimeStr, endTime,
-                    oldReservationParts[4], doctorId, "1");
-            lines.set(reservationLineIndex, newReservationLine);
-
-            Path patientFile = FileUtil.getResourcePath(patientFilePath);
-            Files.write(patientFile, lines);
+                // 기존 예약 취소 + 새 예약 생성 + 환자 파일 업데이트를 한 레코드로 기록
+                String endTime = calculateEndTime(newTimeStr);
+                journal.write(ReservationJournal.Record.modify(reservationId, patientId, oldDateStr, oldTimeStr,
+                        newDateStr, newTimeStr, endTime, oldReservationParts[4], doctorId));
+            }
 
             System.out.println("예약이 변경되었습니다. [예약번호: " + reservationId + "]");
 
@@ -311,9 +312,7 @@ public class ReservationService {
         try {
             User currentUser = authContext.getCurrentUser();
             String patientId = currentUser.getId();
-            String patientFilePath = "data/patient/" + patientId + ".txt";
-
-            List<String> lines = FileUtil.readLines(patientFilePath);
+            List<String> lines = PatientFileStore.readLines(patientId);
 
             // 예약 찾기
             int reservationLineIndex = -1;
@@ -342,20 +341,12 @@ public class ReservationService {
             String timeStr = reservationParts[2];
             String doctorId = reservationParts[5];
 
-            // Appointment 파일에서 취소
-            LocalDate date = LocalDate.parse(dateStr, DATE_FORMATTER);
-            appointmentRepository.cancelAppointment(date, reservationId);
-
-            // 의사 파일에서 취소
-            updateDoctorSchedule(doctorId, date, timeStr, "0");
-
-            // 환자 파일에서 상태 변경 (1 -> 3: 취소)
-            reservationParts[6] = "3";
-            String updatedLine = String.join(" ", reservationParts);
-            lines.set(reservationLineIndex, updatedLine);
-
-            Path patientFile = FileUtil.getResourcePath(patientFilePath);
-            Files.write(patientFile, lines);
+            // Appointment 파일/의사 파일에서 취소, 환자 파일에서 상태 변경 (1 -> 3: 취소)
+            try (ReservationLocks.Held held = ReservationLocks.lockSlots(doctorId, LocalDate.parse(dateStr))) {
+                ensureReservationUnchanged(patientId, reservationParts);
+                journal.write(ReservationJournal.Record.cancel(reservationId, patientId, dateStr, timeStr,
+                        reservationParts[3], reservationParts[4], doctorId));
+            }
 
             System.out.println("예약이 취소되었습니다. [예약번호: " + reservationId + "]");
 
@@ -395,7 +386,7 @@ public class ReservationService {
         // 노쇼 횟수 확인 (3회 이상이면 예약 불가)
         User currentUser = authContext.getCurrentUser();
         String patientId = currentUser.getId();
-        int noshowCount = getPatientNoshowCount(patientId);
+        int noshowCount = patientRepository.getNoshowCount(patientId);
         if (noshowCount >= 3) {
             throw new ReservationException("노쇼 3회 누적으로 예약이 제한되었습니다. (현재 노쇼 누적: " + noshowCount + "회)");
 
@@ -406,41 +397,29 @@ public class ReservationService {
             throw new ReservationException("존재하지 않는 진료과입니다.\n사용 가능한 진료과: " + getAvailableMajorsString());
         }
 
-        String selectedDoctorId = null;
-        try {
-            List<String> doctorLines = FileUtil.readLines("data/doctor/doctorlist.txt");
-            for (int i = 1; i < doctorLines.size(); i++) {
-                String line = doctorLines.get(i).trim();
-                if (line.isEmpty())
-                    continue;
-                String[] parts = line.split("\\s+");
-                if (parts.length < 3)
-                    continue;
-                String doctorId = parts[0];
-                String doctorDept = parts[2];
-                if (!deptCode.equals(doctorDept))
-                    continue;
+        // 진료과 인덱스와 슬롯 비트맵으로 예약 가능한 의사를 한 번에 찾고 정책에 따라 선택
+        // 선택한 의사의 슬롯을 잠근 뒤 다시 확인하고, 그 사이 다른 세션이 차지했으면 다시 고름
+        while (true) {
+            List<DoctorSelectionPolicy.Candidate> candidates = findAvailableDoctors(deptCode, date, time, timeStr);
+            if (candidates.isEmpty()) {
+                throw new ReservationException("해당 진료과에서 예약 가능한 의사가 없습니다.");
+            }
 
-                try {
-                    // 근무 시간 및 요일 확인
-                    validateDoctorWorkingHours(doctorId, date, time);
-                    // 해당 시간대 예약 가능 여부 확인 (파일 기반/스케줄 기반 모두 검사)
-                    validateTimeSlotAvailable(doctorId, date, timeStr);
-                    // 성공하면 해당 의사 선택
-                    selectedDoctorId = doctorId;
-                    break;
-                } catch (ReservationException ignore) {
-                    // 이 의사는 불가능하면 다음 의사 검사
+            String selectedDoctorId = selectionPolicy.select(deptCode, candidates).doctorId;
+            try (ReservationLocks.Held held = ReservationLocks.lockSlots(selectedDoctorId, date)) {
+                if (isSlotAvailable(selectedDoctorId, date, timeStr)) {
+                    writeMajorReservation(selectedDoctorId, date, timeStr);
+                    return;
                 }
             }
-        } catch (IOException e) {
-            throw new ReservationException("의사 목록을 불러오는 중 오류가 발생했습니다.");
-        }
-
-        if (selectedDoctorId == null) {
-            throw new ReservationException("해당 진료과에서 예약 가능한 의사가 없습니다.");
         }
+    }
 
+    /**
+     * 선택한 의사로 진료과 예약을 기록합니다
+     */
+    private void writeMajorReservation(String selectedDoctorId, LocalDate date, String timeStr)
+            throws ReservationException {
         try {
             // 예약번호 생성
             String reservationId = reservationRepository.getNextReservationId();
@@ -450,14 +429,8 @@ public class ReservationService {
             String doctorName = doctorInfo[0];
             String dept = doctorInfo[1];
 
-            // Appointment 파일에 예약 생성
-            appointmentRepository.createAppointment(date, selectedDoctorId, timeStr, reservationId);
-
-            // 환자 파일에 예약 추가
-            addReservationToPatientFile(reservationId, date, timeStr, dept, selectedDoctorId);
-
-            // 의사 파일에 예약 반영
-            updateDoctorSchedule(selectedDoctorId, date, timeStr, reservationId);
+            // 저널에 기록 후 예약 현황/환자/의사 파일에 반영
+            writeCreateRecord(reservationId, date, timeStr, dept, selectedDoctorId);
 
             System.out.println("예약이 완료되었습니다. [예약번호: " + reservationId + ", 의사: " + doctorName + "]");
 
@@ -478,29 +451,112 @@ public class ReservationService {
         return sb.toString();
     }
 
+    /**
+     * 진료과 소속 의사 중 해당 날짜/시간에 예약 가능한 의사 목록 (진료과 안의 순서대로)
+     * 근무 요일은 DoctorDirectory, 슬롯은 날짜별 비트맵으로 확인합니다.
+     */
+    private List<DoctorSelectionPolicy.Candidate> findAvailableDoctors(String deptCode, LocalDate date,
+            LocalTime time, String timeStr) throws ReservationException {
+        List<DoctorSelectionPolicy.Candidate> candidates = new ArrayList<>();
+
+        // 근무 시간 (09:00 ~ 17:50) 밖이면 모든 의사가 불가
+        if (time.isBefore(LocalTime.of(9, 0)) || time.isAfter(LocalTime.of(17, 50))) {
+            return candidates;
+        }
+
+        List<DoctorDirectory.Entry> doctors = DoctorDirectory.current().findByDepartment(deptCode);
+
+        // 예약 파일이 없으면 null (의사 스케줄에서 확인), 읽을 수 없으면 모두 불가
+        Map<String, Long> bitmaps;
+        try {
+            bitmaps = appointmentRepository.getAvailabilityBitmaps(date);
+        } catch (AppointmentFileException e) {
+            bitmaps = e.getErrorType() == AppointmentFileException.ErrorType.FILE_NOT_FOUND
+                    ? null
+                    : Collections.emptyMap();
+        }
+
+        // 예약 수는 정책이 볼 때만 셈 (예약 가능 비트맵으로는 예약 불가(X) 칸과 구분할 수 없음)
+        Map<String, Integer> loads = Collections.emptyMap();
+        if (bitmaps != null && !bitmaps.isEmpty() && selectionPolicy.usesLoad()) {
+            try {
+                loads = appointmentRepository.getBookedCounts(date);
+            } catch (AppointmentFileException e) {
+                // 예약 수를 모르면 모두 0 (앞선 의사)
+            }
+        }
+
+        int slotIndex = getSlotIndex(timeStr);
+        for (DoctorDirectory.Entry doctor : doctors) {
+            if (!doctor.worksOn(date)) {
+                continue;
+            }
+
+            if (bitmaps != null) {
+                Long bitmap = bitmaps.get(doctor.getDoctorId());
+                if (bitmap != null && (bitmap & (1L << slotIndex)) != 0) {
+                    int load = loads.getOrDefault(doctor.getDoctorId(), 0);
+                    candidates.add(new DoctorSelectionPolicy.Candidate(doctor.getDoctorId(), doctor.getOrder(), load));
+                }
+            } else if (isScheduleSlotFree(doctor.getDoctorId(), date, timeStr)) {
+                candidates.add(new DoctorSelectionPolicy.Candidate(doctor.getDoctorId(), doctor.getOrder(), 0));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 선택한 의사의 슬롯이 아직 비어 있는지 다시 확인합니다 (슬롯 잠금을 잡은 상태에서 호출)
+     */
+    private boolean isSlotAvailable(String doctorId, LocalDate date, String timeStr) {
+        try {
+            Long bitmap = appointmentRepository.getAvailabilityBitmaps(date).get(doctorId);
+            return bitmap != null && (bitmap & (1L << getSlotIndex(timeStr))) != 0;
+        } catch (AppointmentFileException e) {
+            return e.getErrorType() == AppointmentFileException.ErrorType.FILE_NOT_FOUND
+                    && isScheduleSlotFree(doctorId, date, timeStr);
+        }
+    }
+
+    private boolean isScheduleSlotFree(String doctorId, LocalDate date, String timeStr) {
+        try {
+            return checkDoctorSchedule(doctorId, date, timeStr);
+        } catch (IOException e) {
+            // 스케줄을 읽을 수 없는 의사는 제외
+            return false;
+        }
+    }
+
+    /**
+     * 예약 줄이 처음 읽었을 때와 같은지 확인합니다 (슬롯 잠금을 잡은 상태에서 호출)
+     */
+    private void ensureReservationUnchanged(String patientId, String[] readParts)
+            throws IOException, ReservationException {
+        for (String line : PatientFileStore.readLines(patientId)) {
+            String[] parts = line.trim().split("\\s+");
+            if (parts[0].equals(readParts[0])) {
+                if (Arrays.equals(parts, readParts)) {
+                    return;
+                }
+                break;
+            }
+        }
+        throw new ReservationException("다른 세션에서 예약이 변경되었습니다. 다시 시도해 주세요.");
+    }
+
     private String resolveDoctorId(String doctorIdOrName) throws ReservationException {
+        DoctorDirectory directory = DoctorDirectory.current();
         if (DOCTOR_ID_PATTERN.matcher(doctorIdOrName).matches()) {
-            if (!FileUtil.resourceExists("data/doctor/" + doctorIdOrName + ".txt")) {
+            if (directory.findById(doctorIdOrName) == null) {
                 throw new ReservationException("존재하지 않는 의사번호입니다.");
             }
             return doctorIdOrName;
         }
 
         // 의사 이름으로 검색
-        try {
-            List<String> lines = FileUtil.readLines("data/doctor/doctorlist.txt");
-            for (int i = 1; i < lines.size(); i++) {
-                String line = lines.get(i).trim();
-                if (line.isEmpty())
-                    continue;
-
-                String[] parts = line.split("\\s+");
-                if (parts.length >= 2 && parts[1].equals(doctorIdOrName)) {
-                    return parts[0];
-                }
-            }
-        } catch (IOException e) {
-            throw new ReservationException("의사 정보를 조회하는 중 오류가 발생했습니다.");
+        DoctorDirectory.Entry doctor = directory.findByName(doctorIdOrName);
+        if (doctor != null) {
+            return doctor.getDoctorId();
         }
 
         throw new ReservationException("존재하지 않는 의사입니다.");
@@ -544,28 +600,24 @@ public class ReservationService {
 
     private void validateDoctorWorkingHours(String doctorId, LocalDate date, LocalTime time)
             throws ReservationException {
-        try {
-            String doctorFilePath = "data/doctor/" + doctorId + ".txt";
-            List<String> lines = FileUtil.readLines(doctorFilePath);
-
-            // 근무 시간 확인 (09:00 ~ 17:50)
-            if (time.isBefore(LocalTime.of(9, 0)) || time.isAfter(LocalTime.of(17, 50))) {
-                throw new ReservationException("해당 시간은 의사의 근무 시간이 아닙니다.");
-            }
+        DoctorDirectory.Entry doctor = DoctorDirectory.current().findById(doctorId);
+        if (doctor == null) {
+            throw new ReservationException("의사 정보를 조회하는 중 오류가 발생했습니다.");
+        }
 
-            // 요일별 근무 확인 (월~금: 0~4)
-            int dayOfWeek = date.getDayOfWeek().getValue() - 1; // 0: 월요일
-            if (dayOfWeek >= 5) {
-                throw new ReservationException("주말에는 진료가 불가능합니다.");
-            }
+        // 근무 시간 확인 (09:00 ~ 17:50)
+        if (time.isBefore(LocalTime.of(9, 0)) || time.isAfter(LocalTime.of(17, 50))) {
+            throw new ReservationException("해당 시간은 의사의 근무 시간이 아닙니다.");
+        }
 
-            String[] weekdaySchedule = lines.get(1).split("\\s+");
-            if (!"1".equals(weekdaySchedule[dayOfWeek])) {
-                throw new ReservationException("해당 요일에는 의사가 진료하지 않습니다.");
-            }
+        // 요일별 근무 확인 (월~금: 0~4)
+        int dayOfWeek = date.getDayOfWeek().getValue() - 1; // 0: 월요일
+        if (dayOfWeek >= 5) {
+            throw new ReservationException("주말에는 진료가 불가능합니다.");
+        }
 
-        } catch (IOException e) {
-            throw new ReservationException("의사 정보를 조회하는 중 오류가 발생했습니다.");
+        if (!doctor.worksOn(date)) {
+            throw new ReservationException("해당 요일에는 의사가 진료하지 않습니다.");
         }
     }
 
@@ -607,113 +659,38 @@ public class ReservationService {
         }
     }
 
-    /**
-     * 환자의 노쇼 누적 횟수 조회
-     */
-    private int getPatientNoshowCount(String patientId) throws ReservationException {
-        try {
-            String patientFilePath = "data/patient/" + patientId + ".txt";
-            List<String> lines = FileUtil.readLines(patientFilePath);
-
-            if (lines.isEmpty()) return 0;
-
-            String[] parts = lines.get(0).split("\\s+");
-            if (parts.length >= 5) {
-                try {
-                    return Integer.parseInt(parts[4]);
-                } catch (NumberFormatException e) {
-                    return 0;
-                }
-            }
-            return 0;
-        } catch (IOException e) {
-            throw new ReservationException("환자 정보를 조회하는 중 오류가 발생했습니다: " + e.getMessage());
-        }
-    }
-
     /**
      * 의사 스케줄 파일에서 예약 가능 여부 확인
      */
     private boolean checkDoctorSchedule(String doctorId, LocalDate date, String timeStr) throws IOException {
-        String doctorFilePath = "data/doctor/" + doctorId + ".txt";
-        List<String> lines = FileUtil.readLines(doctorFilePath);
-
-        String dateStr = date.format(DATE_FORMATTER);
         int slotIndex = getSlotIndex(timeStr);
 
-        // 의사 파일에서 해당 날짜 찾기
-        for (int i = 3; i < lines.size(); i++) {
-            String line = lines.get(i).trim();
-            if (line.isEmpty())
-                continue;
-
-            if (line.startsWith(dateStr)) {
-                String[] parts = line.split("\\s+");
-                // 슬롯 인덱스가 범위 내인지 확인 (날짜 + 54개 슬롯)
-                if (slotIndex + 1 < parts.length) {
-                    // "0"이면 예약 가능, 아니면 예약 불가
-                    return "0".equals(parts[slotIndex + 1]);
-                }
-            }
+        // 의사 스케줄에서 해당 날짜 찾기
+        String[] slots = doctorRepository.getScheduleRow(doctorId, date);
+        // 슬롯 인덱스가 범위 내인지 확인 (54개 슬롯)
+        if (slots != null && slotIndex < slots.length) {
+            // "0"이면 예약 가능, 아니면 예약 불가
+            return "0".equals(slots[slotIndex]);
         }
 
         // 해당 날짜가 의사 파일에 없으면 예약 가능으로 판단
-        // (updateDoctorSchedule()에서 새 날짜 줄이 자동으로 생성됨)
+        // (DoctorRepository.updateSchedule()에서 새 날짜 줄이 자동으로 생성됨)
         return true;
     }
 
     private String[] getDoctorInfo(String doctorId) throws IOException {
-        List<String> lines = FileUtil.readLines("data/doctor/" + doctorId + ".txt");
-        String[] parts = lines.get(0).split("\\s+");
-        return new String[] { parts[1], parts[2] }; // [이름, 진료과코드]
-    }
-
-    private void addReservationToPatientFile(String reservationId, LocalDate date, String startTime, String deptCode,
-            String doctorId) throws IOException {
-        User currentUser = authContext.getCurrentUser();
-        String patientId = currentUser.getId();
-        String patientFilePath = "data/patient/" + patientId + ".txt";
-
-        String endTime = calculateEndTime(startTime);
-        String dateStr = date.format(DATE_FORMATTER);
-        String reservationLine = String.join(" ", reservationId, dateStr, startTime, endTime, deptCode, doctorId, "1");
-
-        FileUtil.appendLine(patientFilePath, reservationLine);
-    }
-
-    private void updateDoctorSchedule(String doctorId, LocalDate date, String timeStr, String value)
-            throws IOException {
-        String doctorFilePath = "data/doctor/" + doctorId + ".txt";
-        List<String> lines = FileUtil.readLines(doctorFilePath);
-
-        String dateStr = date.format(DATE_FORMATTER);
-        int slotIndex = getSlotIndex(timeStr);
-
-        boolean found = false;
-        for (int i = 3; i < lines.size(); i++) {
-            String line = lines.get(i).trim();
-            if (line.startsWith(dateStr)) {
-                String[] parts = line.split("\\s+");
-                parts[slotIndex + 1] = value; // +1은 날짜 칼럼 때문
-                lines.set(i, String.join(" ", parts));
-                found = true;
-                break;
-            }
-        }
-
-        if (!found) {
-            // 해당 날짜 스케줄이 없으면 새로 생성
-            String[] slots = new String[55];
-            slots[0] = dateStr;
-            for (int i = 1; i <= 54; i++) {
-                slots[i] = "0";
-            }
-            slots[slotIndex + 1] = value;
-            lines.add(String.join(" ", slots));
+        DoctorDirectory.Entry doctor = DoctorDirectory.current().findById(doctorId);
+        if (doctor == null) {
+            throw new IOException("존재하지 않는 의사번호입니다: " + doctorId);
         }
+        return new String[] { doctor.getName(), doctor.getDeptCode() }; // [이름, 진료과코드]
+    }
 
-        Path doctorFile = FileUtil.getResourcePath(doctorFilePath);
-        Files.write(doctorFile, lines);
+    private void writeCreateRecord(String reservationId, LocalDate date, String startTime, String deptCode,
+            String doctorId) throws IOException, AppointmentFileException {
+        String patientId = authContext.getCurrentUser().getId();
+        journal.write(ReservationJournal.Record.create(reservationId, patientId, date.format(DATE_FORMATTER),
+                startTime, calculateEndTime(startTime), deptCode, doctorId));
     }
 
     private String calculateEndTime(String startTime) {
@@ -4,24 +4,31 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import model.User;
 import repository.AppointmentRepository;
+import repository.DoctorDirectory;
+import repository.DoctorRepository;
+import repository.PatientFileStore;
+import repository.SlotAvailabilityCache;
 import service.AuthContext;
 import util.exception.AppointmentFileException;
 import util.exception.SearchException;
-import util.file.FileUtil;
 import repository.MajorRepository;
 
 public class SearchService {
     private final AuthContext authContext;
     private final AppointmentRepository appointmentRepository;
     private final MajorRepository majorRepository;
+    private final DoctorRepository doctorRepository;
 
     public SearchService(AuthContext authContext, MajorRepository majorRepository) {
         this.authContext = authContext;
-        this.appointmentRepository = new AppointmentRepository();
+        this.appointmentRepository = AppointmentRepository.getInstance();
         this.majorRepository = majorRepository;
+        this.doctorRepository = DoctorRepository.getInstance();
     }
 
     /**
@@ -44,8 +51,7 @@ public class SearchService {
         }
 
         try {
-            String filePath = "data/patient/" + patientId + ".txt";
-            List<String> lines = FileUtil.readLines(filePath);
+            List<String> lines = PatientFileStore.readLines(patientId);
 
             List<String> reservations = new ArrayList<>();
             for (int i = 3; i < lines.size(); i++) {
@@ -146,7 +152,7 @@ public class SearchService {
      * 진료과별 예약 가능 시간 조회
      */
     private void showAvailableSlotsByDepartment(String deptCode, LocalDate date) throws SearchException {
-        List<DoctorInfo> doctors = findDoctorsByDepartment(deptCode);
+        List<DoctorDirectory.Entry> doctors = DoctorDirectory.current().findByDepartment(deptCode);
 
         if (doctors.isEmpty()) {
             System.out.println("(해당 진료과의 의사가 없습니다)");
@@ -158,12 +164,29 @@ public class SearchService {
         System.out.printf("%s (%s) 예약 가능 시간%s%n", deptName, deptCode, date != null ? " (" + date + ")" : "");
         System.out.println("======================================================================================");
 
+        // 날짜가 있으면 예약 파일을 의사마다 읽지 않고 날짜별 비트맵을 한 번만 조회
+        Map<String, Long> bitmaps = null;
+        if (date != null) {
+            try {
+                bitmaps = appointmentRepository.getAvailabilityBitmaps(date);
+            } catch (AppointmentFileException e) {
+                // 파일이 없으면 예약 가능한 시간 없음
+                bitmaps = Collections.emptyMap();
+            }
+        }
+
         boolean anySlot = false;
-        for (DoctorInfo doc : doctors) {
-            List<String> slots = getAvailableSlots(doc.id, date);
+        for (DoctorDirectory.Entry doc : doctors) {
+            List<String> slots;
+            if (bitmaps != null) {
+                Long bitmap = bitmaps.get(doc.getDoctorId());
+                slots = bitmap != null ? SlotAvailabilityCache.toTimes(bitmap) : Collections.emptyList();
+            } else {
+                slots = getAvailableSlots(doc.getDoctorId(), null);
+            }
             if (!slots.isEmpty()) {
                 anySlot = true;
-                System.out.printf("[%s] %s: %s%n", doc.id, doc.name, String.join(", ", slots));
+                System.out.printf("[%s] %s: %s%n", doc.getDoctorId(), doc.getName(), String.join(", ", slots));
             }
         }
 
@@ -173,48 +196,24 @@ public class SearchService {
         System.out.println("======================================================================================");
     }
 
-    private List<DoctorInfo> findDoctorsByDepartment(String deptCode) throws SearchException {
-        List<DoctorInfo> doctors = new ArrayList<>();
-        try {
-            List<String> lines = FileUtil.readLines("data/doctor/doctorlist.txt");
-            for (int i = 1; i < lines.size(); i++) {
-                String line = lines.get(i).trim();
-                if (line.isEmpty()) continue;
-
-                String[] parts = line.split("\\s+");
-                if (parts.length >= 3 && parts[2].equals(deptCode)) {
-                    doctors.add(new DoctorInfo(parts[0], parts[1], parts[2]));
-                }
-            }
-        } catch (IOException e) {
-            throw new SearchException("의사 정보를 조회하는 중 오류가 발생했습니다.");
-        }
-        return doctors;
-    }
-
     /**
      * 의사별 예약 가능 시간 조회
      */
     private void showDoctorAvailableSlots(String doctorId, LocalDate date) throws SearchException {
-        try {
-            String doctorName = getDoctorName(doctorId);
+        String doctorName = getDoctorName(doctorId);
 
-            System.out.println("======================================================================================");
-            System.out.println(doctorName + " 예약 가능 일정 ");
-            System.out.println("======================================================================================");
+        System.out.println("======================================================================================");
+        System.out.println(doctorName + " 예약 가능 일정 ");
+        System.out.println("======================================================================================");
 
-            List<String> availableSlots = getAvailableSlots(doctorId, date);
+        List<String> availableSlots = getAvailableSlots(doctorId, date);
 
-            if (availableSlots.isEmpty()) {
-                System.out.println("예약 가능한 시간이 없습니다.");
-            } else {
-                for (String slot : availableSlots) {
-                    System.out.println("- " + slot);
-                }
+        if (availableSlots.isEmpty()) {
+            System.out.println("예약 가능한 시간이 없습니다.");
+        } else {
+            for (String slot : availableSlots) {
+                System.out.println("- " + slot);
             }
-
-        } catch (IOException e) {
-            throw new SearchException("의사 정보를 조회하는 중 오류가 발생했습니다.");
         }
     }
 
@@ -226,14 +225,8 @@ public class SearchService {
 
         try {
             if (date == null) {
-                // 날짜 지정 없음 - 의사 파일에서 모든 예약 가능 시간 가져오기
-                String doctorFilePath = "data/doctor/" + doctorId + ".txt";
-                List<String> lines = FileUtil.readLines(doctorFilePath);
-
-                for (int i = 3; i < lines.size(); i++) {
-                    String line = lines.get(i).trim();
-                    if (line.isEmpty()) continue;
-
+                // 날짜 지정 없음 - 의사 스케줄에서 모든 예약 가능 시간 가져오기
+                for (String line : doctorRepository.getScheduleLines(doctorId)) {
                     String[] parts = line.split("\\s+");
                     String scheduleDate = parts[0];
 
@@ -289,21 +282,8 @@ public class SearchService {
      * 의사 이름으로 의사번호 찾기
      */
     private String findDoctorIdByName(String doctorName) {
-        try {
-            List<String> lines = FileUtil.readLines("data/doctor/doctorlist.txt");
-            for (int i = 1; i < lines.size(); i++) {
-                String line = lines.get(i).trim();
-                if (line.isEmpty()) continue;
-
-                String[] parts = line.split("\\s+");
-                if (parts.length >= 2 && parts[1].equals(doctorName)) {
-                    return parts[0];
-                }
-            }
-        } catch (IOException e) {
-            return null;
-        }
-        return null;
+        DoctorDirectory.Entry doctor = DoctorDirectory.current().findByName(doctorName);
+        return doctor == null ? null : doctor.getDoctorId();
     }
 
     /**
@@ -322,34 +302,14 @@ public class SearchService {
     /**
      * 의사 이름 가져오기
      */
-    private String getDoctorName(String doctorId) throws IOException {
-        List<String> lines = FileUtil.readLines("data/doctor/" + doctorId + ".txt");
-        if (!lines.isEmpty()) {
-            String[] parts = lines.get(0).split("\\s+");
-            return parts[1];
-        }
-        return doctorId;
+    private String getDoctorName(String doctorId) {
+        return DoctorDirectory.current().getName(doctorId);
     }
 
     /**
      * 의사 존재 여부 확인
      */
     private boolean isDoctorExists(String doctorId) {
-        return FileUtil.resourceExists("data/doctor/" + doctorId + ".txt");
-    }
-
-    /**
-     * 의사 정보를 담는 내부 클래스
-     */
-    private static class DoctorInfo {
-        String id;
-        String name;
-        String department;
-
-        DoctorInfo(String id, String name, String department) {
-            this.id = id;
-            this.name = name;
-            this.department = department;
-        }
+        return DoctorDirectory.current().findById(doctorId) != null;
     }
-}
\ No newline at end of file
+}
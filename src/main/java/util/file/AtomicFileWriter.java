@@ -0,0 +1,268 @@
+package util.file;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 파일 덮어쓰기: 같은 디렉토리의 임시 파일에 쓰고 원자적으로 이름을 바꿉니다
+ * - 쓰는 도중 프로그램이 종료되어도 기존 내용 또는 새 내용 중 하나만 남습니다. (파일이 잘려 검증에 실패하지 않음)
+ * - 디스크 반영(-Dfile.durability): 동시에 들어온 쓰기는 먼저 온 스레드가 모아서
+ *   임시 파일들을 모두 반영한 뒤 이름을 바꿉니다. (반영 전에 이름을 바꾸면 전원이 나갔을 때
+ *   이름 바꾸기만 남아 빈 파일이나 잘린 파일이 될 수 있음)
+ *   batch(기본): 이름을 바꾼 뒤 반환하고, 디렉토리는 -Dfile.sync.interval.ms(기본 50)마다 한 번에 반영합니다.
+ *                (그 사이 전원이 나가면 이름 바꾸기가 사라져 이전 내용이 남을 수 있음)
+ *   sync: 디렉토리까지 반영한 다음 반환합니다.
+ *   none: 디스크 반영 없이 원자적 교체만 합니다.
+ */
+final class AtomicFileWriter {
+
+    static final String DURABILITY_PROPERTY = "file.durability";
+    static final String SYNC_INTERVAL_PROPERTY = "file.sync.interval.ms";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final AtomicLong tempSequence = new AtomicLong();
+
+    // 이름 바꾸기를 기다리는 쓰기 (commitLock 을 잡은 스레드가 모두 처리)
+    private static final List<PendingWrite> pendingWrites = new ArrayList<>();
+    static final Object commitLock = new Object();
+    private static final AtomicLong commitCount = new AtomicLong();
+
+    // batch: 이름은 바꿨고 디스크 반영을 기다리는 디렉토리
+    private static final Set<Path> unsyncedDirectories = ConcurrentHashMap.newKeySet();
+    private static ScheduledExecutorService syncer;
+
+    private AtomicFileWriter() {
+    }
+
+    static void write(Path path, byte[] bytes) throws IOException {
+        Path tempPath = writeTemp(path, bytes);
+        switch (durability()) {
+            case "sync" -> commitSynchronously(new PendingWrite(tempPath, path, true));
+            case "none" -> move(tempPath, path);
+            default -> commitSynchronously(new PendingWrite(tempPath, path, false));
+        }
+    }
+
+    /**
+     * 설정과 관계없이 디스크에 반영한 뒤 반환합니다 (sync 와 같은 경로)
+     */
+    static void writeDurably(Path path, byte[] bytes) throws IOException {
+        Path tempPath = writeTemp(path, bytes);
+        commitSynchronously(new PendingWrite(tempPath, path, true));
+    }
+
+    /**
+     * 반영을 기다리는 디렉토리를 모두 디스크에 반영합니다 (batch)
+     */
+    static void syncPending() {
+        for (Path directory : unsyncedDirectories) {
+            unsyncedDirectories.remove(directory);
+            forceDirectory(directory);
+        }
+    }
+
+    /**
+     * 이전 실행이 남긴 임시 파일을 지웁니다 (프로그램 시작 시)
+     */
+    static void deleteLeftoverTempFiles(Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                if (path.getFileName().toString().endsWith(TEMP_SUFFIX) && Files.isRegularFile(path)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * 같은 디렉토리의 임시 파일 경로 ("파일명.순번.tmp", 호출마다 다름)
+     */
+    static Path tempPathFor(Path path) {
+        return path.resolveSibling(path.getFileName() + "." + tempSequence.incrementAndGet() + TEMP_SUFFIX);
+    }
+
+    private static Path writeTemp(Path path, byte[] bytes) throws IOException {
+        Path tempPath = tempPathFor(path);
+        try {
+            Files.write(tempPath, bytes);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+        return tempPath;
+    }
+
+    private static void forceFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // 디렉토리를 열 수 없는 파일 시스템(Windows 등)에서는 이름 바꾸기 자체의 원자성만 보장
+        }
+    }
+
+    private static String durability() {
+        return System.getProperty(DURABILITY_PROPERTY, "batch").toLowerCase();
+    }
+
+    /**
+     * 대기열에 넣고, commitLock 을 먼저 잡은 스레드가 그때까지 쌓인 쓰기를 한 번에 처리합니다
+     */
+    private static void commitSynchronously(PendingWrite write) throws IOException {
+        synchronized (pendingWrites) {
+            pendingWrites.add(write);
+        }
+
+        synchronized (commitLock) {
+            if (!write.done) {
+                List<PendingWrite> batch;
+                synchronized (pendingWrites) {
+                    batch = new ArrayList<>(pendingWrites);
+                    pendingWrites.clear();
+                }
+                commitBatch(batch);
+            }
+        }
+
+        if (write.failure != null) {
+            throw write.failure;
+        }
+    }
+
+    /**
+     * 임시 파일을 모두 반영한 뒤 이름을 바꾸고, 디렉토리는 한 번씩만 반영합니다
+     */
+    private static void commitBatch(List<PendingWrite> batch) {
+        commitCount.incrementAndGet();
+        for (PendingWrite write : batch) {
+            try {
+                forceFile(write.tempPath);
+            } catch (IOException e) {
+                fail(write, e);
+            }
+        }
+
+        Set<Path> directories = new HashSet<>();
+        boolean deferred = false;
+        for (PendingWrite write : batch) {
+            if (write.failure != null) {
+                continue;
+            }
+            try {
+                move(write.tempPath, write.path);
+            } catch (IOException e) {
+                fail(write, e);
+                continue;
+            }
+            if (write.syncDirectory) {
+                directories.add(write.path.getParent());
+            } else {
+                unsyncedDirectories.add(write.path.getParent());
+                deferred = true;
+            }
+        }
+        for (Path directory : directories) {
+            forceDirectory(directory);
+        }
+        if (deferred) {
+            startSyncer();
+        }
+        for (PendingWrite write : batch) {
+            write.done = true;
+        }
+    }
+
+    private static void fail(PendingWrite write, IOException e) {
+        write.failure = e;
+        try {
+            Files.deleteIfExists(write.tempPath);
+        } catch (IOException ignored) {
+            // 다음 시작 시 지워짐
+        }
+    }
+
+    /**
+     * 모아서 처리한 횟수 (테스트용)
+     */
+    static long commitCount() {
+        return commitCount.get();
+    }
+
+    /**
+     * 이름 바꾸기를 기다리는 쓰기 수 (테스트용)
+     */
+    static int pendingCount() {
+        synchronized (pendingWrites) {
+            return pendingWrites.size();
+        }
+    }
+
+    private static void move(Path tempPath, Path path) throws IOException {
+        try {
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static synchronized void startSyncer() {
+        if (syncer != null) {
+            return;
+        }
+
+        long intervalMillis = Math.max(1, Long.getLong(SYNC_INTERVAL_PROPERTY, 50L));
+        syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "file-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(AtomicFileWriter::syncPending, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        try {
+            Runtime.getRuntime().addShutdownHook(new Thread(AtomicFileWriter::syncPending, "file-sync-shutdown"));
+        } catch (IllegalStateException e) {
+            // 종료 중 처음 쓴 경우 (다른 종료 훅의 쓰기): 이름 바꾸기는 끝났으므로 디렉토리를 바로 반영
+            syncPending();
+        }
+    }
+
+    /**
+     * 이름 바꾸기를 기다리는 쓰기 하나 (done/failure 는 commitLock 안에서만 바뀜)
+     */
+    private static class PendingWrite {
+        final Path tempPath;
+        final Path path;
+        final boolean syncDirectory;
+        boolean done;
+        IOException failure;
+
+        PendingWrite(Path tempPath, Path path, boolean syncDirectory) {
+            this.tempPath = tempPath;
+            this.path = path;
+            this.syncDirectory = syncDirectory;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package util.file;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -8,17 +11,63 @@ import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.List;
 
+import util.metrics.Metrics;
+
+/**
+ * 파일 읽기/쓰기 헬퍼
+ * - 모든 읽기/쓰기를 Metrics 에 기록합니다 (파일 수, 바이트 수).
+ * - 덮어쓰기는 모두 AtomicFileWriter 를 거칩니다 (임시 파일 + 원자적 교체, 디스크 반영은 -Dfile.durability).
+ */
 public class FileUtil {
 
     public static void writeLines(String filePath, List<String> lines) {
         try {
-            Path path = getResourcePath(filePath);
-            Files.write(path, lines);
+            write(getResourcePath(filePath), lines);
         } catch (IOException e) {
             throw new RuntimeException("파일에 데이터를 쓰는 중 오류 발생: " + e.getMessage());
         }
     }
 
+    /**
+     * 원자적으로 교체하고, -Dfile.durability 설정과 관계없이 디스크에 반영한 뒤 반환합니다
+     * (번호 발급, 저널 정리처럼 반영 순서가 중요한 파일용)
+     */
+    public static void writeLinesAtomically(String filePath, List<String> lines) throws IOException {
+        Path path = getResourcePath(filePath);
+        Files.createDirectories(path.getParent());
+        byte[] bytes = encodeLines(lines);
+        AtomicFileWriter.writeDurably(path, bytes);
+        Metrics.recordWrite(bytes.length);
+    }
+
+    /**
+     * 파일 내용과 디렉토리 항목을 디스크에 반영합니다 (파일이 없으면 무시)
+     * 파일은 이름 바꾸기로 교체되므로, 교체 결과가 남도록 디렉토리도 함께 반영합니다.
+     */
+    public static void force(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        AtomicFileWriter.forceDirectory(path.getParent());
+    }
+
+    /**
+     * batch 방식에서 아직 디스크에 반영하지 않은 이름 바꾸기(디렉토리)를 모두 반영합니다
+     */
+    public static void syncPendingWrites() {
+        AtomicFileWriter.syncPending();
+    }
+
+    /**
+     * 이전 실행이 쓰는 도중 종료되어 남은 임시 파일을 지웁니다 (프로그램 시작 시)
+     */
+    public static void deleteLeftoverTempFiles(String directoryPath) throws IOException {
+        AtomicFileWriter.deleteLeftoverTempFiles(getResourcePath(directoryPath));
+    }
+
     public static List<String> readLines(String filePath) throws IOException {
         Path resourcePath = getResourcePath(filePath);
 
@@ -26,7 +75,61 @@ public class FileUtil {
             return Collections.emptyList();
         }
 
-        return Files.readAllLines(resourcePath);
+        return readLines(resourcePath);
+    }
+
+    /**
+     * 파일의 모든 줄을 읽습니다 (없으면 NoSuchFileException)
+     */
+    public static List<String> readLines(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path);
+        Metrics.recordRead(Files.size(path));
+        return lines;
+    }
+
+    /**
+     * 파일 전체를 바이트로 읽습니다 (없으면 NoSuchFileException)
+     */
+    public static byte[] readAllBytes(Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        Metrics.recordRead(bytes.length);
+        return bytes;
+    }
+
+    /**
+     * 파일을 줄 단위로 읽는 Reader (여는 시점에 파일 크기만큼 읽은 것으로 기록)
+     */
+    public static BufferedReader newBufferedReader(Path path) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(path);
+        Metrics.recordRead(Files.size(path));
+        return reader;
+    }
+
+    /**
+     * 파일 전체를 줄 목록으로 덮어씁니다 (임시 파일 + 원자적 교체)
+     */
+    public static void write(Path path, List<String> lines) throws IOException {
+        write(path, encodeLines(lines));
+    }
+
+    /**
+     * 파일 전체를 바이트로 덮어씁니다 (임시 파일 + 원자적 교체)
+     */
+    public static void write(Path path, byte[] bytes) throws IOException {
+        AtomicFileWriter.write(path, bytes);
+        Metrics.recordWrite(bytes.length);
+    }
+
+    /**
+     * Files.write(path, lines) 와 같은 바이트 (UTF-8, 줄마다 줄바꿈)
+     */
+    private static byte[] encodeLines(List<String> lines) {
+        String lineSeparator = System.lineSeparator();
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(lineSeparator);
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
     }
 
     public static boolean resourceExists(String filePath) {
@@ -36,12 +139,14 @@ public class FileUtil {
     public static void appendLine(String filePath, String line) throws IOException {
         Path path = getResourcePath(filePath);
         Files.createDirectories(path.getParent());
-        Files.writeString(path, System.lineSeparator() + line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        String appended = System.lineSeparator() + line;
+        Files.writeString(path, appended, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        Metrics.recordWrite(appended.getBytes(StandardCharsets.UTF_8).length);
     }
 
     public static void createDirectoriesAndWrite(Path filePath, List<String> lines) throws IOException {
         Files.createDirectories(filePath.getParent());
-        Files.write(filePath, lines);
+        write(filePath, lines);
     }
 
     /**
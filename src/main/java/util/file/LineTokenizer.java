@@ -0,0 +1,98 @@
+package util.file;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 공백으로 구분된 목록 파일을 줄/토큰 단위로 훑는 토크나이저
+ * - 파일 전체를 바이트 배열로 한 번 읽고, split("\\s+") 같은 정규식 없이 공백/탭/CR 로 토큰을 나눕니다.
+ * - 줄 앞뒤의 공백과 빈 줄은 무시합니다. 토큰 문자열은 요청한 개수만큼만 만듭니다. (UTF-8)
+ */
+public final class LineTokenizer {
+
+    private final byte[] bytes;
+    private int position;
+    private int lineEnd = -1;
+
+    public LineTokenizer(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * 파일을 읽어 토크나이저를 만듭니다 (파일이 없으면 빈 내용)
+     */
+    public static LineTokenizer open(String filePath) throws IOException {
+        Path path = FileUtil.getResourcePath(filePath);
+        if (!Files.exists(path)) {
+            return new LineTokenizer(new byte[0]);
+        }
+        return new LineTokenizer(FileUtil.readAllBytes(path));
+    }
+
+    /**
+     * 파일의 줄 수 (목록 크기를 미리 정할 때 사용, 위치는 바뀌지 않음)
+     */
+    public int countLines() {
+        int count = 0;
+        for (byte b : bytes) {
+            if (b == '\n') {
+                count++;
+            }
+        }
+        if (bytes.length > 0 && bytes[bytes.length - 1] != '\n') {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 다음 줄로 이동합니다
+     *
+     * @return 줄이 있으면 true
+     */
+    public boolean nextLine() {
+        if (lineEnd >= 0) {
+            position = lineEnd + 1;
+        }
+        if (position >= bytes.length) {
+            return false;
+        }
+        lineEnd = position;
+        while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+            lineEnd++;
+        }
+        return true;
+    }
+
+    /**
+     * 현재 줄의 토큰을 앞에서부터 tokens 에 채웁니다
+     *
+     * @return 줄의 전체 토큰 수 (tokens 길이보다 많으면 나머지는 세기만 함, 빈 줄이면 0)
+     */
+    public int tokens(String[] tokens) {
+        int count = 0;
+        int index = position;
+        while (true) {
+            while (index < lineEnd && isBlank(bytes[index])) {
+                index++;
+            }
+            if (index >= lineEnd) {
+                return count;
+            }
+            int start = index;
+            while (index < lineEnd && !isBlank(bytes[index])) {
+                index++;
+            }
+            if (count < tokens.length) {
+                tokens[count] = new String(bytes, start, index - start, StandardCharsets.UTF_8);
+            }
+            count++;
+        }
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+}
@@ -15,7 +15,7 @@ public class VirtualTime {
     private static final LocalDateTime MIN_TIME = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
     private static final LocalDateTime MAX_TIME = LocalDateTime.of(2025, 12, 31, 23, 59, 59);
 
-    private static LocalDateTime baseTime; // BASE_TIME
+    private static volatile LocalDateTime baseTime; // BASE_TIME
 
 
     // 1) 프로그램 시작 시 virtualtime.txt에서 BASE_TIME을 읽어옴
@@ -78,7 +78,7 @@ public class VirtualTime {
     }
 
     // setTime에 검증
-    public static void setTime(LocalDateTime newTime) {
+    public static synchronized void setTime(LocalDateTime newTime) {
         // 범위 검증
         if (newTime.isBefore(MIN_TIME)) {
             System.out.println("[오류] 설정 가능한 시간 범위를 벗어났습니다. (2025-01-01 ~ 2025-12-31)");
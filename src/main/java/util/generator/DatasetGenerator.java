@@ -0,0 +1,571 @@
+package util.generator;
+
+import util.hash.PasswordHasher;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트용 data/ 디렉토리 생성기
+ * - patientlist / doctorlist / credentials / majorlist / virtualtime 과
+ *   P######.txt, D#####.txt, D#####-master.txt, data/appointment/yyyyMMdd.txt 를 만듭니다.
+ * - 슬롯마다 예약 여부를 (seed, 날짜, 의사, 슬롯)의 해시로 정하므로 예약 목록을 메모리에 두지 않습니다.
+ *   먼저 (날짜, 의사)별 예약 수만 세어 누적 합으로 예약번호를 매기고,
+ *   환자/의사/날짜 파일은 ForkJoinPool 에서 병렬로 한 줄씩 씁니다.
+ * - 예약 n 의 환자는 ((n - 1) mod 환자 수) + 1 번 환자입니다.
+ *
+ * 실행: java Main --generate <출력 디렉토리> [--patients N] [--doctors N] [--days N] [--start YYYY-MM-DD]
+ *       [--fill 0~1] [--distribution uniform|peak|skewed] [--seed N] [--threads N]
+ */
+public class DatasetGenerator {
+
+    public static final int SLOT_COUNT = 54;
+    private static final int MAX_RESERVATIONS = 99_999_999;
+    private static final int PATIENT_CHUNK = 1024;
+    private static final double MAX_FILL = 0.9;
+    private static final String DEFAULT_PASSWORD = "password1";
+
+    private static final String[][] MAJORS = {
+            { "IM", "내과" }, { "GS", "외과" }, { "DERM", "피부과" }, { "PED", "소아청소년과" },
+            { "OBGY", "산부인과" }, { "ORTH", "정형외과" }, { "ENT", "이비인후과" }, { "PSYC", "정신건강의학과" }
+    };
+    private static final String[] FAMILY_NAMES = { "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임" };
+    private static final String[] GIVEN_SYLLABLES = { "민", "서", "지", "현", "우", "준", "영", "수", "하", "연" };
+    private static final String[] DAY_NAMES = { "MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN" };
+
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /**
+     * 예약 분포
+     * - UNIFORM: 모든 슬롯이 같은 확률
+     * - PEAK   : 오전(10~12시)/오후(14~16시) 혼잡, 점심(12시대) 한산
+     * - SKEWED : 의사별 인기도 차이 (앞 번호 의사일수록 예약이 많음)
+     */
+    public enum Distribution {
+        UNIFORM, PEAK, SKEWED
+    }
+
+    /**
+     * 생성 옵션
+     */
+    public static class Options {
+        public Path outputDir;
+        public int patients = 1000;
+        public int doctors = 20;
+        public int days = 20;
+        public LocalDate startDate = LocalDate.of(2030, 1, 7);
+        public double fill = 0.3;
+        public Distribution distribution = Distribution.UNIFORM;
+        public long seed = 1L;
+        public int threads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * 명령행 인자를 옵션으로 변환합니다 (첫 번째 인자는 출력 디렉토리)
+         *
+         * @throws IllegalArgumentException 인자가 올바르지 않은 경우
+         */
+        public static Options parse(String[] args) {
+            if (args.length == 0 || args[0].startsWith("--")) {
+                throw new IllegalArgumentException("출력 디렉토리를 지정해야 합니다.");
+            }
+            Options options = new Options();
+            options.outputDir = Paths.get(args[0]);
+
+            for (int i = 1; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("옵션 값이 없습니다: " + args[i]);
+                }
+                String value = args[i + 1];
+                try {
+                    switch (args[i]) {
+                        case "--patients":
+                            options.patients = Integer.parseInt(value);
+                            break;
+                        case "--doctors":
+                            options.doctors = Integer.parseInt(value);
+                            break;
+                        case "--days":
+                            options.days = Integer.parseInt(value);
+                            break;
+                        case "--start":
+                            options.startDate = LocalDate.parse(value);
+                            break;
+                        case "--fill":
+                            options.fill = Double.parseDouble(value);
+                            break;
+                        case "--distribution":
+                            options.distribution = Distribution.valueOf(value.toUpperCase());
+                            break;
+                        case "--seed":
+                            options.seed = Long.parseLong(value);
+                            break;
+                        case "--threads":
+                            options.threads = Integer.parseInt(value);
+                            break;
+                        default:
+                            throw new IllegalArgumentException("알 수 없는 옵션입니다: " + args[i]);
+                    }
+                } catch (NumberFormatException | DateTimeParseException e) {
+                    throw new IllegalArgumentException("옵션 값이 올바르지 않습니다: " + args[i] + " " + value);
+                }
+            }
+            options.validate();
+            return options;
+        }
+
+        /**
+         * 예약이 약 reservations 건이 되도록 날짜 수와 예약 밀도를 정합니다 (밀도는 최대 0.9, 나머지는 기본값)
+         */
+        public static Options forReservations(Path outputDir, int reservations, int doctors, int patients) {
+            Options options = new Options();
+            options.outputDir = outputDir;
+            options.doctors = doctors;
+            options.patients = patients;
+            double slotsPerDay = (double) doctors * SLOT_COUNT;
+            options.days = Math.max(1, (int) Math.ceil(reservations / (slotsPerDay * MAX_FILL)));
+            options.fill = Math.min(1.0, reservations / (slotsPerDay * options.days));
+            options.validate();
+            return options;
+        }
+
+        void validate() {
+            if (patients < 1 || patients > 999_999) {
+                throw new IllegalArgumentException("환자 수는 1 ~ 999999 사이여야 합니다.");
+            }
+            if (doctors < 1 || doctors > 99_999) {
+                throw new IllegalArgumentException("의사 수는 1 ~ 99999 사이여야 합니다.");
+            }
+            if (days < 1) {
+                throw new IllegalArgumentException("날짜 수는 1 이상이어야 합니다.");
+            }
+            if (fill < 0 || fill > 1) {
+                throw new IllegalArgumentException("예약 밀도(--fill)는 0 ~ 1 사이여야 합니다.");
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다.");
+            }
+        }
+    }
+
+    private final Options options;
+    private final List<LocalDate> dates;
+    private final double[] slotWeights;
+    private final double[] doctorWeights;
+    // (날짜 순번 * 의사 수 + 의사 순번) 칸보다 앞선 예약 수, 마지막 원소는 전체 예약 수
+    private int[] offsets;
+
+    public DatasetGenerator(Options options) {
+        options.validate();
+        this.options = options;
+        this.dates = workingDates(options.startDate, options.days);
+        this.slotWeights = slotWeights(options.distribution);
+        this.doctorWeights = doctorWeights(options.distribution, options.doctors);
+    }
+
+    /**
+     * 데이터 디렉토리를 생성합니다
+     *
+     * @return 생성한 예약 수
+     */
+    public int generate() throws IOException {
+        Path data = options.outputDir.resolve("data");
+        for (String dir : new String[] { "patient", "doctor", "appointment", "auth", "major", "time", "sequence" }) {
+            Files.createDirectories(data.resolve(dir));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(options.threads);
+        try {
+            countReservations(pool);
+
+            writeMajorList(data.resolve("major/majorlist.txt"));
+            writeSmallFiles(data);
+            writeListFiles(data);
+
+            // 파일 하나는 한 작업만 쓰므로 작업끼리 잠금이 필요 없음
+            run(pool, () -> IntStream.range(0, dates.size()).parallel()
+                    .forEach(day -> unchecked(() -> writeAppointmentFile(data, day))));
+            run(pool, () -> IntStream.range(0, options.doctors).parallel()
+                    .forEach(doctor -> unchecked(() -> writeDoctorFiles(data, doctor))));
+            int chunks = (options.patients + PATIENT_CHUNK - 1) / PATIENT_CHUNK;
+            run(pool, () -> IntStream.range(0, chunks).parallel()
+                    .forEach(chunk -> unchecked(() -> writePatientFiles(data, chunk))));
+        } finally {
+            pool.shutdown();
+        }
+        return totalReservations();
+    }
+
+    public int totalReservations() {
+        return offsets[offsets.length - 1];
+    }
+
+    /**
+     * 예약을 만드는 날짜 목록 (평일, 오름차순)
+     */
+    public List<LocalDate> getDates() {
+        return dates;
+    }
+
+    // ========== 예약 배치 ==========
+
+    /**
+     * (날짜, 의사)별 예약 수를 세어 예약번호 시작 위치를 정합니다
+     */
+    private void countReservations(ForkJoinPool pool) throws IOException {
+        int doctors = options.doctors;
+        long cellCount = (long) dates.size() * doctors;
+        if (cellCount >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("날짜 수 x 의사 수가 너무 큽니다.");
+        }
+
+        int[] counts = new int[(int) cellCount];
+        run(pool, () -> IntStream.range(0, dates.size()).parallel().forEach(day -> {
+            for (int doctor = 0; doctor < doctors; doctor++) {
+                counts[day * doctors + doctor] = Long.bitCount(occupancy(day, doctor));
+            }
+        }));
+
+        offsets = new int[counts.length + 1];
+        long total = 0;
+        for (int cell = 0; cell < counts.length; cell++) {
+            offsets[cell] = (int) total;
+            total += counts[cell];
+            if (total > MAX_RESERVATIONS) {
+                throw new IllegalArgumentException("예약 수가 예약번호 범위(R99999999)를 넘습니다.");
+            }
+        }
+        offsets[counts.length] = (int) total;
+    }
+
+    /**
+     * (날짜, 의사)의 예약된 슬롯 비트 (i번째 비트 = i번째 슬롯)
+     */
+    long occupancy(int day, int doctor) {
+        long mask = 0L;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            double probability = Math.min(1.0, options.fill * slotWeights[slot] * doctorWeights[doctor]);
+            long hash = mix(options.seed, day, doctor, slot);
+            // 상위 53비트로 [0, 1) 실수를 만듦
+            if ((hash >>> 11) * 0x1.0p-53 < probability) {
+                mask |= 1L << slot;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * (날짜, 의사, 슬롯)의 예약번호 (1부터)
+     */
+    private int reservationNumber(int day, int doctor, long mask, int slot) {
+        return offsets[day * options.doctors + doctor] + Long.bitCount(mask & ((1L << slot) - 1)) + 1;
+    }
+
+    /**
+     * 예약번호(1부터)의 (날짜 순번, 의사 순번, 슬롯)
+     */
+    int[] locate(int number) {
+        // offsets[cell] < number 인 가장 큰 cell
+        int low = 0;
+        int high = offsets.length - 2;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] < number) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int day = low / options.doctors;
+        int doctor = low % options.doctors;
+
+        long mask = occupancy(day, doctor);
+        for (int rank = number - offsets[low] - 1; rank > 0; rank--) {
+            mask &= mask - 1;
+        }
+        return new int[] { day, doctor, Long.numberOfTrailingZeros(mask) };
+    }
+
+    private static long mix(long seed, int day, int doctor, int slot) {
+        long z = seed * 0x9E3779B97F4A7C15L + day;
+        z = (z ^ (z >>> 31)) * 0xBF58476D1CE4E5B9L + doctor;
+        z = (z ^ (z >>> 29)) * 0x94D049BB133111EBL + slot;
+        z = (z ^ (z >>> 32)) * 0xD6E8FEB86659FD93L;
+        return z ^ (z >>> 32);
+    }
+
+    private static double[] slotWeights(Distribution distribution) {
+        double[] weights = new double[SLOT_COUNT];
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            int hour = 9 + slot / 6;
+            if (distribution != Distribution.PEAK) {
+                weights[slot] = 1.0;
+            } else if (hour == 12) {
+                weights[slot] = 0.25;
+            } else if (hour == 10 || hour == 11 || hour == 14 || hour == 15) {
+                weights[slot] = 1.5;
+            } else {
+                weights[slot] = 1.0;
+            }
+        }
+        return normalize(weights);
+    }
+
+    private static double[] doctorWeights(Distribution distribution, int doctors) {
+        double[] weights = new double[doctors];
+        for (int doctor = 0; doctor < doctors; doctor++) {
+            weights[doctor] = distribution == Distribution.SKEWED ? 1.0 / Math.sqrt(doctor + 1) : 1.0;
+        }
+        return normalize(weights);
+    }
+
+    /**
+     * 평균이 1이 되도록 가중치를 맞춤 (--fill 이 전체 예약 밀도가 되도록)
+     */
+    private static double[] normalize(double[] weights) {
+        double sum = 0;
+        for (double weight : weights) {
+            sum += weight;
+        }
+        double mean = sum / weights.length;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] /= mean;
+        }
+        return weights;
+    }
+
+    // ========== 파일 쓰기 ==========
+
+    private void writeMajorList(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("[진료과코드] [진료과명]");
+        for (String[] major : MAJORS) {
+            lines.add(major[0] + " " + major[1]);
+        }
+        Files.write(path, lines);
+    }
+
+    private void writeSmallFiles(Path data) throws IOException {
+        // 모든 예약이 미래가 되도록 시작일 전날로 설정
+        LocalDate baseDate = options.startDate.minusDays(1);
+        Files.write(data.resolve("time/virtualtime.txt"), List.of("BASE_TIME=" + baseDate + " 09:00:00"));
+        Files.write(data.resolve("sequence/reservation.txt"), List.of("LAST_RESERVATION_NUMBER=" + totalReservations()));
+    }
+
+    private void writeListFiles(Path data) throws IOException {
+        String passwordHash = PasswordHasher.hash(DEFAULT_PASSWORD);
+
+        try (BufferedWriter patientList = newWriter(data.resolve("patient/patientlist.txt"));
+                BufferedWriter doctorList = newWriter(data.resolve("doctor/doctorlist.txt"));
+                BufferedWriter credentials = newWriter(data.resolve("auth/credentials.txt"))) {
+            patientList.write("[환자 번호] [아이디] [환자 이름] [생년월일] [전화번호] [노쇼 횟수]\n");
+            doctorList.write("[의사번호] [의사이름] [진료과 코드] [전화번호] [등록일]\n");
+            credentials.write("[아이디] [비밀번호] [계정타입] [식별번호]\n\n");
+            credentials.write("admin " + passwordHash + " ADMIN A000001\n");
+
+            for (int doctor = 0; doctor < options.doctors; doctor++) {
+                doctorList.write(doctorInfo(doctor) + "\n");
+                credentials.write("doctor" + (doctor + 1) + " " + passwordHash + " DOCTOR " + doctorId(doctor) + "\n");
+            }
+            for (int patient = 1; patient <= options.patients; patient++) {
+                patientList.write(patientId(patient) + " user" + patient + " " + name(patient) + " "
+                        + birthDate(patient) + " " + phone(patient) + " 0\n");
+                credentials.write("user" + patient + " " + passwordHash + " PATIENT " + patientId(patient) + "\n");
+            }
+        }
+    }
+
+    private void writeAppointmentFile(Path data, int day) throws IOException {
+        LocalDate date = dates.get(day);
+        int doctors = options.doctors;
+        long[] masks = new long[doctors];
+        for (int doctor = 0; doctor < doctors; doctor++) {
+            masks[doctor] = occupancy(day, doctor);
+        }
+
+        try (BufferedWriter writer = newWriter(data.resolve("appointment/" + date.format(FILE_DATE_FORMAT) + ".txt"))) {
+            writer.write(date + "\n");
+            StringBuilder header = new StringBuilder("TIME");
+            for (int doctor = 0; doctor < doctors; doctor++) {
+                header.append(' ').append(doctorId(doctor));
+            }
+            writer.write(header.append('\n').toString());
+
+            StringBuilder row = new StringBuilder();
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                row.setLength(0);
+                row.append(timeOf(slot));
+                for (int doctor = 0; doctor < doctors; doctor++) {
+                    row.append(' ');
+                    if ((masks[doctor] & (1L << slot)) != 0) {
+                        row.append(reservationId(reservationNumber(day, doctor, masks[doctor], slot))).append("(1)");
+                    } else {
+                        row.append('0');
+                    }
+                }
+                writer.write(row.append('\n').toString());
+            }
+        }
+    }
+
+    private void writeDoctorFiles(Path data, int doctor) throws IOException {
+        String doctorId = doctorId(doctor);
+
+        try (BufferedWriter writer = newWriter(data.resolve("doctor/" + doctorId + ".txt"))) {
+            writer.write(doctorInfo(doctor) + "\n1 1 1 1 1\n\n");
+
+            StringBuilder row = new StringBuilder();
+            for (int day = 0; day < dates.size(); day++) {
+                long mask = occupancy(day, doctor);
+                // 예약이 없는 날짜는 행을 만들지 않음 (기존 파일과 같음)
+                if (mask == 0) {
+                    continue;
+                }
+                row.setLength(0);
+                row.append(dates.get(day));
+                for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                    row.append(' ');
+                    if ((mask & (1L << slot)) != 0) {
+                        row.append(reservationId(reservationNumber(day, doctor, mask, slot)));
+                    } else {
+                        row.append('0');
+                    }
+                }
+                writer.write(row.append('\n').toString());
+            }
+        }
+
+        try (BufferedWriter writer = newWriter(data.resolve("doctor/" + doctorId + "-master.txt"))) {
+            for (int i = 0; i < DAY_NAMES.length; i++) {
+                writer.write(DAY_NAMES[i] + (i < 5 ? " 09:00 18:00\n" : " 0 0\n"));
+            }
+        }
+    }
+
+    private void writePatientFiles(Path data, int chunk) throws IOException {
+        int total = totalReservations();
+        int first = chunk * PATIENT_CHUNK + 1;
+        int last = Math.min(first + PATIENT_CHUNK - 1, options.patients);
+
+        for (int patient = first; patient <= last; patient++) {
+            String patientId = patientId(patient);
+            try (BufferedWriter writer = newWriter(data.resolve("patient/" + patientId + ".txt"))) {
+                writer.write(patientId + " " + name(patient) + " " + birthDate(patient) + " " + phone(patient) + " 0\n");
+                writer.write("\n[예약번호] [예약날짜] [시작시간] [종료시간] [진료과] [의사번호] [상태]\n");
+
+                // 예약번호가 날짜 순이므로 행도 날짜 순
+                for (int number = patient; number <= total; number += options.patients) {
+                    int[] position = locate(number);
+                    int doctor = position[1];
+                    int slot = position[2];
+                    writer.write(reservationId(number) + " " + dates.get(position[0]) + " " + timeOf(slot) + " "
+                            + timeOf(slot + 1) + " " + majorOf(doctor) + " " + doctorId(doctor) + " 1\n");
+                }
+            }
+        }
+    }
+
+    // ========== 값 생성 ==========
+
+    private String doctorInfo(int doctor) {
+        return doctorId(doctor) + " " + FAMILY_NAMES[doctor % FAMILY_NAMES.length] + "의사 " + majorOf(doctor)
+                + " " + phone(doctor + 1_000_000) + " " + options.startDate.minusYears(1);
+    }
+
+    private static String majorOf(int doctor) {
+        return MAJORS[doctor % MAJORS.length][0];
+    }
+
+    private static String name(int patient) {
+        return FAMILY_NAMES[patient % FAMILY_NAMES.length]
+                + GIVEN_SYLLABLES[patient / 10 % GIVEN_SYLLABLES.length]
+                + GIVEN_SYLLABLES[patient / 100 % GIVEN_SYLLABLES.length];
+    }
+
+    private static String birthDate(int patient) {
+        return LocalDate.of(1950, 1, 1).plusDays(patient * 37L % 20_000).toString();
+    }
+
+    private static String phone(int number) {
+        return String.format("010-%04d-%04d", number / 10_000 % 10_000, number % 10_000);
+    }
+
+    static String patientId(int patient) {
+        return String.format("P%06d", patient);
+    }
+
+    static String doctorId(int doctor) {
+        return String.format("D%05d", doctor + 1);
+    }
+
+    static String reservationId(int number) {
+        return String.format("R%08d", number);
+    }
+
+    static String timeOf(int slot) {
+        int minutes = 9 * 60 + slot * 10;
+        return String.format("%02d:%02d", minutes / 60, minutes % 60);
+    }
+
+    private static List<LocalDate> workingDates(LocalDate start, int count) {
+        List<LocalDate> dates = new ArrayList<>(count);
+        LocalDate date = start;
+        while (dates.size() < count) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                dates.add(date);
+            }
+            date = date.plusDays(1);
+        }
+        return dates;
+    }
+
+    // ========== 병렬 실행 헬퍼 ==========
+
+    private static BufferedWriter newWriter(Path path) throws IOException {
+        return Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+    }
+
+    private static void run(ForkJoinPool pool, Runnable task) throws IOException {
+        try {
+            pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("데이터 생성이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static void unchecked(IOTask task) {
+        try {
+            task.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOTask {
+        void run() throws IOException;
+    }
+}
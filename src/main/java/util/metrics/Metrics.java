@@ -0,0 +1,218 @@
+package util.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import util.file.FileUtil;
+
+import static util.metrics.ReportFormat.pad;
+
+/**
+ * 명령별 처리 시간/파일 입출력/할당량 집계
+ * - CommandHandler 가 명령 실행을 begin() ~ close() 로 감싸고,
+ *   FileUtil 등 파일을 읽고 쓰는 곳이 recordRead / recordWrite 를 호출합니다.
+ * - 입출력은 현재 스레드에서 실행 중인 명령에 더하고, 명령 밖(시작 검증 등)의 입출력은 "(명령 외)" 로 모읍니다.
+ * - 관리자 stats 명령으로 보고, -Dmetrics.dump.seconds 간격(기본 0 = 끔)으로 data/metrics/metrics.txt 에 씁니다.
+ */
+public final class Metrics {
+
+    public static final String DUMP_INTERVAL_PROPERTY = "metrics.dump.seconds";
+    private static final String OUTSIDE_COMMAND = "(명령 외)";
+    private static final String DUMP_FILE_PATH = "data/metrics/metrics.txt";
+
+    private static final Map<String, CommandMetrics> COMMANDS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+
+    private static ScheduledExecutorService dumper;
+
+    private Metrics() {
+    }
+
+    /**
+     * 명령 실행 구간을 시작합니다 (이미 다른 명령 구간 안이면 아무것도 하지 않는 구간을 반환)
+     */
+    public static Scope begin(String commandName) {
+        if (CURRENT.get() != null) {
+            return Scope.NESTED;
+        }
+        Scope scope = new Scope(commandName);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 파일 하나를 읽었음을 기록합니다
+     */
+    public static void recordRead(long bytes) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.filesRead++;
+            scope.bytesRead += bytes;
+        } else {
+            CommandMetrics outside = metricsOf(OUTSIDE_COMMAND);
+            outside.filesRead.increment();
+            outside.bytesRead.add(bytes);
+        }
+    }
+
+    /**
+     * 파일 하나에 썼음을 기록합니다
+     */
+    public static void recordWrite(long bytes) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.filesWritten++;
+            scope.bytesWritten += bytes;
+        } else {
+            CommandMetrics outside = metricsOf(OUTSIDE_COMMAND);
+            outside.filesWritten.increment();
+            outside.bytesWritten.add(bytes);
+        }
+    }
+
+    public static void reset() {
+        COMMANDS.clear();
+    }
+
+    /**
+     * 명령별 집계표를 씁니다 (입출력/할당은 명령 1회당 평균, "(명령 외)" 는 합계)
+     */
+    public static void writeReport(PrintStream out) {
+        out.println(pad("명령", -16) + " " + pad("횟수", 7) + " " + pad("평균(ms)", 9) + " " + pad("p99(ms)", 9)
+                + " " + pad("읽은 파일", 10) + " " + pad("읽은 KB", 10) + " " + pad("쓴 파일", 8)
+                + " " + pad("쓴 KB", 9) + " " + pad("할당 KB", 10));
+
+        for (Map.Entry<String, CommandMetrics> entry : new TreeMap<>(COMMANDS).entrySet()) {
+            CommandMetrics metrics = entry.getValue();
+            LatencyHistogram histogram = metrics.wallTime;
+            double calls = Math.max(1, histogram.getCount());
+            out.printf("%s %7d %9.3f %9.3f %10.1f %10.1f %8.1f %9.1f %10s%n",
+                    pad(entry.getKey(), -16), histogram.getCount(),
+                    histogram.getMean() / 1e6, histogram.valueAtPercentile(99) / 1e6,
+                    metrics.filesRead.sum() / calls, metrics.bytesRead.sum() / 1024.0 / calls,
+                    metrics.filesWritten.sum() / calls, metrics.bytesWritten.sum() / 1024.0 / calls,
+                    ALLOCATION_BEAN != null ? String.format("%.1f", metrics.allocatedBytes.sum() / 1024.0 / calls) : "-");
+        }
+    }
+
+    /**
+     * 주기적으로 집계표를 data/metrics/metrics.txt 에 씁니다 (시스템 속성으로 간격을 지정한 경우만)
+     */
+    public static synchronized void startPeriodicDump() {
+        long seconds = Long.getLong(DUMP_INTERVAL_PROPERTY, 0L);
+        if (seconds <= 0 || dumper != null) {
+            return;
+        }
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(Metrics::dumpQuietly, seconds, seconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 집계표를 파일로 씁니다 (FileUtil 을 거치므로 이 쓰기도 "(명령 외)" 로 집계됨)
+     */
+    public static void dump(Path path) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        out.println("[집계 시각] " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        writeReport(out);
+
+        Files.createDirectories(path.getParent());
+        FileUtil.write(path, buffer.toByteArray());
+    }
+
+    private static void dumpQuietly() {
+        try {
+            dump(FileUtil.getResourcePath(DUMP_FILE_PATH));
+        } catch (IOException | RuntimeException e) {
+            // 집계 저장 실패는 다음 주기에 다시 시도
+        }
+    }
+
+    private static CommandMetrics metricsOf(String commandName) {
+        return COMMANDS.computeIfAbsent(commandName, name -> new CommandMetrics());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationBean;
+            }
+        }
+        return null;
+    }
+
+    private static long allocatedBytes() {
+        return ALLOCATION_BEAN != null ? ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+
+    /**
+     * 명령 하나의 누적 집계
+     */
+    private static class CommandMetrics {
+        final LatencyHistogram wallTime = new LatencyHistogram();
+        final LongAdder filesRead = new LongAdder();
+        final LongAdder bytesRead = new LongAdder();
+        final LongAdder filesWritten = new LongAdder();
+        final LongAdder bytesWritten = new LongAdder();
+        final LongAdder allocatedBytes = new LongAdder();
+    }
+
+    /**
+     * 실행 중인 명령 하나 (한 스레드에서만 사용, try-with-resources 로 종료)
+     */
+    public static class Scope implements AutoCloseable {
+        static final Scope NESTED = new Scope(null);
+
+        private final String commandName;
+        private final long startNanos;
+        private final long startAllocated;
+        private long filesRead;
+        private long bytesRead;
+        private long filesWritten;
+        private long bytesWritten;
+
+        private Scope(String commandName) {
+            this.commandName = commandName;
+            this.startNanos = commandName != null ? System.nanoTime() : 0;
+            this.startAllocated = commandName != null ? allocatedBytes() : 0;
+        }
+
+        @Override
+        public void close() {
+            if (commandName == null) {
+                return;
+            }
+            CURRENT.remove();
+
+            CommandMetrics metrics = metricsOf(commandName);
+            metrics.wallTime.record(System.nanoTime() - startNanos);
+            metrics.filesRead.add(filesRead);
+            metrics.bytesRead.add(bytesRead);
+            metrics.filesWritten.add(filesWritten);
+            metrics.bytesWritten.add(bytesWritten);
+            metrics.allocatedBytes.add(allocatedBytes() - startAllocated);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package util.metrics;
+
+/**
+ * 집계표 출력 헬퍼
+ */
+public final class ReportFormat {
+
+    private ReportFormat() {
+    }
+
+    /**
+     * 화면 너비 기준으로 맞춤 (한글은 두 칸, 음수 너비는 왼쪽 정렬)
+     */
+    public static String pad(String text, int width) {
+        int displayWidth = 0;
+        for (int i = 0; i < text.length(); i++) {
+            displayWidth += text.charAt(i) >= 0x1100 ? 2 : 1;
+        }
+        String spaces = " ".repeat(Math.max(0, Math.abs(width) - displayWidth));
+        return width < 0 ? text + spaces : spaces + text;
+    }
+}
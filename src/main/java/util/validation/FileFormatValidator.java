@@ -5,6 +5,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -26,9 +27,18 @@ public class FileFormatValidator {
     private static final Pattern DAY_OF_WEEK_PATTERN = Pattern.compile("^(MON|TUE|WED|THU|FRI|SAT|SUN)$");
 
     private final repository.MajorRepository majorRepository;
+    private final ValidationSnapshot snapshot;
 
     public FileFormatValidator(repository.MajorRepository majorRepository) {
+        this(majorRepository, null);
+    }
+
+    /**
+     * @param snapshot 미리 읽어 둔 파일 스냅샷 (null 이면 파일을 직접 읽음)
+     */
+    public FileFormatValidator(repository.MajorRepository majorRepository, ValidationSnapshot snapshot) {
         this.majorRepository = majorRepository;
+        this.snapshot = snapshot;
     }
 
     public void validate() {
@@ -62,7 +72,7 @@ public class FileFormatValidator {
     private void validatePatientListFile() {
         String filePath = "data/patient/patientlist.txt";
         try {
-            List<String> lines = FileUtil.readLines(filePath);
+            List<String> lines = readLines(filePath);
 
             if (lines.isEmpty()) {
                 throw new FileFormatException("[오류] '/" + filePath + "'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
@@ -113,7 +123,7 @@ public class FileFormatValidator {
     private void validateDoctorListFile() {
         String filePath = "data/doctor/doctorlist.txt";
         try {
-            List<String> lines = FileUtil.readLines(filePath);
+            List<String> lines = readLines(filePath);
 
             if (lines.isEmpty()) {
                 throw new FileFormatException("[오류] '/" + filePath + "'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
@@ -159,7 +169,7 @@ public class FileFormatValidator {
     private void validateVirtualTimeFile() {
         String filePath = "data/time/virtualtime.txt";
         try {
-            List<String> lines = FileUtil.readLines(filePath);
+            List<String> lines = readLines(filePath);
 
             // --------------------------------------------
             // ★ 기획서 4.6.1: 파일이 없거나 비어있으면 기본값 생성이 정상 동작
@@ -195,7 +205,7 @@ public class FileFormatValidator {
     private void validateCredentialsFile() {
         String filePath = "data/auth/credentials.txt";
         try {
-            List<String> lines = FileUtil.readLines(filePath);
+            List<String> lines = readLines(filePath);
 
             if (lines.isEmpty()) {
                 throw new FileFormatException("[오류] '/" + filePath + "'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
@@ -245,26 +255,24 @@ public class FileFormatValidator {
 
     private void validatePatientDetailFiles() {
         try {
-            List<String> lines = FileUtil.readLines("data/patient/patientlist.txt");
-
-            for (int i = 1; i < lines.size(); i++) {
-                String line = lines.get(i).trim();
-                if (line.isEmpty())
-                    continue;
+            List<String> patientIds = readIds("data/patient/patientlist.txt");
 
-                String[] parts = line.split("\\s+");
-                if (parts.length > 0) {
-                    String patientId = parts[0];
-                    String detailFilePath = "data/patient/" + patientId + ".txt";
+            // 환자 파일별 검증은 병렬로 실행 (오류는 목록 순서상 첫 번째 것을 보고)
+            ValidationSnapshot.parallelCheck(patientIds, patientId -> {
+                String detailFilePath = "data/patient/" + patientId + ".txt";
 
-                    if (!FileUtil.resourceExists(detailFilePath)) {
-                        throw new FileFormatException(
-                                "[오류] '/data/patient/patientlist.txt'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
-                    }
+                if (!exists(detailFilePath)) {
+                    throw new FileFormatException(
+                            "[오류] '/data/patient/patientlist.txt'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
+                }
 
-                    validatePatientDetailFile(patientId);
+                // 지난번 검증 이후 바뀌지 않은 파일은 건너뜀
+                if (isUnchanged(detailFilePath)) {
+                    return;
                 }
-            }
+
+                validatePatientDetailFile(patientId);
+            });
         } catch (IOException e) {
             throw new FileFormatException("[오류] 환자 개인 데이터 파일의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
         }
@@ -273,7 +281,7 @@ public class FileFormatValidator {
     private void validatePatientDetailFile(String patientId) {
         String filePath = "data/patient/" + patientId + ".txt";
         try {
-            List<String> lines = FileUtil.readLines(filePath);
+            List<String> lines = readLines(filePath);
 
             if (lines.size() < 3) {
                 throw new FileFormatException("[오류] '/" + filePath + "'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
@@ -357,26 +365,22 @@ public class FileFormatValidator {
 
     private void validateDoctorDetailFiles() {
         try {
-            List<String> lines = FileUtil.readLines("data/doctor/doctorlist.txt");
-
-            for (int i = 1; i < lines.size(); i++) {
-                String line = lines.get(i).trim();
-                if (line.isEmpty())
-                    continue;
+            List<String> doctorIds = readIds("data/doctor/doctorlist.txt");
 
-                String[] parts = line.split("\\s+");
-                if (parts.length > 0) {
-                    String doctorId = parts[0];
-                    String detailFilePath = "data/doctor/" + doctorId + ".txt";
+            ValidationSnapshot.parallelCheck(doctorIds, doctorId -> {
+                String detailFilePath = "data/doctor/" + doctorId + ".txt";
 
-                    if (!FileUtil.resourceExists(detailFilePath)) {
-                        throw new FileFormatException(
-                                "[오류] '/data/doctor/doctorlist.txt'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
-                    }
+                if (!exists(detailFilePath)) {
+                    throw new FileFormatException(
+                            "[오류] '/data/doctor/doctorlist.txt'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
+                }
 
-                    validateDoctorDetailFile(doctorId);
+                if (isUnchanged(detailFilePath)) {
+                    return;
                 }
-            }
+
+                validateDoctorDetailFile(doctorId);
+            });
         } catch (IOException e) {
             throw new FileFormatException("[오류] 의사 스케줄 파일의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
         }
@@ -386,7 +390,7 @@ public class FileFormatValidator {
         String filePath = "data/doctor/" + doctorId + ".txt";
 
         try {
-            List<String> lines = FileUtil.readLines(filePath);
+            List<String> lines = readLines(filePath);
 
             if (lines.size() < 3) {
                 throw new FileFormatException("[오류] /" + filePath + "의 스케줄 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
@@ -464,37 +468,40 @@ public class FileFormatValidator {
 
             AppointmentRepository repository = new AppointmentRepository();
 
-            try (Stream<Path> files = Files.list(appointmentDir)) {
-                files.filter(path -> path.toString().endsWith(".txt"))
-                        .filter(path -> !path.getFileName().toString().contains("backup"))
-                        .forEach(path -> {
-                            String fileName = path.getFileName().toString();
-                            // YYYYMMDD.txt 형식 파일만 검증
-                            if (fileName.matches("\\d{8}\\.txt")) {
-                                try {
-                                    // 파일명에서 날짜 추출
-                                    String dateStr = fileName.replace(".txt", "");
-                                    int year = Integer.parseInt(dateStr.substring(0, 4));
-                                    int month = Integer.parseInt(dateStr.substring(4, 6));
-                                    int day = Integer.parseInt(dateStr.substring(6, 8));
-                                    LocalDate date = LocalDate.of(year, month, day);
-
-                                    // AppointmentRepository를 통해 검증
-                                    repository.getAppointmentsByDate(date);
-
-                                } catch (AppointmentFileException e) {
-                                    String filePath = "data/appointment/" + fileName;
-                                    String errorMsg = String.format("[오류] 예약 파일 형식 오류: /%s 프로그램을 종료합니다.",
-                                            filePath);
-                                    throw new FileFormatException(errorMsg);
-                                } catch (Exception e) {
-                                    String filePath = "data/appointment/" + fileName;
-                                    throw new FileFormatException(
-                                            "[오류] 예약 파일 형식 오류: /" + filePath + " 프로그램을 종료합니다.");
-                                }
-                            }
-                        });
+            List<String> fileNames = new ArrayList<>();
+            for (String fileName : listFiles("data/appointment")) {
+                // YYYYMMDD.txt 형식 파일만 검증
+                if (!fileName.contains("backup") && fileName.matches("\\d{8}\\.txt")) {
+                    fileNames.add(fileName);
+                }
             }
+
+            ValidationSnapshot.parallelCheck(fileNames, fileName -> {
+                String filePath = "data/appointment/" + fileName;
+                // 바이너리 저장소는 텍스트 파일과 별도로 바뀔 수 있으므로 항상 검증
+                if (isUnchanged(filePath) && !AppointmentRepository.isBinaryStorageEnabled()) {
+                    return;
+                }
+                try {
+                    // 파일명에서 날짜 추출
+                    String dateStr = fileName.replace(".txt", "");
+                    int year = Integer.parseInt(dateStr.substring(0, 4));
+                    int month = Integer.parseInt(dateStr.substring(4, 6));
+                    int day = Integer.parseInt(dateStr.substring(6, 8));
+                    LocalDate date = LocalDate.of(year, month, day);
+
+                    // AppointmentRepository를 통해 검증
+                    repository.parseAppointments(date, readLines(filePath));
+
+                } catch (AppointmentFileException e) {
+                    String errorMsg = String.format("[오류] 예약 파일 형식 오류: /%s 프로그램을 종료합니다.",
+                            filePath);
+                    throw new FileFormatException(errorMsg);
+                } catch (Exception e) {
+                    throw new FileFormatException(
+                            "[오류] 예약 파일 형식 오류: /" + filePath + " 프로그램을 종료합니다.");
+                }
+            });
         } catch (IOException e) {
             throw new FileFormatException("[오류] 예약 파일 검증 중 오류가 발생했습니다. 프로그램을 종료합니다.");
         }
@@ -505,7 +512,7 @@ public class FileFormatValidator {
         Pattern majorCodePattern = Pattern.compile("^[A-Z]{2,6}$");
 
         try {
-            List<String> lines = FileUtil.readLines(filePath);
+            List<String> lines = readLines(filePath);
 
             if (lines.isEmpty()) {
                 throw new FileFormatException("[오류] '/" + filePath + "'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
@@ -541,7 +548,7 @@ public class FileFormatValidator {
     private void validateDoctorMajorCodeConsistency() {
         try {
             // doctorlist.txt에서 의사들의 진료과 코드 검증
-            List<String> doctorLines = FileUtil.readLines("data/doctor/doctorlist.txt");
+            List<String> doctorLines = readLines("data/doctor/doctorlist.txt");
 
             for (int i = 1; i < doctorLines.size(); i++) {
                 String line = doctorLines.get(i).trim();
@@ -565,27 +572,22 @@ public class FileFormatValidator {
 
     private void validateDoctorMasterScheduleFiles() {
         try {
-            List<String> doctorLines = FileUtil.readLines("data/doctor/doctorlist.txt");
+            List<String> doctorIds = readIds("data/doctor/doctorlist.txt");
 
-            for (int i = 1; i < doctorLines.size(); i++) {
-                String line = doctorLines.get(i).trim();
-                if (line.isEmpty()) continue;
-
-                String[] parts = line.split("\\s+");
-                if (parts.length > 0) {
-                    String doctorId = parts[0];
-                    String masterFilePath = "data/doctor/" + doctorId + "-master.txt";
+            ValidationSnapshot.parallelCheck(doctorIds, doctorId -> {
+                String masterFilePath = "data/doctor/" + doctorId + "-master.txt";
 
-                    // Check if master file exists
-                    if (!FileUtil.resourceExists(masterFilePath)) {
-                        throw new FileFormatException(
-                                "[오류] '/" + masterFilePath + "'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
-                    }
+                // Check if master file exists
+                if (!exists(masterFilePath)) {
+                    throw new FileFormatException(
+                            "[오류] '/" + masterFilePath + "'의 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
+                }
 
-                    // Validate master file format
+                // Validate master file format
+                if (!isUnchanged(masterFilePath)) {
                     validateDoctorMasterScheduleFile(doctorId);
                 }
-            }
+            });
         } catch (IOException e) {
             throw new FileFormatException("[오류] 의사 마스터 스케줄 파일 검증 중 오류가 발생했습니다. 프로그램을 종료합니다.");
         }
@@ -595,7 +597,7 @@ public class FileFormatValidator {
         String filePath = "data/doctor/" + doctorId + "-master.txt";
 
         try {
-            List<String> lines = FileUtil.readLines(filePath);
+            List<String> lines = readLines(filePath);
 
             if (lines.isEmpty()) {
                 throw new FileFormatException("[오류] /" + filePath + "의 스케줄 형식이 올바르지 않습니다. 프로그램을 종료합니다.");
@@ -680,7 +682,7 @@ public class FileFormatValidator {
     private void validateCredentialAccountTypeConsistency() {
         try {
             // patientlist.txt에서 환자 ID 목록 읽기
-            List<String> patientLines = FileUtil.readLines("data/patient/patientlist.txt");
+            List<String> patientLines = readLines("data/patient/patientlist.txt");
             java.util.Set<String> patientIds = new java.util.HashSet<>();
             java.util.Map<String, String> patientIdToUsername = new java.util.HashMap<>();
 
@@ -696,7 +698,7 @@ public class FileFormatValidator {
             }
 
             // doctorlist.txt에서 의사 ID 목록 읽기
-            List<String> doctorLines = FileUtil.readLines("data/doctor/doctorlist.txt");
+            List<String> doctorLines = readLines("data/doctor/doctorlist.txt");
             java.util.Set<String> doctorIds = new java.util.HashSet<>();
             java.util.Map<String, String> doctorIdToUsername = new java.util.HashMap<>();
 
@@ -711,7 +713,7 @@ public class FileFormatValidator {
             }
 
             // credentials.txt에서 계정 정보 읽기 및 검증
-            List<String> credentialLines = FileUtil.readLines("data/auth/credentials.txt");
+            List<String> credentialLines = readLines("data/auth/credentials.txt");
 
             for (int i = 1; i < credentialLines.size(); i++) {
                 String line = credentialLines.get(i).trim();
@@ -745,4 +747,49 @@ public class FileFormatValidator {
             throw new FileFormatException("[오류] 계정 타입 불일치 검증 중 오류가 발생했습니다. 프로그램을 종료합니다.");
         }
     }
+
+    // ========== 파일 읽기 헬퍼 ==========
+
+    private List<String> readLines(String filePath) throws IOException {
+        return snapshot != null ? snapshot.readLines(filePath) : FileUtil.readLines(filePath);
+    }
+
+    private boolean exists(String filePath) {
+        return snapshot != null ? snapshot.exists(filePath) : FileUtil.resourceExists(filePath);
+    }
+
+    private boolean isUnchanged(String filePath) {
+        return snapshot != null && snapshot.isUnchanged(filePath);
+    }
+
+    private List<String> listFiles(String dir) throws IOException {
+        if (snapshot != null) {
+            return snapshot.listFiles(dir);
+        }
+        try (Stream<Path> files = Files.list(FileUtil.getResourcePath(dir))) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(".txt"))
+                    .collect(java.util.stream.Collectors.toList());
+        }
+    }
+
+    /**
+     * 목록 파일(patientlist/doctorlist)의 첫 번째 열을 순서대로 반환합니다
+     */
+    private List<String> readIds(String listFilePath) throws IOException {
+        List<String> lines = readLines(listFilePath);
+        List<String> ids = new ArrayList<>();
+
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty())
+                continue;
+
+            String[] parts = line.split("\\s+");
+            if (parts.length > 0) {
+                ids.add(parts[0]);
+            }
+        }
+        return ids;
+    }
 }
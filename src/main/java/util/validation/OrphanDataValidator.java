@@ -3,8 +3,10 @@ package util.validation;
 import util.file.FileUtil;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -16,6 +18,19 @@ public class OrphanDataValidator {
 
     private static final Pattern RESERVATION_ID_PATTERN = Pattern.compile("^R\\d{8}$");
 
+    private final ValidationSnapshot snapshot;
+
+    public OrphanDataValidator() {
+        this(null);
+    }
+
+    /**
+     * @param snapshot 미리 읽어 둔 파일 스냅샷 (null 이면 파일을 직접 읽음)
+     */
+    public OrphanDataValidator(ValidationSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
     public void validate() {
         try {
             validatePatientOrphans();
@@ -35,7 +50,7 @@ public class OrphanDataValidator {
     private void validatePatientOrphans() throws IOException {
         // 1. patientlist.txt에서 참조된 환자 ID 수집
         Set<String> referencedPatientIds = new HashSet<>();
-        List<String> lines = FileUtil.readLines("data/patient/patientlist.txt");
+        List<String> lines = readLines("data/patient/patientlist.txt");
 
         for (int i = 1; i < lines.size(); i++) {
             String line = lines.get(i).trim();
@@ -48,20 +63,11 @@ public class OrphanDataValidator {
         }
 
         // 2. 실제 존재하는 환자 데이터 파일 수집
-        Path patientDir = FileUtil.getResourcePath("data/patient");
-        Set<String> existingPatientIds = new HashSet<>();
-
-        try (Stream<Path> files = Files.list(patientDir)) {
-            existingPatientIds = files
-                .filter(path -> path.toString().endsWith(".txt"))
-                .filter(path -> !path.getFileName().toString().equals("patientlist.txt"))
-                .map(path -> {
-                    String fileName = path.getFileName().toString();
-                    return fileName.replace(".txt", ""); // P000001.txt -> P000001
-                })
-                .filter(id -> id.matches("^P\\d{6}$")) // P000001 형식만 필터링
-                .collect(Collectors.toSet());
-        }
+        Set<String> existingPatientIds = listFiles("data/patient").stream()
+            .filter(fileName -> !fileName.equals("patientlist.txt"))
+            .map(fileName -> fileName.replace(".txt", "")) // P000001.txt -> P000001
+            .filter(id -> id.matches("^P\\d{6}$")) // P000001 형식만 필터링
+            .collect(Collectors.toSet());
 
         // 3. 고아 파일 검출 (파일은 존재하지만 list에 없음)
         Set<String> orphanPatientIds = new HashSet<>(existingPatientIds);
@@ -83,7 +89,7 @@ public class OrphanDataValidator {
     private void validateDoctorOrphans() throws IOException {
         // 1. doctorlist.txt에서 참조된 의사 ID 수집
         Set<String> referencedDoctorIds = new HashSet<>();
-        List<String> lines = FileUtil.readLines("data/doctor/doctorlist.txt");
+        List<String> lines = readLines("data/doctor/doctorlist.txt");
 
         for (int i = 1; i < lines.size(); i++) {
             String line = lines.get(i).trim();
@@ -96,15 +102,11 @@ public class OrphanDataValidator {
         }
 
         // 2. 실제 존재하는 의사 데이터 파일 수집
-        Path doctorDir = FileUtil.getResourcePath("data/doctor");
         Set<String> orphanDoctorFiles = new HashSet<>();
 
-        try (Stream<Path> files = Files.list(doctorDir)) {
-            files
-                .filter(path -> path.toString().endsWith(".txt"))
-                .filter(path -> !path.getFileName().toString().equals("doctorlist.txt"))
-                .forEach(path -> {
-                    String fileName = path.getFileName().toString();
+        listFiles("data/doctor").stream()
+                .filter(fileName -> !fileName.equals("doctorlist.txt"))
+                .forEach(fileName -> {
                     String fileNameWithoutExt = fileName.replace(".txt", "");
 
                     // D00001.txt 또는 D00001-master.txt 형식인지 확인
@@ -120,7 +122,6 @@ public class OrphanDataValidator {
                         orphanDoctorFiles.add("/data/doctor/" + fileName);
                     }
                 });
-        }
 
         // 3. 고아 파일 검출 결과 출력
         if (!orphanDoctorFiles.isEmpty()) {
@@ -150,117 +151,124 @@ public class OrphanDataValidator {
     }
 
     private Set<String> collectReservationsFromPatients() throws IOException {
-        Set<String> reservations = new HashSet<>();
-        List<String> patientList = FileUtil.readLines("data/patient/patientlist.txt");
-
-        for (int i = 1; i < patientList.size(); i++) {
-            String line = patientList.get(i).trim();
-            if (line.isEmpty()) continue;
+        List<String> patientFiles = new ArrayList<>();
+        for (String patientId : readIds("data/patient/patientlist.txt")) {
+            String patientFile = "data/patient/" + patientId + ".txt";
+            if (exists(patientFile)) {
+                patientFiles.add(patientFile);
+            }
+        }
 
-            String[] parts = line.split("\\s+");
-            if (parts.length > 0) {
-                String patientId = parts[0];
-                String patientFile = "data/patient/" + patientId + ".txt";
+        // 환자 파일별로 병렬 수집 후 합침
+        return union(ValidationSnapshot.parallelMap(patientFiles, patientFile -> {
+            Set<String> cached = getCachedReservationIds(patientFile);
+            if (cached != null) {
+                return cached;
+            }
 
-                if (FileUtil.resourceExists(patientFile)) {
-                    List<String> patientLines = FileUtil.readLines(patientFile);
+            Set<String> reservations = new HashSet<>();
+            List<String> patientLines = readLinesUnchecked(patientFile);
 
-                    // 4행부터 예약 내역 (1행: 환자정보, 2행: 빈행, 3행: 헤더)
-                    for (int j = 3; j < patientLines.size(); j++) {
-                        String reservationLine = patientLines.get(j).trim();
-                        if (reservationLine.isEmpty()) continue;
+            // 4행부터 예약 내역 (1행: 환자정보, 2행: 빈행, 3행: 헤더)
+            for (int j = 3; j < patientLines.size(); j++) {
+                String reservationLine = patientLines.get(j).trim();
+                if (reservationLine.isEmpty()) continue;
 
-                        String[] reservationParts = reservationLine.split("\\s+");
-                        if (reservationParts.length > 0 && RESERVATION_ID_PATTERN.matcher(reservationParts[0]).matches()) {
-                            reservations.add(reservationParts[0]);
-                        }
-                    }
+                String[] reservationParts = reservationLine.split("\\s+");
+                if (reservationParts.length > 0 && RESERVATION_ID_PATTERN.matcher(reservationParts[0]).matches()) {
+                    reservations.add(reservationParts[0]);
                 }
             }
-        }
-
-        return reservations;
+            putReservationIds(patientFile, reservations);
+            return reservations;
+        }));
     }
 
     private Set<String> collectReservationsFromDoctors() throws IOException {
-        Set<String> reservations = new HashSet<>();
-        List<String> doctorList = FileUtil.readLines("data/doctor/doctorlist.txt");
+        List<String> doctorFiles = new ArrayList<>();
+        for (String doctorId : readIds("data/doctor/doctorlist.txt")) {
+            String doctorFile = "data/doctor/" + doctorId + ".txt";
+            if (exists(doctorFile)) {
+                doctorFiles.add(doctorFile);
+            }
+        }
 
-        for (int i = 1; i < doctorList.size(); i++) {
-            String line = doctorList.get(i).trim();
-            if (line.isEmpty()) continue;
+        return union(ValidationSnapshot.parallelMap(doctorFiles, doctorFile -> {
+            Set<String> cached = getCachedReservationIds(doctorFile);
+            if (cached != null) {
+                return cached;
+            }
 
-            String[] parts = line.split("\\s+");
-            if (parts.length > 0) {
-                String doctorId = parts[0];
-                String doctorFile = "data/doctor/" + doctorId + ".txt";
-
-                if (FileUtil.resourceExists(doctorFile)) {
-                    List<String> doctorLines = FileUtil.readLines(doctorFile);
-
-                    // 4행부터 날짜별 예약 정보 (1행: 의사정보, 2행: 요일별 진료여부, 3행: 빈행)
-                    for (int j = 3; j < doctorLines.size(); j++) {
-                        String schedLine = doctorLines.get(j).trim();
-                        if (schedLine.isEmpty()) continue;
-
-                        String[] schedParts = schedLine.split("\\s+");
-                        // 첫 번째는 날짜, 나머지 54개는 슬롯 (0 또는 R00000001 형식)
-                        for (int k = 1; k < schedParts.length; k++) {
-                            String slot = schedParts[k];
-                            if (RESERVATION_ID_PATTERN.matcher(slot).matches()) {
-                                reservations.add(slot);
-                            }
-                        }
+            Set<String> reservations = new HashSet<>();
+            List<String> doctorLines = readLinesUnchecked(doctorFile);
+
+            // 4행부터 날짜별 예약 정보 (1행: 의사정보, 2행: 요일별 진료여부, 3행: 빈행)
+            for (int j = 3; j < doctorLines.size(); j++) {
+                String schedLine = doctorLines.get(j).trim();
+                if (schedLine.isEmpty()) continue;
+
+                String[] schedParts = schedLine.split("\\s+");
+                // 첫 번째는 날짜, 나머지 54개는 슬롯 (0 또는 R00000001 형식)
+                for (int k = 1; k < schedParts.length; k++) {
+                    String slot = schedParts[k];
+                    if (RESERVATION_ID_PATTERN.matcher(slot).matches()) {
+                        reservations.add(slot);
                     }
                 }
             }
-        }
-
-        return reservations;
+            putReservationIds(doctorFile, reservations);
+            return reservations;
+        }));
     }
 
     private Set<String> collectReservationsFromAppointments() throws IOException {
-        Set<String> reservations = new HashSet<>();
         Path appointmentDir = FileUtil.getResourcePath("data/appointment");
 
         if (!Files.exists(appointmentDir)) {
-            return reservations; // 예약 디렉토리가 없으면 빈 세트 반환
+            return new HashSet<>(); // 예약 디렉토리가 없으면 빈 세트 반환
         }
 
-        try (Stream<Path> files = Files.list(appointmentDir)) {
-            files.filter(path -> path.toString().endsWith(".txt"))
-                 .filter(path -> !path.getFileName().toString().contains("backup"))
-                 .filter(path -> path.getFileName().toString().matches("\\d{8}\\.txt"))
-                 .forEach(path -> {
-                     try {
-                         List<String> lines = Files.readAllLines(path);
-
-                         // 3행부터 시간표 (1행: 날짜, 2행: 헤더)
-                         for (int i = 2; i < lines.size(); i++) {
-                             String line = lines.get(i).trim();
-                             if (line.isEmpty()) continue;
-
-                             String[] parts = line.split("\\s+");
-                             // 첫 번째는 시간, 나머지는 의사별 슬롯
-                             for (int j = 1; j < parts.length; j++) {
-                                 String slot = parts[j];
-                                 // R00000001(1) 형식에서 예약 ID만 추출
-                                 String reservationId = slot;
-                                 if (slot.contains("(")) {
-                                     reservationId = slot.substring(0, slot.indexOf('('));
-                                 }
-                                 if (RESERVATION_ID_PATTERN.matcher(reservationId).matches()) {
-                                     reservations.add(reservationId);
-                                 }
-                             }
-                         }
-                     } catch (IOException e) {
-                         // 파일 읽기 실패는 무시 (다른 검증에서 처리됨)
-                     }
-                 });
-        }
+        List<String> appointmentFiles = listFiles("data/appointment").stream()
+                .filter(fileName -> !fileName.contains("backup"))
+                .filter(fileName -> fileName.matches("\\d{8}\\.txt"))
+                .map(fileName -> "data/appointment/" + fileName)
+                .collect(Collectors.toList());
+
+        return union(ValidationSnapshot.parallelMap(appointmentFiles, appointmentFile -> {
+            Set<String> cached = getCachedReservationIds(appointmentFile);
+            if (cached != null) {
+                return cached;
+            }
 
-        return reservations;
+            Set<String> reservations = new HashSet<>();
+            try {
+                List<String> lines = readLines(appointmentFile);
+
+                // 3행부터 시간표 (1행: 날짜, 2행: 헤더)
+                for (int i = 2; i < lines.size(); i++) {
+                    String line = lines.get(i).trim();
+                    if (line.isEmpty()) continue;
+
+                    String[] parts = line.split("\\s+");
+                    // 첫 번째는 시간, 나머지는 의사별 슬롯
+                    for (int j = 1; j < parts.length; j++) {
+                        String slot = parts[j];
+                        // R00000001(1) 형식에서 예약 ID만 추출
+                        String reservationId = slot;
+                        if (slot.contains("(")) {
+                            reservationId = slot.substring(0, slot.indexOf('('));
+                        }
+                        if (RESERVATION_ID_PATTERN.matcher(reservationId).matches()) {
+                            reservations.add(reservationId);
+                        }
+                    }
+                }
+                putReservationIds(appointmentFile, reservations);
+            } catch (IOException e) {
+                // 파일 읽기 실패는 무시 (다른 검증에서 처리됨)
+            }
+            return reservations;
+        }));
     }
 
     private void validateAppointmentConsistency(
@@ -314,4 +322,70 @@ public class OrphanDataValidator {
             super(message);
         }
     }
+
+    // ========== 파일 읽기 헬퍼 ==========
+
+    private List<String> readLines(String filePath) throws IOException {
+        return snapshot != null ? snapshot.readLines(filePath) : FileUtil.readLines(filePath);
+    }
+
+    private List<String> readLinesUnchecked(String filePath) {
+        try {
+            return readLines(filePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean exists(String filePath) {
+        return snapshot != null ? snapshot.exists(filePath) : FileUtil.resourceExists(filePath);
+    }
+
+    /**
+     * 지난번 검증 이후 바뀌지 않은 파일의 예약번호 목록 (없으면 null)
+     */
+    private Set<String> getCachedReservationIds(String filePath) {
+        return snapshot != null ? snapshot.getCachedReservationIds(filePath) : null;
+    }
+
+    private void putReservationIds(String filePath, Set<String> reservationIds) {
+        if (snapshot != null) {
+            snapshot.putReservationIds(filePath, reservationIds);
+        }
+    }
+
+    private List<String> listFiles(String dir) throws IOException {
+        if (snapshot != null) {
+            return snapshot.listFiles(dir);
+        }
+        try (Stream<Path> files = Files.list(FileUtil.getResourcePath(dir))) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(".txt"))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private List<String> readIds(String listFilePath) throws IOException {
+        List<String> lines = readLines(listFilePath);
+        List<String> ids = new ArrayList<>();
+
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty()) continue;
+
+            String[] parts = line.split("\\s+");
+            if (parts.length > 0) {
+                ids.add(parts[0]);
+            }
+        }
+        return ids;
+    }
+
+    private static Set<String> union(List<Set<String>> sets) {
+        Set<String> result = new HashSet<>();
+        for (Set<String> set : sets) {
+            result.addAll(set);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,289 @@
+package util.validation;
+
+import util.file.FileUtil;
+import util.metrics.Metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 시작 검증에 사용할 데이터 파일 스냅샷
+ * - data/ 아래 검증 대상 파일(.txt)을 ForkJoinPool 에서 병렬로 한 번씩만 읽어 둡니다.
+ * - FileFormatValidator / OrphanDataValidator 는 파일을 다시 읽지 않고 이 스냅샷을 사용합니다.
+ * - 검증에 성공하면 파일별 (크기, 수정 시각, 내용 해시, 예약번호 목록)을 매니페스트로 저장하고,
+ *   다음 시작 때 바뀌지 않은 환자/의사/예약 파일은 읽지도 검증하지도 않습니다.
+ *   (목록 파일 patientlist/doctorlist 등은 항상 읽음, -Dvalidation.cache=false 로 끌 수 있음)
+ */
+public class ValidationSnapshot {
+
+    private static final String[] DATA_DIRS = {
+            "data/patient", "data/doctor", "data/appointment", "data/major", "data/auth", "data/time"
+    };
+
+    private static final String MANIFEST_FILE_PATH = "data/cache/validation-manifest.txt";
+    private static final Pattern ENTITY_FILE_PATTERN =
+            Pattern.compile("^(P\\d{6}|D\\d{5}|D\\d{5}-master|\\d{8})\\.txt$");
+
+    // 상대 경로 (data/patient/P000001.txt) -> 파일 내용
+    private final Map<String, List<String>> files = new ConcurrentHashMap<>();
+    // 디렉토리 -> 파일 이름 목록 (Files.list 순서)
+    private final Map<String, List<String>> listings = new ConcurrentHashMap<>();
+    // 상대 경로 -> 현재 파일 상태 (매니페스트 저장용)
+    private final Map<String, FileState> states = new ConcurrentHashMap<>();
+    // 지난번 검증 이후 바뀌지 않은 파일
+    private final Set<String> unchanged = ConcurrentHashMap.newKeySet();
+
+    private ValidationSnapshot() {
+    }
+
+    /**
+     * 검증 대상 디렉토리의 모든 .txt 파일을 병렬로 읽습니다
+     */
+    public static ValidationSnapshot load() throws IOException {
+        ValidationSnapshot snapshot = new ValidationSnapshot();
+        List<String> paths = new ArrayList<>();
+
+        for (String dir : DATA_DIRS) {
+            Path dirPath = FileUtil.getResourcePath(dir);
+            if (!Files.isDirectory(dirPath)) {
+                continue;
+            }
+
+            List<String> names;
+            try (Stream<Path> entries = Files.list(dirPath)) {
+                names = entries.filter(Files::isRegularFile)
+                        .map(path -> path.getFileName().toString())
+                        .filter(name -> name.endsWith(".txt"))
+                        .collect(Collectors.toList());
+            }
+            snapshot.listings.put(dir, names);
+            for (String name : names) {
+                paths.add(dir + "/" + name);
+            }
+        }
+
+        Map<String, FileState> manifest = isCacheEnabled() ? readManifest() : Collections.emptyMap();
+
+        try {
+            paths.parallelStream().forEach(path -> {
+                try {
+                    snapshot.loadFile(path, manifest.get(path));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return snapshot;
+    }
+
+    private static boolean isCacheEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("validation.cache"));
+    }
+
+    /**
+     * 파일 하나를 읽습니다
+     * 크기/수정 시각이 매니페스트와 같은 개별 파일은 읽지 않고, 다르더라도 내용 해시가 같으면 바뀌지 않은 것으로 봅니다.
+     */
+    private void loadFile(String path, FileState cached) throws IOException {
+        Path filePath = FileUtil.getResourcePath(path);
+        BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().toMillis();
+        boolean entityFile = ENTITY_FILE_PATTERN.matcher(path.substring(path.lastIndexOf('/') + 1)).matches();
+
+        if (entityFile && cached != null && cached.size == size && cached.modified == modified) {
+            states.put(path, cached);
+            unchanged.add(path);
+            return;
+        }
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Metrics.recordRead(bytes.length);
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes);
+        long hash = crc32.getValue();
+
+        // Files.readAllLines 와 같은 규칙으로 줄을 나눔 (잘못된 UTF-8 이면 IOException)
+        String content = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes)).toString();
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(content))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        }
+        files.put(path, lines);
+
+        if (entityFile && cached != null && cached.hash == hash) {
+            states.put(path, new FileState(size, modified, hash, cached.reservationIds));
+            unchanged.add(path);
+        } else {
+            states.put(path, new FileState(size, modified, hash, null));
+        }
+    }
+
+    /**
+     * 파일 내용을 반환합니다 (FileUtil.readLines 와 같이 없는 파일은 빈 목록)
+     */
+    public List<String> readLines(String filePath) throws IOException {
+        List<String> lines = files.get(filePath);
+        if (lines == null) {
+            // 스냅샷 대상이 아닌 파일은 직접 읽음
+            return FileUtil.readLines(filePath);
+        }
+        return Collections.unmodifiableList(lines);
+    }
+
+    public boolean exists(String filePath) {
+        return states.containsKey(filePath) || FileUtil.resourceExists(filePath);
+    }
+
+    /**
+     * 지난번 검증에 성공한 이후 내용이 바뀌지 않은 파일인지 확인합니다
+     */
+    public boolean isUnchanged(String filePath) {
+        return unchanged.contains(filePath);
+    }
+
+    /**
+     * 바뀌지 않은 파일의 예약번호 목록을 반환합니다 (없으면 null)
+     */
+    public Set<String> getCachedReservationIds(String filePath) {
+        FileState state = states.get(filePath);
+        return unchanged.contains(filePath) && state != null ? state.reservationIds : null;
+    }
+
+    /**
+     * 파일에서 추출한 예약번호 목록을 기록합니다 (매니페스트에 저장)
+     */
+    public void putReservationIds(String filePath, Set<String> reservationIds) {
+        states.computeIfPresent(filePath,
+                (path, state) -> new FileState(state.size, state.modified, state.hash, reservationIds));
+    }
+
+    // ========== 매니페스트 ==========
+
+    /**
+     * 검증에 성공한 파일 상태를 매니페스트로 저장합니다
+     * 형식: 경로 크기 수정시각 CRC32 예약번호(쉼표 구분, 없으면 -, 추출하지 않았으면 ?)
+     */
+    public void saveManifest() throws IOException {
+        if (!isCacheEnabled()) {
+            return;
+        }
+
+        List<String> lines = new ArrayList<>(states.size());
+        for (Map.Entry<String, FileState> entry : new TreeMap<>(states).entrySet()) {
+            FileState state = entry.getValue();
+            String ids;
+            if (state.reservationIds == null) {
+                ids = "?";
+            } else if (state.reservationIds.isEmpty()) {
+                ids = "-";
+            } else {
+                ids = String.join(",", new TreeSet<>(state.reservationIds));
+            }
+            lines.add(entry.getKey() + " " + state.size + " " + state.modified + " "
+                    + Long.toHexString(state.hash) + " " + ids);
+        }
+        FileUtil.writeLinesAtomically(MANIFEST_FILE_PATH, lines);
+    }
+
+    private static Map<String, FileState> readManifest() {
+        Map<String, FileState> manifest = new HashMap<>();
+        try {
+            for (String line : FileUtil.readLines(MANIFEST_FILE_PATH)) {
+                String[] parts = line.trim().split(" ");
+                if (parts.length != 5) {
+                    continue;
+                }
+
+                Set<String> ids = null;
+                if ("-".equals(parts[4])) {
+                    ids = Collections.emptySet();
+                } else if (!"?".equals(parts[4])) {
+                    ids = new HashSet<>(Arrays.asList(parts[4].split(",")));
+                }
+                manifest.put(parts[0], new FileState(Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+                        Long.parseUnsignedLong(parts[3], 16), ids));
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 매니페스트를 읽지 못하면 모든 파일을 다시 검증
+            return new HashMap<>();
+        }
+        return manifest;
+    }
+
+    private static class FileState {
+        final long size;
+        final long modified;
+        final long hash;
+        final Set<String> reservationIds;
+
+        FileState(long size, long modified, long hash, Set<String> reservationIds) {
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+            this.reservationIds = reservationIds;
+        }
+    }
+
+    /**
+     * 디렉토리의 .txt 파일 이름 목록을 반환합니다
+     */
+    public List<String> listFiles(String dir) {
+        return listings.getOrDefault(dir, Collections.emptyList());
+    }
+
+    /**
+     * 항목별 검사를 병렬로 실행하고, 결과를 입력 순서대로 반환합니다
+     * 검사 중 발생한 오류도 결과로 받아 두므로 호출한 쪽에서 순서대로 확인할 수 있습니다.
+     */
+    static <T> List<T> parallelMap(List<String> items, Function<String, T> task) {
+        return items.parallelStream().map(task).collect(Collectors.toList());
+    }
+
+    /**
+     * 항목별 검사를 병렬로 실행하고, 순차 실행했을 때 가장 먼저 발생했을 오류를 던집니다
+     */
+    static void parallelCheck(List<String> items, Consumer<String> check) {
+        List<RuntimeException> errors = parallelMap(items, item -> {
+            try {
+                check.accept(item);
+                return null;
+            } catch (RuntimeException e) {
+                return e;
+            }
+        });
+        for (RuntimeException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 파일을 만든 뒤 가입한 의사의 열을 채우는지 확인하는 테스트 (임시 데이터 디렉토리)
+ * - 넓힌 예약표 읽기, 가입 후 첫 쓰기 (텍스트/바이너리)
+ */
+public class AppointmentRosterTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 10);
+    private static final String DAY_FILE = "data/appointment/20300110.txt";
+    private static final String RESERVATION_ID = "R00000931";
+
+    private Path dataRoot;
+    private String originalUserDir;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        DoctorDirectory.current();
+        originalUserDir = System.getProperty("user.dir");
+        dataRoot = Files.createTempDirectory("appointment-roster-test");
+        System.setProperty("user.dir", dataRoot.toString());
+        Files.createDirectories(dataRoot.resolve("data/doctor"));
+        Files.createDirectories(dataRoot.resolve("data/appointment"));
+        writeDoctors("D00001");
+        SlotAvailabilityCache.getInstance().invalidate(DATE);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        SlotAvailabilityCache.getInstance().invalidate(DATE);
+        System.setProperty("user.dir", originalUserDir);
+        DoctorDirectory.reload();
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * 의사 목록을 쓰고 다시 읽습니다 (의사 회원가입과 같은 효과)
+     */
+    private void writeDoctors(String... doctorIds) throws Exception {
+        List<String> list = new ArrayList<>();
+        list.add("[의사번호] [의사이름] [진료과 코드] [전화번호] [등록일]");
+        for (String doctorId : doctorIds) {
+            String info = doctorId + " 김의사 IM 010-1111-2222 2023-01-15";
+            list.add(info);
+            Files.write(dataRoot.resolve("data/doctor/" + doctorId + ".txt"), List.of(info, "1 1 1 1 1", ""));
+        }
+        Files.write(dataRoot.resolve("data/doctor/doctorlist.txt"), list);
+        DoctorDirectory.reload();
+    }
+
+    private void writeDayFile(String... doctorIds) throws Exception {
+        List<String> day = new ArrayList<>();
+        day.add(DATE.toString());
+        day.add("TIME " + String.join(" ", doctorIds));
+        for (int minutes = 9 * 60; minutes < 18 * 60; minutes += 10) {
+            StringBuilder line = new StringBuilder(String.format("%02d:%02d", minutes / 60, minutes % 60));
+            for (int i = 0; i < doctorIds.length; i++) {
+                line.append(" X");
+            }
+            day.add(line.toString());
+        }
+        Files.write(dataRoot.resolve(DAY_FILE), day);
+    }
+
+    private List<String> dayFile() throws Exception {
+        return Files.readAllLines(dataRoot.resolve(DAY_FILE));
+    }
+
+    @Test
+    public void testSignupAfterDayFileWidensGrid() throws Exception {
+        writeDayFile("D00001");
+        writeDoctors("D00001", "D00002");
+
+        AppointmentCells cells = new AppointmentRepository(false).getCellsByDate(DATE);
+
+        assertArrayEquals(new String[] { "D00001", "D00002" }, cells.doctorIds);
+        assertEquals(1, cells.storedDoctorCount);
+        AppointmentRepository.AppointmentData data = cells.toAppointmentData();
+        assertEquals("X", data.timeSlots.get(0).statuses[0]);
+        assertEquals("0", data.timeSlots.get(0).statuses[1]);
+        // 파일은 다음 쓰기 때까지 그대로
+        assertEquals("TIME D00001", dayFile().get(1));
+    }
+
+    @Test
+    public void testWithdrawnDoctorColumnDoesNotHideNewDoctor() throws Exception {
+        // 파일에는 탈퇴한 의사(D00009) 열이 남아 있어 열 수는 의사 목록과 같음
+        writeDayFile("D00001", "D00009");
+        writeDoctors("D00001", "D00002");
+
+        AppointmentCells cells = new AppointmentRepository(false).getCellsByDate(DATE);
+
+        assertArrayEquals(new String[] { "D00001", "D00009", "D00002" }, cells.doctorIds);
+        assertEquals(2, cells.storedDoctorCount);
+        assertEquals("0", cells.toAppointmentData().timeSlots.get(0).statuses[2]);
+    }
+
+    @Test
+    public void testFirstWriteAfterSignupInTextMode() throws Exception {
+        writeDayFile("D00001");
+        writeDoctors("D00001", "D00002");
+
+        new AppointmentRepository(false).createAppointment(DATE, "D00002", "10:00", RESERVATION_ID);
+
+        List<String> lines = dayFile();
+        assertEquals("TIME D00001 D00002", lines.get(1));
+        assertEquals("09:00 X 0", lines.get(2));
+        assertEquals("10:00 X " + RESERVATION_ID + "(1)", lines.get(8));
+    }
+
+    @Test
+    public void testFirstWriteAfterSignupInBinaryMode() throws Exception {
+        writeDayFile("D00001");
+        AppointmentRepository repository = new AppointmentRepository(true);
+        // 가입 전에 바이너리 파일이 만들어져 있음
+        assertEquals(1, repository.getCellsByDate(DATE).doctorIds.length);
+        writeDoctors("D00001", "D00002");
+
+        repository.createAppointment(DATE, "D00002", "10:00", RESERVATION_ID);
+
+        Path binaryPath = dataRoot.resolve("data/appointment/bin/20300110.bin");
+        AppointmentCells stored = BinaryAppointmentFile.readCells(binaryPath, DATE);
+        assertArrayEquals(new String[] { "D00001", "D00002" }, stored.doctorIds);
+        assertEquals(RESERVATION_ID + "(1)", stored.toAppointmentData().timeSlots.get(6).statuses[1]);
+
+        // 다른 디렉토리로 돌아가기 전에 텍스트로 내보냄
+        AppointmentRepository.flushToText();
+        List<String> lines = dayFile();
+        assertEquals("TIME D00001 D00002", lines.get(1));
+        assertEquals("10:00 X " + RESERVATION_ID + "(1)", lines.get(8));
+    }
+}
@@ -0,0 +1,52 @@
+package repository;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 인증 정보 변경 로그(삭제 표시) 겹치기 테스트
+ */
+public class AuthRepositoryTest {
+
+    private static final String HEADER = "[아이디] [비밀번호] [계정타입] [식별번호]";
+
+    @Test
+    public void testFoldKeepsHeaderAndOrder() {
+        List<String> lines = List.of(
+                HEADER,
+                "",
+                "hong123 hash1 PATIENT P000001",
+                "kim456 hash2 PATIENT P000002",
+                "",
+                "tester01 hash3 PATIENT P000006",
+                "",
+                "lee789 hash4 PATIENT P000007");
+
+        List<String> folded = AuthRepository.fold(lines, Set.of("hong123 P000001", "tester01 P000006"));
+
+        assertEquals(List.of(
+                HEADER,
+                "",
+                "kim456 hash2 PATIENT P000002",
+                "",
+                "lee789 hash4 PATIENT P000007"), folded);
+    }
+
+    @Test
+    public void testFoldKeepsRejoinedUserWithSameUsername() {
+        List<String> lines = List.of(
+                HEADER,
+                "",
+                "tester01 hash1 PATIENT P000006",
+                "",
+                "tester01 hash2 PATIENT P000007");
+
+        List<String> folded = AuthRepository.fold(lines, Set.of("tester01 P000006"));
+
+        assertEquals(List.of(HEADER, "", "tester01 hash2 PATIENT P000007"), folded);
+    }
+}
@@ -0,0 +1,73 @@
+package repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 바이너리 예약 파일 변환/칸 덮어쓰기 테스트
+ */
+public class BinaryAppointmentFileTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 7);
+    private Path binaryPath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        binaryPath = Files.createTempDirectory("binary-appointment-test").resolve("20300107.bin");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(binaryPath);
+        Files.deleteIfExists(binaryPath.getParent());
+    }
+
+    private AppointmentRepository.AppointmentData sampleData() {
+        String[] doctorIds = { "D00001", "D00002", "D00010" };
+        List<AppointmentRepository.TimeSlot> timeSlots = new ArrayList<>();
+        LocalTime time = LocalTime.of(9, 0);
+        for (int i = 0; i < BinaryAppointmentFile.SLOT_COUNT; i++) {
+            String[] statuses = { "0", "X", "0" };
+            if (i == 3) {
+                statuses[0] = "R00000057(1)";
+            }
+            timeSlots.add(new AppointmentRepository.TimeSlot(String.format("%02d:%02d", time.getHour(),
+                    time.getMinute()), statuses));
+            time = time.plusMinutes(10);
+        }
+        return new AppointmentRepository.AppointmentData(DATE, doctorIds, timeSlots);
+    }
+
+    @Test
+    public void testRoundTripKeepsTextLines() throws Exception {
+        AppointmentRepository.AppointmentData data = sampleData();
+        BinaryAppointmentFile.write(binaryPath, data);
+
+        AppointmentRepository.AppointmentData read = BinaryAppointmentFile.read(binaryPath, DATE);
+        assertEquals(AppointmentRepository.toTextLines(DATE, data), AppointmentRepository.toTextLines(DATE, read));
+    }
+
+    @Test
+    public void testWriteCellChangesOnlyOneCell() throws Exception {
+        AppointmentRepository.AppointmentData data = sampleData();
+        BinaryAppointmentFile.write(binaryPath, data);
+        long size = Files.size(binaryPath);
+
+        BinaryAppointmentFile.writeCell(binaryPath, 3, 53, 2, "R12345678(4)");
+        data.timeSlots.get(53).statuses[2] = "R12345678(4)";
+
+        assertEquals(size, Files.size(binaryPath));
+        assertEquals(AppointmentRepository.toTextLines(DATE, data),
+                AppointmentRepository.toTextLines(DATE, BinaryAppointmentFile.read(binaryPath, DATE)));
+    }
+}
@@ -0,0 +1,75 @@
+package repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 메모리 매핑 의사 스케줄 저장소 테스트
+ */
+public class DoctorScheduleStoreTest {
+
+    private static final String TEST_DOCTOR_ID = "D99977";
+    private static final String ZERO_ROW = " 0".repeat(DoctorScheduleStore.SLOT_COUNT);
+
+    private Path dataRoot;
+    private String originalUserDir;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        originalUserDir = System.getProperty("user.dir");
+        dataRoot = Files.createTempDirectory("doctor-schedule-test");
+        Path doctorDir = Files.createDirectories(dataRoot.resolve("data/doctor"));
+        Files.write(doctorDir.resolve(TEST_DOCTOR_ID + ".txt"), List.of(
+                TEST_DOCTOR_ID + " 테스트의사 IM 010-0000-0000 2025-01-01",
+                "1 1 1 1 1",
+                "",
+                "2030-01-08" + ZERO_ROW,
+                "2030-01-07" + ZERO_ROW));
+        System.setProperty("user.dir", dataRoot.toString());
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        DoctorScheduleStore.close(TEST_DOCTOR_ID);
+        System.setProperty("user.dir", originalUserDir);
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testImportKeepsRowOrder() throws Exception {
+        DoctorScheduleStore store = DoctorScheduleStore.open(TEST_DOCTOR_ID);
+
+        assertEquals(List.of("2030-01-08" + ZERO_ROW, "2030-01-07" + ZERO_ROW), store.exportRows());
+        assertNull(store.getRow(LocalDate.of(2030, 1, 9)));
+        assertFalse(store.isDirty());
+    }
+
+    @Test
+    public void testSetSlotPersistsAfterReopen() throws Exception {
+        DoctorScheduleStore store = DoctorScheduleStore.open(TEST_DOCTOR_ID);
+        store.setSlot(LocalDate.of(2030, 1, 7), 0, "R00000123", false);
+        assertFalse(store.setSlot(LocalDate.of(2030, 1, 9), 5, "0", false), "취소는 새 날짜 행을 만들지 않아야 합니다");
+        store.setSlot(LocalDate.of(2030, 1, 9), 53, "R00000124", true);
+        assertTrue(store.isDirty());
+
+        DoctorScheduleStore.close(TEST_DOCTOR_ID);
+        DoctorScheduleStore reopened = DoctorScheduleStore.open(TEST_DOCTOR_ID);
+
+        assertEquals("R00000123", reopened.getRow(LocalDate.of(2030, 1, 7))[0]);
+        assertEquals("R00000124", reopened.getRow(LocalDate.of(2030, 1, 9))[53]);
+        assertEquals(3, reopened.exportRows().size());
+        assertTrue(reopened.isDirty(), "텍스트로 내보내기 전까지는 변경 표시가 유지되어야 합니다");
+    }
+}
@@ -0,0 +1,52 @@
+package repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 환자 파일 변경 로그 겹치기 테스트
+ */
+public class PatientFileStoreTest {
+
+    private static List<String> patientLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("P000006 테스터 1990-01-01 010-1111-9999 0");
+        lines.add("");
+        lines.add("[예약번호] [예약날짜] [시작시간] [종료시간] [진료과] [의사번호] [상태]");
+        lines.add("R00000059 2030-01-07 10:00 10:10 IM D00006 1");
+        lines.add("R00000060 2030-01-08 11:00 11:10 IM D00001 1");
+        return lines;
+    }
+
+    @Test
+    public void testFoldAppliesRecordsInOrder() {
+        List<String> lines = patientLines();
+
+        PatientFileStore.fold(lines, List.of(
+                "",
+                "R00000059 2",
+                "R00000060 2030-01-09 14:00 14:10 IM D00001 1",
+                "R00000060 3"));
+
+        assertEquals("R00000059 2030-01-07 10:00 10:10 IM D00006 2", lines.get(3));
+        assertEquals("R00000060 2030-01-09 14:00 14:10 IM D00001 3", lines.get(4));
+        assertEquals(5, lines.size());
+    }
+
+    @Test
+    public void testFoldIsIdempotentAndIgnoresUnknownRecords() {
+        List<String> records = List.of("R00000059 4", "R00000099 2", "R00000060 broken line");
+        List<String> once = patientLines();
+        PatientFileStore.fold(once, records);
+        List<String> twice = new ArrayList<>(once);
+        PatientFileStore.fold(twice, records);
+
+        assertEquals(once, twice, "같은 변경 로그를 다시 겹쳐도 결과가 같아야 합니다");
+        assertEquals("R00000059 2030-01-07 10:00 10:10 IM D00006 4", once.get(3));
+        assertEquals("R00000060 2030-01-08 11:00 11:10 IM D00001 1", once.get(4));
+    }
+}
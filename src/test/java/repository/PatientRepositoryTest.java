@@ -0,0 +1,133 @@
+package repository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 환자 목록 변경 로그(노쇼 횟수, 삭제 표시) 겹치기 테스트
+ * - 노쇼 증가 후 합치기, 중간 종료 후 시작 시 합치기, 압축 기준 줄 수 (임시 데이터 디렉토리)
+ */
+public class PatientRepositoryTest {
+
+    private static final String HEADER = "[환자 번호] [아이디] [환자 이름] [생년월일] [전화번호] [노쇼 횟수]";
+    private static final String PATIENT_ID = "P999993";
+    private static final String OTHER_PATIENT_ID = "P999992";
+
+    private Path dataRoot;
+    private String originalUserDir;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        originalUserDir = System.getProperty("user.dir");
+        dataRoot = Files.createTempDirectory("patient-repository-test");
+        System.setProperty("user.dir", dataRoot.toString());
+
+        Path patientDir = Files.createDirectories(dataRoot.resolve("data/patient"));
+        Files.write(patientDir.resolve("patientlist.txt"), List.of(
+                HEADER,
+                PATIENT_ID + " noshow 노쇼환자 1990-01-01 010-0000-0003 0",
+                OTHER_PATIENT_ID + " leaver 탈퇴환자 1990-01-01 010-0000-0002 0"));
+        Files.write(patientDir.resolve(PATIENT_ID + ".txt"), List.of(
+                PATIENT_ID + " 노쇼환자 1990-01-01 010-0000-0003 0",
+                "",
+                "[예약번호] [예약날짜] [시작시간] [종료시간] [진료과] [의사번호] [상태]"));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        System.clearProperty("patient.delta.compact");
+        System.setProperty("user.dir", originalUserDir);
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private List<String> patientList() throws Exception {
+        return Files.readAllLines(dataRoot.resolve("data/patient/patientlist.txt"));
+    }
+
+    private Path deltaFile() {
+        return dataRoot.resolve("data/patient/patientlist.delta");
+    }
+
+    @Test
+    public void testFoldDropsDeletedPatientsAndKeepsOrder() {
+        List<String> lines = List.of(
+                HEADER,
+                "P000001 hong123 홍길동 1990-01-15 010-1234-5678 0",
+                "",
+                "P000002 kim 김철수 1985-03-20 010-2222-3333 1",
+                "P000003 lee 이영희 1992-07-07 010-4444-5555 0");
+
+        List<String> folded = PatientRepository.fold(lines, Map.of("P000003", 2, "P000001", 0), Set.of("P000002"));
+
+        assertEquals(List.of(
+                HEADER,
+                "P000001 hong123 홍길동 1990-01-15 010-1234-5678 0",
+                "P000003 lee 이영희 1992-07-07 010-4444-5555 2"), folded);
+    }
+
+    @Test
+    public void testFoldIsIdempotent() {
+        List<String> lines = List.of(HEADER, "P000001 hong123 홍길동 1990-01-15 010-1234-5678 0");
+        Map<String, Integer> noshowCounts = Map.of("P000001", 3);
+
+        List<String> once = PatientRepository.fold(lines, noshowCounts, Set.of("P000009"));
+        assertEquals(once, PatientRepository.fold(once, noshowCounts, Set.of("P000009")),
+                "같은 변경 로그를 다시 겹쳐도 결과가 같아야 합니다");
+    }
+
+    @Test
+    public void testIncrementThenCompact() throws Exception {
+        PatientRepository repository = new PatientRepository();
+
+        assertEquals(1, repository.incrementNoshowCount(PATIENT_ID));
+
+        // 환자 파일은 바로, 목록은 변경 로그에만
+        assertTrue(Files.readAllLines(dataRoot.resolve("data/patient/" + PATIENT_ID + ".txt")).get(0).endsWith(" 1"));
+        assertTrue(Files.readAllLines(deltaFile()).contains(PATIENT_ID + " 1"));
+        assertTrue(patientList().get(1).endsWith(" 0"));
+
+        repository.compact();
+
+        assertEquals(PATIENT_ID + " noshow 노쇼환자 1990-01-01 010-0000-0003 1", patientList().get(1));
+        assertFalse(Files.exists(deltaFile()));
+    }
+
+    @Test
+    public void testStaleListIsFoldedOnStartAfterCrash() throws Exception {
+        // 합치기 전에 종료된 상태: 변경 로그는 남아 있고 목록은 예전 값
+        Files.write(deltaFile(), List.of(PATIENT_ID + " 1", OTHER_PATIENT_ID + " DELETED", PATIENT_ID + " 2"));
+
+        PatientRepository repository = new PatientRepository();
+
+        assertEquals(List.of(HEADER, PATIENT_ID + " noshow 노쇼환자 1990-01-01 010-0000-0003 2"), patientList());
+        assertFalse(Files.exists(deltaFile()));
+        assertEquals(2, repository.getNoshowCount(PATIENT_ID));
+        assertNull(repository.findById(OTHER_PATIENT_ID));
+    }
+
+    @Test
+    public void testDeltaIsCompactedAtThreshold() throws Exception {
+        System.setProperty("patient.delta.compact", "2");
+        PatientRepository repository = new PatientRepository();
+
+        repository.incrementNoshowCount(PATIENT_ID);
+        assertTrue(Files.exists(deltaFile()));
+
+        repository.incrementNoshowCount(PATIENT_ID);
+        assertFalse(Files.exists(deltaFile()), "기준 줄 수에 닿으면 목록에 합쳐야 합니다");
+        assertTrue(patientList().get(1).endsWith(" 2"), patientList().toString());
+    }
+}
@@ -0,0 +1,153 @@
+package repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 레코드 일반 적용과 복구 적용(replay)이 같은 예약 현황표를 만드는지 확인하는 테스트
+ * - 적용 도중 실패한 레코드를 저널 복구가 마저 반영하는지
+ */
+public class ReservationApplierTest {
+
+    private static final String PATIENT_ID = "P999998";
+    private static final String DOCTOR_ID = "D00001";
+    private static final String RESERVATION_ID = "R00000901";
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 7);
+
+    private Path dataRoot;
+    private String originalUserDir;
+    private String originalStorage;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // 공유 인덱스는 원래 데이터로 먼저 읽어 둠
+        ReservationIndex.getInstance();
+        originalStorage = System.getProperty("reservation.storage");
+        System.setProperty("reservation.storage", "journal");
+        originalUserDir = System.getProperty("user.dir");
+        dataRoot = Files.createTempDirectory("reservation-applier-test");
+        System.setProperty("user.dir", dataRoot.toString());
+        writeInitialFiles();
+        DoctorDirectory.reload();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        ReservationIndex.getInstance().removePatient(PATIENT_ID);
+        System.setProperty("user.dir", originalUserDir);
+        if (originalStorage == null) {
+            System.clearProperty("reservation.storage");
+        } else {
+            System.setProperty("reservation.storage", originalStorage);
+        }
+        DoctorDirectory.reload();
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private void writeInitialFiles() throws Exception {
+        Path doctorDir = Files.createDirectories(dataRoot.resolve("data/doctor"));
+        Files.write(doctorDir.resolve("doctorlist.txt"), List.of(
+                "[의사번호] [의사이름] [진료과 코드] [전화번호] [등록일]",
+                DOCTOR_ID + " 김의사 IM 010-1111-2222 2023-01-15"));
+        Files.write(doctorDir.resolve(DOCTOR_ID + ".txt"), List.of(
+                DOCTOR_ID + " 김의사 IM 010-1111-2222 2023-01-15",
+                "1 1 1 1 1",
+                ""));
+
+        Path patientDir = Files.createDirectories(dataRoot.resolve("data/patient"));
+        Files.write(patientDir.resolve(PATIENT_ID + ".txt"), List.of(
+                PATIENT_ID + " 테스트환자 1990-01-01 010-0000-0000 0",
+                "",
+                "[예약번호] [예약날짜] [시작시간] [종료시간] [진료과] [의사번호] [상태]"));
+
+        List<String> day = new ArrayList<>();
+        day.add(DATE.toString());
+        day.add("TIME " + DOCTOR_ID);
+        for (int minutes = 9 * 60; minutes < 18 * 60; minutes += 10) {
+            day.add(String.format("%02d:%02d 0", minutes / 60, minutes % 60));
+        }
+        Path appointmentDir = Files.createDirectories(dataRoot.resolve("data/appointment"));
+        Files.write(appointmentDir.resolve("20300107.txt"), day);
+    }
+
+    private static List<ReservationJournal.Record> records() {
+        return List.of(
+                ReservationJournal.Record.create(RESERVATION_ID, PATIENT_ID, "2030-01-07", "10:00", "10:10", "IM",
+                        DOCTOR_ID),
+                ReservationJournal.Record.modify(RESERVATION_ID, PATIENT_ID, "2030-01-07", "10:00", "2030-01-07",
+                        "10:30", "10:40", "IM", DOCTOR_ID),
+                ReservationJournal.Record.status(RESERVATION_ID, PATIENT_ID, "2030-01-07", "10:30", "10:40", "IM",
+                        DOCTOR_ID, "2"));
+    }
+
+    private List<String> apply(boolean replay) throws Exception {
+        ReservationApplier applier = new ReservationApplier();
+        for (ReservationJournal.Record record : records()) {
+            applier.apply(record, replay);
+        }
+        return Files.readAllLines(dataRoot.resolve("data/appointment/20300107.txt"));
+    }
+
+    @Test
+    public void testLiveAndReplayProduceSameGrid() throws Exception {
+        List<String> live = apply(false);
+        AppointmentRepository repository = AppointmentRepository.getInstance();
+        assertEquals(RESERVATION_ID + "(3)", repository.getSlotStatus(DATE, DOCTOR_ID, "10:00"));
+        assertEquals(RESERVATION_ID + "(2)", repository.getSlotStatus(DATE, DOCTOR_ID, "10:30"));
+
+        writeInitialFiles();
+        List<String> replayed = apply(true);
+
+        assertEquals(live, replayed, "일반 적용과 복구 적용의 예약 현황표가 같아야 합니다");
+    }
+
+    @Test
+    public void testLiveStatusChangeRequiresReservationInSlot() throws Exception {
+        ReservationApplier applier = new ReservationApplier();
+        applier.apply(records().get(0), false);
+
+        assertThrows(util.exception.AppointmentFileException.class, () -> applier.apply(
+                ReservationJournal.Record.status(RESERVATION_ID, PATIENT_ID, "2030-01-07", "11:00", "11:10", "IM",
+                        DOCTOR_ID, "2"), false));
+    }
+
+    @Test
+    public void testRecoverFinishesRecordThatFailedAfterFirstWrite() throws Exception {
+        // 환자 파일 자리에 디렉토리를 두어 예약 현황 파일을 바꾼 다음 단계(환자 파일 추가)에서 실패하게 함
+        Path patientFile = dataRoot.resolve("data/patient/" + PATIENT_ID + ".txt");
+        List<String> patientLines = Files.readAllLines(patientFile);
+        Files.delete(patientFile);
+        Files.createDirectory(patientFile);
+
+        ReservationJournal journal = ReservationJournal.getInstance();
+        assertThrows(ReservationApplier.PartialApplyException.class, () -> journal.write(records().get(0)));
+        assertEquals(RESERVATION_ID + "(1)",
+                AppointmentRepository.getInstance().getSlotStatus(DATE, DOCTOR_ID, "10:00"));
+        // 일부 파일이 바뀌었으므로 ABORT 를 남기지 않음
+        assertTrue(journal.readRecords().stream().noneMatch(r -> r.type == ReservationJournal.Type.ABORT));
+
+        Files.delete(patientFile);
+        Files.write(patientFile, patientLines);
+        assertEquals(1, journal.recover());
+
+        assertEquals(RESERVATION_ID + "(1)",
+                AppointmentRepository.getInstance().getSlotStatus(DATE, DOCTOR_ID, "10:00"));
+        assertTrue(Files.readAllLines(patientFile).contains(
+                RESERVATION_ID + " 2030-01-07 10:00 10:10 IM " + DOCTOR_ID + " 1"));
+        assertTrue(Files.readString(dataRoot.resolve("data/doctor/" + DOCTOR_ID + ".txt")).contains(RESERVATION_ID));
+        assertTrue(journal.readRecords().isEmpty(), "복구 후 체크포인트로 저널을 비워야 합니다");
+    }
+}
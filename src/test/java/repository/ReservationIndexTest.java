@@ -0,0 +1,70 @@
+package repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReservationIndex 조회/갱신 테스트
+ */
+public class ReservationIndexTest {
+
+    private static final String TEST_PATIENT_ID = "P999998";
+    private static final String TEST_DOCTOR_ID = "D99999";
+
+    @AfterEach
+    public void tearDown() {
+        ReservationIndex.getInstance().removePatient(TEST_PATIENT_ID);
+    }
+
+    @Test
+    public void testLoadsExistingReservations() {
+        ReservationIndex index = ReservationIndex.getInstance();
+
+        ReservationIndex.Entry entry = index.findById("R00000001");
+        assertNotNull(entry, "기존 예약이 인덱스에 있어야 합니다");
+        assertEquals("P000001", entry.patientId);
+        assertEquals(3, entry.lineIndex);
+    }
+
+    @Test
+    public void testDoctorReservationsAreSorted() {
+        ReservationIndex index = ReservationIndex.getInstance();
+        index.registerPatient(TEST_PATIENT_ID, "테스트환자");
+        index.put(new ReservationIndex.Entry("R99999903", TEST_PATIENT_ID, -1,
+                "2030-01-02", "09:00", "09:10", "IM", TEST_DOCTOR_ID, "1"));
+        index.put(new ReservationIndex.Entry("R99999901", TEST_PATIENT_ID, -1,
+                "2030-01-01", "13:00", "13:10", "IM", TEST_DOCTOR_ID, "1"));
+        index.put(new ReservationIndex.Entry("R99999902", TEST_PATIENT_ID, -1,
+                "2030-01-01", "10:00", "10:10", "IM", TEST_DOCTOR_ID, "1"));
+
+        List<String> ids = new ArrayList<>();
+        for (ReservationIndex.Entry entry : index.findByDoctor(TEST_DOCTOR_ID)) {
+            ids.add(entry.reservationId);
+        }
+        assertEquals(List.of("R99999902", "R99999901", "R99999903"), ids);
+
+        assertEquals(2, index.findByDate("2030-01-01").size());
+    }
+
+    @Test
+    public void testUpdateStatusAndRemovePatient() {
+        ReservationIndex index = ReservationIndex.getInstance();
+        index.registerPatient(TEST_PATIENT_ID, "테스트환자");
+        index.put(new ReservationIndex.Entry("R99999904", TEST_PATIENT_ID, -1,
+                "2030-01-03", "09:00", "09:10", "IM", TEST_DOCTOR_ID, "1"));
+
+        index.updateStatus("R99999904", "3");
+        assertEquals("3", index.findById("R99999904").status);
+        assertEquals(1, index.findByDoctor(TEST_DOCTOR_ID).size());
+
+        index.removePatient(TEST_PATIENT_ID);
+        assertNull(index.findById("R99999904"));
+        assertTrue(index.findByDoctor(TEST_DOCTOR_ID).isEmpty());
+        assertNull(index.getPatientName(TEST_PATIENT_ID));
+    }
+}
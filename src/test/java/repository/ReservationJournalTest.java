@@ -0,0 +1,59 @@
+package repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 저널 레코드 형식 테스트
+ */
+public class ReservationJournalTest {
+
+    @Test
+    public void testRecordRoundTrip() {
+        ReservationJournal.Record record = ReservationJournal.Record.modify("R00000090", "P000006",
+                "2030-01-07", "14:00", "2030-01-08", "15:00", "15:10", "IM", "D00006");
+        record.sequence = 7;
+
+        ReservationJournal.Record parsed = ReservationJournal.Record.parse(record.toLine());
+
+        assertNotNull(parsed);
+        assertEquals(7, parsed.sequence);
+        assertEquals(ReservationJournal.Type.MODIFY, parsed.type);
+        assertEquals("2030-01-07", parsed.oldDate);
+        assertEquals("14:00", parsed.oldStartTime);
+        assertEquals(record.toLine(), parsed.toLine());
+    }
+
+    @Test
+    public void testTableRecordRoundTrip() {
+        ReservationJournal.Record row = ReservationJournal.Record.row("R00000064", "P000006", "2030-01-09",
+                "10:00", "10:10", "IM", "D00006", "4");
+        row.sequence = 12;
+        ReservationJournal.Record delete = ReservationJournal.Record.delete("R00000064");
+        delete.sequence = 13;
+
+        ReservationJournal.Record parsedRow = ReservationJournal.Record.parse(row.toLine());
+        ReservationJournal.Record parsedDelete = ReservationJournal.Record.parse(delete.toLine());
+
+        assertNotNull(parsedRow);
+        assertEquals(ReservationJournal.Type.ROW, parsedRow.type);
+        assertEquals("4", parsedRow.status);
+        assertNull(parsedRow.oldDate);
+        assertNotNull(parsedDelete);
+        assertEquals(ReservationJournal.Type.DELETE, parsedDelete.type);
+        assertEquals("R00000064", parsedDelete.reservationId);
+        assertEquals(13, parsedDelete.sequence);
+    }
+
+    @Test
+    public void testTornOrCorruptedLineIsIgnored() {
+        ReservationJournal.Record record = ReservationJournal.Record.cancel("R00000059", "P000006",
+                "2030-01-07", "10:00", "10:10", "IM", "D00006");
+        record.sequence = 3;
+        String line = record.toLine();
+
+        assertNull(ReservationJournal.Record.parse(line.substring(0, line.length() - 4)), "기록 도중 잘린 줄은 버려야 합니다");
+        assertNull(ReservationJournal.Record.parse(line.replace("D00006", "D00007")), "CRC 가 맞지 않는 줄은 버려야 합니다");
+    }
+}
@@ -0,0 +1,142 @@
+package repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * (의사, 날짜) 슬롯 잠금 테스트 (임시 데이터 디렉토리)
+ * - 두 세션이 같은 슬롯을 동시에 예약하면 한 세션만 성공
+ */
+public class ReservationLocksTest {
+
+    private static final String[] PATIENT_IDS = { "P999995", "P999994" };
+    private static final String[] RESERVATION_IDS = { "R00000921", "R00000922" };
+    private static final String DOCTOR_ID = "D00001";
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 9);
+    private static final String TIME = "10:00";
+
+    private Path dataRoot;
+    private String originalUserDir;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // 공유 인덱스는 원래 데이터로 먼저 읽어 둠
+        ReservationIndex.getInstance();
+        originalUserDir = System.getProperty("user.dir");
+        dataRoot = Files.createTempDirectory("reservation-locks-test");
+        System.setProperty("user.dir", dataRoot.toString());
+        writeInitialFiles();
+        DoctorDirectory.reload();
+        SlotAvailabilityCache.getInstance().invalidate(DATE);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (String patientId : PATIENT_IDS) {
+            ReservationIndex.getInstance().removePatient(patientId);
+        }
+        SlotAvailabilityCache.getInstance().invalidate(DATE);
+        System.setProperty("user.dir", originalUserDir);
+        DoctorDirectory.reload();
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private void writeInitialFiles() throws Exception {
+        Path doctorDir = Files.createDirectories(dataRoot.resolve("data/doctor"));
+        Files.write(doctorDir.resolve("doctorlist.txt"), List.of(
+                "[의사번호] [의사이름] [진료과 코드] [전화번호] [등록일]",
+                DOCTOR_ID + " 김의사 IM 010-1111-2222 2023-01-15"));
+        Files.write(doctorDir.resolve(DOCTOR_ID + ".txt"), List.of(
+                DOCTOR_ID + " 김의사 IM 010-1111-2222 2023-01-15",
+                "1 1 1 1 1",
+                ""));
+
+        Path patientDir = Files.createDirectories(dataRoot.resolve("data/patient"));
+        for (String patientId : PATIENT_IDS) {
+            Files.write(patientDir.resolve(patientId + ".txt"), List.of(
+                    patientId + " 테스트환자 1990-01-01 010-0000-0000 0",
+                    "",
+                    "[예약번호] [예약날짜] [시작시간] [종료시간] [진료과] [의사번호] [상태]"));
+        }
+
+        List<String> day = new ArrayList<>();
+        day.add(DATE.toString());
+        day.add("TIME " + DOCTOR_ID);
+        for (int minutes = 9 * 60; minutes < 18 * 60; minutes += 10) {
+            day.add(String.format("%02d:%02d 0", minutes / 60, minutes % 60));
+        }
+        Files.write(Files.createDirectories(dataRoot.resolve("data/appointment")).resolve("20300109.txt"), day);
+    }
+
+    /**
+     * 예약 생성과 같은 순서: 잠금 -> 빈 슬롯 확인 -> 기록
+     */
+    private boolean reserve(int session, CountDownLatch start) throws Exception {
+        start.await();
+        try (ReservationLocks.Held held = ReservationLocks.lockSlots(DOCTOR_ID, DATE)) {
+            AppointmentRepository repository = AppointmentRepository.getInstance();
+            if (!repository.getAvailableTimeSlots(DATE, DOCTOR_ID).contains(TIME)) {
+                return false;
+            }
+            // 확인과 기록 사이를 넓혀 잠금이 없으면 두 세션 모두 빈 슬롯을 보게 함
+            Thread.sleep(50);
+            new ReservationApplier().apply(ReservationJournal.Record.create(RESERVATION_IDS[session],
+                    PATIENT_IDS[session], DATE.toString(), TIME, "10:10", "IM", DOCTOR_ID), false);
+            return true;
+        }
+    }
+
+    @Test
+    public void testOnlyOneSessionBooksSameSlot() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successes = new AtomicInteger();
+        List<Throwable> failures = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        int[] winner = { -1 };
+
+        for (int i = 0; i < 2; i++) {
+            int session = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    if (reserve(session, start)) {
+                        successes.incrementAndGet();
+                        winner[0] = session;
+                    }
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertEquals(1, successes.get(), "같은 슬롯은 한 세션만 예약해야 합니다");
+        assertEquals(RESERVATION_IDS[winner[0]] + "(1)",
+                AppointmentRepository.getInstance().getSlotStatus(DATE, DOCTOR_ID, TIME));
+        int loser = 1 - winner[0];
+        List<String> loserLines = Files.readAllLines(dataRoot.resolve("data/patient/" + PATIENT_IDS[loser] + ".txt"));
+        assertTrue(loserLines.stream().noneMatch(line -> line.startsWith(RESERVATION_IDS[loser])), loserLines.toString());
+    }
+}
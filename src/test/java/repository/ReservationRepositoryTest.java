@@ -1,6 +1,13 @@
 package repository;
 
 import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ReservationRepositoryTest {
@@ -61,4 +68,73 @@ public class ReservationRepositoryTest {
             java.nio.file.Files.deleteIfExists(testFile);
         }
     }
+
+    @Test
+    public void testIdsAreAllocatedInBlocks() throws Exception {
+        String originalUserDir = System.getProperty("user.dir");
+        Path dataRoot = Files.createTempDirectory("reservation-id-block-test");
+        Path otherRoot = Files.createTempDirectory("reservation-id-block-other");
+        Path sequenceFile = dataRoot.resolve("data/sequence/reservation.txt");
+        Files.createDirectories(sequenceFile.getParent());
+        Files.write(sequenceFile, List.of("LAST_RESERVATION_NUMBER=10"));
+        System.setProperty(ReservationRepository.BLOCK_SIZE_PROPERTY, "5");
+        System.setProperty("user.dir", dataRoot.toString());
+        try {
+            ReservationRepository repo = new ReservationRepository();
+
+            assertEquals("R00000011", repo.getNextReservationId());
+            assertEquals(List.of("LAST_RESERVATION_NUMBER=15"), Files.readAllLines(sequenceFile));
+            for (int i = 12; i <= 15; i++) {
+                assertEquals(String.format("R%08d", i), repo.getNextReservationId());
+            }
+            assertEquals(List.of("LAST_RESERVATION_NUMBER=15"), Files.readAllLines(sequenceFile),
+                    "블록 안에서는 카운터를 다시 저장하지 않아야 합니다");
+
+            assertEquals("R00000016", repo.getNextReservationId());
+            assertEquals(List.of("LAST_RESERVATION_NUMBER=20"), Files.readAllLines(sequenceFile));
+
+            // 재시작처럼 카운터를 다시 읽으면 남은 블록은 건너뛰고 이어서 발급 (중복 없음)
+            System.setProperty("user.dir", otherRoot.toString());
+            repo.getNextReservationId();
+            System.setProperty("user.dir", dataRoot.toString());
+            assertEquals("R00000021", repo.getNextReservationId());
+        } finally {
+            System.clearProperty(ReservationRepository.BLOCK_SIZE_PROPERTY);
+            System.setProperty("user.dir", originalUserDir);
+            for (Path root : List.of(dataRoot, otherRoot)) {
+                try (Stream<Path> paths = Files.walk(root)) {
+                    paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNextBlockStartsAfterBlockReservedByOtherProcess() throws Exception {
+        String originalUserDir = System.getProperty("user.dir");
+        Path dataRoot = Files.createTempDirectory("reservation-id-shared-test");
+        Path sequenceFile = dataRoot.resolve("data/sequence/reservation.txt");
+        Files.createDirectories(sequenceFile.getParent());
+        Files.write(sequenceFile, List.of("LAST_RESERVATION_NUMBER=10"));
+        System.setProperty(ReservationRepository.BLOCK_SIZE_PROPERTY, "5");
+        System.setProperty("user.dir", dataRoot.toString());
+        try {
+            ReservationRepository repo = new ReservationRepository();
+            for (int i = 11; i <= 15; i++) {
+                assertEquals(String.format("R%08d", i), repo.getNextReservationId());
+            }
+
+            // 같은 데이터를 쓰는 다른 프로세스가 16~40 블록을 예약함
+            Files.write(sequenceFile, List.of("LAST_RESERVATION_NUMBER=40"));
+
+            assertEquals("R00000041", repo.getNextReservationId());
+            assertEquals(List.of("LAST_RESERVATION_NUMBER=45"), Files.readAllLines(sequenceFile));
+        } finally {
+            System.clearProperty(ReservationRepository.BLOCK_SIZE_PROPERTY);
+            System.setProperty("user.dir", originalUserDir);
+            try (Stream<Path> paths = Files.walk(dataRoot)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
 }
@@ -0,0 +1,222 @@
+package repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 테이블 테스트 (임시 데이터 디렉토리)
+ * - 환자 파일로 테이블 만들기, 읽기 전 투영, 반영 순번 이후부터 복구, ROW 압축, 설정을 끈 뒤 정리
+ */
+public class ReservationTableTest {
+
+    private static final String PATIENT_ID = "P999997";
+    private static final String DOCTOR_ID = "D00001";
+    private static final String DATE = "2030-01-08";
+    private static final LocalDate DAY = LocalDate.parse(DATE);
+    private static final String SEEDED_ID = "R00000911";
+    private static final String NEW_ID = "R00000912";
+
+    private Path dataRoot;
+    private String originalUserDir;
+    private String originalStorage;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // 공유 인덱스/의사 목록은 원래 데이터로 먼저 읽어 둠
+        ReservationIndex.getInstance();
+        DoctorDirectory.current();
+        originalUserDir = System.getProperty("user.dir");
+        originalStorage = System.getProperty("reservation.storage");
+        // 백그라운드 투영기가 테스트 도중 반영하지 않도록 주기를 길게 둠
+        System.setProperty("reservation.projection.interval.ms", "3600000");
+
+        dataRoot = Files.createTempDirectory("reservation-table-test");
+        System.setProperty("user.dir", dataRoot.toString());
+        writeInitialFiles();
+        DoctorDirectory.reload();
+        ReservationIndex.getInstance().reload();
+        ReservationTable.getInstance().reset();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        ReservationTable.getInstance().reset();
+        restoreProperty("reservation.storage", originalStorage);
+        System.setProperty("user.dir", originalUserDir);
+        DoctorDirectory.reload();
+        ReservationIndex.getInstance().reload();
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static void restoreProperty(String key, String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
+
+    private void writeInitialFiles() throws Exception {
+        Path doctorDir = Files.createDirectories(dataRoot.resolve("data/doctor"));
+        Files.write(doctorDir.resolve("doctorlist.txt"), List.of(
+                "[의사번호] [의사이름] [진료과 코드] [전화번호] [등록일]",
+                DOCTOR_ID + " 김의사 IM 010-1111-2222 2023-01-15"));
+        Files.write(doctorDir.resolve(DOCTOR_ID + ".txt"), List.of(
+                DOCTOR_ID + " 김의사 IM 010-1111-2222 2023-01-15",
+                "1 1 1 1 1",
+                ""));
+
+        Path patientDir = Files.createDirectories(dataRoot.resolve("data/patient"));
+        Files.write(patientDir.resolve("patientlist.txt"), List.of(
+                "[환자 번호] [아이디] [환자 이름] [생년월일] [전화번호] [노쇼 횟수]",
+                PATIENT_ID + " tabletest 테스트환자 1990-01-01 010-0000-0000 0"));
+        Files.write(patientDir.resolve(PATIENT_ID + ".txt"), List.of(
+                PATIENT_ID + " 테스트환자 1990-01-01 010-0000-0000 0",
+                "",
+                "[예약번호] [예약날짜] [시작시간] [종료시간] [진료과] [의사번호] [상태]",
+                SEEDED_ID + " " + DATE + " 10:00 10:10 IM " + DOCTOR_ID + " 1"));
+
+        List<String> day = new ArrayList<>();
+        day.add(DATE);
+        day.add("TIME " + DOCTOR_ID);
+        for (int minutes = 9 * 60; minutes < 18 * 60; minutes += 10) {
+            String time = String.format("%02d:%02d", minutes / 60, minutes % 60);
+            day.add(time + " " + (time.equals("10:00") ? SEEDED_ID + "(1)" : "0"));
+        }
+        Files.write(Files.createDirectories(dataRoot.resolve("data/appointment")).resolve("20300108.txt"), day);
+    }
+
+    private Path tableFile() {
+        return dataRoot.resolve("data/reservation/reservations.log");
+    }
+
+    private Path projectedFile() {
+        return dataRoot.resolve("data/reservation/projected.txt");
+    }
+
+    private void writeTable(List<ReservationJournal.Record> records, long projectedSequence) throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (ReservationJournal.Record record : records) {
+            lines.add(record.toLine());
+        }
+        Files.createDirectories(tableFile().getParent());
+        Files.write(tableFile(), lines);
+        Files.write(projectedFile(), List.of("PROJECTED_SEQUENCE=" + projectedSequence));
+    }
+
+    private List<ReservationJournal.Record> readTable() throws Exception {
+        List<ReservationJournal.Record> records = new ArrayList<>();
+        for (String line : Files.readAllLines(tableFile())) {
+            ReservationJournal.Record record = ReservationJournal.Record.parse(line);
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static ReservationJournal.Record create(String reservationId, String time, String endTime,
+            long sequence) {
+        ReservationJournal.Record record = ReservationJournal.Record.create(reservationId, PATIENT_ID, DATE, time,
+                endTime, "IM", DOCTOR_ID);
+        record.sequence = sequence;
+        return record;
+    }
+
+    private static ReservationJournal.Record status(String reservationId, String status, long sequence) {
+        ReservationJournal.Record record = ReservationJournal.Record.status(reservationId, PATIENT_ID, DATE, "10:00",
+                "10:10", "IM", DOCTOR_ID, status);
+        record.sequence = sequence;
+        return record;
+    }
+
+    private String dayFile() throws Exception {
+        return Files.readString(dataRoot.resolve("data/appointment/20300108.txt"));
+    }
+
+    @Test
+    public void testSeedsTableFromPatientFiles() throws Exception {
+        System.setProperty("reservation.storage", "table");
+
+        assertEquals(0, ReservationTable.getInstance().recover());
+
+        List<ReservationJournal.Record> records = readTable();
+        assertEquals(1, records.size());
+        assertEquals(ReservationJournal.Type.ROW, records.get(0).type);
+        assertEquals(SEEDED_ID, records.get(0).reservationId);
+        assertEquals("10:00", records.get(0).startTime);
+        assertEquals(List.of("PROJECTED_SEQUENCE=1"), Files.readAllLines(projectedFile()));
+    }
+
+    @Test
+    public void testProjectsDayFileBeforeRead() throws Exception {
+        System.setProperty("reservation.storage", "table");
+        ReservationTable.getInstance().recover();
+
+        ReservationTable.getInstance().write(ReservationJournal.Record.create(NEW_ID, PATIENT_ID, DATE, "10:30",
+                "10:40", "IM", DOCTOR_ID));
+        assertFalse(dayFile().contains(NEW_ID), "기록만 하고 날짜 파일은 아직 다시 쓰지 않아야 합니다");
+
+        assertEquals(NEW_ID + "(1)", AppointmentRepository.getInstance().getSlotStatus(DAY, DOCTOR_ID, "10:30"));
+        assertTrue(dayFile().contains("10:30 " + NEW_ID + "(1)"), "읽기 전에 날짜 파일에 반영되어야 합니다");
+    }
+
+    @Test
+    public void testRecoverResumesAfterProjectedSequence() throws Exception {
+        System.setProperty("reservation.storage", "table");
+        // 1번(진료완료)은 반영된 것으로 기록되어 있으므로 다시 적용하지 않고, 2번만 적용
+        writeTable(List.of(status(SEEDED_ID, "2", 1), create(NEW_ID, "10:30", "10:40", 2)), 1);
+
+        assertEquals(1, ReservationTable.getInstance().recover());
+
+        String day = dayFile();
+        assertTrue(day.contains("10:00 " + SEEDED_ID + "(1)"));
+        assertTrue(day.contains("10:30 " + NEW_ID + "(1)"));
+        List<String> patientLines = Files.readAllLines(dataRoot.resolve("data/patient/" + PATIENT_ID + ".txt"));
+        assertTrue(patientLines.contains(NEW_ID + " " + DATE + " 10:30 10:40 IM " + DOCTOR_ID + " 1"));
+    }
+
+    @Test
+    public void testCompactsToRowRecords() throws Exception {
+        System.setProperty("reservation.storage", "table");
+        List<ReservationJournal.Record> records = new ArrayList<>();
+        for (int i = 1; i <= 1100; i++) {
+            records.add(status(SEEDED_ID, i % 2 == 0 ? "1" : "2", i));
+        }
+        writeTable(records, 1100);
+
+        ReservationTable.getInstance().recover();
+
+        List<ReservationJournal.Record> compacted = readTable();
+        assertEquals(1, compacted.size());
+        assertEquals(ReservationJournal.Type.ROW, compacted.get(0).type);
+        assertEquals(SEEDED_ID, compacted.get(0).reservationId);
+        assertEquals("1", compacted.get(0).status);
+        assertEquals(1100, compacted.get(0).sequence);
+    }
+
+    @Test
+    public void testDrainsTableWhenDisabled() throws Exception {
+        System.setProperty("reservation.storage", "journal");
+        writeTable(List.of(create(NEW_ID, "10:30", "10:40", 1)), 0);
+
+        assertEquals(1, ReservationTable.getInstance().recover());
+
+        assertTrue(dayFile().contains("10:30 " + NEW_ID + "(1)"));
+        assertFalse(Files.exists(tableFile()));
+        assertFalse(Files.exists(projectedFile()));
+    }
+}
@@ -0,0 +1,44 @@
+package repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 가능 슬롯 비트맵 연산 테스트
+ */
+public class SlotAvailabilityCacheTest {
+
+    @Test
+    public void testToTimes() {
+        long bitmap = (1L << 0) | (1L << 7) | (1L << 53);
+
+        assertEquals(List.of("09:00", "10:10", "17:50"), SlotAvailabilityCache.toTimes(bitmap));
+        assertTrue(SlotAvailabilityCache.toTimes(0L).isEmpty());
+    }
+
+    @Test
+    public void testFindFirstFreePrefersEarliestSlotThenDoctorOrder() {
+        Map<String, Long> bitmaps = Map.of(
+                "D00001", 1L << 5,
+                "D00002", (1L << 3) | (1L << 5),
+                "D00003", 1L << 3);
+
+        String[] first = SlotAvailabilityCache.findFirstFree(bitmaps, Arrays.asList("D00001", "D00003", "D00002"));
+
+        assertArrayEquals(new String[] { "D00003", "09:30" }, first);
+        assertNull(SlotAvailabilityCache.findFirstFree(bitmaps, List.of("D00009")));
+    }
+
+    @Test
+    public void testCancelledReservationIsAvailable() {
+        assertTrue(SlotAvailabilityCache.isAvailable("0"));
+        assertTrue(SlotAvailabilityCache.isAvailable("R00000001(3)"));
+        assertFalse(SlotAvailabilityCache.isAvailable("R00000001(1)"));
+        assertFalse(SlotAvailabilityCache.isAvailable("X"));
+    }
+}
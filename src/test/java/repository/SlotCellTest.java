@@ -0,0 +1,91 @@
+package repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import util.exception.AppointmentFileException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 칸 long 코덱 / 예약 파일 바이트 해석 테스트
+ */
+public class SlotCellTest {
+
+    @Test
+    public void testParseAndFormatRoundTrip() {
+        for (String text : new String[] { "0", "X", "R00000001(1)", "R12345678(3)", "R99999999(4)" }) {
+            long cell = SlotCell.parse(text);
+            assertNotEquals(SlotCell.INVALID, cell, text);
+            assertEquals(text, SlotCell.format(cell));
+
+            byte[] bytes = (" " + text + " ").getBytes(StandardCharsets.US_ASCII);
+            assertEquals(cell, SlotCell.parse(bytes, 1, bytes.length - 1));
+        }
+
+        long cancelled = SlotCell.parse("R00000012(3)");
+        assertEquals(12, SlotCell.reservationNumber(cancelled));
+        assertEquals(SlotCell.STATUS_CANCELLED, SlotCell.status(cancelled));
+        assertTrue(SlotCell.isAvailable(cancelled));
+        assertTrue(SlotCell.isReservation(cancelled, 12));
+        assertFalse(SlotCell.isAvailable(SlotCell.UNAVAILABLE));
+        assertFalse(SlotCell.isReservation(SlotCell.AVAILABLE, 0));
+    }
+
+    @Test
+    public void testInvalidText() {
+        for (String text : new String[] { "", "1", "R0000001(1)", "R00000001(5)", "R00000001(0)", "R0000000A(1)",
+                "R00000001[1]" }) {
+            assertEquals(SlotCell.INVALID, SlotCell.parse(text), text);
+        }
+        assertEquals(-1, SlotCell.parseReservationNumber("R1234"));
+        assertEquals(57, SlotCell.parseReservationNumber("R00000057"));
+    }
+
+    @Test
+    public void testParseTextFallsBackOnUnexpectedFormat() {
+        LocalDate date = LocalDate.of(2030, 1, 7);
+        AppointmentCells cells = new AppointmentCells(date, new String[] { "D00001", "D00002" });
+        cells.set(3, 1, SlotCell.of(57, SlotCell.STATUS_RESERVED));
+        cells.set(53, 0, SlotCell.UNAVAILABLE);
+        byte[] text = cells.toText();
+
+        AppointmentCells parsed = AppointmentCells.parseText(text, date);
+        assertNotNull(parsed);
+        assertArrayEquals(cells.cells, parsed.cells);
+        assertEquals(new String(text, StandardCharsets.UTF_8), new String(parsed.toText(), StandardCharsets.UTF_8));
+
+        String withoutLastSlot = new String(text, StandardCharsets.UTF_8).replaceAll("17:50[^\\n]*\\n", "");
+        assertNull(AppointmentCells.parseText(withoutLastSlot.getBytes(StandardCharsets.UTF_8), date));
+        assertNull(AppointmentCells.parseText(text, date.plusDays(1)));
+    }
+
+    @Test
+    public void testParseTextRejectsDuplicateDoctorIds() throws Exception {
+        LocalDate date = LocalDate.of(2030, 1, 7);
+        String text = new String(new AppointmentCells(date, new String[] { "D00001", "D00002" }).toText(),
+                StandardCharsets.UTF_8);
+        String duplicated = text.replace("TIME D00001 D00002", "TIME D00001 D00001");
+
+        assertNull(AppointmentCells.parseText(duplicated.getBytes(StandardCharsets.UTF_8), date));
+        // 검증 파서로 다시 해석해 중복 오류를 알림
+        AppointmentFileException e = assertThrows(AppointmentFileException.class,
+                () -> new AppointmentRepository(false).parseAppointments(date, duplicated.lines().toList()));
+        assertTrue(e.getMessage().contains("D00001"), e.getMessage());
+    }
+
+    @Test
+    public void testBookedCountsSkipUnavailableAndCancelledCells() {
+        AppointmentCells cells = new AppointmentCells(LocalDate.of(2030, 1, 7), new String[] { "D00001", "D00002" });
+        for (int slotIndex = 0; slotIndex < 10; slotIndex++) {
+            cells.set(slotIndex, 0, SlotCell.UNAVAILABLE);
+        }
+        cells.set(20, 0, SlotCell.of(1, SlotCell.STATUS_RESERVED));
+        cells.set(21, 1, SlotCell.of(2, SlotCell.STATUS_COMPLETED));
+        cells.set(22, 1, SlotCell.of(3, SlotCell.STATUS_NO_SHOW));
+        cells.set(23, 1, SlotCell.of(4, SlotCell.STATUS_CANCELLED));
+
+        assertArrayEquals(new int[] { 1, 2 }, cells.bookedCounts());
+    }
+}
@@ -0,0 +1,60 @@
+package service.admin;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import repository.MajorRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 예약 현황(reserve-list) 출력 테스트 (기존 데이터 기준)
+ */
+public class AdminServiceTest {
+
+    private PrintStream originalOut;
+    private ByteArrayOutputStream output;
+
+    @BeforeEach
+    public void setUp() {
+        originalOut = System.out;
+        output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    private List<String> reserveList(String date) throws Exception {
+        new AdminService(MajorRepository.getInstance()).showReserveList(new String[] { date });
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Test
+    public void testReserveListShowsLoginIdOfEachReservation() throws Exception {
+        List<String> lines = reserveList("2025-10-15");
+
+        assertTrue(lines.contains("2025-10-15 예약 현황 (총 3건)"), lines.toString());
+        // 예전에는 회원 열이 "-" 로 나왔으나 이제는 예약한 환자의 아이디가 나옴
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("R00000058(1) | 10:20-10:30 | ")
+                && line.endsWith(" | kimss | [예약중]")), lines.toString());
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("R00000056(2) | 10:30-10:40 | ")
+                && line.endsWith(" | hong123 | [예약중]")), lines.toString());
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("R00000057(1) | 14:10-14:20 | ")
+                && line.endsWith(" | hong123 | [예약중]")), lines.toString());
+        assertTrue(lines.stream().noneMatch(line -> line.contains(" | - | ")), lines.toString());
+    }
+
+    @Test
+    public void testReserveListWithoutAppointmentFile() throws Exception {
+        assertEquals(List.of("(예약 없음)."), reserveList("2031-01-01"));
+    }
+}
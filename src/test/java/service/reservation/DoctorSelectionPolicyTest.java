@@ -0,0 +1,105 @@
+package service.reservation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 진료과 예약 의사 선택 정책 테스트
+ */
+public class DoctorSelectionPolicyTest {
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(DoctorSelectionPolicy.POLICY_PROPERTY);
+    }
+
+    private static DoctorSelectionPolicy.Candidate candidate(int order, int load) {
+        return new DoctorSelectionPolicy.Candidate(String.format("D%05d", order + 1), order, load);
+    }
+
+    /**
+     * 진료과의 의사 0~2번 중 예약 가능한 의사만 후보로 (full 에 있는 순서는 빈 슬롯 없음)
+     */
+    private static List<DoctorSelectionPolicy.Candidate> candidates(int... full) {
+        List<DoctorSelectionPolicy.Candidate> candidates = new ArrayList<>();
+        for (int order = 0; order < 3; order++) {
+            boolean skipped = false;
+            for (int f : full) {
+                skipped |= f == order;
+            }
+            if (!skipped) {
+                candidates.add(candidate(order, 0));
+            }
+        }
+        return candidates;
+    }
+
+    @Test
+    public void testFirstFitSelectsFirstCandidate() {
+        DoctorSelectionPolicy policy = new DoctorSelectionPolicy.FirstFit();
+
+        assertEquals("D00001", policy.select("IM", candidates()).doctorId);
+        assertEquals("D00001", policy.select("IM", candidates()).doctorId);
+        assertEquals("D00002", policy.select("IM", candidates(0)).doctorId);
+    }
+
+    @Test
+    public void testLeastLoadedSelectsFewestBookedSlots() {
+        DoctorSelectionPolicy policy = new DoctorSelectionPolicy.LeastLoaded();
+
+        assertEquals("D00002", policy.select("IM",
+                List.of(candidate(0, 5), candidate(1, 2), candidate(2, 3))).doctorId);
+        // 같으면 앞선 의사
+        assertEquals("D00001", policy.select("IM",
+                List.of(candidate(0, 2), candidate(1, 2), candidate(2, 3))).doctorId);
+    }
+
+    @Test
+    public void testOnlyLeastLoadedUsesLoad() {
+        assertTrue(new DoctorSelectionPolicy.LeastLoaded().usesLoad());
+        assertFalse(new DoctorSelectionPolicy.FirstFit().usesLoad());
+        assertFalse(new DoctorSelectionPolicy.RoundRobin().usesLoad());
+    }
+
+    @Test
+    public void testRoundRobinWrapsAround() {
+        DoctorSelectionPolicy policy = new DoctorSelectionPolicy.RoundRobin();
+
+        List<String> selected = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            selected.add(policy.select("IM", candidates()).doctorId);
+        }
+        assertEquals(List.of("D00001", "D00002", "D00003", "D00001"), selected);
+        // 진료과마다 따로 돌아감
+        assertEquals("D00001", policy.select("GS", candidates()).doctorId);
+        assertEquals("D00002", policy.select("IM", candidates()).doctorId);
+    }
+
+    @Test
+    public void testRoundRobinSkipsDoctorsWithoutFreeSlot() {
+        DoctorSelectionPolicy policy = new DoctorSelectionPolicy.RoundRobin();
+
+        assertEquals("D00001", policy.select("IM", candidates()).doctorId);
+        // 다음 차례(D00002)가 꽉 차 있으면 그다음 의사
+        assertEquals("D00003", policy.select("IM", candidates(1)).doctorId);
+        // 마지막 의사 다음에는 처음으로 돌아가되, 꽉 찬 의사는 건너뜀
+        assertEquals("D00002", policy.select("IM", candidates(0)).doctorId);
+        assertEquals("D00001", policy.select("IM", candidates(2)).doctorId);
+    }
+
+    @Test
+    public void testFromProperty() {
+        assertTrue(DoctorSelectionPolicy.fromProperty() instanceof DoctorSelectionPolicy.FirstFit);
+        System.setProperty(DoctorSelectionPolicy.POLICY_PROPERTY, "least-loaded");
+        assertTrue(DoctorSelectionPolicy.fromProperty() instanceof DoctorSelectionPolicy.LeastLoaded);
+        System.setProperty(DoctorSelectionPolicy.POLICY_PROPERTY, "Round-Robin");
+        assertSame(DoctorSelectionPolicy.RoundRobin.INSTANCE, DoctorSelectionPolicy.fromProperty());
+        System.setProperty(DoctorSelectionPolicy.POLICY_PROPERTY, "unknown");
+        assertTrue(DoctorSelectionPolicy.fromProperty() instanceof DoctorSelectionPolicy.FirstFit);
+    }
+}
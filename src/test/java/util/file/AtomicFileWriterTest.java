@@ -0,0 +1,130 @@
+package util.file;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 임시 파일 + 원자적 교체 쓰기 테스트
+ */
+public class AtomicFileWriterTest {
+
+    private Path root;
+    private String originalDurability;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("atomic-file-writer-test");
+        originalDurability = System.getProperty(AtomicFileWriter.DURABILITY_PROPERTY);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (originalDurability == null) {
+            System.clearProperty(AtomicFileWriter.DURABILITY_PROPERTY);
+        } else {
+            System.setProperty(AtomicFileWriter.DURABILITY_PROPERTY, originalDurability);
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testTempPathIsUniqueSiblingWithTmpSuffix() {
+        Path path = root.resolve("patientlist.txt");
+        Set<Path> tempPaths = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            Path tempPath = AtomicFileWriter.tempPathFor(path);
+            assertEquals(root, tempPath.getParent());
+            assertTrue(tempPath.getFileName().toString().startsWith("patientlist.txt."));
+            assertTrue(tempPath.getFileName().toString().endsWith(".tmp"));
+            tempPaths.add(tempPath);
+        }
+        assertEquals(100, tempPaths.size(), "임시 파일 이름은 호출마다 달라야 합니다");
+    }
+
+    @Test
+    public void testDeleteLeftoverTempFilesKeepsOtherFiles() throws Exception {
+        Path dayDir = Files.createDirectories(root.resolve("data/appointment"));
+        Path dayFile = Files.writeString(dayDir.resolve("20250915.txt"), "2025-09-15\n");
+        Path leftover = Files.writeString(AtomicFileWriter.tempPathFor(dayFile), "2025-09");
+        Path nested = Files.writeString(AtomicFileWriter.tempPathFor(root.resolve("data/credentials.txt")), "");
+
+        AtomicFileWriter.deleteLeftoverTempFiles(root.resolve("data"));
+
+        assertFalse(Files.exists(leftover));
+        assertFalse(Files.exists(nested));
+        assertEquals("2025-09-15\n", Files.readString(dayFile));
+    }
+
+    @Test
+    public void testWriteReplacesContentsWithoutLeavingTempFiles() throws Exception {
+        for (String durability : List.of("batch", "sync", "none")) {
+            System.setProperty(AtomicFileWriter.DURABILITY_PROPERTY, durability);
+            Path path = root.resolve(durability + ".txt");
+            AtomicFileWriter.write(path, "old".getBytes(StandardCharsets.UTF_8));
+            AtomicFileWriter.write(path, "new".getBytes(StandardCharsets.UTF_8));
+
+            assertEquals("new", Files.readString(path), durability);
+        }
+        try (Stream<Path> files = Files.list(root)) {
+            assertTrue(files.noneMatch(path -> path.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    public void testConcurrentWritesAreCommittedTogether() throws Exception {
+        System.setProperty(AtomicFileWriter.DURABILITY_PROPERTY, "sync");
+        int writers = 8;
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        long commitsBefore;
+
+        // 처리 중인 스레드가 있는 것처럼 잠금을 잡아 두고 쓰기가 모두 대기열에 들어올 때까지 기다림
+        synchronized (AtomicFileWriter.commitLock) {
+            commitsBefore = AtomicFileWriter.commitCount();
+            for (int i = 0; i < writers; i++) {
+                Path path = root.resolve("file" + i + ".txt");
+                byte[] bytes = ("contents " + i).getBytes(StandardCharsets.UTF_8);
+                Thread thread = new Thread(() -> {
+                    try {
+                        AtomicFileWriter.write(path, bytes);
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (AtomicFileWriter.pendingCount() < writers && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(writers, AtomicFileWriter.pendingCount());
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertEquals(commitsBefore + 1, AtomicFileWriter.commitCount(), "대기 중인 쓰기는 한 번에 처리되어야 합니다");
+        for (int i = 0; i < writers; i++) {
+            assertEquals("contents " + i, Files.readString(root.resolve("file" + i + ".txt")));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package util.file;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 목록 파일 토크나이저 테스트 (split("\\s+") 와 같은 토큰)
+ */
+public class LineTokenizerTest {
+
+    @Test
+    public void testTokensMatchSplit() {
+        String text = "[헤더] 줄\r\n"
+                + "P000001 hong123 홍길동 1990-01-15 010-1234-5678 2\n"
+                + "\n"
+                + "  P000002\tkim  김철수 1985-03-20 010-2222-3333   \r\n"
+                + "P000003 lee 이영희 1992-07-07 010-4444-5555 1 extra";
+        LineTokenizer tokenizer = new LineTokenizer(text.getBytes(StandardCharsets.UTF_8));
+        String[] tokens = new String[6];
+
+        assertEquals(5, tokenizer.countLines());
+        assertTrue(tokenizer.nextLine());
+        assertEquals(2, tokenizer.tokens(tokens));
+
+        assertTrue(tokenizer.nextLine());
+        assertEquals(6, tokenizer.tokens(tokens));
+        assertArrayEquals("P000001 hong123 홍길동 1990-01-15 010-1234-5678 2".split("\\s+"), tokens);
+
+        assertTrue(tokenizer.nextLine());
+        assertEquals(0, tokenizer.tokens(tokens));
+
+        assertTrue(tokenizer.nextLine());
+        assertEquals(5, tokenizer.tokens(tokens));
+        assertEquals("kim", tokens[1]);
+        assertEquals("010-2222-3333", tokens[4]);
+
+        assertTrue(tokenizer.nextLine());
+        assertEquals(7, tokenizer.tokens(tokens), "배열보다 많은 토큰은 세기만 해야 합니다");
+        assertEquals("1", tokens[5]);
+
+        assertFalse(tokenizer.nextLine());
+    }
+
+    @Test
+    public void testEmptyInput() {
+        LineTokenizer tokenizer = new LineTokenizer(new byte[0]);
+        assertEquals(0, tokenizer.countLines());
+        assertFalse(tokenizer.nextLine());
+    }
+}
@@ -0,0 +1,119 @@
+package util.generator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DatasetGenerator 테스트 (환자/의사/예약 현황 파일의 예약번호가 서로 일치하는지)
+ */
+public class DatasetGeneratorTest {
+
+    private Path root;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("dataset-generator-test");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private DatasetGenerator.Options options(String distribution) {
+        return DatasetGenerator.Options.parse(new String[] {
+                root.toString(), "--patients", "37", "--doctors", "5", "--days", "6",
+                "--fill", "0.5", "--distribution", distribution, "--threads", "3" });
+    }
+
+    @Test
+    public void testReservationsMatchAcrossFiles() throws IOException {
+        int total = new DatasetGenerator(options("peak")).generate();
+        assertTrue(total > 0);
+
+        Set<String> inPatients = collect(root.resolve("data/patient"), "P\\d{6}\\.txt", 3, 0, 1);
+        Set<String> inDoctors = collect(root.resolve("data/doctor"), "D\\d{5}\\.txt", 3, 1, 55);
+        Set<String> inAppointments = collect(root.resolve("data/appointment"), "\\d{8}\\.txt", 2, 1, Integer.MAX_VALUE);
+
+        assertEquals(total, inPatients.size());
+        assertEquals(inPatients, inDoctors);
+        assertEquals(inPatients, inAppointments);
+        assertTrue(inPatients.contains(DatasetGenerator.reservationId(total)));
+
+        assertEquals(List.of("LAST_RESERVATION_NUMBER=" + total),
+                Files.readAllLines(root.resolve("data/sequence/reservation.txt")));
+    }
+
+    @Test
+    public void testLocateIsInverseOfNumbering() throws IOException {
+        DatasetGenerator generator = new DatasetGenerator(options("skewed"));
+        int total = generator.generate();
+
+        // 예약번호 -> 위치 -> 해당 슬롯이 예약된 칸인지, 번호 순서가 날짜/의사/슬롯 순인지
+        int[] previous = null;
+        for (int number = 1; number <= total; number++) {
+            int[] position = generator.locate(number);
+            assertTrue((generator.occupancy(position[0], position[1]) & (1L << position[2])) != 0);
+            if (previous != null) {
+                long before = ((long) previous[0] * 5 + previous[1]) * 64 + previous[2];
+                long after = ((long) position[0] * 5 + position[1]) * 64 + position[2];
+                assertTrue(after > before);
+            }
+            previous = position;
+        }
+    }
+
+    @Test
+    public void testRejectsInvalidOptions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DatasetGenerator.Options.parse(new String[] { "--patients", "10" }));
+        assertThrows(IllegalArgumentException.class,
+                () -> DatasetGenerator.Options.parse(new String[] { "out", "--fill", "1.5" }));
+        assertThrows(IllegalArgumentException.class,
+                () -> DatasetGenerator.Options.parse(new String[] { "out", "--distribution", "normal" }));
+    }
+
+    /**
+     * 디렉토리의 파일들에서 예약번호를 모읍니다
+     *
+     * @param firstLine 예약 정보가 시작되는 행 (0부터)
+     * @param from      예약번호를 찾기 시작할 열
+     * @param to        예약번호를 찾을 마지막 열 (제외)
+     */
+    private static Set<String> collect(Path dir, String fileNamePattern, int firstLine, int from, int to)
+            throws IOException {
+        Set<String> ids = new HashSet<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (!file.getFileName().toString().matches(fileNamePattern)) {
+                    continue;
+                }
+                List<String> lines = Files.readAllLines(file);
+                for (int i = firstLine; i < lines.size(); i++) {
+                    String[] parts = lines.get(i).trim().split("\\s+");
+                    for (int j = from; j < Math.min(to, parts.length); j++) {
+                        String id = parts[j].replaceAll("\\(\\d\\)$", "");
+                        if (id.matches("R\\d{8}")) {
+                            ids.add(id);
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,57 @@
+package util.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyHistogram 구간 계산/백분위 테스트
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsAreContiguousAndWithinOnePercent() {
+        int previous = -1;
+        for (long value = 0; value < 5_000_000; value += 1 + value / 1000) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(index == previous || index == previous + 1, "구간 번호는 건너뛰지 않아야 합니다: " + value);
+            long highest = LatencyHistogram.highestValueIn(index);
+            assertTrue(highest >= value);
+            assertTrue(highest - value <= Math.max(1, value / 100), "상대 오차 1% 이내: " + value);
+            previous = index;
+        }
+
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueIn(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1000L);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000L, histogram.getMax());
+        assertEquals(5_000_500.0, histogram.getMean(), 0.001);
+        assertEquals(5_000_000.0, histogram.valueAtPercentile(50), 50_000.0);
+        assertEquals(9_900_000.0, histogram.valueAtPercentile(99), 99_000.0);
+        assertEquals(9_990_000.0, histogram.valueAtPercentile(99.9), 99_900.0);
+        assertEquals(10_000_000L, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    public void testAdd() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        second.record(30);
+        second.record(20);
+
+        first.add(second);
+        assertEquals(3, first.getCount());
+        assertEquals(30, first.getMax());
+        assertEquals(20, first.valueAtPercentile(50));
+        assertEquals(0, new LatencyHistogram().valueAtPercentile(99));
+    }
+}
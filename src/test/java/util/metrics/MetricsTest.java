@@ -0,0 +1,56 @@
+package util.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Metrics 명령 구간 집계 테스트
+ */
+public class MetricsTest {
+
+    @AfterEach
+    public void tearDown() {
+        Metrics.reset();
+    }
+
+    @Test
+    public void testIoIsCountedForCurrentCommandOnly() {
+        try (Metrics.Scope scope = Metrics.begin("reserve")) {
+            Metrics.recordRead(2048);
+            // 명령 안에서 다시 begin 해도 바깥 명령에 더해짐
+            try (Metrics.Scope nested = Metrics.begin("check")) {
+                Metrics.recordWrite(1024);
+            }
+        }
+        Metrics.recordRead(4096);
+
+        String report = report();
+        assertTrue(report.contains("reserve"));
+        assertFalse(report.contains("check"));
+        assertTrue(report.lines().anyMatch(line -> line.startsWith("reserve") && line.contains(" 1.0 ")
+                && line.contains(" 2.0 ")), report);
+        assertTrue(report.lines().anyMatch(line -> line.startsWith("(명령 외)") && line.contains(" 4.0 ")), report);
+    }
+
+    @Test
+    public void testReset() {
+        try (Metrics.Scope scope = Metrics.begin("login")) {
+            Metrics.recordRead(10);
+        }
+        Metrics.reset();
+
+        assertFalse(report().contains("login"));
+    }
+
+    private static String report() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Metrics.writeReport(new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
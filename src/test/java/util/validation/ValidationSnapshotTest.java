@@ -0,0 +1,243 @@
+package util.validation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 시작 검증 스냅샷 테스트 (임시 데이터 디렉토리)
+ * - 매니페스트로 바뀌지 않은 파일 건너뛰기, 내용/수정 시각 변경 판단, 손상된 매니페스트, 고아 검사의 예약번호 캐시
+ * - parallelCheck 가 순차 실행과 같은 첫 오류를 던지는지
+ */
+public class ValidationSnapshotTest {
+
+    private static final String PATIENT_FILE = "data/patient/P000001.txt";
+    private static final String OTHER_PATIENT_FILE = "data/patient/P000002.txt";
+    private static final String DOCTOR_FILE = "data/doctor/D00001.txt";
+    private static final String APPOINTMENT_FILE = "data/appointment/20300107.txt";
+
+    private Path dataRoot;
+    private String originalUserDir;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        originalUserDir = System.getProperty("user.dir");
+        dataRoot = Files.createTempDirectory("validation-snapshot-test");
+        System.setProperty("user.dir", dataRoot.toString());
+        writeInitialFiles();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        System.setProperty("user.dir", originalUserDir);
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private void writeInitialFiles() throws Exception {
+        Path patientDir = Files.createDirectories(dataRoot.resolve("data/patient"));
+        Files.write(patientDir.resolve("patientlist.txt"), List.of(
+                "[환자 번호] [아이디] [환자 이름] [생년월일] [전화번호] [노쇼 횟수]",
+                "P000001 user1 환자일 1990-01-01 010-0000-0001 0",
+                "P000002 user2 환자이 1990-01-01 010-0000-0002 0"));
+        Files.write(patientDir.resolve("P000001.txt"), List.of(
+                "P000001 환자일 1990-01-01 010-0000-0001 0",
+                "",
+                "[예약번호] [예약날짜] [시작시간] [종료시간] [진료과] [의사번호] [상태]",
+                "R00000001 2030-01-07 09:00 09:10 IM D00001 1"));
+        Files.write(patientDir.resolve("P000002.txt"), List.of(
+                "P000002 환자이 1990-01-01 010-0000-0002 0",
+                "",
+                "[예약번호] [예약날짜] [시작시간] [종료시간] [진료과] [의사번호] [상태]",
+                "R00000002 2030-01-07 09:10 09:20 IM D00001 1"));
+
+        Path doctorDir = Files.createDirectories(dataRoot.resolve("data/doctor"));
+        Files.write(doctorDir.resolve("doctorlist.txt"), List.of(
+                "[의사번호] [의사이름] [진료과 코드] [전화번호] [등록일]",
+                "D00001 김의사 IM 010-1111-2222 2023-01-15"));
+        List<String> schedule = new ArrayList<>();
+        schedule.add("2030-01-07");
+        schedule.add("R00000001");
+        schedule.add("R00000002");
+        for (int slot = 2; slot < 54; slot++) {
+            schedule.add("0");
+        }
+        Files.write(doctorDir.resolve("D00001.txt"), List.of(
+                "D00001 김의사 IM 010-1111-2222 2023-01-15",
+                "1 1 1 1 1",
+                "",
+                String.join(" ", schedule)));
+
+        List<String> day = new ArrayList<>();
+        day.add("2030-01-07");
+        day.add("TIME D00001");
+        for (int minutes = 9 * 60; minutes < 18 * 60; minutes += 10) {
+            String time = String.format("%02d:%02d", minutes / 60, minutes % 60);
+            String cell = time.equals("09:00") ? "R00000001(1)" : time.equals("09:10") ? "R00000002(1)" : "0";
+            day.add(time + " " + cell);
+        }
+        Files.write(Files.createDirectories(dataRoot.resolve("data/appointment")).resolve("20300107.txt"), day);
+    }
+
+    /**
+     * 처음 시작처럼 모든 파일을 읽고 고아 검사 후 매니페스트를 저장
+     */
+    private void validateAndSaveManifest() throws Exception {
+        ValidationSnapshot snapshot = ValidationSnapshot.load();
+        new OrphanDataValidator(snapshot).validate();
+        snapshot.saveManifest();
+    }
+
+    private Path resolve(String relativePath) {
+        return dataRoot.resolve(relativePath);
+    }
+
+    /**
+     * 크기는 그대로 두고 내용만 바꿈 (수정 시각은 지정한 값으로)
+     */
+    private void rewriteSameSize(String relativePath, String from, String to, FileTime modified) throws Exception {
+        Path path = resolve(relativePath);
+        String content = Files.readString(path);
+        assertEquals(from.length(), to.length());
+        Files.writeString(path, content.replace(from, to));
+        Files.setLastModifiedTime(path, modified);
+    }
+
+    private List<String> manifestLines() throws Exception {
+        return Files.readAllLines(resolve("data/cache/validation-manifest.txt"));
+    }
+
+    @Test
+    public void testUnchangedFileIsSkipped() throws Exception {
+        validateAndSaveManifest();
+        // 크기와 수정 시각이 같으면 내용을 읽지 않으므로 바뀐 예약번호도 보이지 않음
+        FileTime modified = Files.getLastModifiedTime(resolve(PATIENT_FILE));
+        rewriteSameSize(PATIENT_FILE, "R00000001", "R00000009", modified);
+
+        ValidationSnapshot snapshot = ValidationSnapshot.load();
+
+        assertTrue(snapshot.isUnchanged(PATIENT_FILE));
+        assertEquals(Set.of("R00000001"), snapshot.getCachedReservationIds(PATIENT_FILE));
+        // 목록 파일은 항상 다시 읽음
+        assertFalse(snapshot.isUnchanged("data/patient/patientlist.txt"));
+    }
+
+    @Test
+    public void testSameSizeEditWithNewModifiedTimeIsReread() throws Exception {
+        validateAndSaveManifest();
+        FileTime modified = Files.getLastModifiedTime(resolve(PATIENT_FILE));
+        rewriteSameSize(PATIENT_FILE, "R00000001", "R00000009",
+                FileTime.fromMillis(modified.toMillis() + 10_000));
+
+        ValidationSnapshot snapshot = ValidationSnapshot.load();
+
+        assertFalse(snapshot.isUnchanged(PATIENT_FILE));
+        assertNull(snapshot.getCachedReservationIds(PATIENT_FILE));
+        assertTrue(snapshot.readLines(PATIENT_FILE).get(3).startsWith("R00000009 "));
+        assertTrue(snapshot.isUnchanged(OTHER_PATIENT_FILE));
+    }
+
+    @Test
+    public void testModifiedTimeOnlyChangeWithSameCrcIsUnchanged() throws Exception {
+        validateAndSaveManifest();
+        Path path = resolve(DOCTOR_FILE);
+        FileTime modified = FileTime.fromMillis(Files.getLastModifiedTime(path).toMillis() + 10_000);
+        Files.setLastModifiedTime(path, modified);
+
+        ValidationSnapshot snapshot = ValidationSnapshot.load();
+
+        assertTrue(snapshot.isUnchanged(DOCTOR_FILE));
+        assertEquals(Set.of("R00000001", "R00000002"), snapshot.getCachedReservationIds(DOCTOR_FILE));
+        // 새 수정 시각을 저장해 다음 시작부터는 읽지 않음
+        snapshot.saveManifest();
+        assertTrue(manifestLines().stream().anyMatch(line -> line.startsWith(DOCTOR_FILE + " ")
+                && line.split(" ")[2].equals(Long.toString(modified.toMillis()))), manifestLines().toString());
+    }
+
+    @Test
+    public void testCorruptManifestFallsBackToFullValidation() throws Exception {
+        validateAndSaveManifest();
+        List<String> lines = new ArrayList<>(manifestLines());
+        lines.add(APPOINTMENT_FILE + " size modified crc -");
+        Files.write(resolve("data/cache/validation-manifest.txt"), lines);
+
+        ValidationSnapshot snapshot = ValidationSnapshot.load();
+
+        for (String path : List.of(PATIENT_FILE, OTHER_PATIENT_FILE, DOCTOR_FILE, APPOINTMENT_FILE)) {
+            assertFalse(snapshot.isUnchanged(path), path);
+            assertNull(snapshot.getCachedReservationIds(path), path);
+        }
+    }
+
+    @Test
+    public void testOrphanCheckUsesCachedReservationIds() throws Exception {
+        validateAndSaveManifest();
+        assertTrue(manifestLines().stream().anyMatch(line -> line.startsWith(PATIENT_FILE + " ")
+                && line.endsWith(" R00000001")), manifestLines().toString());
+
+        // 수정 시각을 그대로 둔 채 예약번호를 바꾸면, 다시 읽지 않고 캐시된 예약번호로 고아 검사를 함
+        FileTime modified = Files.getLastModifiedTime(resolve(PATIENT_FILE));
+        rewriteSameSize(PATIENT_FILE, "R00000001", "R00000002", modified);
+
+        ValidationSnapshot snapshot = ValidationSnapshot.load();
+        new OrphanDataValidator(snapshot).validate();
+        snapshot.saveManifest();
+
+        List<String> saved = manifestLines();
+        assertTrue(saved.stream().anyMatch(line -> line.startsWith(PATIENT_FILE + " ")
+                && line.endsWith(" R00000001")), saved.toString());
+        assertTrue(saved.stream().anyMatch(line -> line.startsWith(DOCTOR_FILE + " ")
+                && line.endsWith(" R00000001,R00000002")), saved.toString());
+        assertTrue(saved.stream().anyMatch(line -> line.startsWith(APPOINTMENT_FILE + " ")
+                && line.endsWith(" R00000001,R00000002")), saved.toString());
+    }
+
+    @Test
+    public void testParallelCheckThrowsFirstErrorInSequentialOrder() {
+        List<String> items = IntStream.range(0, 500).mapToObj(i -> "item" + i).collect(Collectors.toList());
+        // 앞쪽 항목일수록 오래 걸리게 해서 뒤쪽 오류가 먼저 발생하도록 함
+        Consumer<String> check = item -> {
+            int index = Integer.parseInt(item.substring(4));
+            if (index < 50) {
+                try {
+                    Thread.sleep(50 - index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (index % 7 == 3) {
+                throw new IllegalStateException(item);
+            }
+        };
+
+        String sequential = null;
+        for (String item : items) {
+            try {
+                check.accept(item);
+            } catch (IllegalStateException e) {
+                sequential = e.getMessage();
+                break;
+            }
+        }
+
+        IllegalStateException parallel = assertThrows(IllegalStateException.class,
+                () -> ValidationSnapshot.parallelCheck(items, check));
+        assertEquals("item3", sequential);
+        assertEquals(sequential, parallel.getMessage());
+    }
+}